@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.util.GeometricShapeFactory;
+
+/**
+ * Generators for the synthetic datasets used by the benchmarks.
+ * <p>
+ * All generators are deterministic for a given seed,
+ * so that results are comparable between runs and machines.
+ */
+public class BenchmarkData {
+
+  /**
+   * The seed used for all random data.
+   */
+  public static final long SEED = 1234567L;
+
+  /**
+   * The side length of the square extent containing the generated data.
+   */
+  public static final double EXTENT_SIZE = 10000.0;
+
+  private static final GeometryFactory geomFact = new GeometryFactory();
+
+  /**
+   * Gets the factory used to create benchmark geometries.
+   *
+   * @return the geometry factory
+   */
+  public static GeometryFactory getFactory() {
+    return geomFact;
+  }
+
+  /**
+   * Creates envelopes with random locations and sizes
+   * in the benchmark extent.
+   *
+   * @param n the number of envelopes
+   * @param maxSize the maximum width and height of an envelope
+   * @param seed the random seed
+   * @return an array of envelopes
+   */
+  public static Envelope[] randomEnvelopes(int n, double maxSize, long seed) {
+    Random rnd = new Random(seed);
+    Envelope[] envs = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      double x = rnd.nextDouble() * EXTENT_SIZE;
+      double y = rnd.nextDouble() * EXTENT_SIZE;
+      double w = rnd.nextDouble() * maxSize;
+      double h = rnd.nextDouble() * maxSize;
+      envs[i] = new Envelope(x, x + w, y, y + h);
+    }
+    return envs;
+  }
+
+  /**
+   * Creates points uniformly distributed in the benchmark extent.
+   *
+   * @param n the number of points
+   * @param seed the random seed
+   * @return an array of coordinates
+   */
+  public static Coordinate[] randomPoints(int n, long seed) {
+    return randomPoints(n, new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE), seed);
+  }
+
+  /**
+   * Creates points uniformly distributed in an extent.
+   *
+   * @param n the number of points
+   * @param extent the extent containing the points
+   * @param seed the random seed
+   * @return an array of coordinates
+   */
+  public static Coordinate[] randomPoints(int n, Envelope extent, long seed) {
+    Random rnd = new Random(seed);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      double x = extent.getMinX() + rnd.nextDouble() * extent.getWidth();
+      double y = extent.getMinY() + rnd.nextDouble() * extent.getHeight();
+      pts[i] = new Coordinate(x, y);
+    }
+    return pts;
+  }
+
+  /**
+   * Creates a sine star polygon centred in the benchmark extent.
+   * This provides a polygon with a complex boundary
+   * and a controllable number of vertices.
+   *
+   * @param nPts the number of vertices
+   * @return a polygon
+   */
+  public static Geometry sineStar(int nPts) {
+    return sineStar(new Coordinate(EXTENT_SIZE / 2, EXTENT_SIZE / 2), EXTENT_SIZE, nPts);
+  }
+
+  /**
+   * Creates a sine star polygon.
+   *
+   * @param centre the centre point
+   * @param size the size of the star
+   * @param nPts the number of vertices
+   * @return a polygon
+   */
+  public static Geometry sineStar(Coordinate centre, double size, int nPts) {
+    return SineStarFactory.create(centre, size, nPts, 10, 0.5);
+  }
+
+  /**
+   * Creates a grid of overlapping circular polygons
+   * covering the benchmark extent.
+   * This mimics a dataset of adjacent polygons to be unioned.
+   *
+   * @param n the approximate number of polygons
+   * @param nPts the number of vertices in each polygon
+   * @return a list of polygons
+   */
+  public static List<Geometry> circleGrid(int n, int nPts) {
+    int side = (int) Math.ceil(Math.sqrt(n));
+    double cellSize = EXTENT_SIZE / side;
+    GeometricShapeFactory gsf = new GeometricShapeFactory(geomFact);
+    gsf.setNumPoints(nPts);
+    // overlap adjacent circles
+    gsf.setSize(1.5 * cellSize);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        gsf.setCentre(new Coordinate((i + 0.5) * cellSize, (j + 0.5) * cellSize));
+        geoms.add(gsf.createCircle());
+      }
+    }
+    return geoms;
+  }
+
+  /**
+   * Creates polygons of a given size at random locations in the benchmark extent.
+   *
+   * @param n the number of polygons
+   * @param size the size of the polygons
+   * @param nPts the number of vertices in each polygon
+   * @param seed the random seed
+   * @return an array of polygons
+   */
+  public static Geometry[] randomSineStars(int n, double size, int nPts, long seed) {
+    Coordinate[] centres = randomPoints(n, seed);
+    Geometry[] geoms = new Geometry[n];
+    for (int i = 0; i < n; i++) {
+      geoms[i] = sineStar(centres[i], size, nPts);
+    }
+    return geoms;
+  }
+}
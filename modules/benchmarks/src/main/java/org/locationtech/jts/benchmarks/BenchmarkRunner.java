@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JTS benchmarks, writes the results as JMH JSON,
+ * and optionally compares them to a baseline result file.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -jar benchmarks.jar [ -baseline &lt;file&gt; ] [ -tolerance &lt;pct&gt; ] [ JMH options ]
+ * </pre>
+ * Results are written to <code>jmh-result.json</code>,
+ * unless the JMH <code>-rff</code> option is given.
+ * If a baseline is given, every benchmark whose average time
+ * is slower than the baseline by more than the tolerance percentage
+ * (default 10%) is reported, and the process exits with status 1.
+ */
+public class BenchmarkRunner {
+
+  private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+  private static final double DEFAULT_TOLERANCE = 10.0;
+
+  public static void main(String[] args)
+      throws RunnerException, CommandLineOptionException, IOException {
+    String baselineFile = null;
+    double tolerance = DEFAULT_TOLERANCE;
+
+    // strip the runner arguments, and pass the rest to JMH
+    List<String> jmhArgs = new ArrayList<String>();
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals("-baseline") && i + 1 < args.length) {
+        baselineFile = args[++i];
+      }
+      else if (args[i].equals("-tolerance") && i + 1 < args.length) {
+        tolerance = Double.parseDouble(args[++i]);
+      }
+      else {
+        jmhArgs.add(args[i]);
+      }
+    }
+    CommandLineOptions cmdOpts = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+    String resultFile = cmdOpts.getResult().orElse(DEFAULT_RESULT_FILE);
+    Options opts = new OptionsBuilder()
+        .parent(cmdOpts)
+        .resultFormat(ResultFormatType.JSON)
+        .result(resultFile)
+        .build();
+    new Runner(opts).run();
+
+    if (baselineFile == null) return;
+    int numRegressions = compare(readScores(new File(baselineFile)),
+        readScores(new File(resultFile)), tolerance);
+    if (numRegressions > 0) {
+      System.out.println(numRegressions + " benchmark(s) regressed by more than " + tolerance + "%");
+      System.exit(1);
+    }
+    System.out.println("No regressions against baseline " + baselineFile);
+  }
+
+  /**
+   * Compares benchmark scores to a baseline,
+   * and reports those which are slower by more than a tolerance.
+   * Scores are assumed to be times (lower is better).
+   *
+   * @param baseline the baseline scores
+   * @param current the current scores
+   * @param tolerancePct the allowable slowdown, as a percentage
+   * @return the number of regressions found
+   */
+  static int compare(Map<String, Double> baseline, Map<String, Double> current, double tolerancePct) {
+    int numRegressions = 0;
+    for (Map.Entry<String, Double> entry : current.entrySet()) {
+      Double base = baseline.get(entry.getKey());
+      if (base == null) continue;
+      double changePct = 100.0 * (entry.getValue() - base) / base;
+      if (changePct > tolerancePct) {
+        numRegressions++;
+        System.out.println(String.format("REGRESSION %s: %.4f -> %.4f (+%.1f%%)",
+            entry.getKey(), base, entry.getValue(), changePct));
+      }
+    }
+    return numRegressions;
+  }
+
+  private static final Pattern BENCHMARK_PATTERN = Pattern.compile("\"benchmark\"\\s*:\\s*\"([^\"]+)\"");
+  private static final Pattern PARAMS_PATTERN = Pattern.compile("\"params\"\\s*:\\s*\\{([^}]*)\\}");
+  private static final Pattern SCORE_PATTERN = Pattern.compile("\"primaryMetric\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-+0-9.eE]+|\"NaN\")");
+
+  /**
+   * Reads the primary scores from a JMH JSON result file.
+   * The scores are keyed by the benchmark name and parameter values.
+   *
+   * @param file a JMH JSON result file
+   * @return a map of benchmark keys to scores
+   * @throws IOException if the file cannot be read
+   */
+  static Map<String, Double> readScores(File file) throws IOException {
+    String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    Map<String, Double> scores = new LinkedHashMap<String, Double>();
+    Matcher benchMatcher = BENCHMARK_PATTERN.matcher(json);
+    int start = benchMatcher.find() ? benchMatcher.start() : -1;
+    while (start >= 0) {
+      String name = benchMatcher.group(1);
+      int end = benchMatcher.find() ? benchMatcher.start() : json.length();
+      String entry = json.substring(start, end);
+
+      String key = name;
+      Matcher paramsMatcher = PARAMS_PATTERN.matcher(entry);
+      if (paramsMatcher.find()) {
+        key += " {" + paramsMatcher.group(1).replaceAll("\\s+", "") + "}";
+      }
+      Matcher scoreMatcher = SCORE_PATTERN.matcher(entry);
+      if (scoreMatcher.find() && ! scoreMatcher.group(1).startsWith("\"")) {
+        scores.put(key, Double.parseDouble(scoreMatcher.group(1)));
+      }
+      start = end < json.length() ? end : -1;
+    }
+    return scores;
+  }
+}
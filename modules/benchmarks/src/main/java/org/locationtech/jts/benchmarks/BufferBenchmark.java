@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jts.operation.buffer.BufferParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks buffering polygons and lines 
+ * with positive and negative distances.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BufferBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  public int numVertices;
+
+  private Geometry polygon;
+  private Geometry line;
+  private double distance;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    polygon = BenchmarkData.sineStar(numVertices);
+    line = polygon.getBoundary();
+    distance = BenchmarkData.EXTENT_SIZE / 100;
+  }
+
+  @Benchmark
+  public Geometry bufferPolygon() {
+    return polygon.buffer(distance);
+  }
+
+  @Benchmark
+  public Geometry bufferPolygonNegative() {
+    return polygon.buffer(-distance);
+  }
+
+  @Benchmark
+  public Geometry bufferLine() {
+    return line.buffer(distance);
+  }
+
+  @Benchmark
+  public Geometry bufferLineParallelNoding() {
+    BufferParameters params = new BufferParameters();
+    params.setParallelNoding(true);
+    return BufferOp.bufferOp(line, distance, params);
+  }
+
+  @Benchmark
+  public Geometry bufferLineFlatEnds() {
+    return BufferOp.bufferOp(line, distance, 
+        BufferParameters.DEFAULT_QUADRANT_SEGMENTS, BufferParameters.CAP_FLAT);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.GeometryFileScanner;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading and writing geometry in WKB and WKT formats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IOBenchmark {
+
+  /**
+   * The approximate size of the scanned file, in bytes.
+   * The number of copies of the geometry in the file is scaled to this size,
+   * so that the file does not grow with the number of vertices.
+   */
+  private static final int FILE_SIZE = 32 * 1024 * 1024;
+
+  /**
+   * The minimum number of copies of the geometry in the scanned file
+   */
+  private static final int MIN_FILE_COUNT = 4;
+
+  @Param({ "100", "10000", "1000000" })
+  public int numVertices;
+
+  private Geometry geom;
+  private Geometry geomPacked;
+  private byte[] wkb;
+  private ByteBuffer wkbBuffer;
+  private String wkt;
+  private File file;
+  private GeometryFactory packedFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    geom = BenchmarkData.sineStar(numVertices);
+    wkb = new WKBWriter().write(geom);
+    wkt = new WKTWriter().write(geom);
+    wkbBuffer = ByteBuffer.allocateDirect(wkb.length);
+    wkbBuffer.put(wkb);
+    geomPacked = packedFactory.createGeometry(geom);
+
+    file = File.createTempFile("jts-bench", ".txt");
+    file.deleteOnExit();
+    Writer writer = new FileWriter(file);
+    String wkbHex = WKBWriter.toHex(wkb);
+    int fileCount = Math.max(MIN_FILE_COUNT, FILE_SIZE / (wkbHex.length() + 1));
+    try {
+      for (int i = 0; i < fileCount; i++) {
+        writer.write(wkbHex);
+        writer.write('\n');
+      }
+    }
+    finally {
+      writer.close();
+    }
+  }
+
+  @Benchmark
+  public Geometry readWKB() throws ParseException {
+    return new WKBReader(BenchmarkData.getFactory()).read(wkb);
+  }
+
+  @Benchmark
+  public Geometry readWKBBuffer() throws ParseException {
+    wkbBuffer.rewind();
+    return new WKBReader(BenchmarkData.getFactory()).read(wkbBuffer);
+  }
+
+  @Benchmark
+  public Geometry readWKBBufferPacked() throws ParseException {
+    wkbBuffer.rewind();
+    return new WKBReader(packedFactory).read(wkbBuffer);
+  }
+
+  @Benchmark
+  public byte[] writeWKB() {
+    return new WKBWriter().write(geom);
+  }
+
+  @Benchmark
+  public ByteBuffer writeWKBBuffer() {
+    wkbBuffer.clear();
+    new WKBWriter().write(geom, wkbBuffer);
+    return wkbBuffer;
+  }
+
+  @Benchmark
+  public ByteBuffer writeWKBBufferPacked() {
+    wkbBuffer.clear();
+    new WKBWriter().write(geomPacked, wkbBuffer);
+    return wkbBuffer;
+  }
+
+  @Benchmark
+  public List scanFile() throws IOException, ParseException {
+    return new GeometryFileScanner(file, BenchmarkData.getFactory()).read();
+  }
+
+  @Benchmark
+  public List scanFileParallel() throws IOException, ParseException {
+    GeometryFileScanner scanner = new GeometryFileScanner(file, BenchmarkData.getFactory());
+    scanner.setChunkSize(1024 * 1024);
+    scanner.setParallel(true);
+    return scanner.read();
+  }
+
+  @Benchmark
+  public Geometry readWKT() throws ParseException {
+    return new WKTReader(BenchmarkData.getFactory()).read(wkt);
+  }
+
+  @Benchmark
+  public String writeWKT() {
+    return new WKTWriter().write(geom);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.valid.IsValidOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks validating polygons and multipolygons with {@link IsValidOp}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IsValidBenchmark {
+
+  private static final int NUM_COMPONENTS = 1000;
+
+  @Param({ "1000", "10000", "100000" })
+  public int numVertices;
+
+  private Geometry polygon;
+  private Geometry multiPolygon;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    polygon = BenchmarkData.sineStar(numVertices);
+    
+    // disjoint components on a grid, each with the given number of vertices in total
+    int side = (int) Math.ceil(Math.sqrt(NUM_COMPONENTS));
+    double cellSize = BenchmarkData.EXTENT_SIZE / side;
+    int componentPts = Math.max(4, numVertices / NUM_COMPONENTS);
+    Polygon[] comps = new Polygon[side * side];
+    int n = 0;
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        Coordinate centre = new Coordinate((i + 0.5) * cellSize, (j + 0.5) * cellSize);
+        comps[n++] = (Polygon) BenchmarkData.sineStar(centre, 0.8 * cellSize, componentPts);
+      }
+    }
+    multiPolygon = BenchmarkData.getFactory().createMultiPolygon(comps);
+  }
+
+  @Benchmark
+  public boolean isValidPolygon() {
+    return new IsValidOp(polygon).isValid();
+  }
+
+  @Benchmark
+  public boolean isValidMultiPolygon() {
+    return new IsValidOp(multiPolygon).isValid();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.locationtech.jts.operation.union.UnionAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks binary overlay operations between two complex polygons,
+ * and unions of polygon collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OverlayBenchmark {
+
+  private static final int UNION_POLY_PTS = 40;
+
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  private Geometry polyA;
+  private Geometry polyB;
+  private Geometry polySmall;
+  private List<Geometry> unionPolys;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    polyA = BenchmarkData.sineStar(size);
+    // offset copy, so that edges cross frequently
+    polyB = BenchmarkData.sineStar(new Coordinate(
+        0.55 * BenchmarkData.EXTENT_SIZE, 0.45 * BenchmarkData.EXTENT_SIZE), 
+        BenchmarkData.EXTENT_SIZE, size);
+    polySmall = BenchmarkData.sineStar(new Coordinate(
+        0.25 * BenchmarkData.EXTENT_SIZE, 0.5 * BenchmarkData.EXTENT_SIZE), 
+        0.05 * BenchmarkData.EXTENT_SIZE, 100);
+    // number of union inputs scales with the size parameter
+    unionPolys = BenchmarkData.circleGrid(size / 10, UNION_POLY_PTS);
+  }
+
+  @Benchmark
+  public Geometry intersection() {
+    return polyA.intersection(polyB);
+  }
+
+  @Benchmark
+  public Geometry intersectionSmall() {
+    return polyA.intersection(polySmall);
+  }
+
+  @Benchmark
+  public Geometry union() {
+    return polyA.union(polyB);
+  }
+
+  @Benchmark
+  public Geometry difference() {
+    return polyA.difference(polyB);
+  }
+
+  @Benchmark
+  public Geometry symDifference() {
+    return polyA.symDifference(polyB);
+  }
+
+  @Benchmark
+  public Geometry cascadedUnion() {
+    return CascadedPolygonUnion.union(unionPolys);
+  }
+
+  @Benchmark
+  public Geometry cascadedUnionParallel() {
+    return CascadedPolygonUnion.union(unionPolys, true);
+  }
+
+  @Benchmark
+  public Geometry unionAccumulator() {
+    UnionAccumulator acc = new UnionAccumulator();
+    for (Geometry geom : unionPolys) {
+      acc.add(geom);
+    }
+    return acc.getResult();
+  }
+
+  @Benchmark
+  public Geometry unaryUnion() {
+    return UnaryUnionOp.union(unionPolys);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.locate.GridPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks spatial predicates evaluated against a large polygon,
+ * using both {@link Geometry#relate(Geometry)} 
+ * and a {@link PreparedGeometry}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PredicateBenchmark {
+
+  private static final int NUM_TARGETS = 1000;
+  private static final int TARGET_PTS = 20;
+  private static final double TARGET_SIZE = 100;
+  private static final int NUM_LOCATE_PTS = 100000;
+
+  @Param({ "1000", "10000", "100000" })
+  public int numVertices;
+
+  private Geometry polygon;
+  private PreparedGeometry prepPolygon;
+  private Geometry[] targets;
+  private Point[] points;
+  private IndexedPointInAreaLocator locator;
+  private GridPointInAreaLocator gridLocator;
+  private Coordinate[] locatePts;
+  private double[] locateX;
+  private double[] locateY;
+  private int[] locations;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    polygon = BenchmarkData.sineStar(numVertices);
+    prepPolygon = PreparedGeometryFactory.prepare(polygon);
+    targets = BenchmarkData.randomSineStars(NUM_TARGETS, TARGET_SIZE, TARGET_PTS, BenchmarkData.SEED);
+    points = new Point[NUM_TARGETS];
+    for (int i = 0; i < NUM_TARGETS; i++) {
+      points[i] = targets[i].getCentroid();
+    }
+    locator = new IndexedPointInAreaLocator(polygon);
+    gridLocator = new GridPointInAreaLocator(polygon);
+    locatePts = BenchmarkData.randomPoints(NUM_LOCATE_PTS, BenchmarkData.SEED);
+    locateX = new double[NUM_LOCATE_PTS];
+    locateY = new double[NUM_LOCATE_PTS];
+    for (int i = 0; i < NUM_LOCATE_PTS; i++) {
+      locateX[i] = locatePts[i].x;
+      locateY[i] = locatePts[i].y;
+    }
+    locations = new int[NUM_LOCATE_PTS];
+  }
+
+  @Benchmark
+  public void relate(Blackhole bh) {
+    for (int i = 0; i < targets.length; i++) {
+      bh.consume(polygon.relate(targets[i]));
+    }
+  }
+
+  @Benchmark
+  public void intersects(Blackhole bh) {
+    for (int i = 0; i < targets.length; i++) {
+      bh.consume(polygon.intersects(targets[i]));
+    }
+  }
+
+  @Benchmark
+  public void preparedIntersects(Blackhole bh) {
+    for (int i = 0; i < targets.length; i++) {
+      bh.consume(prepPolygon.intersects(targets[i]));
+    }
+  }
+
+  @Benchmark
+  public void preparedContains(Blackhole bh) {
+    for (int i = 0; i < targets.length; i++) {
+      bh.consume(prepPolygon.contains(targets[i]));
+    }
+  }
+
+  @Benchmark
+  public void preparedContainsPoint(Blackhole bh) {
+    for (int i = 0; i < points.length; i++) {
+      bh.consume(prepPolygon.contains(points[i]));
+    }
+  }
+
+  @Benchmark
+  public void locatePoints(Blackhole bh) {
+    for (int i = 0; i < locatePts.length; i++) {
+      bh.consume(locator.locate(locatePts[i]));
+    }
+  }
+
+  @Benchmark
+  public void locatePointsGrid(Blackhole bh) {
+    for (int i = 0; i < locatePts.length; i++) {
+      bh.consume(gridLocator.locate(locatePts[i]));
+    }
+  }
+
+  @Benchmark
+  public GridPointInAreaLocator buildGridLocator() {
+    return new GridPointInAreaLocator(polygon);
+  }
+
+  @Benchmark
+  public int[] locatePointsBatch() {
+    locator.locate(locateX, locateY, locations);
+    return locations;
+  }
+
+  @Benchmark
+  public int[] locatePointsBatchParallel() {
+    locator.locate(locateX, locateY, locations, true);
+    return locations;
+  }
+
+  @Benchmark
+  public PreparedGeometry prepare() {
+    PreparedGeometry prep = PreparedGeometryFactory.prepare(polygon);
+    // force creation of the lazily-built indexes
+    prep.intersects(targets[0]);
+    return prep;
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemIdVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.kdtree.CompactKdTree;
+import org.locationtech.jts.index.kdtree.KdNode;
+import org.locationtech.jts.index.kdtree.KdNodeVisitor;
+import org.locationtech.jts.index.kdtree.KdTree;
+import org.locationtech.jts.index.quadtree.Quadtree;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks building and querying the spatial indexes
+ * {@link STRtree}, {@link HPRtree}, {@link Quadtree}, {@link KdTree}
+ * and {@link CompactKdTree}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SpatialIndexBenchmark {
+
+  private static final double ITEM_SIZE = 20;
+  private static final double QUERY_SIZE = 100;
+  private static final int NUM_QUERIES = 1000;
+  private static final int NUM_NEAREST = 10;
+
+  private static final ItemDistance ENVELOPE_DISTANCE = new ItemDistance() {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      return ((Envelope) item1.getBounds()).distance((Envelope) item2.getBounds());
+    }
+  };
+
+  @Param({ "10000", "100000", "1000000" })
+  public int size;
+
+  private Envelope[] itemEnvs;
+  private Coordinate[] itemPts;
+  private Envelope[] queryEnvs;
+
+  private STRtree strTree;
+  private HPRtree hprTree;
+  private Quadtree quadtree;
+  private KdTree kdTree;
+  private KdTree kdTreeBulk;
+  private CompactKdTree compactKdTree;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    itemEnvs = BenchmarkData.randomEnvelopes(size, ITEM_SIZE, BenchmarkData.SEED);
+    itemPts = BenchmarkData.randomPoints(size, BenchmarkData.SEED);
+    queryEnvs = BenchmarkData.randomEnvelopes(NUM_QUERIES, QUERY_SIZE, BenchmarkData.SEED + 1);
+
+    strTree = buildSTRtree();
+    hprTree = buildHPRtree();
+    quadtree = buildQuadtree();
+    kdTree = buildKdTree();
+    kdTreeBulk = buildKdTreeBulk();
+    compactKdTree = buildCompactKdTreeBulk();
+  }
+
+  @Benchmark
+  public STRtree buildSTRtree() {
+    STRtree index = new STRtree();
+    load(index);
+    index.build();
+    return index;
+  }
+
+  @Benchmark
+  public HPRtree buildHPRtree() {
+    HPRtree index = new HPRtree();
+    load(index);
+    index.build();
+    return index;
+  }
+
+  @Benchmark
+  public STRtree buildSTRtreeParallel() {
+    STRtree index = new STRtree();
+    index.setParallelBuild(true);
+    load(index);
+    index.build();
+    return index;
+  }
+
+  @Benchmark
+  public HPRtree buildHPRtreeParallel() {
+    HPRtree index = new HPRtree();
+    index.setParallelBuild(true);
+    load(index);
+    index.build();
+    return index;
+  }
+
+  @Benchmark
+  public Quadtree buildQuadtree() {
+    Quadtree index = new Quadtree();
+    load(index);
+    return index;
+  }
+
+  @Benchmark
+  public KdTree buildKdTree() {
+    KdTree index = new KdTree();
+    for (int i = 0; i < itemPts.length; i++) {
+      index.insert(itemPts[i], null);
+    }
+    return index;
+  }
+
+  @Benchmark
+  public KdTree buildKdTreeBulk() {
+    return KdTree.bulkLoad(itemPts, null);
+  }
+
+  @Benchmark
+  public CompactKdTree buildCompactKdTree() {
+    CompactKdTree index = new CompactKdTree(0.0, itemPts.length);
+    for (int i = 0; i < itemPts.length; i++) {
+      index.insert(itemPts[i]);
+    }
+    return index;
+  }
+
+  @Benchmark
+  public CompactKdTree buildCompactKdTreeBulk() {
+    return CompactKdTree.bulkLoad(itemPts, null);
+  }
+
+  @Benchmark
+  public void querySTRtree(Blackhole bh) {
+    query(strTree, bh);
+  }
+
+  @Benchmark
+  public void queryHPRtree(Blackhole bh) {
+    query(hprTree, bh);
+  }
+
+  @Benchmark
+  public void queryIdsSTRtree(final Blackhole bh) {
+    ItemIdVisitor visitor = new ItemIdVisitor() {
+      public void visitItem(int itemId) {
+        bh.consume(itemId);
+      }
+    };
+    for (int i = 0; i < queryEnvs.length; i++) {
+      Envelope env = queryEnvs[i];
+      strTree.query(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), visitor);
+    }
+  }
+
+  @Benchmark
+  public void queryIdsHPRtree(Blackhole bh) {
+    IntArrayList ids = new IntArrayList();
+    for (int i = 0; i < queryEnvs.length; i++) {
+      Envelope env = queryEnvs[i];
+      ids.clear();
+      hprTree.query(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), ids);
+      bh.consume(ids.size());
+    }
+  }
+
+  @Benchmark
+  public void queryQuadtree(Blackhole bh) {
+    query(quadtree, bh);
+  }
+
+  @Benchmark
+  public void nearestSTRtree(Blackhole bh) {
+    for (int i = 0; i < queryEnvs.length; i++) {
+      bh.consume(strTree.nearestNeighbour(queryEnvs[i], queryEnvs[i], ENVELOPE_DISTANCE, NUM_NEAREST));
+    }
+  }
+
+  @Benchmark
+  public void nearestHPRtree(Blackhole bh) {
+    for (int i = 0; i < queryEnvs.length; i++) {
+      bh.consume(hprTree.nearestNeighbour(queryEnvs[i], queryEnvs[i], ENVELOPE_DISTANCE, NUM_NEAREST));
+    }
+  }
+
+  @Benchmark
+  public void queryKdTree(final Blackhole bh) {
+    KdNodeVisitor visitor = new KdNodeVisitor() {
+      public void visit(KdNode node) {
+        bh.consume(node);
+      }
+    };
+    for (int i = 0; i < queryEnvs.length; i++) {
+      kdTree.query(queryEnvs[i], visitor);
+    }
+  }
+
+  @Benchmark
+  public void queryKdTreeBulk(final Blackhole bh) {
+    KdNodeVisitor visitor = new KdNodeVisitor() {
+      public void visit(KdNode node) {
+        bh.consume(node);
+      }
+    };
+    for (int i = 0; i < queryEnvs.length; i++) {
+      kdTreeBulk.query(queryEnvs[i], visitor);
+    }
+  }
+
+  @Benchmark
+  public void queryIdsCompactKdTree(final Blackhole bh) {
+    ItemIdVisitor visitor = new ItemIdVisitor() {
+      public void visitItem(int node) {
+        bh.consume(node);
+      }
+    };
+    for (int i = 0; i < queryEnvs.length; i++) {
+      compactKdTree.query(queryEnvs[i], visitor);
+    }
+  }
+
+  @Benchmark
+  public void nearestCompactKdTree(Blackhole bh) {
+    for (int i = 0; i < queryEnvs.length; i++) {
+      bh.consume(compactKdTree.kNearest(queryEnvs[i].centre(), NUM_NEAREST));
+    }
+  }
+
+  @Benchmark
+  public void nearestKdTree(Blackhole bh) {
+    for (int i = 0; i < queryEnvs.length; i++) {
+      bh.consume(kdTreeBulk.kNearest(queryEnvs[i].centre(), NUM_NEAREST));
+    }
+  }
+
+  private void load(SpatialIndex index) {
+    for (int i = 0; i < itemEnvs.length; i++) {
+      index.insert(itemEnvs[i], itemEnvs[i]);
+    }
+  }
+
+  private void query(SpatialIndex index, final Blackhole bh) {
+    ItemVisitor visitor = new ItemVisitor() {
+      public void visitItem(Object item) {
+        bh.consume(item);
+      }
+    };
+    for (int i = 0; i < queryEnvs.length; i++) {
+      index.query(queryEnvs[i], visitor);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.triangulate.CompactDelaunayTriangulator;
+import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.quadedge.CompactQuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks computing Delaunay triangulations of random points.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TriangulationBenchmark {
+
+  @Param({ "10000", "100000", "1000000" })
+  public int size;
+
+  private List<Coordinate> sites;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    sites = Arrays.asList(BenchmarkData.randomPoints(size, BenchmarkData.SEED));
+  }
+
+  @Benchmark
+  public QuadEdgeSubdivision delaunay() {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    return builder.getSubdivision();
+  }
+
+  @Benchmark
+  public QuadEdgeSubdivision delaunaySpatialOrder() {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    builder.setSpatialOrder(true);
+    return builder.getSubdivision();
+  }
+
+  @Benchmark
+  public QuadEdgeSubdivision delaunayParallel() {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    builder.setParallel(true);
+    return builder.getSubdivision();
+  }
+
+  @Benchmark
+  public CompactQuadEdgeSubdivision delaunayCompact() {
+    CompactQuadEdgeSubdivision subdiv = new CompactQuadEdgeSubdivision(
+        DelaunayTriangulationBuilder.envelope(sites), sites.size());
+    new CompactDelaunayTriangulator(subdiv).insertSites(sites);
+    return subdiv;
+  }
+}
@@ -103,7 +103,20 @@ public class RayCrossingCounter
 	{
 		this.p = p;
 	}
-	
+
+	/**
+	 * Resets the counter to process a new point.
+	 * This allows a single counter to be reused to locate many points.
+	 *
+	 * @param p the point to test
+	 */
+	public void reset(Coordinate p)
+	{
+		this.p = p;
+		crossingCount = 0;
+		isPointOnSegment = false;
+	}
+
 	/**
 	 * Counts a segment
 	 * 
@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
+
+/**
+ * Determines the {@link Location} of {@link Coordinate}s relative to
+ * an areal geometry, using a uniform grid of cells for efficiency.
+ * This is intended for locating many points in polygons
+ * with very large numbers of vertices (such as country or coastline outlines),
+ * for which even {@link IndexedPointInAreaLocator} has to
+ * test many segments for each point.
+ * <p>
+ * The grid covers the envelope of the geometry.
+ * Each cell is classified as either
+ * lying wholly in the interior or exterior of the geometry,
+ * or as intersecting the geometry boundary.
+ * Points in interior and exterior cells are located in constant time.
+ * Boundary cells record the segments which intersect them
+ * and the location of the cell centre.
+ * Points in them are located by counting the crossings
+ * of the line from the point to the cell centre
+ * with the cell segments.
+ * In the rare case where this line passes through a vertex,
+ * the point is located using an {@link IndexedPointInAreaLocator}.
+ * <p>
+ * The Location is computed precisely, in that points
+ * located on the geometry boundary or segments will
+ * return {@link Location#BOUNDARY}.
+ * <p>
+ * The size of the grid is determined by a memory budget.
+ * The budget is approximate, since the number of
+ * segment references recorded in the cells depends on the geometry.
+ * <p>
+ * {@link Polygonal} and {@link LinearRing} geometries
+ * are supported.
+ * <p>
+ * The grid is built when the locator is created.
+ * <p>
+ * Thread-safe and immutable.
+ *
+ * @see IndexedPointInAreaLocator
+ */
+public class GridPointInAreaLocator
+  implements PointOnGeometryLocator
+{
+  /**
+   * The default memory budget for the grid, in bytes
+   */
+  public static final long DEFAULT_MEMORY_BUDGET = 16 * 1024 * 1024;
+
+  /**
+   * The estimated number of bytes used by each cell,
+   * including an allowance for the segment references
+   */
+  private static final int BYTES_PER_CELL = 16;
+
+  /**
+   * The maximum number of cells per segment.
+   * More cells than this provides little benefit.
+   */
+  private static final int MAX_CELLS_PER_SEGMENT = 2;
+
+  /**
+   * The fraction of a cell by which segment extents are expanded
+   * when assigning segments to cells,
+   * to ensure that round-off does not cause intersecting cells to be missed
+   */
+  private static final double CELL_TOLERANCE = 1.0e-6;
+
+  // cell codes
+  private static final byte CELL_INTERIOR = 0;
+  private static final byte CELL_EXTERIOR = 1;
+  private static final byte CELL_BOUNDARY_CENTRE_INTERIOR = 2;
+  private static final byte CELL_BOUNDARY_CENTRE_EXTERIOR = 3;
+  /**
+   * A boundary cell with a centre lying on the boundary,
+   * whose points are located using the fallback locator
+   */
+  private static final byte CELL_BOUNDARY_CENTRE_BOUNDARY = 4;
+
+  private final IndexedPointInAreaLocator fallbackLocator;
+  private boolean isEmpty = false;
+  private Envelope extent;
+  private int numCellsX;
+  private int numCellsY;
+  private double cellWidth;
+  private double cellHeight;
+  private double invCellWidth;
+  private double invCellHeight;
+
+  private byte[] cellCode;
+  /**
+   * The start of the segment list for each cell in {@link #cellSegs}.
+   * The list for cell i ends at the start of the list for cell i + 1.
+   */
+  private int[] cellSegStart;
+  private int[] cellSegs;
+  /**
+   * The segment endpoints, with segment i given by
+   * <code>segPts[2 * i]</code> and <code>segPts[2 * i + 1]</code>
+   */
+  private Coordinate[] segPts;
+
+  /**
+   * Creates a new locator for a given {@link Geometry},
+   * using the default memory budget.
+   * {@link Polygonal} and {@link LinearRing} geometries
+   * are supported.
+   *
+   * @param g the Geometry to locate in
+   */
+  public GridPointInAreaLocator(Geometry g)
+  {
+    this(g, DEFAULT_MEMORY_BUDGET);
+  }
+
+  /**
+   * Creates a new locator for a given {@link Geometry},
+   * with a grid sized to fit a given memory budget.
+   * {@link Polygonal} and {@link LinearRing} geometries
+   * are supported.
+   *
+   * @param g the Geometry to locate in
+   * @param memoryBudget the approximate maximum number of bytes to use for the grid
+   */
+  public GridPointInAreaLocator(Geometry g, long memoryBudget)
+  {
+    if (! (g instanceof Polygonal  || g instanceof LinearRing))
+      throw new IllegalArgumentException("Argument must be Polygonal or LinearRing");
+    if (memoryBudget <= 0)
+      throw new IllegalArgumentException("Memory budget must be positive");
+    fallbackLocator = new IndexedPointInAreaLocator(g);
+    if (g.isEmpty()) {
+      isEmpty = true;
+      return;
+    }
+    extent = g.getEnvelopeInternal();
+    extractSegments(g);
+    int maxCells = (int) Math.min(Integer.MAX_VALUE / 2, memoryBudget / BYTES_PER_CELL);
+    int numCells = (int) Math.min(maxCells, (long) MAX_CELLS_PER_SEGMENT * (segPts.length / 2));
+    initGrid(Math.max(1, numCells));
+    buildCellSegments();
+    classifyCells();
+  }
+
+  /**
+   * Gets the number of cells in the X direction.
+   *
+   * @return the number of grid columns
+   */
+  public int getNumCellsX() { return numCellsX; }
+
+  /**
+   * Gets the number of cells in the Y direction.
+   *
+   * @return the number of grid rows
+   */
+  public int getNumCellsY() { return numCellsY; }
+
+  /**
+   * Determines the {@link Location} of a point in an areal {@link Geometry}.
+   *
+   * @param p the point to test
+   * @return the location of the point in the geometry
+   */
+  public int locate(Coordinate p)
+  {
+    if (isEmpty || ! extent.intersects(p))
+      return Location.EXTERIOR;
+
+    int ix = cellX(p.x);
+    int iy = cellY(p.y);
+    int cell = iy * numCellsX + ix;
+    switch (cellCode[cell]) {
+    case CELL_INTERIOR:
+      return Location.INTERIOR;
+    case CELL_EXTERIOR:
+      return Location.EXTERIOR;
+    case CELL_BOUNDARY_CENTRE_INTERIOR:
+      return locateInCell(p, ix, iy, cell, Location.INTERIOR);
+    case CELL_BOUNDARY_CENTRE_EXTERIOR:
+      return locateInCell(p, ix, iy, cell, Location.EXTERIOR);
+    }
+    return fallbackLocator.locate(p);
+  }
+
+  /**
+   * Locates a point in a boundary cell,
+   * by counting the segments which cross the line from the point to the
+   * cell centre.
+   * The line lies inside the cell, so only the cell segments can cross it.
+   *
+   * @param p the point to locate
+   * @param ix the cell column
+   * @param iy the cell row
+   * @param cell the cell index
+   * @param centreLoc the location of the cell centre
+   * @return the location of the point
+   */
+  private int locateInCell(Coordinate p, int ix, int iy, int cell, int centreLoc)
+  {
+    Coordinate centre = new Coordinate(centreX(ix), centreY(iy));
+    boolean isCrossed = false;
+    for (int i = cellSegStart[cell]; i < cellSegStart[cell + 1]; i++) {
+      int seg = cellSegs[i];
+      Coordinate p0 = segPts[2 * seg];
+      Coordinate p1 = segPts[2 * seg + 1];
+
+      int orientP = Orientation.index(p0, p1, p);
+      if (orientP == Orientation.COLLINEAR && isInBox(p, p0, p1))
+        return Location.BOUNDARY;
+
+      int orient0 = Orientation.index(p, centre, p0);
+      int orient1 = Orientation.index(p, centre, p1);
+      // a vertex on the line means crossings cannot be determined by orientation
+      if (orient0 == Orientation.COLLINEAR && isInBox(p0, p, centre))
+        return fallbackLocator.locate(p);
+      if (orient1 == Orientation.COLLINEAR && isInBox(p1, p, centre))
+        return fallbackLocator.locate(p);
+
+      if (orient0 * orient1 < 0) {
+        int orientCentre = Orientation.index(p0, p1, centre);
+        if (orientCentre == Orientation.COLLINEAR)
+          return fallbackLocator.locate(p);
+        if (orientP * orientCentre < 0)
+          isCrossed = ! isCrossed;
+      }
+    }
+    if (! isCrossed)
+      return centreLoc;
+    return centreLoc == Location.INTERIOR ? Location.EXTERIOR : Location.INTERIOR;
+  }
+
+  /**
+   * Tests whether a point lies in the envelope of two other points.
+   * For a point which is collinear with the other two,
+   * this tests whether it lies on the segment between them.
+   */
+  private static boolean isInBox(Coordinate p, Coordinate p0, Coordinate p1)
+  {
+    return p.x >= Math.min(p0.x, p1.x) && p.x <= Math.max(p0.x, p1.x)
+        && p.y >= Math.min(p0.y, p1.y) && p.y <= Math.max(p0.y, p1.y);
+  }
+
+  private void extractSegments(Geometry geom)
+  {
+    List lines = LinearComponentExtracter.getLines(geom);
+    int numSegs = 0;
+    for (Iterator i = lines.iterator(); i.hasNext(); ) {
+      LineString line = (LineString) i.next();
+      numSegs += Math.max(0, line.getNumPoints() - 1);
+    }
+    segPts = new Coordinate[2 * numSegs];
+    int n = 0;
+    for (Iterator i = lines.iterator(); i.hasNext(); ) {
+      LineString line = (LineString) i.next();
+      Coordinate[] pts = line.getCoordinates();
+      for (int j = 1; j < pts.length; j++) {
+        segPts[n++] = pts[j - 1];
+        segPts[n++] = pts[j];
+      }
+    }
+  }
+
+  /**
+   * Determines the grid dimensions,
+   * using roughly square cells.
+   *
+   * @param numCells the target number of cells
+   */
+  private void initGrid(int numCells)
+  {
+    double width = extent.getWidth();
+    double height = extent.getHeight();
+    if (width <= 0 || height <= 0) {
+      numCellsX = width > 0 ? numCells : 1;
+      numCellsY = height > 0 ? numCells : 1;
+    }
+    else {
+      double cellSize = Math.sqrt(width * height / numCells);
+      numCellsX = clampDim(width / cellSize, numCells);
+      numCellsY = clampDim(height / cellSize, numCells);
+    }
+    cellWidth = width / numCellsX;
+    cellHeight = height / numCellsY;
+    invCellWidth = cellWidth > 0 ? 1.0 / cellWidth : 0;
+    invCellHeight = cellHeight > 0 ? 1.0 / cellHeight : 0;
+  }
+
+  private static int clampDim(double size, int numCells)
+  {
+    int dim = (int) Math.ceil(size);
+    if (dim < 1) return 1;
+    if (dim > numCells) return numCells;
+    return dim;
+  }
+
+  private int cellX(double x)
+  {
+    int ix = (int) ((x - extent.getMinX()) * invCellWidth);
+    if (ix < 0) return 0;
+    if (ix >= numCellsX) return numCellsX - 1;
+    return ix;
+  }
+
+  private int cellY(double y)
+  {
+    int iy = (int) ((y - extent.getMinY()) * invCellHeight);
+    if (iy < 0) return 0;
+    if (iy >= numCellsY) return numCellsY - 1;
+    return iy;
+  }
+
+  private double centreX(int ix)
+  {
+    return extent.getMinX() + (ix + 0.5) * cellWidth;
+  }
+
+  private double centreY(int iy)
+  {
+    return extent.getMinY() + (iy + 0.5) * cellHeight;
+  }
+
+  /**
+   * Records the segments intersecting each cell,
+   * using a counting pass followed by a filling pass.
+   */
+  private void buildCellSegments()
+  {
+    int numCells = numCellsX * numCellsY;
+    int numSegs = segPts.length / 2;
+    cellSegStart = new int[numCells + 1];
+    for (int i = 0; i < numSegs; i++) {
+      addSegment(i, null, null);
+    }
+    // convert counts to start positions
+    int total = 0;
+    for (int i = 0; i < numCells; i++) {
+      int count = cellSegStart[i];
+      cellSegStart[i] = total;
+      total += count;
+    }
+    cellSegStart[numCells] = total;
+
+    cellSegs = new int[total];
+    int[] cellNext = new int[numCells];
+    System.arraycopy(cellSegStart, 0, cellNext, 0, numCells);
+    for (int i = 0; i < numSegs; i++) {
+      addSegment(i, cellNext, cellSegs);
+    }
+  }
+
+  /**
+   * Adds a segment to the cells it intersects.
+   * The cells are determined conservatively,
+   * by clipping the segment to each column of cells it spans.
+   *
+   * @param seg the segment index
+   * @param cellNext the next free position for each cell, or null to count the segments
+   * @param cellSegs the array of cell segments, or null to count the segments
+   */
+  private void addSegment(int seg, int[] cellNext, int[] cellSegs)
+  {
+    Coordinate p0 = segPts[2 * seg];
+    Coordinate p1 = segPts[2 * seg + 1];
+    double segMinX = Math.min(p0.x, p1.x);
+    double segMaxX = Math.max(p0.x, p1.x);
+    int ixMin = cellX(segMinX);
+    int ixMax = cellX(segMaxX);
+    int iyMin = cellY(Math.min(p0.y, p1.y));
+    int iyMax = cellY(Math.max(p0.y, p1.y));
+
+    if (ixMin == ixMax || iyMin == iyMax) {
+      for (int ix = ixMin; ix <= ixMax; ix++) {
+        addSegment(seg, ix, iyMin, iyMax, cellNext, cellSegs);
+      }
+      return;
+    }
+    double slope = (p1.y - p0.y) / (p1.x - p0.x);
+    double tolX = CELL_TOLERANCE * cellWidth;
+    double tolY = CELL_TOLERANCE * cellHeight;
+    for (int ix = ixMin; ix <= ixMax; ix++) {
+      double colMinX = Math.max(segMinX, extent.getMinX() + ix * cellWidth - tolX);
+      double colMaxX = Math.min(segMaxX, extent.getMinX() + (ix + 1) * cellWidth + tolX);
+      double y0 = p0.y + (colMinX - p0.x) * slope;
+      double y1 = p0.y + (colMaxX - p0.x) * slope;
+      int iy0 = Math.max(iyMin, cellY(Math.min(y0, y1) - tolY));
+      int iy1 = Math.min(iyMax, cellY(Math.max(y0, y1) + tolY));
+      addSegment(seg, ix, iy0, iy1, cellNext, cellSegs);
+    }
+  }
+
+  private void addSegment(int seg, int ix, int iy0, int iy1, int[] cellNext, int[] cellSegs)
+  {
+    for (int iy = iy0; iy <= iy1; iy++) {
+      int cell = iy * numCellsX + ix;
+      if (cellSegs == null) {
+        cellSegStart[cell]++;
+      }
+      else {
+        cellSegs[cellNext[cell]++] = seg;
+      }
+    }
+  }
+
+  /**
+   * Classifies the cells by locating their centres.
+   * A cell with no segments lies wholly in the same location as its centre.
+   */
+  private void classifyCells()
+  {
+    int numCells = numCellsX * numCellsY;
+    double[] x = new double[numCells];
+    double[] y = new double[numCells];
+    for (int iy = 0; iy < numCellsY; iy++) {
+      for (int ix = 0; ix < numCellsX; ix++) {
+        int cell = iy * numCellsX + ix;
+        x[cell] = centreX(ix);
+        y[cell] = centreY(iy);
+      }
+    }
+    int[] centreLoc = new int[numCells];
+    fallbackLocator.locate(x, y, centreLoc);
+
+    cellCode = new byte[numCells];
+    for (int i = 0; i < numCells; i++) {
+      boolean isBoundary = cellSegStart[i + 1] > cellSegStart[i];
+      cellCode[i] = cellCode(isBoundary, centreLoc[i]);
+    }
+  }
+
+  private static byte cellCode(boolean isBoundary, int centreLoc)
+  {
+    if (centreLoc == Location.BOUNDARY)
+      return CELL_BOUNDARY_CENTRE_BOUNDARY;
+    if (! isBoundary)
+      return centreLoc == Location.INTERIOR ? CELL_INTERIOR : CELL_EXTERIOR;
+    return centreLoc == Location.INTERIOR
+        ? CELL_BOUNDARY_CENTRE_INTERIOR : CELL_BOUNDARY_CENTRE_EXTERIOR;
+  }
+}
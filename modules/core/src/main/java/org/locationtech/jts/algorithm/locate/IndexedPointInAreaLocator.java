@@ -12,11 +12,15 @@
 package org.locationtech.jts.algorithm.locate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.algorithm.RayCrossingCounter;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineSegment;
 import org.locationtech.jts.geom.LineString;
@@ -45,6 +49,12 @@ import org.locationtech.jts.index.intervalrtree.SortedPackedIntervalRTree;
  * The index is lazy-loaded, which allows
  * creating instances even if they are not used.
  * <p>
+ * Large batches of points can be located with
+ * {@link #locate(double[], double[], int[])}.
+ * This sorts the points by Y and locates them in a single sweep
+ * over the segments, which is faster than locating each point individually.
+ * The sweep can optionally be run in parallel.
+ * <p>
  * Thread-safe and immutable.
  *
  * @author Martin Davis
@@ -54,8 +64,19 @@ public class IndexedPointInAreaLocator
   implements PointOnGeometryLocator
 {
   
+  /**
+   * The minimum number of points in a batch which is split into parallel tasks
+   */
+  private static final int PARALLEL_BATCH_THRESHOLD = 4096;
+  
+  /**
+   * The initial size of the list of active segments in a sweep
+   */
+  private static final int INITIAL_ACTIVE_CAPACITY = 16;
+
   private Geometry geom;
-  private IntervalIndexedGeometry index = null;
+  // volatile so that it can be read without locking once built
+  private volatile IntervalIndexedGeometry index = null;
   
   /**
    * Creates a new locator for a given {@link Geometry}.
@@ -71,6 +92,16 @@ public class IndexedPointInAreaLocator
     geom = g;
   }
     
+  /**
+   * Builds the index, if it has not already been built.
+   * Otherwise the index is built by the first call to locate.
+   * This avoids the cost of building it during a location query.
+   */
+  public void buildIndex()
+  {
+    getIndex();
+  }
+  
   /**
    * Determines the {@link Location} of a point in an areal {@link Geometry}.
    * 
@@ -79,11 +110,7 @@ public class IndexedPointInAreaLocator
    */
   public int locate(Coordinate p)
   {
-    if (index == null) {
-      index = new IntervalIndexedGeometry(geom);
-      // no need to hold onto geom
-      geom = null;
-    }
+    IntervalIndexedGeometry index = getIndex();
     RayCrossingCounter rcc = new RayCrossingCounter(p);
     
     SegmentVisitor visitor = new SegmentVisitor(rcc);
@@ -98,6 +125,298 @@ public class IndexedPointInAreaLocator
     return rcc.getLocation();
   }
   
+  /**
+   * Determines the {@link Location}s of a sequence of points in an areal {@link Geometry}.
+   * The location of the i'th point is written to <code>locations[i]</code>.
+   * 
+   * @param pts the points to test
+   * @param locations the array to receive the point locations
+   * 
+   * @see #locate(double[], double[], int[])
+   */
+  public void locate(CoordinateSequence pts, int[] locations)
+  {
+    locate(pts, locations, false);
+  }
+  
+  /**
+   * Determines the {@link Location}s of a sequence of points in an areal {@link Geometry},
+   * optionally using multiple threads.
+   * The location of the i'th point is written to <code>locations[i]</code>.
+   * 
+   * @param pts the points to test
+   * @param locations the array to receive the point locations
+   * @param isParallel true if large batches should be located in parallel
+   * 
+   * @see #locate(double[], double[], int[], boolean)
+   */
+  public void locate(CoordinateSequence pts, int[] locations, boolean isParallel)
+  {
+    int n = pts.size();
+    double[] x = new double[n];
+    double[] y = new double[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = pts.getX(i);
+      y[i] = pts.getY(i);
+    }
+    locate(x, y, locations, isParallel);
+  }
+  
+  /**
+   * Determines the {@link Location}s of a batch of points in an areal {@link Geometry}.
+   * The location of the point <code>(x[i], y[i])</code> is written to <code>locations[i]</code>.
+   * The results are the same as calling {@link #locate(Coordinate)} for each point.
+   * 
+   * @param x the X ordinates of the points to test
+   * @param y the Y ordinates of the points to test
+   * @param locations the array to receive the point locations
+   */
+  public void locate(double[] x, double[] y, int[] locations)
+  {
+    locate(x, y, locations, false);
+  }
+  
+  /**
+   * Determines the {@link Location}s of a batch of points in an areal {@link Geometry},
+   * optionally using multiple threads.
+   * The location of the point <code>(x[i], y[i])</code> is written to <code>locations[i]</code>.
+   * The results are the same as calling {@link #locate(Coordinate)} for each point.
+   * <p>
+   * The points are sorted by Y, and then located in a sweep
+   * which maintains the set of segments spanning the current Y value.
+   * If parallel location is requested, large batches are split
+   * into ranges of Y which are swept by tasks in the common
+   * {@link java.util.concurrent.ForkJoinPool}.
+   * 
+   * @param x the X ordinates of the points to test
+   * @param y the Y ordinates of the points to test
+   * @param locations the array to receive the point locations
+   * @param isParallel true if large batches should be located in parallel
+   */
+  public void locate(double[] x, double[] y, int[] locations, boolean isParallel)
+  {
+    int n = x.length;
+    if (y.length != n)
+      throw new IllegalArgumentException("Ordinate arrays must have the same length");
+    if (locations.length < n)
+      throw new IllegalArgumentException("Location array is too small");
+    
+    IntervalIndexedGeometry index = getIndex();
+    LineSegment[] segs = index.getSegmentsByMinY();
+    if (segs.length == 0) {
+      Arrays.fill(locations, 0, n, Location.EXTERIOR);
+      return;
+    }
+    int[] order = sortByY(y, isParallel && n >= PARALLEL_BATCH_THRESHOLD);
+    if (isParallel && n >= PARALLEL_BATCH_THRESHOLD) {
+      new SweepTask(segs, x, y, order, 0, n, locations).invoke();
+    }
+    else {
+      sweep(segs, x, y, order, 0, n, locations);
+    }
+  }
+  
+  /**
+   * Computes the indices of a set of Y ordinates in increasing order of Y.
+   * The Y values are mapped to long keys which order the same way,
+   * and the keys are sorted.
+   * The indices are then placed by finding the position of their key
+   * in the sorted keys, which keeps points with equal Y in index order.
+   * 
+   * @param y the Y ordinates
+   * @param isParallel true if the sort should be done in parallel
+   * @return the indices in increasing order of Y
+   */
+  private static int[] sortByY(double[] y, boolean isParallel)
+  {
+    int n = y.length;
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      keys[i] = sortKey(y[i]);
+    }
+    long[] sortedKeys = keys.clone();
+    if (isParallel) {
+      Arrays.parallelSort(sortedKeys);
+    }
+    else {
+      Arrays.sort(sortedKeys);
+    }
+    int[] order = new int[n];
+    // the number of indices already placed at the first position of each key
+    int[] placed = new int[n];
+    for (int i = 0; i < n; i++) {
+      int pos = firstIndexOf(sortedKeys, keys[i]);
+      order[pos + placed[pos]++] = i;
+    }
+    return order;
+  }
+  
+  /**
+   * Computes a key for a double value which orders the same way as the value
+   * (with -0.0 before 0.0, and NaN after all other values).
+   * 
+   * @param v a double value
+   * @return a long key for the value
+   */
+  private static long sortKey(double v)
+  {
+    long bits = Double.doubleToLongBits(v);
+    // flip the magnitude bits of negative values to make the bits order like the values
+    return bits ^ ((bits >> 63) & 0x7fffffffffffffffL);
+  }
+  
+  /**
+   * Finds the first position of a key in a sorted array.
+   * 
+   * @param sortedKeys the sorted keys
+   * @param key a key which occurs in the array
+   * @return the lowest index of the key
+   */
+  private static int firstIndexOf(long[] sortedKeys, long key)
+  {
+    int lo = 0;
+    int hi = sortedKeys.length - 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sortedKeys[mid] < key) {
+        lo = mid + 1;
+      }
+      else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+  
+  /**
+   * Locates a range of points in Y order,
+   * by sweeping over the segments in order of their minimum Y.
+   * Each segment which spans the current Y value is kept in an active list,
+   * from which it is dropped once the sweep passes its maximum Y.
+   * 
+   * @param segs the segments sorted by minimum Y
+   * @param x the X ordinates of the points
+   * @param y the Y ordinates of the points
+   * @param order the point indices in increasing order of Y
+   * @param start the start of the range of indices to locate
+   * @param end the end of the range of indices to locate (exclusive)
+   * @param locations the array to receive the point locations
+   */
+  private static void sweep(LineSegment[] segs, double[] x, double[] y, 
+      int[] order, int start, int end, int[] locations)
+  {
+    Coordinate p = new Coordinate();
+    RayCrossingCounter counter = new RayCrossingCounter(p);
+    // grown as required, since the active segments are usually a small fraction
+    LineSegment[] active = new LineSegment[INITIAL_ACTIVE_CAPACITY];
+    int activeSize = 0;
+    int nextSeg = 0;
+    
+    for (int k = start; k < end; k++) {
+      int i = order[k];
+      p.x = x[i];
+      p.y = y[i];
+      // NaN ordinates do not intersect any segment
+      if (Double.isNaN(p.y)) {
+        locations[i] = Location.EXTERIOR;
+        continue;
+      }
+      while (nextSeg < segs.length && minY(segs[nextSeg]) <= p.y) {
+        LineSegment seg = segs[nextSeg++];
+        if (maxY(seg) < p.y) continue;
+        if (activeSize == active.length) {
+          active = Arrays.copyOf(active, 2 * activeSize);
+        }
+        active[activeSize++] = seg;
+      }
+      counter.reset(p);
+      int size = 0;
+      for (int j = 0; j < activeSize; j++) {
+        LineSegment seg = active[j];
+        if (maxY(seg) < p.y) continue;
+        active[size++] = seg;
+        counter.countSegment(seg.p0, seg.p1);
+      }
+      activeSize = size;
+      locations[i] = counter.getLocation();
+    }
+  }
+  
+  private static double minY(LineSegment seg)
+  {
+    return Math.min(seg.p0.y, seg.p1.y);
+  }
+  
+  private static double maxY(LineSegment seg)
+  {
+    return Math.max(seg.p0.y, seg.p1.y);
+  }
+  
+  /**
+   * Sweeps a range of Y-sorted points,
+   * splitting large ranges into subtasks.
+   * Since each point location is written only by the task covering it,
+   * the result does not depend on the order in which tasks are run.
+   */
+  private static class SweepTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+    
+    private final LineSegment[] segs;
+    private final double[] x;
+    private final double[] y;
+    private final int[] order;
+    private final int start;
+    private final int end;
+    private final int[] locations;
+    
+    SweepTask(LineSegment[] segs, double[] x, double[] y, 
+        int[] order, int start, int end, int[] locations)
+    {
+      this.segs = segs;
+      this.x = x;
+      this.y = y;
+      this.order = order;
+      this.start = start;
+      this.end = end;
+      this.locations = locations;
+    }
+    
+    protected void compute()
+    {
+      if (end - start <= PARALLEL_BATCH_THRESHOLD) {
+        sweep(segs, x, y, order, start, end, locations);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SweepTask(segs, x, y, order, start, mid, locations),
+          new SweepTask(segs, x, y, order, mid, end, locations));
+    }
+  }
+  
+  /**
+   * Gets the index, creating it if necessary.
+   * Creation is synchronized, but subsequent access is lock-free.
+   * 
+   * @return the index
+   */
+  private IntervalIndexedGeometry getIndex()
+  {
+    IntervalIndexedGeometry idx = index;
+    if (idx == null) {
+      synchronized (this) {
+        idx = index;
+        if (idx == null) {
+          idx = new IntervalIndexedGeometry(geom);
+          index = idx;
+          // no need to hold onto geom
+          geom = null;
+        }
+      }
+    }
+    return idx;
+  }
+  
   private static class SegmentVisitor
     implements ItemVisitor
   {
@@ -119,6 +438,8 @@ public class IndexedPointInAreaLocator
   {
     private boolean isEmpty = false;
     private SortedPackedIntervalRTree index= new SortedPackedIntervalRTree();
+    // created lazily, since only required for batch location
+    private volatile LineSegment[] segsByMinY = null;
 
     public IntervalIndexedGeometry(Geometry geom)
     {
@@ -136,6 +457,7 @@ public class IndexedPointInAreaLocator
         Coordinate[] pts = line.getCoordinates();
         addLine(pts);
       }
+      index.build();
     }
     
     private void addLine(Coordinate[] pts)
@@ -164,6 +486,33 @@ public class IndexedPointInAreaLocator
         return;
       index.query(min, max, visitor);
     }
+    
+    /**
+     * Gets the segments of the geometry sorted by their minimum Y,
+     * creating the array if necessary.
+     * 
+     * @return the sorted segments
+     */
+    public LineSegment[] getSegmentsByMinY()
+    {
+      LineSegment[] segs = segsByMinY;
+      if (segs == null) {
+        synchronized (this) {
+          segs = segsByMinY;
+          if (segs == null) {
+            List items = query(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            segs = (LineSegment[]) items.toArray(new LineSegment[items.size()]);
+            Arrays.sort(segs, new Comparator<LineSegment>() {
+              public int compare(LineSegment seg1, LineSegment seg2) {
+                return Double.compare(minY(seg1), minY(seg2));
+              }
+            });
+            segsByMinY = segs;
+          }
+        }
+      }
+      return segs;
+    }
   }
 
 }
@@ -45,6 +45,19 @@ class BasicPreparedGeometry
 
   public Geometry getGeometry() { return baseGeom; }
 
+  /**
+   * Creates any internal structures used to evaluate predicates,
+   * if they have not already been created.
+   * Subclasses which create structures lazily override this
+   * to allow eager initialization.
+   * This base implementation does nothing.
+   */
+  @Override
+  public void prepare()
+  {
+    // nothing to prepare
+  }
+
   /**
    * Gets the list of representative points for this geometry.
    * One vertex is included for every component of the geometry
@@ -54,6 +54,17 @@ public interface PreparedGeometry
 	 */
 	boolean contains(Geometry geom);
 
+	/**
+	 * Creates any internal structures used to evaluate predicates,
+	 * if they have not already been created.
+	 * Otherwise they are created lazily by the first predicate evaluation.
+	 * Calling this is useful when an instance is to be shared between threads.
+	 * The default implementation does nothing.
+	 */
+	default void prepare()
+	{
+	}
+	
 	/**
 	 * Tests whether the base {@link Geometry} properly contains a given geometry.
 	 * <p>
@@ -27,13 +27,32 @@ import org.locationtech.jts.noding.SegmentStringUtil;
 public class PreparedLineString
   extends BasicPreparedGeometry
 {
-  private FastSegmentSetIntersectionFinder segIntFinder = null;
+  // created lazily, and volatile so it can be read without locking
+  private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
 
   public PreparedLineString(Lineal line) {
     super((Geometry) line);
   }
 
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  /**
+   * Creates the index used by the predicates,
+   * if it has not already been created.
+   */
+  public void prepare()
+  {
+    // predicates on empty geometries do not use the index
+    if (getGeometry().isEmpty()) return;
+    getIntersectionFinder();
+  }
+  
+  /**
+   * Gets the indexed intersection finder for this geometry.
+   * The finder is created on first use.
+   * Once created it is accessed without locking.
+   * 
+   * @return the intersection finder
+   */
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -41,9 +60,17 @@ public class PreparedLineString
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
-    return segIntFinder;
+    FastSegmentSetIntersectionFinder finder = segIntFinder;
+    if (finder == null) {
+      synchronized (this) {
+        finder = segIntFinder;
+        if (finder == null) {
+          finder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+          segIntFinder = finder;
+        }
+      }
+    }
+    return finder;
   }
   
   public boolean intersects(Geometry g)
@@ -39,21 +39,42 @@ public class PreparedPolygon
   extends BasicPreparedGeometry
 {
 	private final boolean isRectangle;
-	// create these lazily, since they are expensive
-	private FastSegmentSetIntersectionFinder segIntFinder = null;
-	private PointOnGeometryLocator pia = null;
+	/**
+	 * These are created lazily, since they are expensive.
+	 * They are volatile so that they can be safely
+	 * read without locking once they are created.
+	 */
+	private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
+	private volatile IndexedPointInAreaLocator pia = null;
 
   public PreparedPolygon(Polygonal poly) {
     super((Geometry) poly);
     isRectangle = getGeometry().isRectangle();
   }
 
+  /**
+   * Creates the indexes used by the predicates,
+   * if they have not already been created.
+   * This avoids the cost of creating them 
+   * during the first predicate evaluation.
+   * It is useful when an instance is to be shared between threads.
+   */
+  public void prepare()
+  {
+    // predicates on empty geometries do not use the indexes
+    if (getGeometry().isEmpty()) return;
+    getIntersectionFinder();
+    getAreaLocator().buildIndex();
+  }
+  
   /**
    * Gets the indexed intersection finder for this geometry.
+   * The finder is created on first use.
+   * Once created it is accessed without locking.
    * 
    * @return the intersection finder
    */
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -61,17 +82,44 @@ public class PreparedPolygon
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
-  	return segIntFinder;
+    FastSegmentSetIntersectionFinder finder = segIntFinder;
+    if (finder == null) {
+      synchronized (this) {
+        finder = segIntFinder;
+        if (finder == null) {
+          finder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+          segIntFinder = finder;
+        }
+      }
+    }
+    return finder;
   }
   
-  public synchronized PointOnGeometryLocator getPointLocator()
+  /**
+   * Gets the point locator for this geometry.
+   * The locator is created on first use.
+   * Once created it is accessed without locking.
+   * 
+   * @return the point locator
+   */
+  public PointOnGeometryLocator getPointLocator()
+  {
+    return getAreaLocator();
+  }
+  
+  private IndexedPointInAreaLocator getAreaLocator()
   {
-  	if (pia == null)
-      pia = new IndexedPointInAreaLocator(getGeometry());
- 		
-    return pia;
+    IndexedPointInAreaLocator locator = pia;
+    if (locator == null) {
+      synchronized (this) {
+        locator = pia;
+        if (locator == null) {
+          locator = new IndexedPointInAreaLocator(getGeometry());
+          pia = locator;
+        }
+      }
+    }
+    return locator;
   }
   
   public boolean intersects(Geometry g)
@@ -40,6 +40,7 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.Polygonal;
 import org.locationtech.jts.geomgraph.index.EdgeSetIntersector;
+import org.locationtech.jts.geomgraph.index.MCIndexEdgeSetIntersector;
 import org.locationtech.jts.geomgraph.index.SegmentIntersector;
 import org.locationtech.jts.geomgraph.index.SimpleMCSweepLineIntersector;
 import org.locationtech.jts.util.Assert;
@@ -105,9 +106,13 @@ public class GeometryGraph
   private PointOnGeometryLocator areaPtLocator = null;
   // for use if geometry is not Polygonal
   private final PointLocator ptLocator = new PointLocator();
+  private boolean isIndexedEdgeIntersector = false;
   
   private EdgeSetIntersector createEdgeSetIntersector()
   {
+    if (isIndexedEdgeIntersector)
+      return new MCIndexEdgeSetIntersector();
+
   // various options for computing intersections, from slowest to fastest
 
   //private EdgeSetIntersector esi = new SimpleEdgeSetIntersector();
@@ -162,6 +167,21 @@ public class GeometryGraph
 
   public BoundaryNodeRule getBoundaryNodeRule() { return boundaryNodeRule; }
 
+  /**
+   * Sets whether edge intersections are found using an {@link MCIndexEdgeSetIntersector},
+   * which indexes the monotone chains of the edges in two dimensions.
+   * This is faster than the default sweep-line intersector
+   * when many edges overlap in the X dimension.
+   * <p>
+   * The default is to use a {@link SimpleMCSweepLineIntersector}.
+   *
+   * @param isIndexed true if an indexed intersector should be used
+   */
+  public void setIndexedEdgeIntersector(boolean isIndexed)
+  {
+    this.isIndexedEdgeIntersector = isIndexed;
+  }
+
   public Collection getBoundaryNodes()
   {
     if (boundaryNodes == null)
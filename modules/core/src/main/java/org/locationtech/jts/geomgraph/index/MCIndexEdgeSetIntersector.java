@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geomgraph.index;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geomgraph.Edge;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * Finds all intersections in one or two sets of edges,
+ * using an {@link STRtree} of the monotone chains of the edges.
+ * Candidate chain pairs are found by querying the tree with the
+ * envelope of each chain.
+ * <p>
+ * Unlike {@link SimpleMCSweepLineIntersector}, which only orders chains along the X axis,
+ * this uses both dimensions to select chain pairs.
+ * So it does not degenerate when many edges overlap in X
+ * (such as long east-west lines, or many edges in a narrow band of Y).
+ */
+public class MCIndexEdgeSetIntersector
+  extends EdgeSetIntersector
+{
+  // statistics information
+  int nOverlaps;
+
+  /**
+   * Creates a new intersector.
+   */
+  public MCIndexEdgeSetIntersector() {
+  }
+
+  public void computeIntersections(List edges, SegmentIntersector si, boolean testAllSegments)
+  {
+    nOverlaps = 0;
+    List chains = createChains(edges);
+    STRtree index = buildIndex(chains);
+    IntArrayList overlapIds = new IntArrayList();
+    for (int i = 0; i < chains.size(); i++) {
+      MonotoneChain mc0 = (MonotoneChain) chains.get(i);
+      Envelope env = mc0.mce.getEnvelope(mc0.chainIndex);
+      overlapIds.clear();
+      index.query(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), overlapIds);
+      for (int k = 0; k < overlapIds.size(); k++) {
+        int j = overlapIds.get(k);
+        // compare each pair once, and a chain with itself only if testing all segments
+        if (j < i) continue;
+        MonotoneChain mc1 = (MonotoneChain) chains.get(j);
+        // chains of the same edge are not compared unless testing all segments
+        if (! testAllSegments && mc0.mce == mc1.mce) continue;
+        mc0.computeIntersections(mc1, si);
+        nOverlaps++;
+        if (si.isDone()) return;
+      }
+    }
+  }
+
+  public void computeIntersections(List edges0, List edges1, SegmentIntersector si)
+  {
+    nOverlaps = 0;
+    List chains0 = createChains(edges0);
+    List chains1 = createChains(edges1);
+    STRtree index = buildIndex(chains1);
+    IntArrayList overlapIds = new IntArrayList();
+    for (int i = 0; i < chains0.size(); i++) {
+      MonotoneChain mc0 = (MonotoneChain) chains0.get(i);
+      Envelope env = mc0.mce.getEnvelope(mc0.chainIndex);
+      overlapIds.clear();
+      index.query(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), overlapIds);
+      for (int k = 0; k < overlapIds.size(); k++) {
+        MonotoneChain mc1 = (MonotoneChain) chains1.get(overlapIds.get(k));
+        mc0.computeIntersections(mc1, si);
+        nOverlaps++;
+        if (si.isDone()) return;
+      }
+    }
+  }
+
+  private static List createChains(List edges)
+  {
+    List chains = new ArrayList();
+    for (Iterator i = edges.iterator(); i.hasNext(); ) {
+      Edge edge = (Edge) i.next();
+      MonotoneChainEdge mce = edge.getMonotoneChainEdge();
+      int[] startIndex = mce.getStartIndexes();
+      for (int j = 0; j < startIndex.length - 1; j++) {
+        chains.add(new MonotoneChain(mce, j));
+      }
+    }
+    return chains;
+  }
+
+  /**
+   * Builds an index of chains.
+   * The id of each chain in the index is its position in the list.
+   */
+  private static STRtree buildIndex(List chains)
+  {
+    STRtree index = new STRtree();
+    for (int i = 0; i < chains.size(); i++) {
+      MonotoneChain mc = (MonotoneChain) chains.get(i);
+      index.insert(mc.mce.getEnvelope(mc.chainIndex), mc);
+    }
+    index.build();
+    return index;
+  }
+}
@@ -67,6 +67,18 @@ public class MonotoneChainEdge {
     return x1 > x2 ? x1 : x2;
   }
 
+  /**
+   * Gets the envelope of a monotone chain,
+   * which is the envelope of its endpoints.
+   *
+   * @param chainIndex the index of the chain
+   * @return the envelope of the chain
+   */
+  public Envelope getEnvelope(int chainIndex)
+  {
+    return new Envelope(pts[startIndex[chainIndex]], pts[startIndex[chainIndex + 1]]);
+  }
+
   public void computeIntersects(MonotoneChainEdge mce, SegmentIntersector si)
   {
     for (int i = 0; i < startIndex.length - 1; i++) {
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index;
+
+/**
+ * A visitor for the ids of items in a spatial index.
+ * The id of an item is its index in the order 
+ * the items were inserted into the index.
+ * Visiting ids rather than items allows queries
+ * to be performed without allocating or boxing.
+ *
+ * @see ItemVisitor
+ */
+public interface ItemIdVisitor
+{
+  /**
+   * Visits an item in the index.
+   * 
+   * @param itemId the id of the index item to be visited
+   */
+  void visitItem(int itemId);
+}
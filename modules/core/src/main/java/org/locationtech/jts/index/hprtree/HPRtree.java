@@ -12,16 +12,23 @@
 package org.locationtech.jts.index.hprtree;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemIdVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
 import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.IntArrayList;
 
 /**
  * A Hilbert-Packed R-tree.  This is a static R-tree
@@ -45,6 +52,16 @@ import org.locationtech.jts.index.strtree.STRtree;
  * For efficiency, the offsets to the layers
  * within the node array are pre-computed and stored.
  * <p>
+ * Nearest-neighbour queries are supported
+ * (see {@link #nearestNeighbour(Envelope, Object, ItemDistance, int)}).
+ * They use a best-first traversal of the packed node array.
+ * <p>
+ * Building the tree can optionally be done in parallel
+ * (see {@link #setParallelBuild(boolean)}).
+ * The parallel build computes the Hilbert codes and sorts the items
+ * using the common fork-join pool.
+ * It produces a tree identical to the one built serially.
+ * <p>
  * NOTE: Based on performance testing, 
  * the HPRtree is somewhat faster than the STRtree.
  * It should also be more memory-efficent,
@@ -67,6 +84,12 @@ public class HPRtree
   private static final int HILBERT_LEVEL = 12;
 
   private static int DEFAULT_NODE_CAPACITY = 16;
+
+  /**
+   * The number of items below which Hilbert codes 
+   * are computed serially during a parallel build.
+   */
+  private static final int PARALLEL_BUILD_THRESHOLD = 8192;
   
   private List<Item> items = new ArrayList<Item>();
   
@@ -78,7 +101,13 @@ public class HPRtree
 
   private double[] nodeBounds;
 
-  private boolean isBuilt = false;
+  /**
+   * Volatile so that a built tree can be detected without locking,
+   * and so that the tree structure is visible to all threads once it is set.
+   */
+  private volatile boolean isBuilt = false;
+
+  private boolean isParallelBuild = false;
 
   //public int nodeIntersectsCount;
 
@@ -98,6 +127,19 @@ public class HPRtree
     this.nodeCapacity = nodeCapacity;
   }
   
+  /**
+   * Sets whether the tree is built using multiple threads.
+   * The parallel build uses the common fork-join pool
+   * and produces the same tree as the serial build.
+   * This is worthwhile only for large numbers of items.
+   * It must be set before the tree is built.
+   * 
+   * @param isParallelBuild true if the tree should be built in parallel
+   */
+  public void setParallelBuild(boolean isParallelBuild) {
+    this.isParallelBuild = isParallelBuild;
+  }
+  
   /**
    * Gets the number of items in the index.
    * 
@@ -112,7 +154,7 @@ public class HPRtree
     if (isBuilt) {
       throw new IllegalStateException("Cannot insert items after tree is built.");
     }
-    items.add( new Item(itemEnv, item) );
+    items.add( new Item(itemEnv, item, items.size()) );
     totalExtent.expandToInclude(itemEnv);
   }
 
@@ -133,47 +175,103 @@ public class HPRtree
     build();
     if (! totalExtent.intersects(searchEnv)) 
       return;
+    query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(),
+        visitor, null, null);
+  }
+
+  /**
+   * Visits the ids of the items whose bounds intersect the given rectangle.
+   * The id of an item is its index in the order it was inserted into the tree.
+   * <p>
+   * Once the tree is built this query does not allocate any objects,
+   * so it is suitable for use in performance-critical code.
+   * 
+   * @param minX the minimum X ordinate of the query rectangle
+   * @param minY the minimum Y ordinate of the query rectangle
+   * @param maxX the maximum X ordinate of the query rectangle
+   * @param maxY the maximum Y ordinate of the query rectangle
+   * @param visitor a visitor to process the ids of the matching items
+   */
+  public void query(double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    query(minX, minY, maxX, maxY, null, visitor, null);
+  }
+
+  /**
+   * Adds the ids of the items whose bounds intersect the given rectangle
+   * to a list.
+   * The list is not cleared, so a single list can be reused 
+   * (after calling {@link IntArrayList#clear()}) 
+   * to avoid allocating storage for each query.
+   * 
+   * @param minX the minimum X ordinate of the query rectangle
+   * @param minY the minimum Y ordinate of the query rectangle
+   * @param maxX the maximum X ordinate of the query rectangle
+   * @param maxY the maximum Y ordinate of the query rectangle
+   * @param itemIds the list to add the ids of the matching items to
+   * 
+   * @see #query(double, double, double, double, ItemIdVisitor)
+   */
+  public void query(double minX, double minY, double maxX, double maxY, IntArrayList itemIds) {
+    query(minX, minY, maxX, maxY, null, null, itemIds);
+  }
+
+  /**
+   * Queries the tree, reporting matching items
+   * to whichever of the result targets is non-null.
+   */
+  private void query(double minX, double minY, double maxX, double maxY, 
+      ItemVisitor visitor, ItemIdVisitor idVisitor, IntArrayList itemIds) {
+    build();
+    if (totalExtent.isNull() 
+        || totalExtent.getMinX() > maxX || totalExtent.getMaxX() < minX
+        || totalExtent.getMinY() > maxY || totalExtent.getMaxY() < minY) 
+      return;
     if (layerStartIndex == null) {
-      queryItems(0, searchEnv, visitor);
+      queryItems(0, minX, minY, maxX, maxY, visitor, idVisitor, itemIds);
     }
     else {
-      queryTopLayer(searchEnv, visitor);
+      queryTopLayer(minX, minY, maxX, maxY, visitor, idVisitor, itemIds);
     }
   }
 
-  private void queryTopLayer(Envelope searchEnv, ItemVisitor visitor) {
+  private void queryTopLayer(double minX, double minY, double maxX, double maxY,
+      ItemVisitor visitor, ItemIdVisitor idVisitor, IntArrayList itemIds) {
     int layerIndex = layerStartIndex.length - 2;
     int layerSize = layerSize(layerIndex);
     // query each node in layer
     for (int i = 0; i < layerSize; i += ENV_SIZE) {
-      queryNode(layerIndex, i, searchEnv, visitor);
+      queryNode(layerIndex, i, minX, minY, maxX, maxY, visitor, idVisitor, itemIds);
     }
   }
 
-  private void queryNode(int layerIndex, int nodeOffset, Envelope searchEnv, ItemVisitor visitor) {
+  private void queryNode(int layerIndex, int nodeOffset, 
+      double minX, double minY, double maxX, double maxY,
+      ItemVisitor visitor, ItemIdVisitor idVisitor, IntArrayList itemIds) {
     int layerStart = layerStartIndex[layerIndex];
     int nodeIndex = layerStart + nodeOffset;
-    if (! intersects(nodeIndex, searchEnv)) return;
+    if (! intersects(nodeIndex, minX, minY, maxX, maxY)) return;
     if (layerIndex == 0) {
       int childNodesOffset = nodeOffset / ENV_SIZE  * nodeCapacity;
-      queryItems(childNodesOffset, searchEnv, visitor);
+      queryItems(childNodesOffset, minX, minY, maxX, maxY, visitor, idVisitor, itemIds);
     }
     else {
       int childNodesOffset = nodeOffset * nodeCapacity;
-      queryNodeChildren(layerIndex - 1, childNodesOffset, searchEnv, visitor);
+      queryNodeChildren(layerIndex - 1, childNodesOffset, minX, minY, maxX, maxY, visitor, idVisitor, itemIds);
     }
   }
 
-  private boolean intersects(int nodeIndex, Envelope env) {
+  private boolean intersects(int nodeIndex, double minX, double minY, double maxX, double maxY) {
     //nodeIntersectsCount++;
-    boolean isBeyond = (env.getMaxX() < nodeBounds[nodeIndex]) 
-    || (env.getMaxY() < nodeBounds[nodeIndex+1]) 
-    || (env.getMinX() > nodeBounds[nodeIndex+2]) 
-    || (env.getMinY() > nodeBounds[nodeIndex+3]);
+    boolean isBeyond = (maxX < nodeBounds[nodeIndex]) 
+    || (maxY < nodeBounds[nodeIndex+1]) 
+    || (minX > nodeBounds[nodeIndex+2]) 
+    || (minY > nodeBounds[nodeIndex+3]);
     return ! isBeyond;
   }
   
-  private void queryNodeChildren(int layerIndex, int blockOffset, Envelope searchEnv, ItemVisitor visitor) {
+  private void queryNodeChildren(int layerIndex, int blockOffset, 
+      double minX, double minY, double maxX, double maxY,
+      ItemVisitor visitor, ItemIdVisitor idVisitor, IntArrayList itemIds) {
     int layerStart = layerStartIndex[layerIndex];
     int layerEnd = layerStartIndex[layerIndex + 1];
     for (int i = 0; i < nodeCapacity; i++) {
@@ -181,11 +279,13 @@ public class HPRtree
       // don't query past layer end
       if (layerStart + nodeOffset >= layerEnd) break;
       
-      queryNode(layerIndex, nodeOffset, searchEnv, visitor);
+      queryNode(layerIndex, nodeOffset, minX, minY, maxX, maxY, visitor, idVisitor, itemIds);
     }
   }
 
-  private void queryItems(int blockStart, Envelope searchEnv, ItemVisitor visitor) {
+  private void queryItems(int blockStart, 
+      double minX, double minY, double maxX, double maxY,
+      ItemVisitor visitor, ItemIdVisitor idVisitor, IntArrayList itemIds) {
     for (int i = 0; i < nodeCapacity; i++) {
       int itemIndex = blockStart + i; 
       // don't query past end of items
@@ -194,28 +294,238 @@ public class HPRtree
       // visit the item if its envelope intersects search env
       Item item = items.get(itemIndex);
       //nodeIntersectsCount++;
-      if (intersects( item.getEnvelope(), searchEnv) ) {
-      //if (item.getEnvelope().intersects(searchEnv)) {
-        visitor.visitItem(item.getItem());
+      if (intersects( item.getEnvelope(), minX, minY, maxX, maxY) ) {
+        if (visitor != null) {
+          visitor.visitItem(item.getItem());
+        }
+        else if (idVisitor != null) {
+          idVisitor.visitItem(item.getId());
+        }
+        else {
+          itemIds.add(item.getId());
+        }
       }
     }    
   }
 
   /**
-   * Tests whether two envelopes intersect.
+   * Tests whether an envelope intersects a rectangle.
    * Avoids the null check in {@link Envelope#intersects(Envelope)}.
    * 
-   * @param env1 an envelope
-   * @param env2 an envelope
-   * @return true if the envelopes intersect
+   * @param env an envelope
+   * @param minX the minimum X ordinate of the rectangle
+   * @param minY the minimum Y ordinate of the rectangle
+   * @param maxX the maximum X ordinate of the rectangle
+   * @param maxY the maximum Y ordinate of the rectangle
+   * @return true if the envelope intersects the rectangle
    */
-  private static boolean intersects(Envelope env1, Envelope env2) {
-    return !(env2.getMinX() > env1.getMaxX() ||
-        env2.getMaxX() < env1.getMinX() ||
-        env2.getMinY() > env1.getMaxY() ||
-        env2.getMaxY() < env1.getMinY());
+  private static boolean intersects(Envelope env, double minX, double minY, double maxX, double maxY) {
+    return !(minX > env.getMaxX() ||
+        maxX < env.getMinX() ||
+        minY > env.getMaxY() ||
+        maxY < env.getMinY());
   }
-  
+
+  /**
+   * Finds the item in this tree which is nearest to the given {@link Object}, 
+   * using {@link ItemDistance} as the distance metric.
+   * A best-first traversal of the tree nodes is used
+   * to provide an efficient search.
+   * <p>
+   * The query <tt>object</tt> does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the <tt>itemDist</tt> 
+   * distance metric. 
+   * The distance metric must not be less than the 
+   * distance between the item envelopes.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist) {
+    Object[] nearest = nearestNeighbour(env, item, itemDist, 1);
+    if (nearest.length == 0) return null;
+    return nearest[0];
+  }
+
+  /**
+   * Finds the k items in this tree which are nearest to the given {@link Object}, 
+   * using {@link ItemDistance} as the distance metric.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the number of items to find
+   * @return the nearest items, ordered by increasing distance
+   *    (fewer than k if the tree has fewer items)
+   *    
+   * @see #nearestNeighbour(Envelope, Object, ItemDistance)
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k) {
+    return nearestNeighbour(env, item, itemDist, k, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Finds the k items in this tree which are nearest to the given {@link Object}
+   * and lie within a maximum distance of it, 
+   * using {@link ItemDistance} as the distance metric.
+   * Limiting the distance allows the search to prune 
+   * distant nodes immediately.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the number of items to find
+   * @param maxDistance the maximum distance of an item from the query item
+   * @return the nearest items within the distance, ordered by increasing distance
+   *    
+   * @see #nearestNeighbour(Envelope, Object, ItemDistance)
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k, double maxDistance) {
+    build();
+    if (k <= 0 || items.isEmpty()) 
+      return new Object[0];
+    
+    ItemBoundable queryItem = new ItemBoundable(env, item);
+    PriorityQueue<NodeDistance> nodeQueue = new PriorityQueue<NodeDistance>();
+    // max-heap, so that the farthest of the nearest items is at the head
+    PriorityQueue<NodeDistance> nearestQueue = new PriorityQueue<NodeDistance>(k, Collections.reverseOrder());
+    double distanceBound = maxDistance;
+
+    if (layerStartIndex == null) {
+      distanceBound = nearestItems(0, queryItem, itemDist, k, nearestQueue, distanceBound);
+    }
+    else {
+      int layerIndex = layerStartIndex.length - 2;
+      addNodes(layerIndex, 0, layerSize(layerIndex), env, distanceBound, nodeQueue);
+    }
+    
+    while (! nodeQueue.isEmpty()) {
+      NodeDistance node = nodeQueue.poll();
+      /**
+       * The queue is ordered by distance, 
+       * so if this node is beyond the bound all remaining ones are as well
+       */
+      if (node.distance > distanceBound) break;
+      
+      if (node.layerIndex == 0) {
+        int blockStart = node.nodeOffset / ENV_SIZE * nodeCapacity;
+        distanceBound = nearestItems(blockStart, queryItem, itemDist, k, nearestQueue, distanceBound);
+      }
+      else {
+        int childLayer = node.layerIndex - 1;
+        int childStart = node.nodeOffset * nodeCapacity;
+        int childEnd = Math.min(childStart + ENV_SIZE * nodeCapacity, layerSize(childLayer));
+        addNodes(childLayer, childStart, childEnd, env, distanceBound, nodeQueue);
+      }
+    }
+    
+    Object[] nearest = new Object[nearestQueue.size()];
+    for (int i = nearest.length - 1; i >= 0; i--) {
+      nearest[i] = items.get(nearestQueue.poll().nodeOffset).getItem();
+    }
+    return nearest;
+  }
+
+  /**
+   * Adds the nodes in a range of a layer which lie within the distance bound 
+   * to the search queue.
+   */
+  private void addNodes(int layerIndex, int startOffset, int endOffset, 
+      Envelope env, double distanceBound, PriorityQueue<NodeDistance> nodeQueue) {
+    int layerStart = layerStartIndex[layerIndex];
+    for (int nodeOffset = startOffset; nodeOffset < endOffset; nodeOffset += ENV_SIZE) {
+      int nodeIndex = layerStart + nodeOffset;
+      double dist = distance(env, nodeBounds[nodeIndex], nodeBounds[nodeIndex+1], 
+          nodeBounds[nodeIndex+2], nodeBounds[nodeIndex+3]);
+      if (dist <= distanceBound) {
+        nodeQueue.add(new NodeDistance(layerIndex, nodeOffset, dist));
+      }
+    }
+  }
+
+  /**
+   * Adds the items in a block which are closer than the distance bound 
+   * to the set of nearest items.
+   * 
+   * @return the updated distance bound
+   */
+  private double nearestItems(int blockStart, ItemBoundable queryItem, ItemDistance itemDist, 
+      int k, PriorityQueue<NodeDistance> nearestQueue, double distanceBound) {
+    Envelope queryEnv = (Envelope) queryItem.getBounds();
+    int blockEnd = Math.min(blockStart + nodeCapacity, items.size());
+    for (int itemIndex = blockStart; itemIndex < blockEnd; itemIndex++) {
+      Item item = items.get(itemIndex);
+      Envelope itemEnv = item.getEnvelope();
+      // the envelope distance is a lower bound for the item distance
+      if (distance(queryEnv, itemEnv.getMinX(), itemEnv.getMinY(), 
+          itemEnv.getMaxX(), itemEnv.getMaxY()) > distanceBound) 
+        continue;
+      
+      double dist = itemDist.distance(new ItemBoundable(itemEnv, item.getItem()), queryItem);
+      if (dist > distanceBound) continue;
+      
+      if (nearestQueue.size() < k) {
+        nearestQueue.add(new NodeDistance(0, itemIndex, dist));
+      }
+      else if (dist < nearestQueue.peek().distance) {
+        nearestQueue.poll();
+        nearestQueue.add(new NodeDistance(0, itemIndex, dist));
+      }
+      // once k items are found, only closer items are of interest
+      if (nearestQueue.size() == k) {
+        distanceBound = nearestQueue.peek().distance;
+      }
+    }
+    return distanceBound;
+  }
+
+  /**
+   * Computes the distance between an envelope and a set of bounds.
+   */
+  private static double distance(Envelope env, double minX, double minY, double maxX, double maxY) {
+    double dx = 0.0;
+    if (env.getMaxX() < minX) 
+      dx = minX - env.getMaxX();
+    else if (env.getMinX() > maxX) 
+      dx = env.getMinX() - maxX;
+    
+    double dy = 0.0;
+    if (env.getMaxY() < minY) 
+      dy = minY - env.getMaxY();
+    else if (env.getMinY() > maxY) 
+      dy = env.getMinY() - maxY;
+
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * A tree node or item, 
+   * with its distance from the query item.
+   * For items the offset is the index of the item.
+   */
+  private static class NodeDistance implements Comparable<NodeDistance> {
+    final int layerIndex;
+    final int nodeOffset;
+    final double distance;
+    
+    NodeDistance(int layerIndex, int nodeOffset, double distance) {
+      this.layerIndex = layerIndex;
+      this.nodeOffset = nodeOffset;
+      this.distance = distance;
+    }
+
+    @Override
+    public int compareTo(NodeDistance o) {
+      return Double.compare(distance, o.distance);
+    }
+  }
+
   private int layerSize(int layerIndex) {
     int layerStart = layerStartIndex[layerIndex];
     int layerEnd = layerStartIndex[layerIndex + 1];
@@ -230,11 +540,22 @@ public class HPRtree
   
   /**
    * Builds the index, if not already built.
+   * Building is synchronized, but once the index is built
+   * this method returns without locking,
+   * so concurrent queries do not contend.
    */
-  public synchronized void build() {
+  public void build() {
     // skip if already built
     if (isBuilt) return;
-    isBuilt  = true;
+    synchronized (this) {
+      if (isBuilt) return;
+      buildTree();
+      // set after building, so other threads only see a complete tree
+      isBuilt = true;
+    }
+  }
+
+  private void buildTree() {
     // don't need to build an empty or very small tree
     if (items.size() <= nodeCapacity) return;
 
@@ -382,24 +703,71 @@ public class HPRtree
     return bounds;
   }
   
+  /**
+   * Sorts the items by the Hilbert code of their envelope midpoints.
+   * The codes are computed once per item,
+   * and packed into sort keys together with the original item index.
+   * This makes the key order equivalent to a stable sort by code,
+   * so serial and parallel sorting produce the same item order.
+   */
   private void sortItems() {
-    ItemComparator comp = new ItemComparator(new HilbertEncoder(HILBERT_LEVEL, totalExtent));
-    Collections.sort(items, comp);
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, totalExtent);
+    long[] keys = new long[items.size()];
+    if (isParallelBuild && items.size() > PARALLEL_BUILD_THRESHOLD) {
+      ForkJoinPool.commonPool().invoke(new SortKeyTask(encoder, items, keys, 0, keys.length));
+      Arrays.parallelSort(keys);
+    }
+    else {
+      computeSortKeys(encoder, items, keys, 0, keys.length);
+      Arrays.sort(keys);
+    }
+    
+    List<Item> sortedItems = new ArrayList<Item>(items.size());
+    for (int i = 0; i < keys.length; i++) {
+      int itemIndex = (int) keys[i];
+      sortedItems.add(items.get(itemIndex));
+    }
+    items = sortedItems;
+  }
+  
+  private static void computeSortKeys(HilbertEncoder encoder, List<Item> items, long[] keys, int start, int end) {
+    for (int i = start; i < end; i++) {
+      long hcode = encoder.encode(items.get(i).getEnvelope());
+      keys[i] = (hcode << 32) | i;
+    }
   }
   
-  static class ItemComparator implements Comparator<Item> {
+  /**
+   * Computes the sort keys for a range of items,
+   * splitting the range into subtasks if it is large.
+   */
+  private static class SortKeyTask extends RecursiveAction {
 
-    private HilbertEncoder encoder;
+    private static final long serialVersionUID = 1L;
     
-    public ItemComparator(HilbertEncoder encoder) {
+    private HilbertEncoder encoder;
+    private List<Item> items;
+    private long[] keys;
+    private int start;
+    private int end;
+
+    SortKeyTask(HilbertEncoder encoder, List<Item> items, long[] keys, int start, int end) {
       this.encoder = encoder;
+      this.items = items;
+      this.keys = keys;
+      this.start = start;
+      this.end = end;
     }
 
     @Override
-    public int compare(Item item1, Item item2) {
-      int hcode1 = encoder.encode(item1.getEnvelope());
-      int hcode2 = encoder.encode(item2.getEnvelope());
-      return Integer.compare(hcode1, hcode2);
+    protected void compute() {
+      if (end - start <= PARALLEL_BUILD_THRESHOLD) {
+        computeSortKeys(encoder, items, keys, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SortKeyTask(encoder, items, keys, start, mid),
+          new SortKeyTask(encoder, items, keys, mid, end));
     }
   }
 
@@ -17,12 +17,18 @@ public class Item {
 
   private Envelope env;
   private Object item;
+  private int id = -1;
 
   public Item(Envelope env, Object item) {
     this.env = env;
     this.item = item;
   }
 
+  Item(Envelope env, Object item, int id) {
+    this(env, item);
+    this.id = id;
+  }
+
   public Envelope getEnvelope() {
     return env;
   }
@@ -30,6 +36,16 @@ public class Item {
   public Object getItem() {
     return item;
   }
+
+  /**
+   * Gets the id of the item, which is its index 
+   * in the order items were inserted into the tree.
+   * 
+   * @return the item id, or -1 if the item does not have an id
+   */
+  public int getId() {
+    return id;
+  }
   
   public String toString() {
     return "Item: " + env.toString();
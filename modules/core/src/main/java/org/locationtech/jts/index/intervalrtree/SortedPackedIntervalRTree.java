@@ -44,8 +44,9 @@ public class SortedPackedIntervalRTree
    * that the tree has not yet been built,   
    * OR nothing has been added to the tree.
    * In both cases, the tree is still open for insertions.
+   * It is volatile so that a built tree is visible to all threads.
    */
-	private IntervalRTreeNode root = null;
+	private volatile IntervalRTreeNode root = null;
 	
 	public SortedPackedIntervalRTree()
 	{
@@ -68,7 +69,12 @@ public class SortedPackedIntervalRTree
     leaves.add(new IntervalRTreeLeafNode(min, max, item));
 	}
 	
-  private void init()
+  /**
+   * Builds the tree, if it has not already been built.
+   * Otherwise the tree is built by the first query.
+   * Once the tree is built no more items may be inserted.
+   */
+  public void build()
   {
     // already built
     if (root != null) return;
@@ -148,7 +154,7 @@ public class SortedPackedIntervalRTree
    */
 	public void query(double min, double max, ItemVisitor visitor)
 	{
-    init();
+    build();
     
     // if root is null tree must be empty
     if (root == null) 
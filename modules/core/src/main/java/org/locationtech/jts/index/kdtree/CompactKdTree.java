@@ -0,0 +1,704 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.kdtree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemIdVisitor;
+
+/**
+ * A 2-D KD-Tree with the same semantics as {@link KdTree},
+ * which stores the nodes in parallel primitive arrays
+ * rather than as {@link KdNode} objects.
+ * This uses several times less memory than <code>KdTree</code>,
+ * and provides faster queries, since nodes are stored contiguously.
+ * It is suitable for indexing very large numbers of points.
+ * <p>
+ * Nodes are identified by an integer index.
+ * Nodes created by {@link #insert(double, double, Object)}
+ * are numbered in the order they are created.
+ * The location, data and count of a node are obtained by
+ * {@link #getX(int)}, {@link #getY(int)}, {@link #getData(int)}
+ * and {@link #getCount(int)}.
+ * Queries can visit either node indices, using an {@link ItemIdVisitor}
+ * (see {@link #queryIds(Envelope, ItemIdVisitor)}),
+ * or {@link KdNode}s, which are created for the nodes found.
+ * <p>
+ * As with <code>KdTree</code>, points inserted within the snapping
+ * tolerance of an existing node are snapped to the node,
+ * and a balanced tree can be created using {@link #bulkLoad(Coordinate[], Object[])}.
+ *
+ * @see KdTree
+ */
+public class CompactKdTree {
+
+  private static final int NULL_NODE = -1;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * Creates a balanced tree containing a set of points,
+   * with optional data items.
+   * The tree is built by recursively splitting the points at the median
+   * of alternating ordinates.
+   * Repeated points are loaded as a single node with a count,
+   * with the data of the first occurrence of the point.
+   * Nodes are numbered in depth-first order,
+   * which provides good memory locality for queries.
+   * The tree has a snapping tolerance of 0.0.
+   *
+   * @param pts the points to load
+   * @param data the data items for the points, or null
+   * @return a balanced tree containing the points
+   */
+  public static CompactKdTree bulkLoad(Coordinate[] pts, Object[] data) {
+    if (data != null && data.length != pts.length)
+      throw new IllegalArgumentException("Data array must be the same length as the point array");
+    int n = pts.length;
+    double[] x = new double[n];
+    double[] y = new double[n];
+    int[] perm = new int[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = pts[i].x;
+      y[i] = pts[i].y;
+      perm[i] = i;
+    }
+    CompactKdTree tree = new CompactKdTree(0.0, Math.max(n, 1));
+    tree.root = new BulkLoader(tree, x, y, data, perm).build(0, n, true);
+    return tree;
+  }
+
+  private double tolerance;
+  private int root = NULL_NODE;
+  private int size = 0;
+  private double[] nodeX;
+  private double[] nodeY;
+  private int[] left;
+  private int[] right;
+  private int[] count;
+  // created only if data is provided
+  private Object[] nodeData = null;
+
+  /**
+   * Creates a new tree with a snapping tolerance of 0.0. (I.e.
+   * distinct points will <i>not</i> be snapped)
+   */
+  public CompactKdTree() {
+    this(0.0);
+  }
+
+  /**
+   * Creates a new tree, specifying a snapping distance tolerance.
+   * Points which lie closer than the tolerance to a point already in
+   * the tree will be treated as identical to the existing point.
+   *
+   * @param tolerance the tolerance distance for considering two points equal
+   */
+  public CompactKdTree(double tolerance) {
+    this(tolerance, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new tree, specifying a snapping distance tolerance
+   * and the initial node capacity.
+   *
+   * @param tolerance the tolerance distance for considering two points equal
+   * @param capacity the number of nodes to allocate space for
+   */
+  public CompactKdTree(double tolerance, int capacity) {
+    this.tolerance = tolerance;
+    capacity = Math.max(capacity, 1);
+    nodeX = new double[capacity];
+    nodeY = new double[capacity];
+    left = new int[capacity];
+    right = new int[capacity];
+    count = new int[capacity];
+  }
+
+  /**
+   * Tests whether the index contains any items.
+   *
+   * @return true if the index does not contain any items
+   */
+  public boolean isEmpty() {
+    return root == NULL_NODE;
+  }
+
+  /**
+   * Gets the number of nodes in the tree.
+   *
+   * @return the number of nodes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the X ordinate of a node.
+   *
+   * @param node the node index
+   * @return the X ordinate of the node
+   */
+  public double getX(int node) {
+    return nodeX[node];
+  }
+
+  /**
+   * Gets the Y ordinate of a node.
+   *
+   * @param node the node index
+   * @return the Y ordinate of the node
+   */
+  public double getY(int node) {
+    return nodeY[node];
+  }
+
+  /**
+   * Gets the location of a node.
+   *
+   * @param node the node index
+   * @return a new coordinate for the node location
+   */
+  public Coordinate getCoordinate(int node) {
+    return new Coordinate(nodeX[node], nodeY[node]);
+  }
+
+  /**
+   * Gets the data item for a node.
+   *
+   * @param node the node index
+   * @return the node data, or null
+   */
+  public Object getData(int node) {
+    if (nodeData == null) return null;
+    return nodeData[node];
+  }
+
+  /**
+   * Gets the number of inserted points which are represented by a node.
+   *
+   * @param node the node index
+   * @return the count of points at the node
+   */
+  public int getCount(int node) {
+    return count[node];
+  }
+
+  /**
+   * Inserts a new point in the tree, with no data.
+   *
+   * @param p the point to insert
+   * @return the index of the node containing the point
+   */
+  public int insert(Coordinate p) {
+    return insert(p.x, p.y, null);
+  }
+
+  /**
+   * Inserts a new point into the tree.
+   *
+   * @param p the point to insert
+   * @param data a data item for the point
+   * @return the index of the node containing the point
+   */
+  public int insert(Coordinate p, Object data) {
+    return insert(p.x, p.y, data);
+  }
+
+  /**
+   * Inserts a new point into the tree.
+   * If the point is within the tolerance of an existing node,
+   * the count of that node is incremented and its index is returned.
+   * Otherwise a new node is created.
+   *
+   * @param x the X ordinate of the point
+   * @param y the Y ordinate of the point
+   * @param data a data item for the point
+   * @return the index of the node containing the point
+   */
+  public int insert(double x, double y, Object data) {
+    if (root == NULL_NODE) {
+      root = addNode(x, y, data);
+      return root;
+    }
+    if (tolerance > 0) {
+      int matchNode = findBestMatchNode(x, y);
+      if (matchNode != NULL_NODE) {
+        count[matchNode]++;
+        return matchNode;
+      }
+    }
+    return insertExact(x, y, data);
+  }
+
+  /**
+   * Finds the node which is the best match for a point being inserted,
+   * with the same semantics as {@link KdTree}.
+   *
+   * @return the index of the best matching node, or -1 if none was found
+   */
+  private int findBestMatchNode(final double x, final double y) {
+    final int[] match = new int[] { NULL_NODE };
+    final double[] matchDist = new double[1];
+    query(x - tolerance, y - tolerance, x + tolerance, y + tolerance, new ItemIdVisitor() {
+      public void visitItem(int node) {
+        double dist = distance(x, y, node);
+        if (dist > tolerance) return;
+        if (match[0] == NULL_NODE
+            || dist < matchDist[0]
+            // if distances are the same, record the lesser coordinate
+            || (dist == matchDist[0] && compareCoordinate(node, match[0]) < 1)) {
+          match[0] = node;
+          matchDist[0] = dist;
+        }
+      }
+    });
+    return match[0];
+  }
+
+  private int insertExact(double x, double y, Object data) {
+    int currentNode = root;
+    int leafNode = root;
+    boolean isOddLevel = true;
+    boolean isLessThan = true;
+
+    while (currentNode != NULL_NODE) {
+      if (distance(x, y, currentNode) <= tolerance) {
+        count[currentNode]++;
+        return currentNode;
+      }
+      if (isOddLevel) {
+        isLessThan = x < nodeX[currentNode];
+      } else {
+        isLessThan = y < nodeY[currentNode];
+      }
+      leafNode = currentNode;
+      currentNode = isLessThan ? left[currentNode] : right[currentNode];
+      isOddLevel = ! isOddLevel;
+    }
+
+    int node = addNode(x, y, data);
+    if (isLessThan) {
+      left[leafNode] = node;
+    } else {
+      right[leafNode] = node;
+    }
+    return node;
+  }
+
+  private int addNode(double x, double y, Object data) {
+    if (size == nodeX.length)
+      grow(2 * size);
+    int node = size++;
+    nodeX[node] = x;
+    nodeY[node] = y;
+    left[node] = NULL_NODE;
+    right[node] = NULL_NODE;
+    count[node] = 1;
+    if (data != null) {
+      if (nodeData == null)
+        nodeData = new Object[nodeX.length];
+      nodeData[node] = data;
+    }
+    return node;
+  }
+
+  private void grow(int capacity) {
+    nodeX = Arrays.copyOf(nodeX, capacity);
+    nodeY = Arrays.copyOf(nodeY, capacity);
+    left = Arrays.copyOf(left, capacity);
+    right = Arrays.copyOf(right, capacity);
+    count = Arrays.copyOf(count, capacity);
+    if (nodeData != null)
+      nodeData = Arrays.copyOf(nodeData, capacity);
+  }
+
+  private double distance(double x, double y, int node) {
+    double dx = x - nodeX[node];
+    double dy = y - nodeY[node];
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  private int compareCoordinate(int node1, int node2) {
+    if (nodeX[node1] < nodeX[node2]) return -1;
+    if (nodeX[node1] > nodeX[node2]) return 1;
+    if (nodeY[node1] < nodeY[node2]) return -1;
+    if (nodeY[node1] > nodeY[node2]) return 1;
+    return 0;
+  }
+
+  /**
+   * Performs a range search of the points in the index
+   * and visits the indices of all nodes found.
+   * This does not allocate any memory.
+   *
+   * @param minX the minimum X ordinate of the query range
+   * @param minY the minimum Y ordinate of the query range
+   * @param maxX the maximum X ordinate of the query range
+   * @param maxY the maximum Y ordinate of the query range
+   * @param visitor a visitor to visit the index of each node found
+   */
+  public void query(double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    queryNode(root, minX, minY, maxX, maxY, true, visitor);
+  }
+
+  /**
+   * Performs a range search of the points in the index
+   * and visits the indices of all nodes found.
+   *
+   * @param queryEnv the range rectangle to query
+   * @param visitor a visitor to visit the index of each node found
+   */
+  public void queryIds(Envelope queryEnv, ItemIdVisitor visitor) {
+    query(queryEnv.getMinX(), queryEnv.getMinY(), queryEnv.getMaxX(), queryEnv.getMaxY(), visitor);
+  }
+
+  private void queryNode(int currentNode, double minX, double minY, double maxX, double maxY,
+      boolean odd, ItemIdVisitor visitor) {
+    // descend iteratively down the right branches, and recursively down the left
+    while (currentNode != NULL_NODE) {
+      double x = nodeX[currentNode];
+      double y = nodeY[currentNode];
+      double min;
+      double max;
+      double discriminant;
+      if (odd) {
+        min = minX;
+        max = maxX;
+        discriminant = x;
+      } else {
+        min = minY;
+        max = maxY;
+        discriminant = y;
+      }
+      // search is computed via in-order traversal
+      if (min < discriminant) {
+        queryNode(left[currentNode], minX, minY, maxX, maxY, ! odd, visitor);
+      }
+      if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+        visitor.visitItem(currentNode);
+      }
+      if (! (discriminant <= max))
+        return;
+      currentNode = right[currentNode];
+      odd = ! odd;
+    }
+  }
+
+  /**
+   * Performs a range search of the points in the index and visits all nodes found.
+   * A {@link KdNode} is created for each node found.
+   *
+   * @param queryEnv the range rectangle to query
+   * @param visitor a visitor to visit all nodes found by the search
+   */
+  public void query(Envelope queryEnv, final KdNodeVisitor visitor) {
+    queryIds(queryEnv, new ItemIdVisitor() {
+      public void visitItem(int node) {
+        visitor.visit(toKdNode(node));
+      }
+    });
+  }
+
+  /**
+   * Performs a range search of the points in the index.
+   *
+   * @param queryEnv the range rectangle to query
+   * @return a list of the KdNodes found
+   */
+  public List query(Envelope queryEnv) {
+    final List result = new ArrayList();
+    queryIds(queryEnv, new ItemIdVisitor() {
+      public void visitItem(int node) {
+        result.add(toKdNode(node));
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Creates a {@link KdNode} for a node.
+   * The created node has no children.
+   *
+   * @param node the node index
+   * @return a KdNode with the location, data and count of the node
+   */
+  public KdNode toKdNode(int node) {
+    KdNode kdNode = new KdNode(nodeX[node], nodeY[node], getData(node));
+    for (int i = 1; i < count[node]; i++) {
+      kdNode.increment();
+    }
+    return kdNode;
+  }
+
+  /**
+   * Finds the node in the index which is nearest to a point.
+   * If several nodes are the same distance from the point,
+   * the one with the lowest coordinate is returned.
+   *
+   * @param p the query point
+   * @return the index of the nearest node, or -1 if the tree is empty
+   */
+  public int nearestNeighbor(Coordinate p) {
+    int[] nearest = kNearest(p, 1);
+    if (nearest.length == 0)
+      return NULL_NODE;
+    return nearest[0];
+  }
+
+  /**
+   * Finds the k nodes in the index which are nearest to a point.
+   * The nodes are returned in order of increasing distance.
+   * Nodes which are the same distance from the point
+   * are ordered by coordinate.
+   * If the tree contains fewer than k nodes, all nodes are returned.
+   *
+   * @param p the query point
+   * @param k the number of nodes to find
+   * @return the indices of the nearest nodes
+   */
+  public int[] kNearest(Coordinate p, int k) {
+    if (k < 1)
+      throw new IllegalArgumentException("k must be positive");
+    NearestHeap heap = new NearestHeap(p.x, p.y, Math.min(k, size));
+    nearestNode(root, p.x, p.y, true, heap);
+    return heap.toSortedArray();
+  }
+
+  private void nearestNode(int currentNode, double x, double y, boolean odd, NearestHeap heap) {
+    if (currentNode == NULL_NODE)
+      return;
+    double delta = odd ? x - nodeX[currentNode] : y - nodeY[currentNode];
+    int nearSide = delta < 0 ? left[currentNode] : right[currentNode];
+    int farSide = delta < 0 ? right[currentNode] : left[currentNode];
+
+    nearestNode(nearSide, x, y, ! odd, heap);
+    heap.add(currentNode);
+    if (delta * delta <= heap.maxDistanceSq()) {
+      nearestNode(farSide, x, y, ! odd, heap);
+    }
+  }
+
+  /**
+   * A bounded binary max-heap of node indices,
+   * ordered by distance from a point and then by coordinate.
+   */
+  private class NearestHeap {
+    private double x;
+    private double y;
+    private int[] heap;
+    private int heapSize = 0;
+
+    NearestHeap(double x, double y, int capacity) {
+      this.x = x;
+      this.y = y;
+      heap = new int[capacity];
+    }
+
+    double maxDistanceSq() {
+      if (heapSize < heap.length)
+        return Double.POSITIVE_INFINITY;
+      return distanceSq(heap[0]);
+    }
+
+    void add(int node) {
+      if (heapSize < heap.length) {
+        heap[heapSize] = node;
+        siftUp(heapSize++);
+      }
+      else if (heapSize > 0 && isFurther(heap[0], node)) {
+        heap[0] = node;
+        siftDown(0, heapSize);
+      }
+    }
+
+    int[] toSortedArray() {
+      // heap sort, leaving the nearest node first
+      int[] result = new int[heapSize];
+      for (int n = heapSize; n > 0; n--) {
+        result[n - 1] = heap[0];
+        heap[0] = heap[n - 1];
+        siftDown(0, n - 1);
+      }
+      heapSize = 0;
+      return result;
+    }
+
+    private double distanceSq(int node) {
+      double dx = x - nodeX[node];
+      double dy = y - nodeY[node];
+      return dx * dx + dy * dy;
+    }
+
+    private boolean isFurther(int node1, int node2) {
+      double dist1 = distanceSq(node1);
+      double dist2 = distanceSq(node2);
+      if (dist1 != dist2) return dist1 > dist2;
+      return compareCoordinate(node1, node2) > 0;
+    }
+
+    private void siftUp(int i) {
+      while (i > 0) {
+        int parent = (i - 1) / 2;
+        if (! isFurther(heap[i], heap[parent])) return;
+        swap(i, parent);
+        i = parent;
+      }
+    }
+
+    private void siftDown(int i, int n) {
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= n) return;
+        if (child + 1 < n && isFurther(heap[child + 1], heap[child])) child++;
+        if (! isFurther(heap[child], heap[i])) return;
+        swap(i, child);
+        i = child;
+      }
+    }
+
+    private void swap(int i, int j) {
+      int tmp = heap[i];
+      heap[i] = heap[j];
+      heap[j] = tmp;
+    }
+  }
+
+  /**
+   * Computes the depth of the tree.
+   *
+   * @return the depth of the tree
+   */
+  public int depth() {
+    return depthNode(root);
+  }
+
+  private int depthNode(int currentNode) {
+    if (currentNode == NULL_NODE)
+      return 0;
+    return 1 + Math.max(depthNode(left[currentNode]), depthNode(right[currentNode]));
+  }
+
+  /**
+   * Builds a balanced tree from arrays of points,
+   * by selecting the median of a permutation of the points
+   * on alternating ordinates.
+   */
+  private static class BulkLoader {
+    private CompactKdTree tree;
+    private double[] x;
+    private double[] y;
+    private Object[] data;
+    private int[] perm;
+
+    BulkLoader(CompactKdTree tree, double[] x, double[] y, Object[] data, int[] perm) {
+      this.tree = tree;
+      this.x = x;
+      this.y = y;
+      this.data = data;
+      this.perm = perm;
+    }
+
+    /**
+     * Builds a balanced subtree from a section of the point permutation.
+     * The median point is selected as the subtree root,
+     * using the lowest point with the median ordinate value,
+     * so that points in the left subtree have ordinates
+     * strictly less than the root ordinate.
+     * Points equal to the root lie in the right section,
+     * and are merged into the root.
+     *
+     * @return the index of the subtree root node
+     */
+    int build(int start, int end, boolean isX) {
+      if (start >= end)
+        return NULL_NODE;
+      int mid = (start + end) >>> 1;
+      select(start, end, mid, isX);
+      double median = ordinate(perm[mid], isX);
+      int split = partitionLess(start, mid, median, isX);
+      swap(split, mid);
+
+      // merge repeated points, keeping the first occurrence
+      int pt = perm[split];
+      int first = pt;
+      int numRepeated = 0;
+      int rightEnd = end;
+      for (int i = split + 1; i < rightEnd; ) {
+        int other = perm[i];
+        if (x[other] == x[pt] && y[other] == y[pt]) {
+          first = Math.min(first, other);
+          numRepeated++;
+          swap(i, --rightEnd);
+        }
+        else {
+          i++;
+        }
+      }
+      int node = tree.addNode(x[pt], y[pt], data == null ? null : data[first]);
+      tree.count[node] += numRepeated;
+
+      tree.left[node] = build(start, split, ! isX);
+      tree.right[node] = build(split + 1, rightEnd, ! isX);
+      return node;
+    }
+
+    private double ordinate(int pt, boolean isX) {
+      return isX ? x[pt] : y[pt];
+    }
+
+    private void select(int start, int end, int k, boolean isX) {
+      int lo = start;
+      int hi = end - 1;
+      while (lo < hi) {
+        double pivot = ordinate(perm[(lo + hi) >>> 1], isX);
+        int i = lo;
+        int j = hi;
+        while (i <= j) {
+          while (ordinate(perm[i], isX) < pivot) i++;
+          while (ordinate(perm[j], isX) > pivot) j--;
+          if (i <= j) {
+            swap(i, j);
+            i++;
+            j--;
+          }
+        }
+        if (k <= j)
+          hi = j;
+        else if (k >= i)
+          lo = i;
+        else
+          return;
+      }
+    }
+
+    private int partitionLess(int start, int end, double value, boolean isX) {
+      int split = start;
+      for (int i = start; i < end; i++) {
+        if (ordinate(perm[i], isX) < value) {
+          swap(split++, i);
+        }
+      }
+      return split;
+    }
+
+    private void swap(int i, int j) {
+      int tmp = perm[i];
+      perm[i] = perm[j];
+      perm[j] = tmp;
+    }
+  }
+}
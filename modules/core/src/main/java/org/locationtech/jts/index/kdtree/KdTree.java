@@ -13,12 +13,17 @@
 package org.locationtech.jts.index.kdtree;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 
 
@@ -36,6 +41,15 @@ import org.locationtech.jts.geom.Envelope;
  * is incremented.  
  * If more than one node in the tree is within tolerance of an inserted point, 
  * the closest and then lowest node is snapped to.
+ * <p>
+ * Inserting points one at a time can produce an unbalanced tree
+ * if the points are sorted or spatially coherent 
+ * (e.g. the vertices of a line).
+ * A balanced tree can be created from a set of points 
+ * using {@link #bulkLoad(Coordinate[], Object[])}.
+ * <p>
+ * The tree supports range queries, 
+ * radius queries and nearest-neighbour queries.
  * 
  * @author David Skea
  * @author Martin Davis
@@ -76,6 +90,152 @@ public class KdTree {
     return coord.toCoordinateArray();
   }
 
+  /**
+   * Creates a balanced KdTree containing a set of points, with no data.
+   * 
+   * @param pts the points to load
+   * @return a balanced tree containing the points
+   * 
+   * @see #bulkLoad(Coordinate[], Object[])
+   */
+  public static KdTree bulkLoad(CoordinateSequence pts) {
+    Coordinate[] coords = new Coordinate[pts.size()];
+    for (int i = 0; i < coords.length; i++) {
+      coords[i] = new Coordinate(pts.getX(i), pts.getY(i));
+    }
+    return bulkLoad(coords, null);
+  }
+  
+  /**
+   * Creates a balanced KdTree containing a set of points,
+   * with optional data items.
+   * The tree is built by recursively splitting the points at the median
+   * of alternating ordinates, so its depth is logarithmic in the 
+   * number of distinct points.
+   * Repeated points are loaded as a single node with a count, 
+   * with the data of the first occurrence of the point.
+   * The tree has a snapping tolerance of 0.0.
+   * 
+   * @param pts the points to load
+   * @param data the data items for the points, or null
+   * @return a balanced tree containing the points
+   */
+  public static KdTree bulkLoad(Coordinate[] pts, Object[] data) {
+    if (data != null && data.length != pts.length)
+      throw new IllegalArgumentException("Data array must be the same length as the point array");
+    KdNode[] nodes = new KdNode[pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      nodes[i] = new KdNode(pts[i], data == null ? null : data[i]);
+    }
+    // merge repeated points (the sort is stable, so the first occurrence is kept)
+    Arrays.sort(nodes, NODE_COORDINATE_ORDER);
+    int n = 0;
+    for (int i = 0; i < nodes.length; i++) {
+      if (n > 0 && nodes[n - 1].getCoordinate().equals2D(nodes[i].getCoordinate())) {
+        nodes[n - 1].increment();
+      }
+      else {
+        nodes[n++] = nodes[i];
+      }
+    }
+    KdTree tree = new KdTree();
+    tree.root = buildBalanced(nodes, 0, n, true);
+    tree.numberOfNodes = n;
+    return tree;
+  }
+  
+  private static final Comparator<KdNode> NODE_COORDINATE_ORDER = new Comparator<KdNode>() {
+    public int compare(KdNode node1, KdNode node2) {
+      return node1.getCoordinate().compareTo(node2.getCoordinate());
+    }
+  };
+
+  /**
+   * Builds a balanced subtree from a section of an array of nodes.
+   * The median node is selected as the subtree root,
+   * using the lowest node with the median ordinate value.
+   * This ensures that nodes in the left subtree have ordinates
+   * strictly less than the root ordinate,
+   * as required by the insertion and query algorithms.
+   * 
+   * @param nodes the nodes to build the tree from
+   * @param start the start of the section
+   * @param end the end of the section (exclusive)
+   * @param isOdd true if the subtree root splits by X
+   * @return the root of the subtree
+   */
+  private static KdNode buildBalanced(KdNode[] nodes, int start, int end, boolean isOdd) {
+    if (start >= end)
+      return null;
+    int mid = (start + end) >>> 1;
+    select(nodes, start, end, mid, isOdd);
+    double median = ordinate(nodes[mid], isOdd);
+    // move nodes with the median value to the start of the right section
+    int split = partitionLess(nodes, start, mid, median, isOdd);
+    swap(nodes, split, mid);
+    KdNode node = nodes[split];
+    node.setLeft(buildBalanced(nodes, start, split, ! isOdd));
+    node.setRight(buildBalanced(nodes, split + 1, end, ! isOdd));
+    return node;
+  }
+  
+  private static double ordinate(KdNode node, boolean isX) {
+    return isX ? node.getX() : node.getY();
+  }
+  
+  /**
+   * Partially sorts a section of an array of nodes
+   * so that the node at index k has the k'th smallest ordinate,
+   * nodes before it have ordinates less than or equal to it,
+   * and nodes after it have ordinates greater than or equal to it.
+   */
+  private static void select(KdNode[] nodes, int start, int end, int k, boolean isX) {
+    int lo = start;
+    int hi = end - 1;
+    while (lo < hi) {
+      double pivot = ordinate(nodes[(lo + hi) >>> 1], isX);
+      int i = lo;
+      int j = hi;
+      while (i <= j) {
+        while (ordinate(nodes[i], isX) < pivot) i++;
+        while (ordinate(nodes[j], isX) > pivot) j--;
+        if (i <= j) {
+          swap(nodes, i, j);
+          i++;
+          j--;
+        }
+      }
+      if (k <= j) 
+        hi = j;
+      else if (k >= i)
+        lo = i;
+      else
+        return;
+    }
+  }
+  
+  /**
+   * Partitions a section of an array of nodes so that
+   * nodes with an ordinate less than a value are at the start.
+   * 
+   * @return the index of the first node which is not less than the value
+   */
+  private static int partitionLess(KdNode[] nodes, int start, int end, double value, boolean isX) {
+    int split = start;
+    for (int i = start; i < end; i++) {
+      if (ordinate(nodes[i], isX) < value) {
+        swap(nodes, split++, i);
+      }
+    }
+    return split;
+  }
+  
+  private static void swap(KdNode[] nodes, int i, int j) {
+    KdNode tmp = nodes[i];
+    nodes[i] = nodes[j];
+    nodes[j] = tmp;
+  }
+  
   private KdNode root = null;
   private long numberOfNodes;
   private double tolerance;
@@ -346,4 +506,169 @@ public class KdTree {
       
     });
   }
-}
\ No newline at end of file
+
+  /**
+   * Performs a search for the points in the index 
+   * which lie within a given distance of a point,
+   * and visits all nodes found.
+   * 
+   * @param center the point to search around
+   * @param radius the search distance
+   * @param visitor a visitor to visit all nodes found by the search
+   */
+  public void query(final Coordinate center, final double radius, final KdNodeVisitor visitor) {
+    Envelope queryEnv = new Envelope(center);
+    queryEnv.expandBy(radius);
+    query(queryEnv, new KdNodeVisitor() {
+      
+      public void visit(KdNode node) {
+        if (center.distance(node.getCoordinate()) <= radius) {
+          visitor.visit(node);
+        }
+      }
+      
+    });
+  }
+
+  /**
+   * Performs a search for the points in the index 
+   * which lie within a given distance of a point.
+   * 
+   * @param center the point to search around
+   * @param radius the search distance
+   * @return a list of the KdNodes found
+   */
+  public List query(Coordinate center, double radius) {
+    final List result = new ArrayList();
+    query(center, radius, new KdNodeVisitor() {
+
+      public void visit(KdNode node) {
+        result.add(node);
+      }
+      
+    });
+    return result;
+  }
+  
+  /**
+   * Finds the node in the index which is nearest to a point.
+   * If several nodes are the same distance from the point,
+   * the one with the lowest coordinate is returned.
+   * 
+   * @param p the query point
+   * @return the nearest node, or null if the tree is empty
+   */
+  public KdNode nearestNeighbor(Coordinate p) {
+    List nearest = kNearest(p, 1);
+    if (nearest.isEmpty())
+      return null;
+    return (KdNode) nearest.get(0);
+  }
+  
+  /**
+   * Finds the k nodes in the index which are nearest to a point.
+   * The nodes are returned in order of increasing distance.
+   * Nodes which are the same distance from the point
+   * are ordered by coordinate.
+   * If the tree contains fewer than k nodes, all nodes are returned.
+   * 
+   * @param p the query point
+   * @param k the number of nodes to find
+   * @return a list of the nearest KdNodes
+   */
+  public List kNearest(Coordinate p, int k) {
+    if (k < 1)
+      throw new IllegalArgumentException("k must be positive");
+    NearestCollector collector = new NearestCollector(p, k);
+    nearestNode(root, p, true, collector);
+    return collector.getNodes();
+  }
+  
+  /**
+   * Searches a subtree for the nearest nodes to a point.
+   * The side of the splitting line containing the point is searched first,
+   * and the other side is only searched if it may contain nearer nodes.
+   */
+  private static void nearestNode(KdNode currentNode, Coordinate p, boolean odd, NearestCollector collector) {
+    if (currentNode == null)
+      return;
+    double delta = odd ? p.x - currentNode.getX() : p.y - currentNode.getY();
+    KdNode nearSide = delta < 0 ? currentNode.getLeft() : currentNode.getRight();
+    KdNode farSide = delta < 0 ? currentNode.getRight() : currentNode.getLeft();
+    
+    nearestNode(nearSide, p, ! odd, collector);
+    collector.add(currentNode);
+    if (delta * delta <= collector.maxDistanceSq()) {
+      nearestNode(farSide, p, ! odd, collector);
+    }
+  }
+  
+  /**
+   * Collects the k nodes nearest to a point,
+   * using a priority queue with the furthest node at the head.
+   */
+  private static class NearestCollector implements Comparator<KdNode> {
+    
+    private Coordinate p;
+    private int k;
+    private PriorityQueue<KdNode> nodes;
+    
+    public NearestCollector(Coordinate p, int k) {
+      this.p = p;
+      this.k = k;
+      nodes = new PriorityQueue<KdNode>(Math.min(k, 1024), this);
+    }
+    
+    public double maxDistanceSq() {
+      if (nodes.size() < k)
+        return Double.POSITIVE_INFINITY;
+      return distanceSq(nodes.peek());
+    }
+    
+    public void add(KdNode node) {
+      if (nodes.size() < k) {
+        nodes.add(node);
+      }
+      else if (compare(node, nodes.peek()) > 0) {
+        nodes.poll();
+        nodes.add(node);
+      }
+    }
+    
+    public List getNodes() {
+      List result = new ArrayList(nodes);
+      Collections.sort(result, Collections.reverseOrder(this));
+      return result;
+    }
+    
+    private double distanceSq(KdNode node) {
+      double dx = node.getX() - p.x;
+      double dy = node.getY() - p.y;
+      return dx * dx + dy * dy;
+    }
+    
+    /**
+     * Orders nodes so that the furthest (and then highest) node is first.
+     */
+    public int compare(KdNode node1, KdNode node2) {
+      int comp = Double.compare(distanceSq(node2), distanceSq(node1));
+      if (comp != 0) return comp;
+      return node2.getCoordinate().compareTo(node1.getCoordinate());
+    }
+  }
+  
+  /**
+   * Computes the depth of the tree.
+   * 
+   * @return the depth of the tree
+   */
+  public int depth() {
+    return depthNode(root);
+  }
+  
+  private static int depthNode(KdNode currentNode) {
+    if (currentNode == null)
+      return 0;
+    return 1 + Math.max(depthNode(currentNode.getLeft()), depthNode(currentNode.getRight()));
+  }
+}
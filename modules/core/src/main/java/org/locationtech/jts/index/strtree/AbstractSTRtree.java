@@ -13,6 +13,8 @@
 package org.locationtech.jts.index.strtree;
 
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,7 +36,7 @@ import org.locationtech.jts.util.Assert;
  * data, both of which are treated as Boundables.
  * <p>
  * This class is thread-safe.  Building the tree is synchronized, 
- * and querying is stateless.
+ * and querying is stateless and does not lock once the tree is built.
  *
  * @see STRtree
  * @see SIRtree
@@ -65,7 +67,11 @@ public abstract class AbstractSTRtree implements Serializable {
 
   protected AbstractNode root;
 
-  private boolean built = false;
+  /**
+   * Volatile so that a built tree can be detected without locking,
+   * and so that the root is visible to all threads once it is set.
+   */
+  private volatile boolean built = false;
   /**
    * Set to <tt>null</tt> when index is built, to avoid retaining memory.
    */
@@ -73,6 +79,11 @@ public abstract class AbstractSTRtree implements Serializable {
   
   private int nodeCapacity;
 
+  /**
+   * The number of items inserted, used to assign item ids.
+   */
+  private int itemCount = 0;
+
   private static final int DEFAULT_NODE_CAPACITY = 10;
 
   /**
@@ -99,15 +110,22 @@ public abstract class AbstractSTRtree implements Serializable {
    * node, for the data that has been inserted into the tree. Can only be
    * called once, and thus can be called only after all of the data has been
    * inserted into the tree.
+   * <p>
+   * Building is synchronized, but once the tree is built
+   * this method returns without locking,
+   * so concurrent queries do not contend.
    */
-  public synchronized void build() {
+  public void build() {
     if (built) return;
-    root = itemBoundables.isEmpty()
-           ? createNode(0)
-           : createHigherLevels(itemBoundables, -1);
-    // the item list is no longer needed
-    itemBoundables = null;
-    built = true;
+    synchronized (this) {
+      if (built) return;
+      root = itemBoundables.isEmpty()
+             ? createNode(0)
+             : createHigherLevels(itemBoundables, -1);
+      // the item list is no longer needed
+      itemBoundables = null;
+      built = true;
+    }
   }
 
   protected abstract AbstractNode createNode(int level);
@@ -240,7 +258,38 @@ public abstract class AbstractSTRtree implements Serializable {
 
   protected void insert(Object bounds, Object item) {
     Assert.isTrue(!built, "Cannot insert items into an STR packed R-tree after it has been built.");
-    itemBoundables.add(new ItemBoundable(bounds, item));
+    itemBoundables.add(new ItemBoundable(bounds, item, itemCount++));
+  }
+
+  /**
+   * Records that an item was not inserted,
+   * so that the ids of subsequent items still reflect their insertion order.
+   */
+  protected void skipItem() {
+    itemCount++;
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    /**
+     * Streams written before item ids were recorded do not contain ids,
+     * so the items are numbered in the order of the item list,
+     * or if the tree is built, in the order of the tree leaves.
+     */
+    if (itemCount == 0)
+      assignItemIds();
+  }
+
+  private void assignItemIds() {
+    List items = itemBoundables;
+    if (items == null) {
+      if (root == null) return;
+      items = new ArrayList();
+      boundablesAtLevel(-1, root, items);
+    }
+    for (int i = 0; i < items.size(); i++) {
+      ((ItemBoundable) items.get(i)).setId(itemCount++);
+    }
   }
 
   /**
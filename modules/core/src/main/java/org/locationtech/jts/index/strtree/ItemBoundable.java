@@ -12,6 +12,8 @@
  */
 package org.locationtech.jts.index.strtree;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -21,17 +23,45 @@ import java.io.Serializable;
  * @version 1.7
  */
 public class ItemBoundable implements Boundable, Serializable {
+  private static final long serialVersionUID = -5476789078882979168L;
+  
   private Object bounds;
   private Object item;
+  private int id = -1;
 
   public ItemBoundable(Object bounds, Object item) {
     this.bounds = bounds;
     this.item = item;
   }
 
+  ItemBoundable(Object bounds, Object item, int id) {
+    this(bounds, item);
+    this.id = id;
+  }
+
   public Object getBounds() {
     return bounds;
   }
 
   public Object getItem() { return item; }
+
+  /**
+   * Gets the id of the item, which is its index 
+   * in the order items were inserted into the tree.
+   * Items read from a serialized tree written before ids were recorded
+   * are numbered by the tree when it is read.
+   * 
+   * @return the item id, or -1 if the item does not have an id
+   */
+  int getId() { return id; }
+
+  void setId(int id) { this.id = id; }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField fields = in.readFields();
+    bounds = fields.get("bounds", null);
+    item = fields.get("item", null);
+    // the id is absent from streams written by earlier versions
+    id = fields.get("id", -1);
+  }
 }
@@ -14,16 +14,21 @@ package org.locationtech.jts.index.strtree;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemIdVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndex;
 import org.locationtech.jts.util.Assert;
+import org.locationtech.jts.util.IntArrayList;
 
 
 /**
@@ -46,6 +51,12 @@ import org.locationtech.jts.util.Assert;
  * Querying a tree is thread-safe.  
  * The building phase is done synchronously, 
  * and querying is stateless.
+ * <p>
+ * The tree can optionally be built using multiple threads
+ * (see {@link #setParallelBuild(boolean)}).
+ * In this case the vertical slices of each level 
+ * are packed concurrently using the common fork-join pool.
+ * The resulting tree is identical to the one built serially.
  *
  * @version 1.7
  */
@@ -123,23 +134,81 @@ implements SpatialIndex, Serializable
   protected List createParentBoundables(List childBoundables, int newLevel) {
     Assert.isTrue(!childBoundables.isEmpty());
     int minLeafCount = (int) Math.ceil((childBoundables.size() / (double) getNodeCapacity()));
-    ArrayList sortedChildBoundables = new ArrayList(childBoundables);
-    Collections.sort(sortedChildBoundables, xComparator);
+    boolean isParallel = isParallelBuild && childBoundables.size() > PARALLEL_BUILD_THRESHOLD;
+    List sortedChildBoundables = sortByX(childBoundables, isParallel);
     List[] verticalSlices = verticalSlices(sortedChildBoundables,
         (int) Math.ceil(Math.sqrt(minLeafCount)));
+    if (isParallel) {
+      return ForkJoinPool.commonPool().invoke(
+          new SliceTask(verticalSlices, 0, verticalSlices.length, newLevel));
+    }
     return createParentBoundablesFromVerticalSlices(verticalSlices, newLevel);
   }
 
+  /**
+   * Sorts boundables by the x-value of their midpoints.
+   * Both sorts are stable, so they produce the same ordering.
+   */
+  private static List sortByX(List childBoundables, boolean isParallel) {
+    if (! isParallel) {
+      ArrayList sortedChildBoundables = new ArrayList(childBoundables);
+      Collections.sort(sortedChildBoundables, xComparator);
+      return sortedChildBoundables;
+    }
+    Object[] sorted = childBoundables.toArray();
+    Arrays.parallelSort(sorted, xComparator);
+    return Arrays.asList(sorted);
+  }
+
   private List createParentBoundablesFromVerticalSlices(List[] verticalSlices, int newLevel) {
     Assert.isTrue(verticalSlices.length > 0);
+    return createParentBoundablesFromVerticalSlices(verticalSlices, 0, verticalSlices.length, newLevel);
+  }
+
+  private List createParentBoundablesFromVerticalSlices(List[] verticalSlices, int start, int end, int newLevel) {
     List parentBoundables = new ArrayList();
-    for (int i = 0; i < verticalSlices.length; i++) {
+    for (int i = start; i < end; i++) {
       parentBoundables.addAll(
             createParentBoundablesFromVerticalSlice(verticalSlices[i], newLevel));
     }
     return parentBoundables;
   }
 
+  /**
+   * Creates the parent boundables for a range of vertical slices,
+   * splitting the range into subtasks if it contains more than one slice.
+   * The results of the subtasks are concatenated in slice order.
+   */
+  private class SliceTask extends RecursiveTask<List> {
+
+    private static final long serialVersionUID = 1L;
+
+    private List[] verticalSlices;
+    private int start;
+    private int end;
+    private int newLevel;
+
+    SliceTask(List[] verticalSlices, int start, int end, int newLevel) {
+      this.verticalSlices = verticalSlices;
+      this.start = start;
+      this.end = end;
+      this.newLevel = newLevel;
+    }
+
+    protected List compute() {
+      if (end - start <= 1) {
+        return createParentBoundablesFromVerticalSlices(verticalSlices, start, end, newLevel);
+      }
+      int mid = (start + end) >>> 1;
+      SliceTask lowTask = new SliceTask(verticalSlices, start, mid, newLevel);
+      lowTask.fork();
+      List parentBoundables = new SliceTask(verticalSlices, mid, end, newLevel).compute();
+      List lowParents = lowTask.join();
+      lowParents.addAll(parentBoundables);
+      return lowParents;
+    }
+  }
+
   protected List createParentBoundablesFromVerticalSlice(List childBoundables, int newLevel) {
     return super.createParentBoundables(childBoundables, newLevel);
   }
@@ -164,6 +233,14 @@ implements SpatialIndex, Serializable
   }
 
   private static final int DEFAULT_NODE_CAPACITY = 10;
+
+  /**
+   * The number of boundables in a level below which 
+   * the level is built serially during a parallel build.
+   */
+  private static final int PARALLEL_BUILD_THRESHOLD = 8192;
+
+  private boolean isParallelBuild = false;
   
   /**
    * Constructs an STRtree with the default node capacity.
@@ -184,6 +261,19 @@ implements SpatialIndex, Serializable
     super(nodeCapacity);
   }
 
+  /**
+   * Sets whether the tree is built using multiple threads.
+   * The parallel build uses the common fork-join pool
+   * and produces the same tree as the serial build.
+   * This is worthwhile only for large numbers of items.
+   * It must be set before the tree is built.
+   * 
+   * @param isParallelBuild true if the tree should be built in parallel
+   */
+  public void setParallelBuild(boolean isParallelBuild) {
+    this.isParallelBuild = isParallelBuild;
+  }
+
   protected AbstractNode createNode(int level) {
     return new STRtreeNode(level);
   }
@@ -196,7 +286,10 @@ implements SpatialIndex, Serializable
    * Inserts an item having the given bounds into the tree.
    */
   public void insert(Envelope itemEnv, Object item) {
-    if (itemEnv.isNull()) { return; }
+    if (itemEnv.isNull()) { 
+      skipItem();
+      return; 
+    }
     super.insert(itemEnv, item);
   }
 
@@ -218,6 +311,77 @@ implements SpatialIndex, Serializable
     super.query(searchEnv, visitor);
   }
 
+  /**
+   * Visits the ids of the items whose bounds intersect the given rectangle.
+   * The id of an item is its index in the order it was inserted into the tree.
+   * (Items with null envelopes are not inserted, but are counted.)
+   * A tree read from a serialized form written before ids were recorded
+   * numbers its items in the order of the tree leaves if it was built,
+   * so in this case ids are unique but do not follow the insertion order.
+   * <p>
+   * Once the tree is built this query does not allocate any objects,
+   * so it is suitable for use in performance-critical code.
+   * 
+   * @param minX the minimum X ordinate of the query rectangle
+   * @param minY the minimum Y ordinate of the query rectangle
+   * @param maxX the maximum X ordinate of the query rectangle
+   * @param maxY the maximum Y ordinate of the query rectangle
+   * @param visitor a visitor to process the ids of the matching items
+   */
+  public void query(double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    AbstractNode root = getRoot();
+    if (isEmpty()) return;
+    queryIds(root, minX, minY, maxX, maxY, visitor, null);
+  }
+
+  /**
+   * Adds the ids of the items whose bounds intersect the given rectangle
+   * to a list.
+   * The ids are numbered as described for
+   * {@link #query(double, double, double, double, ItemIdVisitor)}.
+   * The list is not cleared, so a single list can be reused 
+   * (after calling {@link IntArrayList#clear()}) 
+   * to avoid allocating storage for each query.
+   * 
+   * @param minX the minimum X ordinate of the query rectangle
+   * @param minY the minimum Y ordinate of the query rectangle
+   * @param maxX the maximum X ordinate of the query rectangle
+   * @param maxY the maximum Y ordinate of the query rectangle
+   * @param itemIds the list to add the ids of the matching items to
+   * 
+   * @see #query(double, double, double, double, ItemIdVisitor)
+   */
+  public void query(double minX, double minY, double maxX, double maxY, IntArrayList itemIds) {
+    AbstractNode root = getRoot();
+    if (isEmpty()) return;
+    queryIds(root, minX, minY, maxX, maxY, null, itemIds);
+  }
+
+  private static void queryIds(AbstractNode node, double minX, double minY, double maxX, double maxY,
+      ItemIdVisitor visitor, IntArrayList itemIds) {
+    List childBoundables = node.getChildBoundables();
+    for (int i = 0; i < childBoundables.size(); i++) {
+      Boundable childBoundable = (Boundable) childBoundables.get(i);
+      Envelope env = (Envelope) childBoundable.getBounds();
+      if (env.getMinX() > maxX || env.getMaxX() < minX
+          || env.getMinY() > maxY || env.getMaxY() < minY) {
+        continue;
+      }
+      if (childBoundable instanceof AbstractNode) {
+        queryIds((AbstractNode) childBoundable, minX, minY, maxX, maxY, visitor, itemIds);
+      }
+      else {
+        int itemId = ((ItemBoundable) childBoundable).getId();
+        if (visitor != null) {
+          visitor.visitItem(itemId);
+        }
+        else {
+          itemIds.add(itemId);
+        }
+      }
+    }
+  }
+
   /**
    * Removes a single item from the tree.
    *
@@ -0,0 +1,552 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.GeometryFilter;
+
+/**
+ * Scans a sequence of {@link Geometry}s in WKT or WKBHex format
+ * from a text file, using memory-mapped I/O.
+ * Each geometry must be on a single line.
+ * Lines starting with a digit are parsed as WKBHex,
+ * and other lines as WKT.
+ * Blank lines are ignored.
+ * <p>
+ * The file is split into chunks of approximately equal size,
+ * aligned to line boundaries,
+ * which are mapped into memory and parsed independently.
+ * This allows scanning very large files
+ * (larger than the 2 GB limit of a single mapping)
+ * with bounded memory use.
+ * The geometries can be obtained in two ways:
+ * <ul>
+ * <li>{@link #scan(GeometryFilter)} supplies each geometry in file order
+ * to a filter.
+ * If parallel mode is enabled (see {@link #setParallel(boolean)})
+ * batches of chunks are parsed in parallel,
+ * but the filter is still called in order from the calling thread.
+ * <li>{@link #spliterator()} provides a {@link Spliterator} which splits
+ * on chunk boundaries.
+ * This allows processing the geometries in parallel
+ * with a parallel {@link java.util.stream.Stream}.
+ * </ul>
+ * This class is thread-safe,
+ * since each scan uses separate readers and mappings.
+ *
+ * @see WKTFileReader
+ * @see WKBHexFileReader
+ */
+public class GeometryFileScanner
+{
+  private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+  private File file;
+  private GeometryFactory geomFactory;
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+  private boolean isParallel = false;
+
+  /**
+   * Creates a new scanner for a file,
+   * which creates geometries using the given factory.
+   *
+   * @param file the file to scan
+   * @param geomFactory the factory to use to create geometries
+   */
+  public GeometryFileScanner(File file, GeometryFactory geomFactory)
+  {
+    this.file = file;
+    this.geomFactory = geomFactory;
+  }
+
+  /**
+   * Creates a new scanner for a file,
+   * which creates geometries using a default factory.
+   *
+   * @param file the file to scan
+   */
+  public GeometryFileScanner(File file)
+  {
+    this(file, new GeometryFactory());
+  }
+
+  /**
+   * Sets the approximate size of the chunks the file is split into.
+   * A chunk may be larger if it contains a line longer than the chunk size.
+   *
+   * @param chunkSize the chunk size in bytes
+   */
+  public void setChunkSize(int chunkSize)
+  {
+    if (chunkSize <= 0)
+      throw new IllegalArgumentException("Chunk size must be positive");
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Sets whether {@link #scan(GeometryFilter)} parses chunks in parallel
+   * (using the common {@link ForkJoinPool}).
+   *
+   * @param isParallel true if chunks are parsed in parallel
+   */
+  public void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Scans the file, supplying each geometry to a filter
+   * in the order they occur in the file.
+   * The filter is always called from the calling thread.
+   *
+   * @param filter the filter to supply the geometries to
+   * @throws IOException if an I/O exception was encountered
+   * @throws ParseException if an error occurred parsing a geometry
+   */
+  public void scan(GeometryFilter filter)
+  throws IOException, ParseException
+  {
+    long[] chunkStart = computeChunks();
+    int numChunks = chunkStart.length - 1;
+    if (! isParallel) {
+      ChunkParser parser = new ChunkParser();
+      for (int i = 0; i < numChunks; i++) {
+        parser.init(chunkStart[i], chunkStart[i + 1]);
+        Geometry g;
+        while ((g = parser.next()) != null) {
+          filter.filter(g);
+        }
+      }
+      return;
+    }
+    // parse batches of chunks in parallel, to bound the memory used
+    int batchSize = 2 * ForkJoinPool.commonPool().getParallelism();
+    List[] results = new List[batchSize];
+    for (int batch = 0; batch < numChunks; batch += batchSize) {
+      int batchEnd = Math.min(batch + batchSize, numChunks);
+      try {
+        ForkJoinPool.commonPool().invoke(
+            new ParseChunksTask(chunkStart, batch, batch, batchEnd, results));
+      }
+      catch (RuntimeException ex) {
+        throw unwrap(ex);
+      }
+      for (int i = 0; i < batchEnd - batch; i++) {
+        List geoms = results[i];
+        results[i] = null;
+        for (int j = 0; j < geoms.size(); j++) {
+          filter.filter((Geometry) geoms.get(j));
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads all the geometries in the file.
+   *
+   * @return the list of geometries read
+   * @throws IOException if an I/O exception was encountered
+   * @throws ParseException if an error occurred parsing a geometry
+   */
+  public List read()
+  throws IOException, ParseException
+  {
+    final List geoms = new ArrayList();
+    scan(new GeometryFilter() {
+      public void filter(Geometry geom) {
+        geoms.add(geom);
+      }
+    });
+    return geoms;
+  }
+
+  /**
+   * Creates a {@link Spliterator} over the geometries in the file.
+   * The spliterator splits on chunk boundaries,
+   * and parses each chunk lazily as it is traversed.
+   * It can be used to create a parallel stream via
+   * <code>StreamSupport.stream(scanner.spliterator(), true)</code>.
+   * <p>
+   * Since a spliterator cannot throw checked exceptions,
+   * I/O errors are reported as {@link UncheckedIOException}s,
+   * and parse errors as {@link RuntimeException}s
+   * with the {@link ParseException} as the cause.
+   *
+   * @return a spliterator over the geometries in the file
+   * @throws IOException if an I/O exception was encountered
+   */
+  public Spliterator<Geometry> spliterator() throws IOException
+  {
+    long[] chunkStart = computeChunks();
+    return new ChunkSpliterator(chunkStart, 0, chunkStart.length - 1);
+  }
+
+  private static RuntimeException unwrap(RuntimeException ex)
+  throws IOException, ParseException
+  {
+    // the exception may be wrapped several times when thrown from a pool thread
+    for (Throwable t = ex; t != null; t = t.getCause()) {
+      if (t instanceof ParseException) throw (ParseException) t;
+      if (t instanceof IOException) throw (IOException) t;
+    }
+    throw ex;
+  }
+
+  /**
+   * Computes the offsets of the starts of the chunks,
+   * each of which is the start of a line.
+   * The last entry is the file size.
+   */
+  private long[] computeChunks() throws IOException
+  {
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      long size = channel.size();
+      List starts = new ArrayList();
+      starts.add(Long.valueOf(0));
+      long prev = 0;
+      ByteBuffer buf = ByteBuffer.allocate(4096);
+      for (long pos = chunkSize; pos < size; pos += chunkSize) {
+        if (pos <= prev) continue;
+        long start = findLineStart(channel, pos, size, buf);
+        if (start >= size) break;
+        starts.add(Long.valueOf(start));
+        prev = start;
+      }
+      long[] chunkStart = new long[starts.size() + 1];
+      for (int i = 0; i < starts.size(); i++) {
+        chunkStart[i] = ((Long) starts.get(i)).longValue();
+      }
+      chunkStart[starts.size()] = size;
+      return chunkStart;
+    }
+    finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Finds the start of the first line at or after a position.
+   */
+  private static long findLineStart(FileChannel channel, long pos, long size, ByteBuffer buf)
+  throws IOException
+  {
+    // a line starts at pos if the previous byte is a newline
+    long readPos = pos - 1;
+    while (readPos < size) {
+      buf.clear();
+      int n = channel.read(buf, readPos);
+      if (n <= 0) break;
+      for (int i = 0; i < n; i++) {
+        if (buf.get(i) == '\n')
+          return readPos + i + 1;
+      }
+      readPos += n;
+    }
+    return size;
+  }
+
+  private MappedByteBuffer map(long start, long end) throws IOException
+  {
+    if (end - start > Integer.MAX_VALUE)
+      throw new IOException("Line too long to map at offset " + start);
+    // a mapping remains valid after the channel is closed
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+    finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Parses the geometries in a chunk.
+   * The chunk is copied in blocks into a window array,
+   * since scanning an array is much faster than scanning a mapped buffer.
+   * Parsers are not thread-safe,
+   * but can be reused for a sequence of chunks.
+   */
+  private class ChunkParser
+  {
+    private static final int WINDOW_SIZE = 64 * 1024;
+
+    private WKTReader wktReader = new WKTReader(geomFactory);
+    private WKBReader wkbReader = new WKBReader(geomFactory);
+    private ByteBuffer chunk;
+    private byte[] window = new byte[WINDOW_SIZE];
+    // the file offset of the start of the window
+    private long windowOffset;
+    private int windowStart;
+    private int windowEnd;
+
+    void init(long start, long end) throws IOException
+    {
+      chunk = map(start, end);
+      windowOffset = start;
+      windowStart = 0;
+      windowEnd = 0;
+    }
+
+    /**
+     * Parses the next geometry in the chunk.
+     *
+     * @return the next geometry, or null if the chunk is exhausted
+     */
+    Geometry next() throws ParseException
+    {
+      int scanFrom = windowStart;
+      while (true) {
+        // skip blank lines
+        while (windowStart < windowEnd && isWhitespace(window[windowStart])) {
+          windowStart++;
+        }
+        if (scanFrom < windowStart) scanFrom = windowStart;
+        if (windowStart < windowEnd) {
+          int lineEnd = scanFrom;
+          while (lineEnd < windowEnd && window[lineEnd] != '\n') {
+            lineEnd++;
+          }
+          if (lineEnd < windowEnd || ! chunk.hasRemaining()) {
+            int lineStart = windowStart;
+            windowStart = lineEnd;
+            return parseLine(lineStart, lineEnd);
+          }
+          scanFrom = lineEnd;
+        }
+        else if (! chunk.hasRemaining()) {
+          chunk = null;
+          return null;
+        }
+        scanFrom -= windowStart;
+        fill();
+      }
+    }
+
+    /**
+     * Moves the unparsed data to the start of the window,
+     * and copies the next block of the chunk into it.
+     * The window is enlarged if it is full.
+     */
+    private void fill()
+    {
+      int len = windowEnd - windowStart;
+      System.arraycopy(window, windowStart, window, 0, len);
+      windowOffset += windowStart;
+      windowStart = 0;
+      windowEnd = len;
+      if (windowEnd == window.length) {
+        byte[] larger = new byte[2 * window.length];
+        System.arraycopy(window, 0, larger, 0, windowEnd);
+        window = larger;
+      }
+      int n = Math.min(window.length - windowEnd, chunk.remaining());
+      chunk.get(window, windowEnd, n);
+      windowEnd += n;
+    }
+
+    private Geometry parseLine(int start, int end) throws ParseException
+    {
+      while (isWhitespace(window[end - 1])) {
+        end--;
+      }
+      try {
+        if (isDigit(window[start]))
+          return readWKBHex(start, end);
+        return readWKT(start, end);
+      }
+      catch (ParseException ex) {
+        throw new ParseException(ex.getMessage()
+            + " (in line at offset " + (windowOffset + start) + ")");
+      }
+    }
+
+    private Geometry readWKT(int start, int end) throws ParseException
+    {
+      return wktReader.read(new String(window, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+
+    private Geometry readWKBHex(int start, int end) throws ParseException
+    {
+      int len = end - start;
+      if (len % 2 != 0)
+        throw new ParseException("WKBHex has odd length");
+      // decode in place, since the line is not used again
+      for (int i = 0; i < len / 2; i++) {
+        int hi = hexValue(window[start + 2 * i]);
+        int lo = hexValue(window[start + 2 * i + 1]);
+        window[start + i] = (byte) ((hi << 4) | lo);
+      }
+      ByteBuffer wkb = ByteBuffer.wrap(window, start, len / 2);
+      Geometry g = wkbReader.read(wkb);
+      if (wkb.hasRemaining())
+        throw new ParseException("Unexpected data after end of WKB");
+      return g;
+    }
+  }
+
+  private static boolean isWhitespace(byte b)
+  {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+
+  private static boolean isDigit(byte b)
+  {
+    return b >= '0' && b <= '9';
+  }
+
+  private static int hexValue(byte b) throws ParseException
+  {
+    if (b >= '0' && b <= '9') return b - '0';
+    if (b >= 'A' && b <= 'F') return b - 'A' + 10;
+    if (b >= 'a' && b <= 'f') return b - 'a' + 10;
+    throw new ParseException("Invalid hex digit: '" + (char) b + "'");
+  }
+
+  /**
+   * Parses a range of chunks in parallel,
+   * storing the geometries of each chunk in a result list.
+   */
+  private class ParseChunksTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private long[] chunkStart;
+    private int resultBase;
+    private int start;
+    private int end;
+    private List[] results;
+
+    ParseChunksTask(long[] chunkStart, int resultBase, int start, int end, List[] results)
+    {
+      this.chunkStart = chunkStart;
+      this.resultBase = resultBase;
+      this.start = start;
+      this.end = end;
+      this.results = results;
+    }
+
+    protected void compute()
+    {
+      if (end - start > 1) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new ParseChunksTask(chunkStart, resultBase, start, mid, results),
+            new ParseChunksTask(chunkStart, resultBase, mid, end, results));
+        return;
+      }
+      ChunkParser parser = new ChunkParser();
+      List geoms = new ArrayList();
+      try {
+        parser.init(chunkStart[start], chunkStart[start + 1]);
+        Geometry g;
+        while ((g = parser.next()) != null) {
+          geoms.add(g);
+        }
+      }
+      catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      catch (ParseException ex) {
+        throw new RuntimeException(ex);
+      }
+      results[start - resultBase] = geoms;
+    }
+  }
+
+  /**
+   * A spliterator over a range of chunks.
+   */
+  private class ChunkSpliterator implements Spliterator<Geometry>
+  {
+    private long[] chunkStart;
+    private int chunkIndex;
+    private int chunkEnd;
+    private ChunkParser parser = null;
+    private boolean isChunkActive = false;
+
+    ChunkSpliterator(long[] chunkStart, int chunkIndex, int chunkEnd)
+    {
+      this.chunkStart = chunkStart;
+      this.chunkIndex = chunkIndex;
+      this.chunkEnd = chunkEnd;
+    }
+
+    public boolean tryAdvance(Consumer<? super Geometry> action)
+    {
+      if (parser == null)
+        parser = new ChunkParser();
+      try {
+        while (true) {
+          if (! isChunkActive) {
+            if (chunkIndex >= chunkEnd) return false;
+            parser.init(chunkStart[chunkIndex], chunkStart[chunkIndex + 1]);
+            chunkIndex++;
+            isChunkActive = true;
+          }
+          Geometry g = parser.next();
+          if (g != null) {
+            action.accept(g);
+            return true;
+          }
+          isChunkActive = false;
+        }
+      }
+      catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      catch (ParseException ex) {
+        throw new RuntimeException(ex);
+      }
+    }
+
+    public Spliterator<Geometry> trySplit()
+    {
+      // a partly traversed chunk must remain the first in encounter order
+      if (isChunkActive) return null;
+      int remaining = chunkEnd - chunkIndex;
+      if (remaining < 2) return null;
+      int mid = chunkIndex + remaining / 2;
+      ChunkSpliterator prefix = new ChunkSpliterator(chunkStart, chunkIndex, mid);
+      chunkIndex = mid;
+      return prefix;
+    }
+
+    /**
+     * The number of bytes remaining is an upper bound on the number of geometries
+     */
+    public long estimateSize()
+    {
+      return chunkStart[chunkEnd] - chunkStart[chunkIndex];
+    }
+
+    public int characteristics()
+    {
+      return ORDERED | NONNULL | IMMUTABLE;
+    }
+  }
+}
@@ -62,6 +62,30 @@ public class OrdinateFormat
    */
   public static OrdinateFormat DEFAULT = new OrdinateFormat();
 
+  /**
+   * Powers of ten which are exactly representable as doubles
+   */
+  private static final double[] POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /**
+   * The largest value which can be formatted using integer arithmetic
+   */
+  private static final double MAX_FAST_VALUE = 4503599627370496.0; // 2^52
+
+  /**
+   * The smallest distance of a scaled value from a rounding tie
+   * for which integer rounding is known to match {@link DecimalFormat}
+   */
+  private static final double TIE_TOLERANCE = 1e-3;
+
+  /**
+   * The largest tie tolerance for which the integer rounding is unambiguous
+   */
+  private static final double MAX_TIE_TOLERANCE = 0.25;
+
   /**
    * Creates a new formatter with the given maximum number of digits in the fraction portion of a number.
    * 
@@ -73,12 +97,13 @@ public class OrdinateFormat
   }
   
   private DecimalFormat format;
+  private int maxFractionDigits;
 
   /**
    * Creates an OrdinateFormat using the default maximum number of fraction digits.
    */
   public OrdinateFormat() {
-    format = createFormat(MAX_FRACTION_DIGITS);
+    this(MAX_FRACTION_DIGITS);
   }
 
   /**
@@ -88,6 +113,7 @@ public class OrdinateFormat
    */
   public OrdinateFormat(int maximumFractionDigits) {
     format = createFormat(maximumFractionDigits);
+    maxFractionDigits = maximumFractionDigits;
   }
 
   private static DecimalFormat createFormat(int maximumFractionDigits) {
@@ -119,4 +145,95 @@ public class OrdinateFormat
     return format.format(ord);
   }
 
+  /**
+   * Appends the representation of the given ordinate numeric value
+   * to a {@link StringBuilder}.
+   * The output is identical to that of {@link #format(double)}.
+   * Most values are formatted using integer arithmetic,
+   * without synchronizing or creating any objects.
+   * This makes this method much faster for writing large numbers
+   * of ordinates.
+   * 
+   * @param ord the ordinate value
+   * @param buf the buffer to append to
+   */
+  public void format(double ord, StringBuilder buf)
+  {
+    if (! formatFast(ord, buf))
+      buf.append(format(ord));
+  }
+
+  /**
+   * Formats a value using integer arithmetic, if it can be
+   * determined that the result is the same as that of {@link DecimalFormat}.
+   * DecimalFormat rounds the shortest decimal representation of the value,
+   * which may differ from the exact binary value by up to an ulp.
+   * So values which are within that distance of a rounding tie
+   * are left to DecimalFormat.
+   * 
+   * @return true if the value was formatted
+   */
+  private boolean formatFast(double ord, StringBuilder buf)
+  {
+    double abs = Math.abs(ord);
+    if (! (abs < MAX_FAST_VALUE)) return false;
+
+    /**
+     * If the fraction digits exceed the available precision
+     * the output is the shortest representation of the value.
+     * This is computed by finding a short decimal which converts back to the value.
+     */
+    boolean isExact = maxFractionDigits >= POW10.length;
+    int digits = isExact ? POW10.length - 1 : maxFractionDigits;
+    double ulpScaled = 2 * Math.ulp(abs);
+    if (isExact) {
+      while (digits > 0 && (ulpScaled * POW10[digits] > MAX_TIE_TOLERANCE
+          || abs * POW10[digits] >= MAX_FAST_VALUE))
+        digits--;
+    }
+    double tolerance = TIE_TOLERANCE + ulpScaled * POW10[digits];
+    if (tolerance > MAX_TIE_TOLERANCE) return false;
+
+    double intPart = Math.floor(abs);
+    // the fraction is exact, and the scaled fraction has small error
+    double scaledFrac = (abs - intPart) * POW10[digits];
+    long intVal = (long) intPart;
+    long frac;
+    if (isExact) {
+      frac = Math.round(scaledFrac);
+      long scaled = intVal * (long) POW10[digits] + frac;
+      if (scaled / POW10[digits] != abs) return false;
+    }
+    else {
+      double floorFrac = Math.floor(scaledFrac);
+      double rem = scaledFrac - floorFrac;
+      if (Math.abs(rem - 0.5) < tolerance) return false;
+      frac = (long) floorFrac + (rem > 0.5 ? 1 : 0);
+    }
+    if (frac >= POW10[digits]) {
+      intVal++;
+      frac = 0;
+    }
+
+    // DecimalFormat preserves the sign of values which round to zero
+    if (ord < 0 || (ord == 0 && 1 / ord < 0))
+      buf.append('-');
+    buf.append(intVal);
+    if (frac == 0) return true;
+
+    while (frac % 10 == 0) {
+      frac /= 10;
+      digits--;
+    }
+    buf.append('.');
+    int fracDigits = 1;
+    for (long n = frac / 10; n > 0; n /= 10) {
+      fracDigits++;
+    }
+    for (int i = fracDigits; i < digits; i++) {
+      buf.append('0');
+    }
+    buf.append(frac);
+    return true;
+  }
 }
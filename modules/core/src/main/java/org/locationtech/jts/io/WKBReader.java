@@ -12,6 +12,9 @@
 package org.locationtech.jts.io;
 
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
@@ -27,6 +30,7 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 /**
  * Reads a {@link Geometry}from a byte stream in Well-Known Binary format.
@@ -110,6 +114,8 @@ public class WKBReader
    */
   private boolean isStrict = false;
   private ByteOrderDataInStream dis = new ByteOrderDataInStream();
+  // the buffer being read, if reading from a ByteBuffer
+  private ByteBuffer buf = null;
   private double[] ordValues;
 
   public WKBReader() {
@@ -141,6 +147,43 @@ public class WKBReader
     }
   }
 
+  /**
+   * Reads a single {@link Geometry} in WKB format from a {@link ByteBuffer}.
+   * The geometry is read starting at the current position of the buffer,
+   * and the position is advanced to the end of the geometry,
+   * so that a sequence of geometries can be read from a single buffer.
+   * The byte order and limit of the buffer are not changed.
+   * <p>
+   * Coordinates are read in bulk directly from the buffer. 
+   * If the geometry factory uses a {@link PackedCoordinateSequenceFactory},
+   * the ordinate values are stored directly in the created sequences,
+   * without creating any objects for the individual coordinates.
+   * This allows reading WKB from heap, direct or memory-mapped buffers
+   * with minimal allocation.
+   *
+   * @param buffer the buffer to read from
+   * @return the geometry read
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Geometry read(ByteBuffer buffer) throws ParseException
+  {
+    buf = buffer.duplicate();
+    try {
+      Geometry g = readGeometry();
+      buffer.position(buf.position());
+      return g;
+    }
+    catch (BufferUnderflowException ex) {
+      throw new ParseException("Unexpected end of WKB at position " + buf.position());
+    }
+    catch (IOException ex) {
+      throw new RuntimeException("Unexpected IOException caught: " + ex.getMessage());
+    }
+    finally {
+      buf = null;
+    }
+  }
+
   /**
    * Reads a {@link Geometry} in binary WKB format from an {@link InStream}.
    *
@@ -162,16 +205,16 @@ public class WKBReader
   {
 
       // determine byte order
-      byte byteOrderWKB = dis.readByte();
+      byte byteOrderWKB = readByte();
 
       // always set byte order, since it may change from geometry to geometry
      if(byteOrderWKB == WKBConstants.wkbNDR)
      {
-        dis.setOrder(ByteOrderValues.LITTLE_ENDIAN);
+        setOrder(ByteOrderValues.LITTLE_ENDIAN);
      }
      else if(byteOrderWKB == WKBConstants.wkbXDR)
      {
-        dis.setOrder(ByteOrderValues.BIG_ENDIAN);
+        setOrder(ByteOrderValues.BIG_ENDIAN);
      }
      else if(isStrict)
      {
@@ -183,7 +226,7 @@ public class WKBReader
      //specify endian-ness at the start of the multigeometry.
 
 
-    int typeInt = dis.readInt();
+    int typeInt = readInt();
     // Adds %1000 to make it compatible with OGC 06-103r4
     int geometryType = (typeInt & 0xffff)%1000;
 
@@ -201,7 +244,7 @@ public class WKBReader
     hasSRID = (typeInt & 0x20000000) != 0;
     int SRID = 0;
     if (hasSRID) {
-      SRID = dis.readInt();
+      SRID = readInt();
     }
 
     // only allocate ordValues buffer if necessary
@@ -238,6 +281,35 @@ public class WKBReader
     return geom;
   }
 
+  private void setOrder(int byteOrder)
+  {
+    if (buf != null) {
+      buf.order(byteOrder == ByteOrderValues.LITTLE_ENDIAN
+          ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    }
+    else {
+      dis.setOrder(byteOrder);
+    }
+  }
+
+  private byte readByte() throws IOException
+  {
+    if (buf != null) return buf.get();
+    return dis.readByte();
+  }
+
+  private int readInt() throws IOException
+  {
+    if (buf != null) return buf.getInt();
+    return dis.readInt();
+  }
+
+  private double readDouble() throws IOException
+  {
+    if (buf != null) return buf.getDouble();
+    return dis.readDouble();
+  }
+
   /**
    * Sets the SRID, if it was specified in the WKB
    *
@@ -259,21 +331,21 @@ public class WKBReader
 
   private LineString readLineString() throws IOException
   {
-    int size = dis.readInt();
+    int size = readInt();
     CoordinateSequence pts = readCoordinateSequenceLineString(size);
     return factory.createLineString(pts);
   }
 
   private LinearRing readLinearRing() throws IOException
   {
-    int size = dis.readInt();
+    int size = readInt();
     CoordinateSequence pts = readCoordinateSequenceRing(size);
     return factory.createLinearRing(pts);
   }
 
   private Polygon readPolygon() throws IOException
   {
-    int numRings = dis.readInt();
+    int numRings = readInt();
     LinearRing[] holes = null;
     if (numRings > 1)
       holes = new LinearRing[numRings - 1];
@@ -287,7 +359,7 @@ public class WKBReader
 
   private MultiPoint readMultiPoint() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     Point[] geoms = new Point[numGeom];
     for (int i = 0; i < numGeom; i++) {
       Geometry g = readGeometry();
@@ -300,7 +372,7 @@ public class WKBReader
 
   private MultiLineString readMultiLineString() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     LineString[] geoms = new LineString[numGeom];
     for (int i = 0; i < numGeom; i++) {
       Geometry g = readGeometry();
@@ -313,7 +385,7 @@ public class WKBReader
 
   private MultiPolygon readMultiPolygon() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     Polygon[] geoms = new Polygon[numGeom];
 
     for (int i = 0; i < numGeom; i++) {
@@ -327,7 +399,7 @@ public class WKBReader
 
   private GeometryCollection readGeometryCollection() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     Geometry[] geoms = new Geometry[numGeom];
     for (int i = 0; i < numGeom; i++) {
       geoms[i] = readGeometry();
@@ -337,6 +409,8 @@ public class WKBReader
 
   private CoordinateSequence readCoordinateSequence(int size) throws IOException
   {
+    if (buf != null)
+      return readCoordinateSequenceBulk(size);
     CoordinateSequence seq = csFactory.create(size, inputDimension);
     int targetDim = seq.getDimension();
     if (targetDim > inputDimension)
@@ -350,6 +424,38 @@ public class WKBReader
     return seq;
   }
 
+  /**
+   * Reads a coordinate sequence from the buffer in a single bulk read.
+   * Packed sequences are created directly from the ordinate array.
+   */
+  private CoordinateSequence readCoordinateSequenceBulk(int size)
+  {
+    if (size < 0 || (long) size * inputDimension * 8 > buf.remaining())
+      throw new BufferUnderflowException();
+    double[] ords = new double[size * inputDimension];
+    buf.asDoubleBuffer().get(ords);
+    buf.position(buf.position() + ords.length * 8);
+    if (! precisionModel.isFloating()) {
+      for (int i = 0; i < ords.length; i += inputDimension) {
+        ords[i] = precisionModel.makePrecise(ords[i]);
+        ords[i + 1] = precisionModel.makePrecise(ords[i + 1]);
+      }
+    }
+    if (csFactory instanceof PackedCoordinateSequenceFactory) {
+      return ((PackedCoordinateSequenceFactory) csFactory).create(ords, inputDimension);
+    }
+    CoordinateSequence seq = csFactory.create(size, inputDimension);
+    int targetDim = seq.getDimension();
+    if (targetDim > inputDimension)
+      targetDim = inputDimension;
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < targetDim; j++) {
+        seq.setOrdinate(i, j, ords[i * inputDimension + j]);
+      }
+    }
+    return seq;
+  }
+
   private CoordinateSequence readCoordinateSequenceLineString(int size) throws IOException
   {
     CoordinateSequence seq = readCoordinateSequence(size);
@@ -375,10 +481,10 @@ public class WKBReader
   {
     for (int i = 0; i < inputDimension; i++) {
       if (i <= 1) {
-        ordValues[i] = precisionModel.makePrecise(dis.readDouble());
+        ordValues[i] = precisionModel.makePrecise(readDouble());
       }
       else {
-        ordValues[i] = dis.readDouble();
+        ordValues[i] = readDouble();
       }
 
     }
@@ -11,8 +11,10 @@
  */
 package org.locationtech.jts.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
@@ -25,12 +27,15 @@ import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.util.Assert;
 
 /**
  * Writes a {@link Geometry} into Well-Known Binary format.
  * Supports use of an {@link OutStream}, which allows easy use
- * with arbitrary byte stream sinks.
+ * with arbitrary byte stream sinks,
+ * and writing directly into a {@link ByteBuffer}
+ * (see {@link #write(Geometry, ByteBuffer)}).
  * <p>
  * The WKB format is specified in the 
  * OGC <A HREF="http://www.opengis.org/techno/specs.htm"><i>Simple Features for SQL</i></a>
@@ -200,10 +205,9 @@ public class WKBWriter
   private int outputDimension = 2;
   private int byteOrder;
   private boolean includeSRID = false;
-  private ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
-  private OutStream byteArrayOutStream = new OutputStreamOutStream(byteArrayOS);
   // holds output data values
   private byte[] buf = new byte[8];
+  private ByteBufferOutStream bufferOutStream = new ByteBufferOutStream();
 
   /**
    * Creates a writer that writes {@link Geometry}s with
@@ -285,14 +289,91 @@ public class WKBWriter
    */
   public byte[] write(Geometry geom)
   {
+    byte[] wkb = new byte[getSize(geom)];
+    write(geom, ByteBuffer.wrap(wkb));
+    return wkb;
+  }
+
+  /**
+   * Computes the number of bytes in the WKB representation of a {@link Geometry}
+   * written by this writer.
+   * This allows allocating a buffer of the exact size required
+   * by {@link #write(Geometry, ByteBuffer)}.
+   *
+   * @param geom a geometry
+   * @return the size of the WKB for the geometry, in bytes
+   */
+  public int getSize(Geometry geom)
+  {
+    int headerSize = includeSRID ? 9 : 5;
+    if (geom instanceof Point) {
+      return headerSize + 8 * outputDimension;
+    }
+    if (geom instanceof LineString) {
+      return headerSize + sequenceSize(((LineString) geom).getCoordinateSequence());
+    }
+    if (geom instanceof Polygon) {
+      Polygon poly = (Polygon) geom;
+      int size = headerSize + 4 + sequenceSize(poly.getExteriorRing().getCoordinateSequence());
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        size += sequenceSize(poly.getInteriorRingN(i).getCoordinateSequence());
+      }
+      return size;
+    }
+    int size = headerSize + 4;
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      size += getSize(geom.getGeometryN(i));
+    }
+    return size;
+  }
+
+  private int sequenceSize(CoordinateSequence seq)
+  {
+    return 4 + 8 * outputDimension * seq.size();
+  }
+
+  /**
+   * Writes a {@link Geometry} into a {@link ByteBuffer}.
+   * The WKB is written starting at the current position of the buffer,
+   * and the position is advanced to the end of the WKB,
+   * so that a sequence of geometries can be written into a single buffer.
+   * The byte order of the buffer is set to the writer byte order while writing,
+   * and restored afterwards.
+   * The buffer must have at least {@link #getSize(Geometry)} bytes remaining
+   * (otherwise its position is left unchanged).
+   * <p>
+   * The ordinates of {@link PackedCoordinateSequence.Double}s 
+   * whose dimension matches the output dimension are copied directly from the
+   * coordinate array into the buffer.
+   * No objects are created for each geometry written,
+   * so this allows writing efficiently into pooled or direct buffers
+   * (e.g. for writing to a file channel).
+   *
+   * @param geom the geometry to write
+   * @param buffer the buffer to write to
+   * @throws BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public void write(Geometry geom, ByteBuffer buffer)
+  {
+    ByteOrder bufferOrder = buffer.order();
+    int start = buffer.position();
+    buffer.order(byteOrder == ByteOrderValues.LITTLE_ENDIAN
+        ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    bufferOutStream.setBuffer(buffer);
     try {
-      byteArrayOS.reset();
-      write(geom, byteArrayOutStream);
+      write(geom, bufferOutStream);
+    }
+    catch (BufferOverflowException ex) {
+      buffer.position(start);
+      throw ex;
     }
     catch (IOException ex) {
       throw new RuntimeException("Unexpected IO exception: " + ex.getMessage());
     }
-    return byteArrayOS.toByteArray();
+    finally {
+      bufferOutStream.setBuffer(null);
+      buffer.order(bufferOrder);
+    }
   }
 
   /**
@@ -380,15 +461,20 @@ public class WKBWriter
   private void writeGeometryType(int geometryType, Geometry g, OutStream os)
       throws IOException
   {
-    int flag3D = (outputDimension == 3) ? 0x80000000 : 0;
-    int typeInt = geometryType | flag3D;
-    typeInt |= includeSRID ? 0x20000000 : 0;
-    writeInt(typeInt, os);
+    writeInt(typeInt(geometryType), os);
     if (includeSRID) {
         writeInt(g.getSRID(), os);
     }
   }
 
+  private int typeInt(int geometryType)
+  {
+    int flag3D = (outputDimension == 3) ? 0x80000000 : 0;
+    int typeInt = geometryType | flag3D;
+    typeInt |= includeSRID ? 0x20000000 : 0;
+    return typeInt;
+  }
+
   private void writeInt(int intValue, OutStream os) throws IOException
   {
     ByteOrderValues.putInt(intValue, buf, byteOrder);
@@ -401,6 +487,13 @@ public class WKBWriter
     if (writeSize)
       writeInt(seq.size(), os);
 
+    if (os == bufferOutStream
+        && seq instanceof PackedCoordinateSequence.Double
+        && seq.getDimension() == outputDimension) {
+      bufferOutStream.writeDoubles(((PackedCoordinateSequence.Double) seq).getRawCoordinates(),
+          seq.size() * outputDimension);
+      return;
+    }
     for (int i = 0; i < seq.size(); i++) {
       writeCoordinate(seq, i, os);
     }
@@ -424,4 +517,33 @@ public class WKBWriter
       os.write(buf, 8);
     }
   }
+
+  /**
+   * An {@link OutStream} which writes into a {@link ByteBuffer}.
+   * A single instance is reused for all the geometries written into buffers.
+   */
+  private static class ByteBufferOutStream implements OutStream
+  {
+    private ByteBuffer buffer;
+
+    void setBuffer(ByteBuffer buffer)
+    {
+      this.buffer = buffer;
+    }
+
+    public void write(byte[] buf, int len)
+    {
+      buffer.put(buf, 0, len);
+    }
+
+    /**
+     * Writes ordinate values using the byte order of the buffer.
+     */
+    void writeDoubles(double[] values, int len)
+    {
+      for (int i = 0; i < len; i++) {
+        buffer.putDouble(values[i]);
+      }
+    }
+  }
 }
@@ -16,12 +16,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.SpatialIndex;
 import org.locationtech.jts.index.chain.MonotoneChain;
 import org.locationtech.jts.index.chain.MonotoneChainBuilder;
 import org.locationtech.jts.index.chain.MonotoneChainOverlapAction;
 import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.IntArrayList;
 
 /**
  * Nodes a set of {@link SegmentString}s using a index based
@@ -29,6 +35,18 @@ import org.locationtech.jts.index.strtree.STRtree;
  * The {@link SpatialIndex} used should be something that supports
  * envelope (range) queries efficiently (such as a <code>Quadtree</code>}
  * or {@link STRtree} (which is the default index provided).
+ * <p>
+ * The overlap tests between chains can optionally be computed in parallel
+ * (see {@link #setParallel(boolean)}).
+ * In this mode the chains are partitioned into ranges, 
+ * which are processed by tasks in the common {@link ForkJoinPool}.
+ * Each task finds the segment pairs which intersect, using a
+ * {@link RobustLineIntersector}.
+ * The {@link SegmentIntersector} is then called on the calling thread 
+ * for these pairs, in the same order as in the sequential computation.
+ * Since pairs which do not intersect are not reported to the 
+ * <code>SegmentIntersector</code>, the nodes added 
+ * to {@link NodedSegmentString}s are identical to the sequential computation.
  *
  * @version 1.7
  */
@@ -39,9 +57,15 @@ public class MCIndexNoder
   private SpatialIndex index= new STRtree();
   private int idCounter = 0;
   private Collection nodedSegStrings;
+  private boolean isParallel = false;
   // statistics
   private int nOverlaps = 0;
 
+  /**
+   * The number of chains processed by each parallel task
+   */
+  private static final int PARALLEL_CHUNK_SIZE = 1024;
+
   public MCIndexNoder()
   {
   }
@@ -54,6 +78,34 @@ public class MCIndexNoder
 
   public SpatialIndex getIndex() { return index; }
 
+  /**
+   * Sets whether the chain overlap tests are computed in parallel.
+   * Parallel computation is only worthwhile when the 
+   * {@link SegmentIntersector} adds or records all intersections,
+   * since it cannot short-circuit the computation of intersections.
+   * <p>
+   * In parallel mode the <code>SegmentIntersector</code> is passed only the segment pairs
+   * which intersect (as determined by a {@link RobustLineIntersector}),
+   * rather than every pair of segments in overlapping chains.
+   * So it must only be used with intersectors which ignore segments which do not intersect,
+   * such as {@link IntersectionAdder}, {@link InteriorIntersectionFinderAdder}
+   * and {@link NodingIntersectionFinder}.
+   * Intersectors which detect segments within a distance of each other
+   * (e.g. for snapping) produce different results,
+   * and counts of the segment pairs tested
+   * (such as {@link IntersectionAdder#numTests}) are lower.
+   * <p>
+   * The default is to compute on the calling thread.
+   * 
+   * @param isParallel true if the overlap tests should be computed in parallel
+   */
+  public void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+    if (index instanceof STRtree)
+      ((STRtree) index).setParallelBuild(isParallel);
+  }
+
   public Collection getNodedSubstrings()
   {
     return  NodedSegmentString.getNodedSubstrings(nodedSegStrings);
@@ -65,7 +117,10 @@ public class MCIndexNoder
     for (Iterator i = inputSegStrings.iterator(); i.hasNext(); ) {
       add((SegmentString) i.next());
     }
-    intersectChains();
+    if (isParallel && index instanceof STRtree && monoChains.size() > PARALLEL_CHUNK_SIZE)
+      intersectChainsParallel();
+    else
+      intersectChains();
 //System.out.println("MCIndexNoder: # chain overlaps = " + nOverlaps);
   }
 
@@ -93,6 +148,92 @@ public class MCIndexNoder
     }
   }
 
+  private void intersectChainsParallel()
+  {
+    // ensure the index is built before it is queried concurrently
+    ((STRtree) index).build();
+    
+    int numChunks = (monoChains.size() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+    IntArrayList[] chunkPairs = new IntArrayList[numChunks];
+    int[] chunkOverlaps = new int[numChunks];
+    ForkJoinPool.commonPool().invoke(new ChainOverlapTask(chunkPairs, chunkOverlaps, 0, numChunks));
+    
+    // process the intersecting segments in the sequential order
+    for (int i = 0; i < numChunks; i++) {
+      nOverlaps += chunkOverlaps[i];
+      IntArrayList pairs = chunkPairs[i];
+      for (int k = 0; k < pairs.size(); k += 4) {
+        MonotoneChain mc1 = (MonotoneChain) monoChains.get(pairs.get(k));
+        MonotoneChain mc2 = (MonotoneChain) monoChains.get(pairs.get(k + 2));
+        segInt.processIntersections((SegmentString) mc1.getContext(), pairs.get(k + 1),
+            (SegmentString) mc2.getContext(), pairs.get(k + 3));
+        if (segInt.isDone())
+          return;
+      }
+    }
+  }
+
+  /**
+   * Computes the intersecting segment pairs 
+   * for a range of chunks of the query chains.
+   * The pairs for each chunk are recorded in the order 
+   * in which they are found by {@link #intersectChains()}.
+   * The index is queried for chain ids, 
+   * which are the positions of the chains in the chain list,
+   * using a single id list for each chunk.
+   */
+  private class ChainOverlapTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+    
+    private final IntArrayList[] chunkPairs;
+    private final int[] chunkOverlaps;
+    private final int startChunk;
+    private final int endChunk;
+    
+    ChainOverlapTask(IntArrayList[] chunkPairs, int[] chunkOverlaps, int startChunk, int endChunk)
+    {
+      this.chunkPairs = chunkPairs;
+      this.chunkOverlaps = chunkOverlaps;
+      this.startChunk = startChunk;
+      this.endChunk = endChunk;
+    }
+    
+    protected void compute()
+    {
+      if (endChunk - startChunk > 1) {
+        int mid = (startChunk + endChunk) >>> 1;
+        invokeAll(new ChainOverlapTask(chunkPairs, chunkOverlaps, startChunk, mid),
+            new ChainOverlapTask(chunkPairs, chunkOverlaps, mid, endChunk));
+        return;
+      }
+      STRtree tree = (STRtree) index;
+      IntArrayList pairs = new IntArrayList();
+      IntArrayList overlapIds = new IntArrayList();
+      MonotoneChainOverlapAction overlapAction = new IntersectingSegmentRecorder(pairs);
+      int start = startChunk * PARALLEL_CHUNK_SIZE;
+      int end = Math.min(start + PARALLEL_CHUNK_SIZE, monoChains.size());
+      int overlaps = 0;
+      for (int i = start; i < end; i++) {
+        MonotoneChain queryChain = (MonotoneChain) monoChains.get(i);
+        Envelope env = queryChain.getEnvelope();
+        overlapIds.clear();
+        tree.query(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), overlapIds);
+        for (int j = 0; j < overlapIds.size(); j++) {
+          int testId = overlapIds.get(j);
+          // chains are inserted in id order, so their index ids are the chain ids
+          if (testId > queryChain.getId()) {
+            MonotoneChain testChain = (MonotoneChain) monoChains.get(testId);
+            queryChain.computeOverlaps(testChain, overlapAction);
+            overlaps++;
+          }
+        }
+      }
+      chunkPairs[startChunk] = pairs;
+      chunkOverlaps[startChunk] = overlaps;
+    }
+  }
+
   private void add(SegmentString segStr)
   {
     List segChains = MonotoneChainBuilder.getChains(segStr.getCoordinates(), segStr);
@@ -122,4 +263,33 @@ public class MCIndexNoder
     }
 
   }
+
+  /**
+   * Records the pairs of chain segments which intersect,
+   * as the ids of the chains and the indices of the segments.
+   */
+  private static class IntersectingSegmentRecorder
+      extends MonotoneChainOverlapAction
+  {
+    private LineIntersector li = new RobustLineIntersector();
+    private IntArrayList pairs;
+
+    public IntersectingSegmentRecorder(IntArrayList pairs)
+    {
+      this.pairs = pairs;
+    }
+
+    public void overlap(MonotoneChain mc1, int start1, MonotoneChain mc2, int start2)
+    {
+      mc1.getLineSegment(start1, overlapSeg1);
+      mc2.getLineSegment(start2, overlapSeg2);
+      li.computeIntersection(overlapSeg1.p0, overlapSeg1.p1, overlapSeg2.p0, overlapSeg2.p1);
+      if (! li.hasIntersection())
+        return;
+      pairs.add(mc1.getId());
+      pairs.add(start1);
+      pairs.add(mc2.getId());
+      pairs.add(start2);
+    }
+  }
 }
@@ -65,6 +65,23 @@ public class GeometryGraphOperation
 
   public Geometry getArgGeometry(int i) { return arg[i].getGeometry(); }
 
+  /**
+   * Sets whether the edge intersections of the argument graphs
+   * are found using an indexed intersector.
+   * This is faster for inputs which have many edges overlapping
+   * in the X dimension.
+   *
+   * @param isIndexed true if an indexed intersector should be used
+   *
+   * @see GeometryGraph#setIndexedEdgeIntersector(boolean)
+   */
+  public void setIndexedEdgeIntersector(boolean isIndexed)
+  {
+    for (int i = 0; i < arg.length; i++) {
+      arg[i].setIndexedEdgeIntersector(isIndexed);
+    }
+  }
+
   protected void setComputationPrecision(PrecisionModel pm)
   {
     resultPrecisionModel = pm;
@@ -171,6 +171,7 @@ class BufferBuilder
 
     // otherwise use a fast (but non-robust) noder
     MCIndexNoder noder = new MCIndexNoder();
+    noder.setParallel(bufParams.isParallelNoding());
     LineIntersector li = new RobustLineIntersector();
     li.setPrecisionModel(precisionModel);
     noder.setSegmentIntersector(new IntersectionAdder(li));
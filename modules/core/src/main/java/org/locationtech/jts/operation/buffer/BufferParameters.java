@@ -82,6 +82,7 @@ public class BufferParameters
   private double mitreLimit = DEFAULT_MITRE_LIMIT;
   private boolean isSingleSided = false;
   private double simplifyFactor = DEFAULT_SIMPLIFY_FACTOR;
+  private boolean isParallelNoding = false;
   
   /**
    * Creates a default set of parameters
@@ -342,4 +343,26 @@ public class BufferParameters
   {
     this.simplifyFactor = simplifyFactor < 0 ? 0 : simplifyFactor;
   }
+
+  /**
+   * Sets whether the buffer curves are noded in parallel.
+   * This can improve performance for large inputs on multi-core machines.
+   * The buffer result is the same in either case.
+   * It has no effect if the buffer is computed using snap-rounding.
+   * 
+   * @param isParallelNoding true if the noding should be computed in parallel
+   */
+  public void setParallelNoding(boolean isParallelNoding)
+  {
+    this.isParallelNoding = isParallelNoding;
+  }
+
+  /**
+   * Tests whether the buffer curves are noded in parallel.
+   * 
+   * @return true if the noding is computed in parallel
+   */
+  public boolean isParallelNoding() {
+    return isParallelNoding;
+  }
 }
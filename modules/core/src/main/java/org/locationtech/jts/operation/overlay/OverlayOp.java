@@ -19,9 +19,12 @@ import java.util.List;
 
 import org.locationtech.jts.algorithm.PointLocator;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.TopologyException;
 import org.locationtech.jts.geomgraph.Depth;
 import org.locationtech.jts.geomgraph.DirectedEdge;
@@ -70,6 +73,12 @@ public class OverlayOp
    */
   public static final int SYMDIFFERENCE = 4;
 
+  /**
+   * The fraction of the size of the clipping envelope
+   * by which it is expanded before clipping.
+   */
+  private static final double CLIP_ENV_EXPAND_FRACTION = 0.1;
+
   /**
    * Computes an overlay operation for 
    * the given geometry arguments.
@@ -82,11 +91,79 @@ public class OverlayOp
    */
   public static Geometry overlayOp(Geometry geom0, Geometry geom1, int opCode)
   {
+    return overlayOp(geom0, geom1, opCode, false);
+  }
+
+  /**
+   * Computes an overlay operation for 
+   * the given geometry arguments,
+   * optionally clipping the arguments of an intersection.
+   * <p>
+   * If clipping is requested, polygonal arguments of an intersection
+   * are first clipped to the region around the intersection of their envelopes.
+   * This reduces the cost of intersecting a large polygon with a small one.
+   * Segments which intersect or pass close to the intersection of the envelopes
+   * are not changed by clipping,
+   * so for valid arguments the result is the same as without clipping.
+   * The arguments are not checked for validity, 
+   * and clipping may remove the invalid parts of an argument.
+   * So an operation on invalid arguments which would throw a {@link TopologyException}
+   * may instead return a result.
+   * Clipping should only be used if the arguments are known to be valid.
+   * 
+   * @param geom0 the first geometry argument
+   * @param geom1 the second geometry argument
+   * @param opCode the code for the desired overlay operation
+   * @param isClipped true if the arguments of an intersection should be clipped
+   * @return the result of the overlay operation
+   * @throws TopologyException if a robustness problem is encountered
+   */
+  public static Geometry overlayOp(Geometry geom0, Geometry geom1, int opCode, boolean isClipped)
+  {
+    if (isClipped && opCode == INTERSECTION) {
+      Envelope clipEnv = geom0.getEnvelopeInternal().intersection(geom1.getEnvelopeInternal());
+      if (clipEnv.isNull())
+        return createEmptyResult(INTERSECTION, geom0, geom1, geom0.getFactory());
+      geom0 = clipToEnvelope(geom0, clipEnv);
+      geom1 = clipToEnvelope(geom1, clipEnv);
+    }
     OverlayOp gov = new OverlayOp(geom0, geom1);
     Geometry geomOv = gov.getResultGeometry(opCode);
     return geomOv;
   }
 
+  /**
+   * Clips a polygonal intersection operand to the intersection
+   * of the operand envelopes.
+   * This reduces the cost of intersecting a large polygon with a small one
+   * to depend on the part of the large polygon near the small one.
+   * The clipping envelope is expanded so that the new segments along its boundary
+   * lie well away from the intersection result.
+   * Clipping is not performed if it would change a segment
+   * which intersects or passes close to the envelope,
+   * since such a segment may contribute to the result.
+   * The operand is not clipped if the envelope has zero area,
+   * or if the operand uses a fixed precision model.
+   *
+   * @param geom the operand to clip
+   * @param env the intersection of the operand envelopes
+   * @return the clipped operand, or the operand if it is not clipped
+   */
+  private static Geometry clipToEnvelope(Geometry geom, Envelope env)
+  {
+    if (! (geom instanceof Polygon || geom instanceof MultiPolygon)) return geom;
+    if (! geom.getPrecisionModel().isFloating()) return geom;
+    if (env.getWidth() <= 0.0 || env.getHeight() <= 0.0) return geom;
+
+    Envelope clipEnv = new Envelope(env);
+    clipEnv.expandBy(CLIP_ENV_EXPAND_FRACTION * Math.max(env.getWidth(), env.getHeight()));
+    if (clipEnv.covers(geom.getEnvelopeInternal())) return geom;
+
+    Geometry clipped = PolygonRectangleClipper.clip(geom, clipEnv, env);
+    if (clipped == null) return geom;
+    return clipped;
+  }
+
   /**
    * Tests whether a point with a given topological {@link Label}
    * relative to two geometries is contained in 
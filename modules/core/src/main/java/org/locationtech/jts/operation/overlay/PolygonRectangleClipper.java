@@ -0,0 +1,627 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.algorithm.PointLocation;
+import org.locationtech.jts.algorithm.RectangleLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.valid.IsValidOp;
+
+/**
+ * Clips a valid polygonal geometry to a rectangle.
+ * The result is a valid polygonal geometry equal to the intersection
+ * of the geometry and the rectangle,
+ * apart from the rounding of the points where rings cross the rectangle boundary.
+ * Segments lying inside the rectangle are not changed.
+ * A region inside the rectangle can be specified
+ * which must not be affected by the rounding.
+ * Clipping is not performed if a segment crossing the rectangle boundary,
+ * or the rounded segment which replaces it,
+ * intersects this region expanded by a small tolerance.
+ * The tolerance allows for segments which pass very close to the region
+ * and may touch it after rounding.
+ * <p>
+ * Each ring crossing the rectangle boundary is cut into sections
+ * lying inside the rectangle.
+ * The rings are oriented so that the polygon interior lies on their right,
+ * so the sections of all rings can be joined into shells
+ * by following the rectangle boundary clockwise from the end of each section
+ * to the start of the next.
+ * Rings lying inside the rectangle are kept unchanged.
+ * Unlike clipping followed by <tt>buffer(0)</tt>,
+ * this does not require any overlay processing.
+ * <p>
+ * The sections cannot be joined reliably if a vertex lies on the rectangle boundary
+ * or a segment passes through a rectangle corner.
+ * Rings which touch inside the rectangle may also produce invalid topology.
+ * In these cases no result is computed.
+ */
+class PolygonRectangleClipper
+{
+  /**
+   * Clips a polygonal geometry to a rectangle,
+   * leaving the segments which intersect a region inside the rectangle exactly unchanged.
+   *
+   * @param geom a valid {@link Polygon} or {@link org.locationtech.jts.geom.MultiPolygon}
+   * @param rectEnv the rectangle to clip to
+   * @param exactEnv the region in which segments must not be changed
+   * @return the clipped geometry, or null if a valid result could not be computed
+   */
+  static Geometry clip(Geometry geom, Envelope rectEnv, Envelope exactEnv)
+  {
+    PolygonRectangleClipper clipper = new PolygonRectangleClipper(rectEnv, exactEnv, geom.getFactory());
+    return clipper.clip(geom);
+  }
+
+  /**
+   * The sides of the rectangle, in clockwise order starting at the lower left corner.
+   */
+  private static final int SIDE_LEFT = 0;
+  private static final int SIDE_TOP = 1;
+  private static final int SIDE_RIGHT = 2;
+  private static final int SIDE_BOTTOM = 3;
+
+  /**
+   * The tolerance by which the exact region is expanded,
+   * relative to the magnitude of its ordinates.
+   */
+  private static final double EXACT_REGION_TOLERANCE_FACTOR = 1.0e-12;
+
+  private Envelope rectEnv;
+  private double minX;
+  private double minY;
+  private double maxX;
+  private double maxY;
+  private RectangleLineIntersector exactRegionIntersector;
+  private GeometryFactory geomFact;
+
+  private List sections = new ArrayList();
+  private List shells = new ArrayList();
+  private List innerHoles = new ArrayList();
+  private List resultPolys = new ArrayList();
+  private boolean isDegenerate = false;
+
+  // parameters of the last clipped segment
+  private double entryFrac;
+  private double exitFrac;
+  private int entrySide;
+  private int exitSide;
+
+  private PolygonRectangleClipper(Envelope rectEnv, Envelope exactEnv, GeometryFactory geomFact)
+  {
+    this.rectEnv = rectEnv;
+    minX = rectEnv.getMinX();
+    minY = rectEnv.getMinY();
+    maxX = rectEnv.getMaxX();
+    maxY = rectEnv.getMaxY();
+    exactRegionIntersector = new RectangleLineIntersector(expandByTolerance(exactEnv));
+    this.geomFact = geomFact;
+  }
+
+  private static Envelope expandByTolerance(Envelope env)
+  {
+    double magnitude = Math.max(
+        Math.max(Math.abs(env.getMinX()), Math.abs(env.getMaxX())),
+        Math.max(Math.abs(env.getMinY()), Math.abs(env.getMaxY())));
+    Envelope expandEnv = new Envelope(env);
+    expandEnv.expandBy(EXACT_REGION_TOLERANCE_FACTOR * magnitude);
+    return expandEnv;
+  }
+
+  private Geometry clip(Geometry geom)
+  {
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      clipPolygon((Polygon) geom.getGeometryN(i));
+      if (isDegenerate) return null;
+    }
+    buildShells();
+    if (isDegenerate) return null;
+    if (! buildPolygons()) return null;
+
+    Geometry result;
+    if (resultPolys.size() == 0)
+      result = geomFact.createPolygon();
+    else if (resultPolys.size() == 1)
+      result = (Polygon) resultPolys.get(0);
+    else
+      result = geomFact.createMultiPolygon(GeometryFactory.toPolygonArray(resultPolys));
+
+    /**
+     * Rings which touch at points inside the rectangle
+     * can produce invalid topology, for instance a hole
+     * touching a shell built from sections at two points.
+     * Checking the validity of the clipped geometry detects this.
+     */
+    IsValidOp validOp = new IsValidOp(result);
+    validOp.setIndexed(true);
+    if (! validOp.isValid()) return null;
+    return result;
+  }
+
+  private void clipPolygon(Polygon poly)
+  {
+    if (poly.isEmpty()) return;
+    LinearRing shell = poly.getExteriorRing();
+    Envelope shellEnv = shell.getEnvelopeInternal();
+    if (! rectEnv.intersects(shellEnv)) return;
+    if (rectEnv.covers(shellEnv)) {
+      resultPolys.add(poly);
+      return;
+    }
+
+    int numSections = sections.size();
+    addSections(shell.getCoordinates(), true);
+    if (isDegenerate) return;
+    boolean isShellCut = sections.size() > numSections;
+    /**
+     * A shell which does not cross the rectangle
+     * either contains it or is disjoint from it
+     */
+    if (! isShellCut && ! isCornerInRing(shell)) return;
+
+    List holes = new ArrayList();
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      LinearRing hole = poly.getInteriorRingN(i);
+      Envelope holeEnv = hole.getEnvelopeInternal();
+      if (! rectEnv.intersects(holeEnv)) continue;
+      if (rectEnv.covers(holeEnv)) {
+        holes.add(hole);
+        continue;
+      }
+      int numHoleSections = sections.size();
+      addSections(hole.getCoordinates(), false);
+      if (isDegenerate) return;
+      // the rectangle lies inside a hole, so the polygon does not intersect it
+      if (sections.size() == numHoleSections && isCornerInRing(hole))
+        return;
+    }
+    if (sections.size() == numSections)
+      shells.add(rectangleRing());
+    innerHoles.addAll(holes);
+  }
+
+  /**
+   * Tests whether the rectangle corners lie inside a ring
+   * which does not cross the rectangle boundary.
+   */
+  private boolean isCornerInRing(LinearRing ring)
+  {
+    Coordinate corner = new Coordinate(minX, minY);
+    return PointLocation.locateInRing(corner, ring.getCoordinates()) == Location.INTERIOR;
+  }
+
+  /**
+   * Adds the sections of a ring which lie inside the rectangle.
+   * The sections are oriented with the polygon interior on the right.
+   */
+  private void addSections(Coordinate[] ringPts, boolean isShell)
+  {
+    if (hasBoundaryVertex(ringPts)) {
+      isDegenerate = true;
+      return;
+    }
+    Coordinate[] pts = ringPts;
+    if (Orientation.isCCW(ringPts) == isShell) {
+      pts = new Coordinate[ringPts.length];
+      for (int i = 0; i < ringPts.length; i++) {
+        pts[i] = ringPts[ringPts.length - 1 - i];
+      }
+    }
+
+    int n = pts.length - 1;
+    // start at a vertex outside the rectangle, so that sections are not split
+    int start = 0;
+    while (start < n && isInterior(pts[start])) {
+      start++;
+    }
+
+    CoordinateList section = null;
+    Coordinate entryPt = null;
+    int sectionEntrySide = 0;
+    for (int k = 0; k < n; k++) {
+      Coordinate p = pts[(start + k) % n];
+      Coordinate q = pts[(start + k + 1) % n];
+      boolean isInteriorP = isInterior(p);
+      boolean isInteriorQ = isInterior(q);
+      if (isInteriorP && isInteriorQ) {
+        section.add(q, false);
+        continue;
+      }
+      if (! clipSegment(p, q)) {
+        if (isDegenerate) return;
+        continue;
+      }
+      Coordinate clipStart = isInteriorP ? p : sidePoint(p, q, entrySide);
+      Coordinate clipEnd = isInteriorQ ? q : sidePoint(p, q, exitSide);
+      /**
+       * A segment near the exact region may contribute to the result,
+       * and would be changed by rounding.
+       * The rounded segment is tested as well,
+       * since rounding can move it onto the region.
+       */
+      if (exactRegionIntersector.intersects(p, q)
+          || exactRegionIntersector.intersects(clipStart, clipEnd)) {
+        isDegenerate = true;
+        return;
+      }
+      if (! isInteriorP) {
+        section = new CoordinateList();
+        entryPt = clipStart;
+        sectionEntrySide = entrySide;
+        section.add(entryPt, false);
+      }
+      if (isInteriorQ) {
+        section.add(q, false);
+      }
+      else {
+        Coordinate exitPt = clipEnd;
+        section.add(exitPt, false);
+        sections.add(new Section(section.toCoordinateArray(),
+            sectionEntrySide, entryPt, exitSide, exitPt));
+        section = null;
+      }
+    }
+  }
+
+  private boolean hasBoundaryVertex(Coordinate[] pts)
+  {
+    for (int i = 0; i < pts.length; i++) {
+      Coordinate p = pts[i];
+      if (rectEnv.covers(p) && ! isInterior(p))
+        return true;
+    }
+    return false;
+  }
+
+  private boolean isInterior(Coordinate p)
+  {
+    return p.x > minX && p.x < maxX && p.y > minY && p.y < maxY;
+  }
+
+  /**
+   * Clips a segment to the rectangle, using the Liang-Barsky algorithm.
+   * The segment does not have an endpoint on the rectangle boundary.
+   *
+   * @return true if the segment passes through the rectangle interior
+   */
+  private boolean clipSegment(Coordinate p, Coordinate q)
+  {
+    if (isThroughCorner(p, q)) {
+      isDegenerate = true;
+      return false;
+    }
+    double dx = q.x - p.x;
+    double dy = q.y - p.y;
+    entryFrac = 0.0;
+    exitFrac = 1.0;
+    return clipSide(-dx, p.x - minX, SIDE_LEFT)
+        && clipSide(dx, maxX - p.x, SIDE_RIGHT)
+        && clipSide(-dy, p.y - minY, SIDE_BOTTOM)
+        && clipSide(dy, maxY - p.y, SIDE_TOP);
+  }
+
+  private boolean clipSide(double delta, double dist, int side)
+  {
+    if (delta == 0.0) return dist > 0.0;
+    double frac = dist / delta;
+    if (delta < 0.0) {
+      if (frac > entryFrac) {
+        entryFrac = frac;
+        entrySide = side;
+      }
+    }
+    else {
+      if (frac < exitFrac) {
+        exitFrac = frac;
+        exitSide = side;
+      }
+    }
+    return entryFrac < exitFrac;
+  }
+
+  private boolean isThroughCorner(Coordinate p, Coordinate q)
+  {
+    return isThrough(p, q, minX, minY)
+        || isThrough(p, q, minX, maxY)
+        || isThrough(p, q, maxX, maxY)
+        || isThrough(p, q, maxX, minY);
+  }
+
+  private static boolean isThrough(Coordinate p, Coordinate q, double x, double y)
+  {
+    if (x < Math.min(p.x, q.x) || x > Math.max(p.x, q.x)) return false;
+    if (y < Math.min(p.y, q.y) || y > Math.max(p.y, q.y)) return false;
+    return Orientation.index(p, q, new Coordinate(x, y)) == Orientation.COLLINEAR;
+  }
+
+  /**
+   * Computes the point where a segment crosses a side of the rectangle.
+   * The point lies exactly on the side.
+   */
+  private Coordinate sidePoint(Coordinate p, Coordinate q, int side)
+  {
+    switch (side) {
+    case SIDE_LEFT:
+      return new Coordinate(minX, interpolate(minX, p.x, p.y, q.x, q.y, minY, maxY));
+    case SIDE_RIGHT:
+      return new Coordinate(maxX, interpolate(maxX, p.x, p.y, q.x, q.y, minY, maxY));
+    case SIDE_BOTTOM:
+      return new Coordinate(interpolate(minY, p.y, p.x, q.y, q.x, minX, maxX), minY);
+    default:
+      return new Coordinate(interpolate(maxY, p.y, p.x, q.y, q.x, minX, maxX), maxY);
+    }
+  }
+
+  private static double interpolate(double a, double a0, double b0, double a1, double b1,
+      double minB, double maxB)
+  {
+    double b = b0 + (a - a0) * (b1 - b0) / (a1 - a0);
+    if (b < minB) return minB;
+    if (b > maxB) return maxB;
+    return b;
+  }
+
+  /**
+   * Joins the sections into shells by following the rectangle boundary.
+   */
+  private void buildShells()
+  {
+    Section[] sorted = (Section[]) sections.toArray(new Section[0]);
+    Arrays.sort(sorted, new Comparator() {
+      public int compare(Object o1, Object o2) {
+        Section s1 = (Section) o1;
+        Section s2 = (Section) o2;
+        return compareBoundary(s1.entrySide, s1.entryPos, s2.entrySide, s2.entryPos);
+      }
+    });
+
+    for (int i = 0; i < sorted.length; i++) {
+      Section start = sorted[i];
+      if (start.isUsed) continue;
+      CoordinateList ring = new CoordinateList();
+      Section sec = start;
+      do {
+        if (sec.isUsed) {
+          isDegenerate = true;
+          return;
+        }
+        sec.isUsed = true;
+        ring.add(sec.pts, false);
+        Section next = findNext(sorted, sec);
+        if (next == null) {
+          isDegenerate = true;
+          return;
+        }
+        addCorners(ring, sec, next);
+        sec = next;
+      } while (sec != start);
+      ring.closeRing();
+      if (ring.size() < 4) {
+        isDegenerate = true;
+        return;
+      }
+      addRing(ring.toCoordinateArray());
+    }
+  }
+
+  /**
+   * Adds a ring built from sections,
+   * splitting it at vertices where it touches itself.
+   * These occur where rings of the input touch.
+   * Loops with the interior on the right are shells,
+   * and the others are holes.
+   */
+  private void addRing(Coordinate[] ringPts)
+  {
+    List path = new ArrayList();
+    Map pathIndex = new HashMap();
+    for (int i = 0; i < ringPts.length; i++) {
+      Coordinate pt = ringPts[i];
+      Integer index = (Integer) pathIndex.get(pt);
+      if (index == null) {
+        pathIndex.put(pt, Integer.valueOf(path.size()));
+        path.add(pt);
+        continue;
+      }
+      List loop = path.subList(index.intValue(), path.size());
+      addLoop(loop, pt);
+      for (int j = index.intValue() + 1; j < path.size(); j++) {
+        pathIndex.remove(path.get(j));
+      }
+      loop.subList(1, loop.size()).clear();
+    }
+  }
+
+  private void addLoop(List loop, Coordinate closePt)
+  {
+    // a loop of two points has no area
+    if (loop.size() < 3) return;
+    Coordinate[] pts = new Coordinate[loop.size() + 1];
+    for (int i = 0; i < loop.size(); i++) {
+      pts[i] = (Coordinate) loop.get(i);
+    }
+    pts[loop.size()] = closePt;
+    if (Orientation.isCCW(pts))
+      innerHoles.add(geomFact.createLinearRing(pts));
+    else
+      shells.add(pts);
+  }
+
+  /**
+   * Finds the section whose entry point follows the exit point
+   * of a section clockwise along the rectangle boundary.
+   *
+   * @return the next section, or null if an entry point coincides with the exit point
+   */
+  private static Section findNext(Section[] sorted, Section sec)
+  {
+    int lo = 0;
+    int hi = sorted.length;
+    while (lo < hi) {
+      int mid = (lo + hi) / 2;
+      int comp = compareBoundary(sorted[mid].entrySide, sorted[mid].entryPos,
+          sec.exitSide, sec.exitPos);
+      if (comp == 0) return null;
+      if (comp < 0)
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+    if (lo == sorted.length) return sorted[0];
+    return sorted[lo];
+  }
+
+  /**
+   * Adds the corners passed when following the rectangle boundary clockwise
+   * from the exit point of a section to the entry point of the next.
+   */
+  private void addCorners(CoordinateList ring, Section sec, Section next)
+  {
+    int side = sec.exitSide;
+    if (side == next.entrySide
+        && compareBoundary(side, next.entryPos, side, sec.exitPos) > 0)
+      return;
+    do {
+      ring.add(cornerAfter(side), false);
+      side = (side + 1) % 4;
+    } while (side != next.entrySide);
+  }
+
+  private Coordinate cornerAfter(int side)
+  {
+    switch (side) {
+    case SIDE_LEFT: return new Coordinate(minX, maxY);
+    case SIDE_TOP: return new Coordinate(maxX, maxY);
+    case SIDE_RIGHT: return new Coordinate(maxX, minY);
+    default: return new Coordinate(minX, minY);
+    }
+  }
+
+  private Coordinate[] rectangleRing()
+  {
+    return new Coordinate[] {
+        new Coordinate(minX, minY),
+        new Coordinate(minX, maxY),
+        new Coordinate(maxX, maxY),
+        new Coordinate(maxX, minY),
+        new Coordinate(minX, minY)
+    };
+  }
+
+  /**
+   * Orders points on the rectangle boundary clockwise,
+   * starting at the lower left corner.
+   */
+  private static int compareBoundary(int side0, double pos0, int side1, double pos1)
+  {
+    if (side0 < side1) return -1;
+    if (side0 > side1) return 1;
+    return Double.compare(pos0, pos1);
+  }
+
+  /**
+   * Creates polygons from the shells built from sections,
+   * and assigns the holes lying inside the rectangle to them.
+   *
+   * @return false if a hole could not be assigned
+   */
+  private boolean buildPolygons()
+  {
+    int numShells = shells.size();
+    LinearRing[] shellRings = new LinearRing[numShells];
+    List[] shellHoles = new List[numShells];
+    for (int i = 0; i < numShells; i++) {
+      shellRings[i] = geomFact.createLinearRing((Coordinate[]) shells.get(i));
+      shellHoles[i] = new ArrayList();
+    }
+    for (int i = 0; i < innerHoles.size(); i++) {
+      LinearRing hole = (LinearRing) innerHoles.get(i);
+      int shellIndex = findShell(shellRings, hole);
+      if (shellIndex < 0) return false;
+      shellHoles[shellIndex].add(hole);
+    }
+    for (int i = 0; i < numShells; i++) {
+      LinearRing[] holes = GeometryFactory.toLinearRingArray(shellHoles[i]);
+      resultPolys.add(geomFact.createPolygon(shellRings[i], holes));
+    }
+    return true;
+  }
+
+  private static int findShell(LinearRing[] shellRings, LinearRing hole)
+  {
+    Envelope holeEnv = hole.getEnvelopeInternal();
+    Coordinate[] holePts = hole.getCoordinates();
+    for (int i = 0; i < shellRings.length; i++) {
+      if (! shellRings[i].getEnvelopeInternal().covers(holeEnv)) continue;
+      Coordinate[] shellPts = shellRings[i].getCoordinates();
+      // a hole may touch its shell, so use a vertex not on the shell
+      for (int j = 0; j < holePts.length; j++) {
+        int loc = PointLocation.locateInRing(holePts[j], shellPts);
+        if (loc == Location.BOUNDARY) continue;
+        if (loc == Location.INTERIOR) return i;
+        break;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * A section of a ring lying inside the rectangle,
+   * with its endpoints on the rectangle boundary.
+   */
+  private static class Section
+  {
+    Coordinate[] pts;
+    int entrySide;
+    double entryPos;
+    int exitSide;
+    double exitPos;
+    boolean isUsed = false;
+
+    Section(Coordinate[] pts, int entrySide, Coordinate entryPt, int exitSide, Coordinate exitPt)
+    {
+      this.pts = pts;
+      this.entrySide = entrySide;
+      this.entryPos = sidePosition(entrySide, entryPt);
+      this.exitSide = exitSide;
+      this.exitPos = sidePosition(exitSide, exitPt);
+    }
+
+    /**
+     * Computes a value which increases clockwise along a rectangle side.
+     */
+    private static double sidePosition(int side, Coordinate pt)
+    {
+      switch (side) {
+      case SIDE_LEFT: return pt.y;
+      case SIDE_TOP: return pt.x;
+      case SIDE_RIGHT: return -pt.y;
+      default: return -pt.x;
+      }
+    }
+  }
+}
@@ -58,6 +58,7 @@ public class SnapIfNeededOverlayOp
   }
   
   private Geometry[] geom = new Geometry[2];
+  private boolean isClipped = false;
 
   public SnapIfNeededOverlayOp(Geometry g1, Geometry g2)
   {
@@ -65,6 +66,23 @@ public class SnapIfNeededOverlayOp
     geom[1] = g2;
   }
 
+  /**
+   * Sets whether the polygonal arguments of an intersection are clipped
+   * to the region around the intersection of their envelopes
+   * (see {@link OverlayOp#overlayOp(Geometry, Geometry, int, boolean)}).
+   * Clipping should only be used if the arguments are known to be valid.
+   * It is used only for the standard overlay,
+   * since the snapped arguments may be invalid.
+   * <p>
+   * The default is to not clip the arguments.
+   * 
+   * @param isClipped true if the arguments of an intersection should be clipped
+   */
+  public void setClipped(boolean isClipped)
+  {
+    this.isClipped = isClipped;
+  }
+
   public Geometry getResultGeometry(int opCode)
   {
     Geometry result = null;
@@ -72,7 +90,7 @@ public class SnapIfNeededOverlayOp
     RuntimeException savedException = null;
     try {
       // try basic operation with input geometries
-      result = OverlayOp.overlayOp(geom[0], geom[1], opCode); 
+      result = OverlayOp.overlayOp(geom[0], geom[1], opCode, isClipped);
       boolean isValid = true;
       // not needed if noding validation is used
 //      boolean isValid = OverlayResultValidator.isValid(geom[0], geom[1], OverlayOp.INTERSECTION, result);
@@ -15,6 +15,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -50,6 +53,13 @@ import org.locationtech.jts.index.strtree.STRtree;
  * The best situation for using <tt>buffer(0)</tt> is the trivial case
  * where there is <i>no</i> overlap between the input geometries. 
  * However, this case is likely rare in practice.
+ * <p>
+ * The union can optionally be computed in parallel
+ * (see {@link #setParallel(boolean)}).
+ * Subtrees of the index containing enough geometries
+ * are unioned as separate tasks in the common {@link ForkJoinPool}.
+ * The subtree results are combined in the same order as
+ * in the sequential computation, so the result is identical.
  * 
  * @author Martin Davis
  *
@@ -68,8 +78,31 @@ public class CascadedPolygonUnion
 		return op.union();
 	}
 	
+	/**
+	 * Computes the union of
+	 * a collection of {@link Polygonal} {@link Geometry}s,
+	 * optionally using multiple threads.
+	 * 
+	 * @param polys a collection of {@link Polygonal} {@link Geometry}s
+	 * @param isParallel true if the union should be computed in parallel
+	 */
+	public static Geometry union(Collection polys, boolean isParallel)
+	{
+		CascadedPolygonUnion op = new CascadedPolygonUnion(polys);
+		op.setParallel(isParallel);
+		return op.union();
+	}
+	
+	/**
+	 * The default minimum number of geometries in a subtree
+	 * for it to be unioned as a separate parallel task.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+	
 	private Collection inputPolys;
 	private GeometryFactory geomFactory = null;
+	private boolean isParallel = false;
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 	
 	/**
 	 * Creates a new instance to union
@@ -85,6 +118,33 @@ public class CascadedPolygonUnion
 		  inputPolys = new ArrayList();
 	}
 	
+	/**
+	 * Sets whether the union is computed in parallel.
+	 * The default is to compute the union on the calling thread.
+	 * 
+	 * @param isParallel true if the union should be computed in parallel
+	 */
+	public void setParallel(boolean isParallel)
+	{
+	  this.isParallel = isParallel;
+	}
+	
+	/**
+	 * Sets the minimum number of input geometries in an index subtree
+	 * for it to be unioned as a separate task,
+	 * when computing in parallel.
+	 * Smaller subtrees are unioned on the thread processing their parent.
+	 * The default is {@link #DEFAULT_PARALLEL_THRESHOLD}.
+	 * 
+	 * @param parallelThreshold the minimum number of geometries in a parallel task
+	 */
+	public void setParallelThreshold(int parallelThreshold)
+	{
+	  if (parallelThreshold < 1)
+	    throw new IllegalArgumentException("Parallel threshold must be positive");
+	  this.parallelThreshold = parallelThreshold;
+	}
+	
   /**
    * The effectiveness of the index is somewhat sensitive
    * to the node capacity.  
@@ -124,26 +184,41 @@ public class CascadedPolygonUnion
 		 */
 //    STRtree index = new STRtree();
     STRtree index = new STRtree(STRTREE_NODE_CAPACITY);
+    index.setParallelBuild(isParallel);
     for (Iterator i = inputPolys.iterator(); i.hasNext(); ) {
       Geometry item = (Geometry) i.next();
       index.insert(item.getEnvelopeInternal(), item);
     }
+    int count = inputPolys.size();
     // To avoiding holding memory remove references to the input geometries,
     inputPolys = null;
     
     List itemTree = index.itemsTree();
 //    printItemEnvelopes(itemTree);
-    Geometry unionAll = unionTree(itemTree);
+    Geometry unionAll;
+    if (isParallel) {
+      unionAll = ForkJoinPool.commonPool().invoke(new UnionTreeTask(itemTree, count));
+    }
+    else {
+      unionAll = unionTree(itemTree, count);
+    }
     return unionAll;
 	}
 	
-  private Geometry unionTree(List geomTree)
+  /**
+   * Unions a tree of geometries.
+   * 
+   * @param geomTree a tree-structured list of geometries
+   * @param count the number of geometries in the tree
+   * @return the union of the geometries
+   */
+  private Geometry unionTree(List geomTree, int count)
   {
     /**
      * Recursively unions all subtrees in the list into single geometries.
      * The result is a list of Geometrys only
      */
-    List geoms = reduceToGeometries(geomTree);
+    List geoms = reduceToGeometries(geomTree, count);
 //    Geometry union = bufferUnion(geoms);
     Geometry union = binaryUnion(geoms);
     
@@ -246,16 +321,21 @@ public class CascadedPolygonUnion
    * by recursively unioning the subtrees in the list.
    * 
    * @param geomTree a tree-structured list of geometries
+   * @param count the number of geometries in the tree
    * @return a list of Geometrys
    */
-  private List reduceToGeometries(List geomTree)
+  private List reduceToGeometries(List geomTree, int count)
   {
+    int subtreeCount = subtreeCount(geomTree, count);
+    if (isParallel && subtreeCount >= parallelThreshold)
+      return reduceToGeometriesParallel(geomTree, subtreeCount);
+    
     List geoms = new ArrayList();
     for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
       Object o = i.next();
       Geometry geom = null;
       if (o instanceof List) {
-        geom = unionTree((List) o);
+        geom = unionTree((List) o, subtreeCount);
       }
       else if (o instanceof Geometry) {
         geom = (Geometry) o;
@@ -265,6 +345,85 @@ public class CascadedPolygonUnion
     return geoms;
   }
   
+  /**
+   * Reduces a tree of geometries to a list of geometries
+   * by unioning the subtrees in the list as parallel tasks.
+   * The union of each subtree is placed in the same position
+   * as it would be by {@link #reduceToGeometries(List, int)},
+   * so the result does not depend on the order in which the tasks complete.
+   * 
+   * @param geomTree a tree-structured list of geometries
+   * @param subtreeCount the number of geometries in each subtree
+   * @return a list of Geometrys
+   */
+  private List reduceToGeometriesParallel(List geomTree, int subtreeCount)
+  {
+    List tasks = new ArrayList();
+    for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+      Object o = i.next();
+      if (o instanceof List) {
+        tasks.add(new UnionTreeTask((List) o, subtreeCount));
+      }
+    }
+    ForkJoinTask.invokeAll(tasks);
+    
+    List geoms = new ArrayList();
+    int taskIndex = 0;
+    for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+      Object o = i.next();
+      Geometry geom = null;
+      if (o instanceof List) {
+        geom = ((UnionTreeTask) tasks.get(taskIndex++)).join();
+      }
+      else if (o instanceof Geometry) {
+        geom = (Geometry) o;
+      }
+      geoms.add(geom);
+    }
+    return geoms;
+  }
+  
+  /**
+   * Estimates the number of geometries in each subtree of a tree,
+   * from the number in the tree.
+   * Since the tree is built by packing an STRtree
+   * the subtrees have similar sizes, so this is accurate enough
+   * to decide whether to union a subtree in parallel,
+   * and avoids counting the geometries at every level of the tree.
+   * 
+   * @param geomTree a tree-structured list of geometries
+   * @param count the number of geometries in the tree
+   * @return the number of geometries in each subtree
+   */
+  private static int subtreeCount(List geomTree, int count)
+  {
+    int size = geomTree.size();
+    if (size == 0) return 0;
+    return (count + size - 1) / size;
+  }
+  
+  /**
+   * Unions a subtree of the index.
+   */
+  private class UnionTreeTask extends RecursiveTask<Geometry>
+  {
+    private static final long serialVersionUID = 1L;
+    
+    private final List geomTree;
+    private final int count;
+    
+    UnionTreeTask(List geomTree, int count)
+    {
+      this.geomTree = geomTree;
+      this.count = count;
+    }
+    
+    protected Geometry compute()
+    {
+      return unionTree(geomTree, count);
+    }
+  }
+  
   /**
    * Computes the union of two geometries, 
    * either or both of which may be null.
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.union;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Computes the union of a stream of {@link Geometry}s,
+ * which are added one at a time.
+ * This allows unioning more geometries than can be held in memory
+ * (for example, geometries read from a database cursor).
+ * <p>
+ * The added geometries are buffered in batches.
+ * When a batch is full it is unioned using {@link UnaryUnionOp}
+ * (which uses {@link CascadedPolygonUnion} for polygons).
+ * The batch unions are merged in a binary cascade,
+ * in which the union of two batches is merged with the union of
+ * the next two, and so on.
+ * This keeps the number of partial results logarithmic in the number of batches,
+ * and ensures that most unions are between geometries of similar size.
+ * Memory use is thus proportional to the batch size and the
+ * complexity of the result, rather than the size of the input.
+ * <p>
+ * If an {@link Executor} is provided, the batch unions and merges
+ * are computed in the background, while further geometries are added.
+ * To keep memory bounded, adding a geometry waits if too many
+ * batch unions and merges are waiting to be computed.
+ * The order in which unions are computed is the same
+ * as for the synchronous computation, so the result is identical.
+ * <p>
+ * Instances of this class are not thread-safe,
+ * so geometries should be added by a single thread.
+ *
+ * @see UnaryUnionOp
+ */
+public class UnionAccumulator
+{
+  /**
+   * The default number of geometries in a batch
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final int batchSize;
+  private final Executor executor;
+  private final int maxPendingUnions;
+
+  private GeometryFactory geomFact = null;
+  private List<Geometry> batch;
+  /**
+   * The partial unions, with the union of 2^i batches at index i (or null)
+   */
+  private final List<CompletableFuture<Geometry>> levels = new ArrayList<CompletableFuture<Geometry>>();
+  /**
+   * The batch unions and merges which may not yet be computed, in order of creation
+   */
+  private final Deque<CompletableFuture<Geometry>> pendingUnions = new ArrayDeque<CompletableFuture<Geometry>>();
+
+  /**
+   * Creates an accumulator which computes unions
+   * on the calling thread, using the default batch size.
+   */
+  public UnionAccumulator()
+  {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates an accumulator which computes unions
+   * on the calling thread.
+   *
+   * @param batchSize the number of geometries in each batch
+   */
+  public UnionAccumulator(int batchSize)
+  {
+    this(batchSize, null);
+  }
+
+  /**
+   * Creates an accumulator which computes unions
+   * in the background using an {@link Executor}.
+   * If the executor is null, unions are computed on the calling thread.
+   *
+   * @param batchSize the number of geometries in each batch
+   * @param executor the executor to compute unions with, or null
+   */
+  public UnionAccumulator(int batchSize, Executor executor)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be positive");
+    this.batchSize = batchSize;
+    this.executor = executor;
+    maxPendingUnions = Runtime.getRuntime().availableProcessors();
+    batch = new ArrayList<Geometry>(batchSize);
+  }
+
+  /**
+   * Adds a geometry to the union.
+   *
+   * @param geom the geometry to add
+   */
+  public void add(Geometry geom)
+  {
+    if (geomFact == null)
+      geomFact = geom.getFactory();
+    batch.add(geom);
+    if (batch.size() >= batchSize)
+      flushBatch();
+  }
+
+  /**
+   * Gets the union of all the geometries added so far.
+   * More geometries may be added after this is called.
+   *
+   * @return the union of the geometries,
+   * or <code>null</code> if no geometries have been added
+   */
+  public Geometry getResult()
+  {
+    flushBatch();
+    CompletableFuture<Geometry> result = null;
+    for (int i = 0; i < levels.size(); i++) {
+      CompletableFuture<Geometry> level = levels.get(i);
+      if (level == null) continue;
+      // higher levels hold the earlier geometries, so keep them first
+      result = result == null ? level : merge(level, result);
+    }
+    if (result == null)
+      return null;
+    return join(result);
+  }
+
+  /**
+   * Starts the union of the current batch,
+   * and merges it into the cascade of partial unions.
+   */
+  private void flushBatch()
+  {
+    if (batch.isEmpty())
+      return;
+    final List<Geometry> geoms = batch;
+    batch = new ArrayList<Geometry>(batchSize);
+
+    CompletableFuture<Geometry> union = supply(new Supplier<Geometry>() {
+      public Geometry get() {
+        return UnaryUnionOp.union(geoms, geomFact);
+      }
+    });
+    pendingUnions.addLast(union);
+
+    // add the batch union to the cascade, merging equal-sized unions
+    int i = 0;
+    while (i < levels.size() && levels.get(i) != null) {
+      union = merge(levels.get(i), union);
+      pendingUnions.addLast(union);
+      levels.set(i, null);
+      i++;
+    }
+    if (i < levels.size())
+      levels.set(i, union);
+    else
+      levels.add(union);
+
+    /**
+     * Bound the memory held by inputs which have not been unioned yet.
+     * The oldest union depends only on earlier unions,
+     * so it is always able to complete.
+     */
+    while (pendingUnions.size() > maxPendingUnions) {
+      join(pendingUnions.removeFirst());
+    }
+    while (! pendingUnions.isEmpty() && pendingUnions.peekFirst().isDone()) {
+      pendingUnions.removeFirst();
+    }
+  }
+
+  private CompletableFuture<Geometry> supply(Supplier<Geometry> union)
+  {
+    if (executor == null)
+      return CompletableFuture.completedFuture(union.get());
+    return CompletableFuture.supplyAsync(union, executor);
+  }
+
+  private CompletableFuture<Geometry> merge(CompletableFuture<Geometry> union0, CompletableFuture<Geometry> union1)
+  {
+    BiFunction<Geometry, Geometry, Geometry> merge = new BiFunction<Geometry, Geometry, Geometry>() {
+      public Geometry apply(Geometry g0, Geometry g1) {
+        return UnaryUnionOp.union(Arrays.asList(g0, g1), geomFact);
+      }
+    };
+    if (executor == null)
+      return union0.thenCombine(union1, merge);
+    return union0.thenCombineAsync(union1, merge, executor);
+  }
+
+  /**
+   * Waits for a union to complete,
+   * rethrowing any exception thrown while computing it.
+   */
+  private static Geometry join(CompletableFuture<Geometry> union)
+  {
+    try {
+      return union.join();
+    }
+    catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException)
+        throw (RuntimeException) ex.getCause();
+      throw ex;
+    }
+  }
+}
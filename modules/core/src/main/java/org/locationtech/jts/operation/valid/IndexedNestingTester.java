@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * Tests the nesting of the rings of polygonal geometry,
+ * using indexed point-in-area locators.
+ * Candidate rings are found using an {@link STRtree}
+ * of the ring envelopes, so large numbers of holes or polygons
+ * are tested efficiently.
+ * <p>
+ * The tests assume that the rings do not cross or overlap
+ * (which is checked by {@link PolygonIntersectionAnalyzer}).
+ * So the nesting of a ring can be determined by the location of any
+ * point on it which does not lie on the boundary of the other ring.
+ */
+class IndexedNestingTester
+{
+  /**
+   * Finds a point of a hole which lies outside the polygon shell.
+   *
+   * @param poly the polygon to test
+   * @return a point of a hole outside the shell, or null if all holes are inside it
+   */
+  static Coordinate findHoleOutsideShell(Polygon poly)
+  {
+    return first(findHolesOutsideShell(poly, false));
+  }
+
+  /**
+   * Finds a point of each hole which lies outside the polygon shell.
+   *
+   * @param poly the polygon to test
+   * @param isFindAll true if all holes should be found, false if only the first is required
+   * @return a list of points of holes outside the shell
+   */
+  static List findHolesOutsideShell(Polygon poly, boolean isFindAll)
+  {
+    List pts = new ArrayList();
+    if (poly.getNumInteriorRing() <= 0) return pts;
+
+    LinearRing shell = poly.getExteriorRing();
+    Envelope shellEnv = shell.getEnvelopeInternal();
+    PointOnGeometryLocator locator = null;
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      LinearRing hole = poly.getInteriorRingN(i);
+      if (hole.isEmpty()) continue;
+      Coordinate outsidePt = null;
+      if (shell.isEmpty()) {
+        outsidePt = hole.getCoordinateN(0);
+      }
+      else if (! shellEnv.covers(hole.getEnvelopeInternal())) {
+        outsidePt = findPointOutside(hole, shellEnv);
+      }
+      else {
+        if (locator == null)
+          locator = new IndexedPointInAreaLocator(shell);
+        Coordinate holePt = findNonBoundaryPoint(hole, locator);
+        if (holePt != null && locator.locate(holePt) == Location.EXTERIOR)
+          outsidePt = holePt;
+      }
+      if (outsidePt != null) {
+        pts.add(outsidePt);
+        if (! isFindAll) break;
+      }
+    }
+    return pts;
+  }
+
+  /**
+   * Finds a point of a hole which lies inside another hole of a polygon.
+   *
+   * @param poly the polygon to test
+   * @return a point of a nested hole, or null if no holes are nested
+   */
+  static Coordinate findNestedHole(Polygon poly)
+  {
+    return first(findNestedHoles(poly, false));
+  }
+
+  /**
+   * Finds a point of each hole which lies inside another hole of a polygon.
+   *
+   * @param poly the polygon to test
+   * @param isFindAll true if all nested holes should be found, false if only the first is required
+   * @return a list of points of nested holes
+   */
+  static List findNestedHoles(Polygon poly, boolean isFindAll)
+  {
+    int numHoles = poly.getNumInteriorRing();
+    if (numHoles <= 1) return new ArrayList();
+
+    LinearRing[] holes = new LinearRing[numHoles];
+    for (int i = 0; i < numHoles; i++) {
+      holes[i] = poly.getInteriorRingN(i);
+    }
+    return findNestedRings(holes, holes, isFindAll, null);
+  }
+
+  /**
+   * Finds a point of each polygon shell which lies in the interior
+   * of another polygon of a MultiPolygon.
+   * Shells which lie inside a hole of another polygon are validly nested.
+   *
+   * @param mp the MultiPolygon to test
+   * @param isFindAll true if all nested shells should be found, false if only the first is required
+   * @return a list of points of nested shells
+   */
+  static List findNestedShells(MultiPolygon mp, boolean isFindAll)
+  {
+    return findNestedShells(mp, isFindAll, null);
+  }
+
+  /**
+   * Finds a point of each polygon shell which lies in the interior
+   * of another polygon of a MultiPolygon,
+   * separating the shells which touch the boundary of that polygon
+   * with inconsistent area labelling (see {@link #findInconsistentTouch}).
+   * The graph-based algorithm reports these as self-intersections.
+   * For these shells the touch point is added to the touch point list
+   * instead of the returned list.
+   *
+   * @param mp the MultiPolygon to test
+   * @param isFindAll true if all nested shells should be found, false if only the first is required
+   * @param touchPts the list to add the inconsistent touch points of nested shells to,
+   * or null if all nested shells should be returned
+   * @return a list of points of nested shells
+   */
+  static List findNestedShells(MultiPolygon mp, boolean isFindAll, List touchPts)
+  {
+    int numPolys = mp.getNumGeometries();
+    if (numPolys <= 1) return new ArrayList();
+
+    LinearRing[] shells = new LinearRing[numPolys];
+    Polygon[] polys = new Polygon[numPolys];
+    for (int i = 0; i < numPolys; i++) {
+      polys[i] = (Polygon) mp.getGeometryN(i);
+      shells[i] = polys[i].getExteriorRing();
+    }
+    return findNestedRings(shells, polys, isFindAll, touchPts);
+  }
+
+  /**
+   * Finds the rings which lie in the interior of one of a set of areas.
+   * The area at each index is the polygon or ring containing the ring at the same index,
+   * which is not tested against it.
+   * At most one point is reported for each ring.
+   * If a touch point list is provided, rings which touch the boundary
+   * of the area containing them inconsistently are reported in it instead.
+   */
+  private static List findNestedRings(LinearRing[] rings, Geometry[] areas, boolean isFindAll,
+      List touchPts)
+  {
+    List pts = new ArrayList();
+    STRtree index = new STRtree();
+    for (int i = 0; i < areas.length; i++) {
+      index.insert(areas[i].getEnvelopeInternal(), areas[i]);
+    }
+    PointOnGeometryLocator[] locators = new PointOnGeometryLocator[areas.length];
+    IntArrayList candidates = new IntArrayList();
+    for (int i = 0; i < rings.length; i++) {
+      LinearRing ring = rings[i];
+      if (ring.isEmpty()) continue;
+      Envelope env = ring.getEnvelopeInternal();
+      candidates.clear();
+      index.query(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), candidates);
+      for (int k = 0; k < candidates.size(); k++) {
+        int j = candidates.get(k);
+        if (i == j) continue;
+        // a ring can only be inside an area which covers its envelope
+        if (! areas[j].getEnvelopeInternal().covers(env)) continue;
+
+        if (locators[j] == null)
+          locators[j] = new IndexedPointInAreaLocator(areas[j]);
+        Coordinate pt = findNonBoundaryPoint(ring, locators[j]);
+        if (pt != null && locators[j].locate(pt) == Location.INTERIOR) {
+          Coordinate touchPt = null;
+          if (touchPts != null)
+            touchPt = findInconsistentTouch(ring, areas[j], locators[j]);
+          if (touchPt != null) {
+            touchPts.add(touchPt);
+          }
+          else {
+            pts.add(pt);
+          }
+          if (! isFindAll) return pts;
+          break;
+        }
+      }
+    }
+    return pts;
+  }
+
+  private static Coordinate first(List pts)
+  {
+    if (pts.isEmpty()) return null;
+    return (Coordinate) pts.get(0);
+  }
+
+  /**
+   * Finds a point of a ring which does not lie on the boundary of an area.
+   * Ring vertices are tried first.
+   * If every vertex lies on the boundary,
+   * segment midpoints are tried
+   * (since the rings do not overlap, these generally do not lie on the boundary).
+   *
+   * @return a point not on the area boundary, or null if none was found
+   */
+  private static Coordinate findNonBoundaryPoint(LinearRing ring, PointOnGeometryLocator locator)
+  {
+    int n = ring.getNumPoints();
+    for (int i = 0; i < n - 1; i++) {
+      Coordinate pt = ring.getCoordinateN(i);
+      if (locator.locate(pt) != Location.BOUNDARY)
+        return pt;
+    }
+    for (int i = 0; i < n - 1; i++) {
+      Coordinate p0 = ring.getCoordinateN(i);
+      Coordinate p1 = ring.getCoordinateN(i + 1);
+      Coordinate mid = new Coordinate((p0.x + p1.x) / 2, (p0.y + p1.y) / 2);
+      if (locator.locate(mid) != Location.BOUNDARY)
+        return mid;
+    }
+    return null;
+  }
+
+  /**
+   * Finds a point at which a ring lying in the interior of an area
+   * touches the area boundary with inconsistent area labelling.
+   * This is the case if a boundary edge at the touch point lies outside the ring,
+   * since the region between the ring and the boundary edge
+   * is exterior to the ring, but interior to the area.
+   * (If the boundary edges lie inside the ring the labelling is consistent,
+   * and the graph-based algorithm reports the ring as nested.)
+   * Since the ring does not cross the boundary,
+   * a touch point is a vertex of the ring lying on the boundary,
+   * or a vertex of the area lying on the ring.
+   * Repeated ring points are removed, so that the ring edges at a touch point
+   * are determined by the adjacent ring points.
+   *
+   * @return a touch point, or null if there is no inconsistent touch
+   */
+  private static Coordinate findInconsistentTouch(LinearRing ring, Geometry area, PointOnGeometryLocator areaLocator)
+  {
+    Coordinate[] ringPts = CoordinateArrays.removeRepeatedPoints(ring.getCoordinates());
+    for (int i = 0; i < ringPts.length - 1; i++) {
+      Coordinate pt = ringPts[i];
+      if (areaLocator.locate(pt) == Location.BOUNDARY
+          && isInconsistentTouch(pt, ringPts, area))
+        return pt;
+    }
+    Envelope ringEnv = ring.getEnvelopeInternal();
+    PointOnGeometryLocator ringLocator = new IndexedPointInAreaLocator(ring);
+    Coordinate[] areaPts = area.getCoordinates();
+    for (int i = 0; i < areaPts.length; i++) {
+      Coordinate pt = areaPts[i];
+      if (ringEnv.covers(pt) && ringLocator.locate(pt) == Location.BOUNDARY
+          && isInconsistentTouch(pt, ringPts, area))
+        return pt;
+    }
+    return null;
+  }
+
+  /**
+   * Tests whether an edge of the area boundary at a touch point
+   * lies outside the ring.
+   * The ring points must not contain repeated points.
+   */
+  private static boolean isInconsistentTouch(Coordinate nodePt, Coordinate[] ringPts, Geometry area)
+  {
+    // find the ring edges at the node
+    Coordinate a0 = null;
+    Coordinate a1 = null;
+    int n = ringPts.length - 1;
+    for (int i = 0; i < n; i++) {
+      if (ringPts[i].equals2D(nodePt)) {
+        a0 = ringPts[i == 0 ? n - 1 : i - 1];
+        a1 = ringPts[i + 1];
+        break;
+      }
+      if (isOnSegment(nodePt, ringPts[i], ringPts[i + 1])
+          && ! ringPts[i + 1].equals2D(nodePt)) {
+        a0 = ringPts[i];
+        a1 = ringPts[i + 1];
+        break;
+      }
+    }
+    if (a0 == null) return false;
+    // isInteriorSegment requires the ring to be clockwise
+    if (Orientation.isCCW(ringPts)) {
+      Coordinate tmp = a0;
+      a0 = a1;
+      a1 = tmp;
+    }
+
+    for (int k = 0; k < area.getNumGeometries(); k++) {
+      Polygon poly = (Polygon) area.getGeometryN(k);
+      if (hasEdgeOutside(nodePt, a0, a1, poly.getExteriorRing()))
+        return true;
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        if (hasEdgeOutside(nodePt, a0, a1, poly.getInteriorRingN(j)))
+          return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Tests whether an edge of a boundary ring at a node
+   * lies outside the corner formed by the clockwise ring edges <tt>a0-node-a1</tt>.
+   */
+  private static boolean hasEdgeOutside(Coordinate nodePt, Coordinate a0, Coordinate a1, LinearRing boundary)
+  {
+    Coordinate[] pts = boundary.getCoordinates();
+    for (int i = 0; i < pts.length - 1; i++) {
+      Coordinate p0 = pts[i];
+      Coordinate p1 = pts[i + 1];
+      if (! isOnSegment(nodePt, p0, p1)) continue;
+      if (! p0.equals2D(nodePt)
+          && ! PolygonNodeTopology.isInteriorSegment(nodePt, a0, a1, p0))
+        return true;
+      if (! p1.equals2D(nodePt)
+          && ! PolygonNodeTopology.isInteriorSegment(nodePt, a0, a1, p1))
+        return true;
+    }
+    return false;
+  }
+
+  private static boolean isOnSegment(Coordinate p, Coordinate p0, Coordinate p1)
+  {
+    return Orientation.index(p0, p1, p) == Orientation.COLLINEAR
+        && Envelope.intersects(p0, p1, p);
+  }
+
+  private static Coordinate findPointOutside(LinearRing ring, Envelope env)
+  {
+    for (int i = 0; i < ring.getNumPoints(); i++) {
+      Coordinate pt = ring.getCoordinateN(i);
+      if (! env.covers(pt)) return pt;
+    }
+    return ring.getCoordinateN(0);
+  }
+}
@@ -13,9 +13,15 @@
  */
 package org.locationtech.jts.operation.valid;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.locationtech.jts.algorithm.LineIntersector;
 import org.locationtech.jts.algorithm.PointLocation;
@@ -23,6 +29,7 @@ import org.locationtech.jts.algorithm.RobustLineIntersector;
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineString;
@@ -42,6 +49,19 @@ import org.locationtech.jts.util.Assert;
  * Implements the algorithms required to compute the <code>isValid()</code> method
  * for {@link Geometry}s.
  * See the documentation for the various geometry types for a specification of validity.
+ * <p>
+ * By default the topology of polygonal geometry is validated
+ * by building a {@link GeometryGraph}.
+ * An indexed algorithm can be used instead (see {@link #setIndexed(boolean)}).
+ * This finds self-intersections using monotone chain noding,
+ * checks ring nesting using indexed point-in-area locators,
+ * and checks interior connectivity using the ring touch points.
+ * It determines the same validity using much less time and memory for large geometries.
+ * The reported error usually has the same type,
+ * but may have a different location.
+ * <p>
+ * The components of MultiPolygons and GeometryCollections
+ * can be validated in parallel (see {@link #setParallel(boolean)}).
  *
  * @version 1.7
  */
@@ -104,8 +124,16 @@ public class IsValidOp
    * (the ESRI SDE model)
    */
   private boolean isSelfTouchingRingFormingHoleValid = false;
+  private boolean isIndexed = false;
+  private boolean isParallel = false;
+  private boolean isIndexedEdgeIntersector = false;
   private TopologyValidationError validErr;
 
+  /**
+   * The number of components validated by each parallel task
+   */
+  private static final int PARALLEL_CHUNK_SIZE = 16;
+
   public IsValidOp(Geometry parentGeometry)
   {
     this.parentGeometry = parentGeometry;
@@ -140,6 +168,70 @@ public class IsValidOp
     isSelfTouchingRingFormingHoleValid = isValid;
   }
 
+  /**
+   * Sets whether the indexed algorithm is used to validate
+   * rings and polygonal geometry.
+   * The indexed algorithm does not build a topology graph,
+   * and is much faster and uses less memory for large geometries.
+   * It determines the same validity as the graph-based algorithm.
+   * For invalid geometry the error type is usually the same,
+   * but the error location often differs,
+   * and if a geometry has several errors a different one may be reported
+   * (for instance a ring self-intersection instead of a self-intersection).
+   * It is not used if self-touching rings forming holes are allowed
+   * (see {@link #setSelfTouchingRingFormingHoleValid(boolean)}).
+   * <p>
+   * The default is to use the graph-based algorithm.
+   *
+   * @param isIndexed true if the indexed algorithm should be used
+   */
+  public void setIndexed(boolean isIndexed)
+  {
+    this.isIndexed = isIndexed;
+  }
+
+  /**
+   * Sets whether the topology graphs used by the graph-based algorithm
+   * find edge intersections using an indexed intersector.
+   * This is faster for geometries which have many edges overlapping
+   * in the X dimension.
+   *
+   * @param isIndexed true if an indexed edge intersector should be used
+   *
+   * @see GeometryGraph#setIndexedEdgeIntersector(boolean)
+   */
+  public void setIndexedEdgeIntersector(boolean isIndexed)
+  {
+    this.isIndexedEdgeIntersector = isIndexed;
+  }
+
+  /**
+   * Sets whether the components of MultiPolygons and GeometryCollections
+   * are validated in parallel, using tasks in the common {@link ForkJoinPool}.
+   * The components of a MultiPolygon are validated independently,
+   * and if they are all valid the intersections and nesting of
+   * different components are then checked using spatial indexes.
+   * <p>
+   * The reported error is deterministic:
+   * it is the error of the first invalid component,
+   * or if all components are valid, the first error between components.
+   * If a geometry has several errors this may differ from
+   * the error reported by sequential validation.
+   * When all errors are computed (see {@link #getValidationResult()})
+   * the components are also checked in parallel,
+   * and the errors are the same as for sequential validation.
+   * Parallel validation is not used if self-touching rings forming holes are allowed
+   * (see {@link #setSelfTouchingRingFormingHoleValid(boolean)}).
+   * <p>
+   * The default is to validate on the calling thread.
+   *
+   * @param isParallel true if components should be validated in parallel
+   */
+  public void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+
   /**
    * Computes the validity of the geometry,
    * and returns <tt>true</tt> if it is valid.
@@ -166,6 +258,39 @@ public class IsValidOp
     return validErr;
   }
 
+  /**
+   * Computes all the validation errors of the geometry in a single pass,
+   * using the indexed algorithm.
+   * Each error records the path to the geometry component containing it.
+   * This allows invalid geometry to be repaired without repeated validation.
+   * If parallel validation is enabled (see {@link #setParallel(boolean)})
+   * the components are checked in parallel,
+   * and their errors are reported in component order.
+   * <p>
+   * Nesting and connectivity errors in a polygon are only reported
+   * if its rings have no more basic errors.
+   * If self-touching rings forming holes are allowed
+   * (see {@link #setSelfTouchingRingFormingHoleValid(boolean)})
+   * the result contains only the error reported by {@link #getValidationError()}.
+   *
+   * @return the validation result
+   */
+  public TopologyValidationResult getValidationResult()
+  {
+    List errors;
+    if (isSelfTouchingRingFormingHoleValid) {
+      errors = new ArrayList();
+      if (getValidationError() != null)
+        errors.add(validErr);
+    }
+    else {
+      ValidationErrorCollector collector = new ValidationErrorCollector();
+      collector.setParallel(isParallel);
+      errors = collector.collect(parentGeometry);
+    }
+    return new TopologyValidationResult(errors);
+  }
+
   private void checkValid(Geometry g)
   {
     validErr = null;
@@ -206,7 +331,11 @@ public class IsValidOp
   {
     checkInvalidCoordinates(g.getCoordinates());
     if (validErr != null) return;
-    GeometryGraph graph = new GeometryGraph(0, g);
+    if (isIndexed) {
+      checkTooFewPoints(g, 2);
+      return;
+    }
+    GeometryGraph graph = createGraph(g);
     checkTooFewPoints(graph);
   }
   /**
@@ -219,7 +348,17 @@ public class IsValidOp
     checkClosedRing(g);
     if (validErr != null) return;
 
-    GeometryGraph graph = new GeometryGraph(0, g);
+    if (isIndexed) {
+      checkTooFewPoints(g, 2);
+      if (validErr != null) return;
+      PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(true);
+      analyzer.analyze(Collections.singletonList(PolygonIntersectionAnalyzer.createSegmentString(g)));
+      if (analyzer.hasError())
+        validErr = new TopologyValidationError(analyzer.getErrorType(), analyzer.getErrorLocation());
+      return;
+    }
+
+    GeometryGraph graph = createGraph(g);
     checkTooFewPoints(graph);
     if (validErr != null) return;
     
@@ -234,12 +373,16 @@ public class IsValidOp
    */
   private void checkValid(Polygon g)
   {
+    if (isIndexed && ! isSelfTouchingRingFormingHoleValid) {
+      checkValidIndexed(g);
+      return;
+    }
     checkInvalidCoordinates(g);
     if (validErr != null) return;
     checkClosedRings(g);
     if (validErr != null) return;
 
-    GeometryGraph graph = new GeometryGraph(0, g);
+    GeometryGraph graph = createGraph(g);
 
     checkTooFewPoints(graph);
     if (validErr != null) return;
@@ -260,6 +403,15 @@ public class IsValidOp
 
   private void checkValid(MultiPolygon g)
   {
+    if (isParallel && ! isSelfTouchingRingFormingHoleValid
+        && g.getNumGeometries() > 1) {
+      checkValidParallel(g);
+      return;
+    }
+    if (isIndexed && ! isSelfTouchingRingFormingHoleValid) {
+      checkValidIndexed(g);
+      return;
+    }
     for (int i = 0; i < g.getNumGeometries(); i++) {
       Polygon p = (Polygon) g.getGeometryN(i);
       checkInvalidCoordinates(p);
@@ -268,7 +420,7 @@ public class IsValidOp
       if (validErr != null) return;
     }
 
-    GeometryGraph graph = new GeometryGraph(0, g);
+    GeometryGraph graph = createGraph(g);
 
     checkTooFewPoints(graph);
     if (validErr != null) return;
@@ -293,8 +445,134 @@ public class IsValidOp
     checkConnectedInteriors(graph);
   }
 
+  /**
+   * Checks the validity of a Polygon or MultiPolygon
+   * using the indexed algorithm.
+   * The checks are made in the same order as the graph-based algorithm,
+   * so usually the same type of error is reported
+   * (but not necessarily at the same location).
+   */
+  private void checkValidIndexed(Geometry g)
+  {
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      Polygon p = (Polygon) g.getGeometryN(i);
+      checkInvalidCoordinates(p);
+      if (validErr != null) return;
+      checkClosedRings(p);
+      if (validErr != null) return;
+    }
+    // as in GeometryGraph, the last ring with too few points is reported
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      Polygon p = (Polygon) g.getGeometryN(i);
+      checkTooFewPoints(p.getExteriorRing(), 4);
+      for (int j = 0; j < p.getNumInteriorRing(); j++) {
+        checkTooFewPoints(p.getInteriorRingN(j), 4);
+      }
+    }
+    if (validErr != null) return;
+
+    List rings = new ArrayList();
+    PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(false);
+    analyzer.analyze(PolygonIntersectionAnalyzer.createSegmentStrings(g, rings));
+    if (analyzer.hasError()) {
+      validErr = new TopologyValidationError(analyzer.getErrorType(), analyzer.getErrorLocation());
+      return;
+    }
+    List nestedShellPts = null;
+    if (g instanceof MultiPolygon) {
+      nestedShellPts = findNestedShells((MultiPolygon) g);
+      if (validErr != null) return;
+    }
+
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      Coordinate holePt = IndexedNestingTester.findHoleOutsideShell((Polygon) g.getGeometryN(i));
+      if (holePt != null) {
+        validErr = new TopologyValidationError(
+                          TopologyValidationError.HOLE_OUTSIDE_SHELL,
+                          holePt);
+        return;
+      }
+    }
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      Coordinate nestedPt = IndexedNestingTester.findNestedHole((Polygon) g.getGeometryN(i));
+      if (nestedPt != null) {
+        validErr = new TopologyValidationError(
+                          TopologyValidationError.NESTED_HOLES,
+                          nestedPt);
+        return;
+      }
+    }
+    if (nestedShellPts != null && ! nestedShellPts.isEmpty()) {
+      validErr = new TopologyValidationError(
+                        TopologyValidationError.NESTED_SHELLS,
+                        (Coordinate) nestedShellPts.get(0));
+      return;
+    }
+
+    Coordinate disconnectedPt = analyzer.getDisconnectionLocation();
+    if (disconnectedPt == null)
+      disconnectedPt = PolygonRing.findTouchCycleLocation(rings);
+    if (disconnectedPt != null)
+      validErr = new TopologyValidationError(
+                        TopologyValidationError.DISCONNECTED_INTERIOR,
+                        disconnectedPt);
+  }
+
+  /**
+   * Checks the validity of a MultiPolygon by validating
+   * its polygons in parallel, and then checking that they do not
+   * intersect or contain each other.
+   */
+  private void checkValidParallel(MultiPolygon g)
+  {
+    validErr = findComponentErrorParallel(g);
+    if (validErr != null) return;
+
+    PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(false);
+    analyzer.setPolygonsValid(true);
+    analyzer.setParallel(true);
+    analyzer.analyze(PolygonIntersectionAnalyzer.createSegmentStrings(g, new ArrayList()));
+    if (analyzer.hasError()) {
+      validErr = new TopologyValidationError(analyzer.getErrorType(), analyzer.getErrorLocation());
+      return;
+    }
+    List nestedShellPts = findNestedShells(g);
+    if (validErr != null) return;
+    if (! nestedShellPts.isEmpty()) {
+      validErr = new TopologyValidationError(
+                        TopologyValidationError.NESTED_SHELLS,
+                        (Coordinate) nestedShellPts.get(0));
+    }
+  }
+
+  /**
+   * Finds the shells of a MultiPolygon which lie in the interior of another polygon.
+   * If a nested shell touches the boundary of the polygon containing it
+   * with inconsistent area labelling,
+   * a self-intersection is reported at the touch point,
+   * as it is by the area consistency check of the graph-based algorithm
+   * (which precedes the ring nesting checks).
+   *
+   * @return a list of points of nested shells
+   */
+  private List findNestedShells(MultiPolygon g)
+  {
+    List touchPts = new ArrayList();
+    List nestedPts = IndexedNestingTester.findNestedShells(g, true, touchPts);
+    if (! touchPts.isEmpty()) {
+      validErr = new TopologyValidationError(
+                        TopologyValidationError.SELF_INTERSECTION,
+                        (Coordinate) touchPts.get(0));
+    }
+    return nestedPts;
+  }
+
   private void checkValid(GeometryCollection gc)
   {
+    if (isParallel && gc.getNumGeometries() > 1) {
+      validErr = findComponentErrorParallel(gc);
+      return;
+    }
     for (int i = 0; i < gc.getNumGeometries(); i++) {
       Geometry g = gc.getGeometryN(i);
       checkValid(g);
@@ -302,6 +580,89 @@ public class IsValidOp
     }
   }
 
+  /**
+   * Validates the components of a collection in parallel.
+   *
+   * @return the error for the first invalid component, or null if all components are valid
+   */
+  private TopologyValidationError findComponentErrorParallel(GeometryCollection gc)
+  {
+    int numComponents = gc.getNumGeometries();
+    TopologyValidationError[] componentErr = new TopologyValidationError[numComponents];
+    AtomicInteger firstInvalid = new AtomicInteger(numComponents);
+    ForkJoinPool.commonPool().invoke(
+        new ComponentValidTask(gc, componentErr, firstInvalid, 0, numComponents));
+    int index = firstInvalid.get();
+    if (index < numComponents)
+      return componentErr[index];
+    return null;
+  }
+
+  /**
+   * Validates a range of the components of a collection.
+   * Components after the first invalid one found so far are skipped,
+   * so the error of the first invalid component is always computed.
+   */
+  private class ComponentValidTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final GeometryCollection gc;
+    private final TopologyValidationError[] componentErr;
+    private final AtomicInteger firstInvalid;
+    private final int start;
+    private final int end;
+
+    ComponentValidTask(GeometryCollection gc, TopologyValidationError[] componentErr,
+        AtomicInteger firstInvalid, int start, int end)
+    {
+      this.gc = gc;
+      this.componentErr = componentErr;
+      this.firstInvalid = firstInvalid;
+      this.start = start;
+      this.end = end;
+    }
+
+    protected void compute()
+    {
+      if (end - start > PARALLEL_CHUNK_SIZE) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new ComponentValidTask(gc, componentErr, firstInvalid, start, mid),
+            new ComponentValidTask(gc, componentErr, firstInvalid, mid, end));
+        return;
+      }
+      for (int i = start; i < end; i++) {
+        if (i > firstInvalid.get()) return;
+        IsValidOp op = new IsValidOp(gc.getGeometryN(i));
+        op.isSelfTouchingRingFormingHoleValid = isSelfTouchingRingFormingHoleValid;
+        op.isIndexed = isIndexed;
+        op.isParallel = isParallel;
+        op.isIndexedEdgeIntersector = isIndexedEdgeIntersector;
+        TopologyValidationError err = op.getValidationError();
+        if (err != null) {
+          componentErr[i] = err;
+          setFirstInvalid(i);
+          return;
+        }
+      }
+    }
+
+    private void setFirstInvalid(int index)
+    {
+      int current = firstInvalid.get();
+      while (index < current && ! firstInvalid.compareAndSet(current, index)) {
+        current = firstInvalid.get();
+      }
+    }
+  }
+
+  private GeometryGraph createGraph(Geometry g)
+  {
+    GeometryGraph graph = new GeometryGraph(0, g);
+    graph.setIndexedEdgeIntersector(isIndexedEdgeIntersector);
+    return graph;
+  }
+
   private void checkInvalidCoordinates(Coordinate[] coords)
   {
     for (int i = 0; i < coords.length; i++) {
@@ -357,6 +718,22 @@ public class IsValidOp
     }
   }
 
+  /**
+   * Checks that a linear geometry has at least a given number of distinct points.
+   * This is equivalent to the check made by {@link GeometryGraph},
+   * without building the graph.
+   */
+  private void checkTooFewPoints(LineString line, int minSize)
+  {
+    if (line.isEmpty()) return;
+    Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(line.getCoordinates());
+    if (pts.length < minSize) {
+      validErr = new TopologyValidationError(
+                        TopologyValidationError.TOO_FEW_POINTS,
+                        pts[0]);
+    }
+  }
+
   /**
    * Checks that the arrangement of edges in a polygonal geometry graph
    * forms a consistent area.
@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.noding.BasicSegmentString;
+import org.locationtech.jts.noding.MCIndexNoder;
+import org.locationtech.jts.noding.SegmentIntersector;
+import org.locationtech.jts.noding.SegmentString;
+
+/**
+ * Finds invalid intersections between the rings of polygonal geometry,
+ * using a {@link MCIndexNoder} to find intersecting segments.
+ * This detects the same topology errors as {@link ConsistentAreaTester}
+ * and the ring self-intersection check of {@link IsValidOp},
+ * without building a {@link org.locationtech.jts.geomgraph.GeometryGraph}.
+ * <p>
+ * Intersections are analyzed as follows:
+ * <ul>
+ * <li>proper intersections, collinear overlaps and rings crossing at a vertex
+ * are self-intersections (unless the overlapping rings are duplicates)
+ * <li>intersections of a ring with itself (other than between adjacent segments)
+ * are ring self-intersections
+ * <li>touches between different rings of the same polygon are recorded
+ * in the {@link PolygonRing}s, to allow checking interior connectivity
+ * </ul>
+ * The most severe error found is reported,
+ * in the same order of precedence as the graph-based algorithm.
+ * The analysis stops as soon as a self-intersection is found.
+ */
+class PolygonIntersectionAnalyzer
+  implements SegmentIntersector
+{
+  private static final int NO_ERROR = -1;
+
+  /**
+   * Creates the segment strings for the rings of a polygonal geometry.
+   * The segment string data is the {@link PolygonRing} for the ring.
+   * Repeated points are removed, since they would be detected as
+   * ring self-intersections.
+   *
+   * @param geom a Polygon or MultiPolygon
+   * @param rings a list to which the PolygonRings are added
+   * @return a list of the ring segment strings
+   */
+  static List createSegmentStrings(Geometry geom, List rings)
+  {
+    List segStrings = new ArrayList();
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      Polygon poly = (Polygon) geom.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      LinearRing shell = poly.getExteriorRing();
+      PolygonRing shellRing = new PolygonRing(shell, ringCoordinates(shell));
+      rings.add(shellRing);
+      segStrings.add(new BasicSegmentString(shellRing.getCoordinates(), shellRing));
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        LinearRing hole = poly.getInteriorRingN(j);
+        if (hole.isEmpty()) continue;
+        PolygonRing holeRing = new PolygonRing(hole, ringCoordinates(hole), j, shellRing);
+        rings.add(holeRing);
+        segStrings.add(new BasicSegmentString(holeRing.getCoordinates(), holeRing));
+      }
+    }
+    return segStrings;
+  }
+
+  /**
+   * Creates the segment string for a single ring.
+   */
+  static SegmentString createSegmentString(LinearRing ring)
+  {
+    PolygonRing polyRing = new PolygonRing(ring, ringCoordinates(ring));
+    return new BasicSegmentString(polyRing.getCoordinates(), polyRing);
+  }
+
+  private static Coordinate[] ringCoordinates(LinearRing ring)
+  {
+    Coordinate[] pts = ring.getCoordinates();
+    if (CoordinateArrays.hasRepeatedPoints(pts))
+      pts = CoordinateArrays.removeRepeatedPoints(pts);
+    return pts;
+  }
+
+  private boolean isSingleRing;
+  private boolean isPolygonsValid = false;
+  private boolean isParallel = false;
+  private LineIntersector li = new RobustLineIntersector();
+
+  private int errorType = NO_ERROR;
+  private Coordinate errorLocation = null;
+  private Coordinate disconnectionLocation = null;
+  private List duplicateRings = new ArrayList();
+  // the errors found, if all errors are being recorded
+  private List errors = null;
+  private Map errorTypesAtLocation = null;
+  // the shells of the polygons with rings taking part in an error, if all errors are being recorded
+  private Set errorShells = null;
+
+  /**
+   * Creates an analyzer.
+   * If the rings being analyzed are standalone rings
+   * (rather than rings of a polygon)
+   * every intersection is reported as a ring self-intersection.
+   *
+   * @param isSingleRing true if the rings are standalone rings
+   */
+  PolygonIntersectionAnalyzer(boolean isSingleRing)
+  {
+    this.isSingleRing = isSingleRing;
+  }
+
+  /**
+   * Sets whether the polygons containing the rings are known to be valid.
+   * If so, only intersections between rings of different polygons are analyzed.
+   *
+   * @param isPolygonsValid true if the polygons are valid
+   */
+  void setPolygonsValid(boolean isPolygonsValid)
+  {
+    this.isPolygonsValid = isPolygonsValid;
+  }
+
+  /**
+   * Sets whether all invalid intersections are recorded,
+   * rather than only the most severe one.
+   * In this case the analysis is not short-circuited.
+   * Each error type is recorded at most once at a location.
+   *
+   * @param isFindAllErrors true if all errors should be recorded
+   */
+  void setFindAllErrors(boolean isFindAllErrors)
+  {
+    if (isFindAllErrors) {
+      errors = new ArrayList();
+      errorTypesAtLocation = new HashMap();
+      errorShells = Collections.newSetFromMap(new IdentityHashMap());
+    }
+    else {
+      errors = null;
+      errorTypesAtLocation = null;
+      errorShells = null;
+    }
+  }
+
+  /**
+   * Sets whether the intersecting segments are found in parallel.
+   *
+   * @see MCIndexNoder#setParallel(boolean)
+   */
+  void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Finds the invalid intersections between a set of ring segment strings.
+   */
+  void analyze(List segStrings)
+  {
+    MCIndexNoder noder = new MCIndexNoder(this);
+    noder.setParallel(isParallel);
+    noder.computeNodes(segStrings);
+  }
+
+  /**
+   * Tests whether an invalid intersection was found.
+   */
+  boolean hasError()
+  {
+    return errorType != NO_ERROR;
+  }
+
+  /**
+   * Gets the type of the invalid intersection found.
+   *
+   * @return a {@link TopologyValidationError} type code
+   */
+  int getErrorType()
+  {
+    return errorType;
+  }
+
+  Coordinate getErrorLocation()
+  {
+    return errorLocation;
+  }
+
+  /**
+   * Gets all the errors found, if all errors are being recorded.
+   *
+   * @return a list of {@link TopologyValidationError}s
+   * @see #setFindAllErrors(boolean)
+   */
+  List getErrors()
+  {
+    return errors;
+  }
+
+  /**
+   * Tests whether a ring of a polygon takes part in an error,
+   * if all errors are being recorded.
+   * The nesting of such a polygon cannot be analyzed,
+   * since its rings may cross the rings of other polygons.
+   *
+   * @param shell the shell of the polygon
+   * @return true if a ring of the polygon takes part in an error
+   * @see #setFindAllErrors(boolean)
+   */
+  boolean hasError(LinearRing shell)
+  {
+    return errorShells.contains(shell);
+  }
+
+  /**
+   * Gets a location at which two rings of a polygon touch at more than one point,
+   * which disconnects the polygon interior.
+   *
+   * @return the location, or null if none was found
+   */
+  Coordinate getDisconnectionLocation()
+  {
+    return disconnectionLocation;
+  }
+
+  public boolean isDone()
+  {
+    if (errors != null) return false;
+    return errorType == TopologyValidationError.SELF_INTERSECTION
+        || (isSingleRing && errorType != NO_ERROR);
+  }
+
+  public void processIntersections(SegmentString ss0, int segIndex0, SegmentString ss1, int segIndex1)
+  {
+    // don't test a segment with itself
+    if (ss0 == ss1 && segIndex0 == segIndex1) return;
+    if (isPolygonsValid && isSamePolygon(ss0, ss1)) return;
+
+    Coordinate p00 = ss0.getCoordinate(segIndex0);
+    Coordinate p01 = ss0.getCoordinate(segIndex0 + 1);
+    Coordinate p10 = ss1.getCoordinate(segIndex1);
+    Coordinate p11 = ss1.getCoordinate(segIndex1 + 1);
+    li.computeIntersection(p00, p01, p10, p11);
+    if (! li.hasIntersection()) return;
+
+    boolean isSameRing = ss0 == ss1;
+    if (li.isProper() || li.getIntersectionNum() >= 2) {
+      if (isSingleRing)
+        addError(TopologyValidationError.RING_SELF_INTERSECTION, li.getIntersection(0));
+      else if (isSameRing || ! isDuplicate(ss0, ss1))
+        addError(TopologyValidationError.SELF_INTERSECTION, li.getIntersection(0), ss0, ss1);
+      return;
+    }
+
+    // adjacent segments intersect at their common endpoint
+    if (isSameRing && isAdjacent(ss0, segIndex0, segIndex1)) return;
+
+    Coordinate intPt = li.getIntersection(0);
+    /**
+     * Intersections at the end of a segment are also at the start
+     * of the next segment, so they are only analyzed there.
+     */
+    if (intPt.equals2D(p01) || intPt.equals2D(p11)) return;
+
+    if (isSingleRing) {
+      addError(TopologyValidationError.RING_SELF_INTERSECTION, intPt);
+      return;
+    }
+
+    /**
+     * The intersection is at a vertex of one or both segments.
+     * Determine the ring edges incident on the vertex,
+     * and check whether they cross.
+     */
+    Coordinate e00 = p00;
+    if (intPt.equals2D(p00))
+      e00 = prevCoordinate(ss0, segIndex0);
+    Coordinate e10 = p10;
+    if (intPt.equals2D(p10))
+      e10 = prevCoordinate(ss1, segIndex1);
+    PolygonRing ring0 = (PolygonRing) ss0.getData();
+    PolygonRing ring1 = (PolygonRing) ss1.getData();
+    if (PolygonNodeTopology.isCrossing(intPt, e00, p01, e10, p11)
+        || ! isConsistentTouch(intPt, ring0, e00, p01, ring1, e10, p11)) {
+      addError(TopologyValidationError.SELF_INTERSECTION, intPt, ss0, ss1);
+      return;
+    }
+    if (isSameRing) {
+      addError(TopologyValidationError.RING_SELF_INTERSECTION, intPt, ss0, ss1);
+      return;
+    }
+    boolean isDoubleTouch = PolygonRing.addTouch(ring0, ring1, intPt);
+    if (isDoubleTouch && disconnectionLocation == null)
+      disconnectionLocation = intPt;
+  }
+
+  private static boolean isSamePolygon(SegmentString ss0, SegmentString ss1)
+  {
+    PolygonRing ring0 = (PolygonRing) ss0.getData();
+    PolygonRing ring1 = (PolygonRing) ss1.getData();
+    if (ring0 == null || ring1 == null) return ss0 == ss1;
+    return ring0.isSamePolygon(ring1);
+  }
+
+  /**
+   * Tests whether the area labelling is consistent at a node
+   * where two rings touch without crossing.
+   * Each ring assigns a location to the sector containing the edges of the other ring.
+   * The interior of a shell is polygon interior, and the interior of a hole is exterior.
+   * For rings of the same polygon the two locations must be equal.
+   * For rings of different polygons only shells are checked,
+   * since their interiors must be disjoint
+   * (other rings meeting at the node may lie between a shell and a hole).
+   */
+  private static boolean isConsistentTouch(Coordinate nodePt,
+      PolygonRing ring0, Coordinate a0, Coordinate a1,
+      PolygonRing ring1, Coordinate b0, Coordinate b1)
+  {
+    if (ring0 == null || ring1 == null) return true;
+    boolean isInterior0 = isInterior(nodePt, ring0, a0, a1, b1);
+    boolean isInterior1 = isInterior(nodePt, ring1, b0, b1, a1);
+    if (ring0.isSamePolygon(ring1))
+      return (isInterior0 == ring0.isShell()) == (isInterior1 == ring1.isShell());
+    if (ring0.isShell() && ring1.isShell())
+      return ! isInterior0 && ! isInterior1;
+    return true;
+  }
+
+  private static boolean isInterior(Coordinate nodePt, PolygonRing ring,
+      Coordinate prev, Coordinate next, Coordinate segEnd)
+  {
+    if (ring.isCW())
+      return PolygonNodeTopology.isInteriorSegment(nodePt, prev, next, segEnd);
+    return PolygonNodeTopology.isInteriorSegment(nodePt, next, prev, segEnd);
+  }
+
+  /**
+   * Records an error between the rings of two segment strings.
+   */
+  private void addError(int type, Coordinate pt, SegmentString ss0, SegmentString ss1)
+  {
+    if (errorShells != null) {
+      addErrorShell(ss0);
+      addErrorShell(ss1);
+    }
+    addError(type, pt);
+  }
+
+  private void addErrorShell(SegmentString ss)
+  {
+    PolygonRing ring = (PolygonRing) ss.getData();
+    if (ring != null)
+      errorShells.add(ring.getShell().getRing());
+  }
+
+  /**
+   * Records an error, if it is more severe than any previously found.
+   * Error types are ordered by the precedence of the graph-based checks.
+   */
+  private void addError(int type, Coordinate pt)
+  {
+    if (errors != null)
+      recordError(type, pt);
+    if (errorType != NO_ERROR && precedence(type) >= precedence(errorType)) return;
+    errorType = type;
+    errorLocation = pt.copy();
+  }
+
+  private void recordError(int type, Coordinate pt)
+  {
+    Integer types = (Integer) errorTypesAtLocation.get(pt);
+    int typeBits = types == null ? 0 : types.intValue();
+    int bit = 1 << type;
+    if ((typeBits & bit) != 0) return;
+    errorTypesAtLocation.put(pt, Integer.valueOf(typeBits | bit));
+    errors.add(new TopologyValidationError(type, pt));
+  }
+
+  private static int precedence(int errorType)
+  {
+    switch (errorType) {
+    case TopologyValidationError.SELF_INTERSECTION: return 0;
+    case TopologyValidationError.DUPLICATE_RINGS: return 1;
+    }
+    return 2;
+  }
+
+  /**
+   * Tests whether two overlapping rings are duplicates.
+   * Duplicate rings are reported as a duplicate rings error,
+   * rather than as a self-intersection.
+   */
+  private boolean isDuplicate(SegmentString ss0, SegmentString ss1)
+  {
+    for (int i = 0; i < duplicateRings.size(); i += 2) {
+      Object dup0 = duplicateRings.get(i);
+      Object dup1 = duplicateRings.get(i + 1);
+      if ((dup0 == ss0 && dup1 == ss1) || (dup0 == ss1 && dup1 == ss0))
+        return true;
+    }
+    // a shell and hole which coincide have inconsistent interiors
+    if (((PolygonRing) ss0.getData()).isShell() != ((PolygonRing) ss1.getData()).isShell())
+      return false;
+    if (! isDuplicateRing(ss0.getCoordinates(), ss1.getCoordinates()))
+      return false;
+    duplicateRings.add(ss0);
+    duplicateRings.add(ss1);
+    addError(TopologyValidationError.DUPLICATE_RINGS, ss0.getCoordinate(0), ss0, ss1);
+    return true;
+  }
+
+  private static boolean isDuplicateRing(Coordinate[] ring0, Coordinate[] ring1)
+  {
+    int n = ring0.length - 1;
+    if (ring1.length - 1 != n) return false;
+    int start = CoordinateArrays.indexOf(ring0[0], ring1);
+    if (start < 0) return false;
+    boolean isSame = true;
+    boolean isReversed = true;
+    for (int i = 0; i < n; i++) {
+      if (! ring0[i].equals2D(ring1[(start + i) % n])) isSame = false;
+      if (! ring0[i].equals2D(ring1[(start - i + n) % n])) isReversed = false;
+    }
+    return isSame || isReversed;
+  }
+
+  private static boolean isAdjacent(SegmentString ss, int segIndex0, int segIndex1)
+  {
+    if (Math.abs(segIndex0 - segIndex1) == 1) return true;
+    // the first and last segments of a ring are adjacent
+    int last = ss.size() - 2;
+    return (segIndex0 == 0 && segIndex1 == last)
+        || (segIndex1 == 0 && segIndex0 == last);
+  }
+
+  private static Coordinate prevCoordinate(SegmentString ss, int segIndex)
+  {
+    // ring is closed, so the vertex before the start is the second-last one
+    if (segIndex == 0)
+      return ss.getCoordinate(ss.size() - 2);
+    return ss.getCoordinate(segIndex - 1);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geomgraph.Quadrant;
+
+/**
+ * Functions to compute the topological relationship
+ * between the edges of polygon rings which meet at a node.
+ * The edges are given by the node point and the
+ * adjacent vertices of each ring.
+ */
+class PolygonNodeTopology
+{
+  /**
+   * Tests whether the edges of two rings which meet at a node cross.
+   * The edges are given by the node point <tt>nodePt</tt>
+   * and the vertices <tt>a0, a1</tt> and <tt>b0, b1</tt>
+   * adjacent to it in each ring.
+   * Edges which are collinear are reported as not crossing.
+   *
+   * @param nodePt the node location
+   * @param a0 the previous vertex of ring A
+   * @param a1 the next vertex of ring A
+   * @param b0 the previous vertex of ring B
+   * @param b1 the next vertex of ring B
+   * @return true if the rings cross at the node
+   */
+  static boolean isCrossing(Coordinate nodePt, Coordinate a0, Coordinate a1, Coordinate b0, Coordinate b1)
+  {
+    Coordinate aLo = a0;
+    Coordinate aHi = a1;
+    if (compareAngle(nodePt, aLo, aHi) > 0) {
+      aLo = a1;
+      aHi = a0;
+    }
+    /**
+     * The edges cross if the B edges lie on different sides
+     * of the angle between the A edges.
+     */
+    int side0 = compareBetween(nodePt, b0, aLo, aHi);
+    if (side0 == 0) return false;
+    int side1 = compareBetween(nodePt, b1, aLo, aHi);
+    if (side1 == 0) return false;
+    return side0 != side1;
+  }
+
+  /**
+   * Tests whether a segment from a node lies in the interior
+   * of the corner formed by the ring edges <tt>a0-node-a1</tt>.
+   * The ring interior is assumed to be on the right
+   * of the path from <tt>a0</tt> to <tt>a1</tt>
+   * (i.e. the ring is oriented clockwise).
+   * A segment which is collinear with a ring edge is not in the interior.
+   *
+   * @param nodePt the node location
+   * @param a0 the previous vertex of the ring
+   * @param a1 the next vertex of the ring
+   * @param b the other endpoint of the segment
+   * @return true if the segment lies in the ring interior at the node
+   */
+  static boolean isInteriorSegment(Coordinate nodePt, Coordinate a0, Coordinate a1, Coordinate b)
+  {
+    // the interior is the sector counterclockwise from a0 to a1
+    int compB0 = compareAngle(nodePt, b, a0);
+    int compB1 = compareAngle(nodePt, b, a1);
+    if (compB0 == 0 || compB1 == 0) return false;
+    if (compareAngle(nodePt, a0, a1) < 0)
+      return compB0 > 0 && compB1 < 0;
+    // the sector contains the positive X axis
+    return compB0 > 0 || compB1 < 0;
+  }
+
+  /**
+   * Tests whether the vector from an origin to a point
+   * lies strictly between the vectors to two other points,
+   * going counterclockwise from <tt>e0</tt> to <tt>e1</tt>.
+   *
+   * @return 1 if the point is between, -1 if it is outside, or 0 if it is collinear with either vector
+   */
+  private static int compareBetween(Coordinate origin, Coordinate p, Coordinate e0, Coordinate e1)
+  {
+    int comp0 = compareAngle(origin, p, e0);
+    if (comp0 == 0) return 0;
+    int comp1 = compareAngle(origin, p, e1);
+    if (comp1 == 0) return 0;
+    if (comp0 > 0 && comp1 < 0) return 1;
+    return -1;
+  }
+
+  /**
+   * Compares the angles of two vectors from an origin,
+   * measured counterclockwise from the positive X axis.
+   *
+   * @return a positive value if the angle to <tt>p</tt> is greater,
+   * a negative value if it is less, or 0 if the angles are equal
+   */
+  private static int compareAngle(Coordinate origin, Coordinate p, Coordinate q)
+  {
+    int quadrantP = Quadrant.quadrant(origin, p);
+    int quadrantQ = Quadrant.quadrant(origin, q);
+    if (quadrantP > quadrantQ) return 1;
+    if (quadrantP < quadrantQ) return -1;
+    // vectors are in the same quadrant, so orientation determines the order
+    return Orientation.index(origin, q, p);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LinearRing;
+
+/**
+ * A ring of a polygon being validated,
+ * recording the points at which it touches other rings of the same polygon.
+ * The rings of a polygon and their touches form a graph.
+ * The polygon interior is disconnected if two rings touch at more
+ * than one point, or if the touch graph contains a cycle.
+ * This allows checking interior connectivity
+ * without building a full topology graph.
+ */
+class PolygonRing
+{
+  /**
+   * Adds a touch between two rings at a point,
+   * if they are in the same polygon.
+   *
+   * @return true if the rings already touch at a different point
+   */
+  static boolean addTouch(PolygonRing ring0, PolygonRing ring1, Coordinate pt)
+  {
+    if (ring0 == null || ring1 == null) return false;
+    // only touches within a polygon can disconnect its interior
+    if (! ring0.isSamePolygon(ring1)) return false;
+    if (! ring0.isOnlyTouch(ring1, pt)) return true;
+    if (! ring1.isOnlyTouch(ring0, pt)) return true;
+    ring0.addTouch(ring1, pt);
+    ring1.addTouch(ring0, pt);
+    return false;
+  }
+
+  /**
+   * Finds a location at which the touches of a set of polygon rings
+   * form a cycle, and thus disconnect the polygon interior.
+   *
+   * @param rings a list of PolygonRings
+   * @return a point at which the interior is disconnected, or null if none was found
+   */
+  static Coordinate findTouchCycleLocation(List rings)
+  {
+    for (Iterator i = rings.iterator(); i.hasNext(); ) {
+      PolygonRing ring = (PolygonRing) i.next();
+      if (! ring.isInTouchSet()) {
+        Coordinate cyclePt = ring.findTouchCycleLocation();
+        if (cyclePt != null) return cyclePt;
+      }
+    }
+    return null;
+  }
+
+  private int id;
+  private PolygonRing shell;
+  private LinearRing ring;
+  private Coordinate[] pts;
+  private Map touches = null;
+  private PolygonRing touchSetRoot = null;
+  // 0 if not computed, 1 if clockwise, -1 if counterclockwise
+  private int orientation = 0;
+
+  /**
+   * Creates a ring for a polygon shell.
+   */
+  PolygonRing(LinearRing ring, Coordinate[] pts)
+  {
+    this(ring, pts, -1, null);
+  }
+
+  /**
+   * Creates a ring for a polygon hole.
+   */
+  PolygonRing(LinearRing ring, Coordinate[] pts, int index, PolygonRing shell)
+  {
+    this.ring = ring;
+    this.pts = pts;
+    this.id = index;
+    this.shell = shell == null ? this : shell;
+  }
+
+  LinearRing getRing() { return ring; }
+
+  /**
+   * Gets the ring for the shell of the polygon containing this ring.
+   */
+  PolygonRing getShell() { return shell; }
+
+  /**
+   * Gets the ring vertices, with repeated points removed.
+   */
+  Coordinate[] getCoordinates() { return pts; }
+
+  boolean isSamePolygon(PolygonRing other)
+  {
+    return shell == other.shell;
+  }
+
+  boolean isShell()
+  {
+    return shell == this;
+  }
+
+  /**
+   * Tests whether the ring is oriented clockwise.
+   * The orientation is computed only when required.
+   */
+  boolean isCW()
+  {
+    if (orientation == 0)
+      orientation = Orientation.isCCW(pts) ? -1 : 1;
+    return orientation > 0;
+  }
+
+  private boolean isInTouchSet()
+  {
+    return touchSetRoot != null;
+  }
+
+  private boolean isOnlyTouch(PolygonRing other, Coordinate pt)
+  {
+    if (touches == null) return true;
+    Touch touch = (Touch) touches.get(Integer.valueOf(other.id));
+    if (touch == null) return true;
+    return touch.pt.equals2D(pt);
+  }
+
+  private void addTouch(PolygonRing other, Coordinate pt)
+  {
+    if (touches == null)
+      touches = new HashMap();
+    Integer key = Integer.valueOf(other.id);
+    if (! touches.containsKey(key))
+      touches.put(key, new Touch(other, pt));
+  }
+
+  /**
+   * Scans the rings connected to this ring by touches,
+   * looking for a ring which can be reached by two different paths.
+   */
+  private Coordinate findTouchCycleLocation()
+  {
+    PolygonRing root = this;
+    root.touchSetRoot = root;
+    if (touches == null) return null;
+
+    Deque stack = new ArrayDeque();
+    for (Iterator i = touches.values().iterator(); i.hasNext(); ) {
+      Touch touch = (Touch) i.next();
+      touch.ring.touchSetRoot = root;
+      stack.push(touch);
+    }
+    while (! stack.isEmpty()) {
+      Touch current = (Touch) stack.pop();
+      for (Iterator i = current.ring.touches.values().iterator(); i.hasNext(); ) {
+        Touch touch = (Touch) i.next();
+        /**
+         * Touches at the entry point are skipped, since
+         * rings which all touch at a single point do not form a cycle.
+         * They have already been reached from the previous ring.
+         */
+        if (current.pt.equals2D(touch.pt)) continue;
+        // a ring reached by a different path indicates a cycle
+        if (touch.ring.touchSetRoot == root)
+          return touch.pt;
+        touch.ring.touchSetRoot = root;
+        stack.push(touch);
+      }
+    }
+    return null;
+  }
+
+  private static class Touch
+  {
+    PolygonRing ring;
+    Coordinate pt;
+
+    Touch(PolygonRing ring, Coordinate pt)
+    {
+      this.ring = ring;
+      this.pt = pt;
+    }
+  }
+}
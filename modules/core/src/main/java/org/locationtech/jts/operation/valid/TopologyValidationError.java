@@ -110,8 +110,11 @@ public class TopologyValidationError {
     "Ring is not closed"
   };
 
+  private static final int[] ROOT_PATH = new int[0];
+
   private int errorType;
   private Coordinate pt;
+  private int[] componentPath = ROOT_PATH;
 
   /**
    * Creates a validation error with the given type and location
@@ -126,6 +129,23 @@ public class TopologyValidationError {
       this.pt = pt.copy();
   }
 
+  /**
+   * Creates a validation error with the given type and location,
+   * in the geometry component at the given path.
+   *
+   * @param errorType the type of the error
+   * @param pt the location of the error
+   * @param componentPath the indexes of the component containing the error
+   *
+   * @see #getComponentPath()
+   */
+  public TopologyValidationError(int errorType, Coordinate pt, int[] componentPath)
+  {
+    this(errorType, pt);
+    if (componentPath != null)
+      this.componentPath = componentPath.clone();
+  }
+
   /**
    * Creates a validation error of the given type with a null location
    *
@@ -144,6 +164,19 @@ public class TopologyValidationError {
    */
   public Coordinate getCoordinate() { return pt; }
 
+  /**
+   * Gets the path to the component of the validated geometry
+   * which contains this error.
+   * The path is the sequence of indexes used to obtain the component
+   * by successive calls to {@link Geometry#getGeometryN(int)}.
+   * An empty path indicates the validated geometry itself.
+   * Errors between the elements of a MultiPolygon
+   * have the path of the MultiPolygon.
+   *
+   * @return a copy of the indexes of the component containing the error
+   */
+  public int[] getComponentPath() { return componentPath.clone(); }
+
   /**
    * Gets the type of this error.
    *
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * The result of validating a geometry,
+ * containing all the {@link TopologyValidationError}s found.
+ * Each error records its type, location and the path to
+ * the geometry component containing it.
+ * The errors can be queried by location,
+ * which is useful for repairing large geometries.
+ *
+ * @see IsValidOp#getValidationResult()
+ */
+public class TopologyValidationResult
+{
+  private List errors;
+  private STRtree locationIndex = null;
+
+  /**
+   * Creates a result containing a list of errors.
+   *
+   * @param errors a list of {@link TopologyValidationError}s
+   */
+  public TopologyValidationResult(List errors)
+  {
+    this.errors = errors;
+  }
+
+  /**
+   * Tests whether the validated geometry is valid.
+   *
+   * @return true if no errors were found
+   */
+  public boolean isValid()
+  {
+    return errors.isEmpty();
+  }
+
+  /**
+   * Gets the number of errors found.
+   *
+   * @return the number of errors
+   */
+  public int getNumErrors()
+  {
+    return errors.size();
+  }
+
+  /**
+   * Gets an error.
+   *
+   * @param i the index of the error
+   * @return the error at the index
+   */
+  public TopologyValidationError getError(int i)
+  {
+    return (TopologyValidationError) errors.get(i);
+  }
+
+  /**
+   * Gets all the errors found.
+   *
+   * @return an unmodifiable list of {@link TopologyValidationError}s
+   */
+  public List getErrors()
+  {
+    return Collections.unmodifiableList(errors);
+  }
+
+  /**
+   * Gets the errors of a given type.
+   *
+   * @param errorType the error type
+   * @return a list of the {@link TopologyValidationError}s of the given type
+   */
+  public List getErrors(int errorType)
+  {
+    List result = new ArrayList();
+    for (int i = 0; i < errors.size(); i++) {
+      TopologyValidationError err = getError(i);
+      if (err.getErrorType() == errorType)
+        result.add(err);
+    }
+    return result;
+  }
+
+  /**
+   * Gets the errors whose locations lie in an envelope.
+   * The errors are found using a spatial index,
+   * which is built the first time this method is called.
+   *
+   * @param env the envelope to query
+   * @return a list of the {@link TopologyValidationError}s located in the envelope
+   */
+  public List getErrors(Envelope env)
+  {
+    if (locationIndex == null) {
+      locationIndex = new STRtree();
+      for (int i = 0; i < errors.size(); i++) {
+        TopologyValidationError err = getError(i);
+        Coordinate pt = err.getCoordinate();
+        if (pt != null)
+          locationIndex.insert(new Envelope(pt), err);
+      }
+    }
+    return locationIndex.query(env);
+  }
+
+  public String toString()
+  {
+    if (errors.isEmpty()) return "Valid";
+    StringBuilder buf = new StringBuilder();
+    for (int i = 0; i < errors.size(); i++) {
+      if (i > 0) buf.append("\n");
+      buf.append(getError(i));
+    }
+    return buf.toString();
+  }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Finds all the validation errors of a geometry in a single pass,
+ * using the indexed validation algorithm.
+ * Each error records the path to the component containing it.
+ * <p>
+ * The topology of a polygon is checked only if its rings have
+ * valid coordinates, are closed and have enough points.
+ * The nesting and connectivity of the rings are checked only if
+ * the rings do not intersect invalidly, since otherwise these
+ * checks are not meaningful.
+ * Likewise, the nesting of the polygons of a MultiPolygon is checked only
+ * for polygons which do not intersect other polygons invalidly.
+ * So these errors may be masked by more basic errors in the same polygon.
+ * At most one disconnected interior error is reported for each polygon.
+ * <p>
+ * The components of MultiPolygons and GeometryCollections
+ * can be checked in parallel.
+ * The errors of each component are merged in component order,
+ * so the errors found are the same as for sequential checking.
+ */
+class ValidationErrorCollector
+{
+  private static final int[] ROOT_PATH = new int[0];
+
+  /**
+   * The number of components checked by each parallel task
+   */
+  private static final int PARALLEL_CHUNK_SIZE = 16;
+
+  private boolean isParallel = false;
+  private List errors = new ArrayList();
+
+  /**
+   * Sets whether the components of MultiPolygons and GeometryCollections
+   * are checked in parallel, using tasks in the common {@link ForkJoinPool}.
+   *
+   * @param isParallel true if components should be checked in parallel
+   */
+  void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Finds all the validation errors in a geometry.
+   *
+   * @param geom the geometry to validate
+   * @return a list of {@link TopologyValidationError}s
+   */
+  List collect(Geometry geom)
+  {
+    checkValid(geom, ROOT_PATH);
+    return errors;
+  }
+
+  private void checkValid(Geometry g, int[] path)
+  {
+    if (g.isEmpty()) return;
+
+    if (g instanceof Point || g instanceof MultiPoint) {
+      checkCoordinates(g.getCoordinates(), path);
+    }
+    else if (g instanceof LinearRing)         checkRing((LinearRing) g, path);
+    else if (g instanceof LineString)         checkLine((LineString) g, path);
+    else if (g instanceof Polygon)            checkPolygonal(g, path);
+    else if (g instanceof MultiPolygon)       checkPolygonal(g, path);
+    else if (g instanceof GeometryCollection) checkComponents(g, path);
+    else  throw new UnsupportedOperationException(g.getClass().getName());
+  }
+
+  private void checkLine(LineString line, int[] path)
+  {
+    if (! checkCoordinates(line.getCoordinates(), path)) return;
+    checkTooFewPoints(line, 2, path);
+  }
+
+  private void checkRing(LinearRing ring, int[] path)
+  {
+    if (! checkLinearRing(ring, 2, path)) return;
+
+    PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(true);
+    analyzer.setFindAllErrors(true);
+    analyzer.analyze(Collections.singletonList(PolygonIntersectionAnalyzer.createSegmentString(ring)));
+    addErrors(analyzer.getErrors(), path);
+  }
+
+  private void checkPolygonal(Geometry g, int[] path)
+  {
+    boolean[] isChecked = checkComponents(g, path);
+    List checkedPolys = new ArrayList();
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      if (isChecked[i])
+        checkedPolys.add(g.getGeometryN(i));
+    }
+    if (checkedPolys.size() <= 1) return;
+
+    /**
+     * Check the interactions of the polygons
+     * whose rings could be analyzed.
+     * Intersections within polygons have already been found.
+     */
+    MultiPolygon mp = g.getFactory().createMultiPolygon(
+        GeometryFactory.toPolygonArray(checkedPolys));
+    PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(false);
+    analyzer.setFindAllErrors(true);
+    analyzer.setPolygonsValid(true);
+    analyzer.setParallel(isParallel);
+    analyzer.analyze(PolygonIntersectionAnalyzer.createSegmentStrings(mp, new ArrayList()));
+    addErrors(analyzer.getErrors(), path);
+
+    /**
+     * The nesting tests assume that the shells do not cross,
+     * so they are only made for the polygons which do not take part
+     * in an intersection error.
+     */
+    List nestingPolys = new ArrayList();
+    for (int i = 0; i < checkedPolys.size(); i++) {
+      Polygon poly = (Polygon) checkedPolys.get(i);
+      if (! analyzer.hasError(poly.getExteriorRing()))
+        nestingPolys.add(poly);
+    }
+    if (nestingPolys.size() <= 1) return;
+    MultiPolygon nestingMP = g.getFactory().createMultiPolygon(
+        GeometryFactory.toPolygonArray(nestingPolys));
+
+    // nested shells touching the polygon containing them are self-intersections
+    List touchPts = new ArrayList();
+    List nestedPts = IndexedNestingTester.findNestedShells(nestingMP, true, touchPts);
+    addErrors(TopologyValidationError.SELF_INTERSECTION, touchPts, path);
+    addErrors(TopologyValidationError.NESTED_SHELLS, nestedPts, path);
+  }
+
+  /**
+   * Checks the components of a geometry, in parallel if required.
+   * The errors are added in component order.
+   *
+   * @return flags indicating the polygons whose rings could be analyzed
+   */
+  private boolean[] checkComponents(Geometry g, int[] path)
+  {
+    int numComponents = g.getNumGeometries();
+    boolean[] isChecked = new boolean[numComponents];
+    if (! isParallel || numComponents <= 1) {
+      for (int i = 0; i < numComponents; i++) {
+        isChecked[i] = checkComponent(g, i, path);
+      }
+      return isChecked;
+    }
+    List[] componentErrors = new List[numComponents];
+    ForkJoinPool.commonPool().invoke(
+        new ComponentCheckTask(g, path, componentErrors, isChecked, 0, numComponents));
+    for (int i = 0; i < numComponents; i++) {
+      errors.addAll(componentErrors[i]);
+    }
+    return isChecked;
+  }
+
+  /**
+   * Checks a component of a geometry.
+   *
+   * @return true if the component is a polygon whose rings could be analyzed
+   */
+  private boolean checkComponent(Geometry g, int index, int[] path)
+  {
+    if (! (g instanceof Polygon || g instanceof MultiPolygon)) {
+      checkValid(g.getGeometryN(index), childPath(path, index));
+      return false;
+    }
+    Polygon poly = (Polygon) g.getGeometryN(index);
+    if (poly.isEmpty()) return false;
+    return checkPolygon(poly, g instanceof MultiPolygon ? childPath(path, index) : path);
+  }
+
+  /**
+   * Checks a polygon.
+   *
+   * @return true if the rings of the polygon could be analyzed
+   */
+  private boolean checkPolygon(Polygon poly, int[] path)
+  {
+    boolean isRingsValid = checkLinearRing(poly.getExteriorRing(), 4, path);
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      if (! checkLinearRing(poly.getInteriorRingN(i), 4, path))
+        isRingsValid = false;
+    }
+    if (! isRingsValid) return false;
+
+    List rings = new ArrayList();
+    PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(false);
+    analyzer.setFindAllErrors(true);
+    analyzer.analyze(PolygonIntersectionAnalyzer.createSegmentStrings(poly, rings));
+    if (analyzer.hasError()) {
+      addErrors(analyzer.getErrors(), path);
+      return true;
+    }
+
+    int numErrors = errors.size();
+    addErrors(TopologyValidationError.HOLE_OUTSIDE_SHELL,
+        IndexedNestingTester.findHolesOutsideShell(poly, true), path);
+    addErrors(TopologyValidationError.NESTED_HOLES,
+        IndexedNestingTester.findNestedHoles(poly, true), path);
+    if (errors.size() > numErrors) return true;
+
+    Coordinate disconnectedPt = analyzer.getDisconnectionLocation();
+    if (disconnectedPt == null)
+      disconnectedPt = PolygonRing.findTouchCycleLocation(rings);
+    if (disconnectedPt != null)
+      addError(TopologyValidationError.DISCONNECTED_INTERIOR, disconnectedPt, path);
+    return true;
+  }
+
+  /**
+   * Checks the coordinates, closure and size of a ring.
+   *
+   * @return true if the ring can be analyzed for intersections
+   */
+  private boolean checkLinearRing(LinearRing ring, int minSize, int[] path)
+  {
+    if (ring.isEmpty()) return true;
+    if (! checkCoordinates(ring.getCoordinates(), path)) return false;
+    if (! ring.isClosed()) {
+      Coordinate pt = ring.getNumPoints() >= 1 ? ring.getCoordinateN(0) : null;
+      addError(TopologyValidationError.RING_NOT_CLOSED, pt, path);
+      return false;
+    }
+    return checkTooFewPoints(ring, minSize, path);
+  }
+
+  /**
+   * Checks that all coordinates are valid.
+   *
+   * @return true if all coordinates are valid
+   */
+  private boolean checkCoordinates(Coordinate[] coords, int[] path)
+  {
+    boolean isValid = true;
+    for (int i = 0; i < coords.length; i++) {
+      if (! IsValidOp.isValid(coords[i])) {
+        addError(TopologyValidationError.INVALID_COORDINATE, coords[i], path);
+        isValid = false;
+      }
+    }
+    return isValid;
+  }
+
+  private boolean checkTooFewPoints(LineString line, int minSize, int[] path)
+  {
+    if (line.isEmpty()) return true;
+    Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(line.getCoordinates());
+    if (pts.length >= minSize) return true;
+    addError(TopologyValidationError.TOO_FEW_POINTS, pts[0], path);
+    return false;
+  }
+
+  private void addErrors(List analyzerErrors, int[] path)
+  {
+    for (int i = 0; i < analyzerErrors.size(); i++) {
+      TopologyValidationError err = (TopologyValidationError) analyzerErrors.get(i);
+      addError(err.getErrorType(), err.getCoordinate(), path);
+    }
+  }
+
+  private void addErrors(int errorType, List pts, int[] path)
+  {
+    for (int i = 0; i < pts.size(); i++) {
+      addError(errorType, (Coordinate) pts.get(i), path);
+    }
+  }
+
+  private void addError(int errorType, Coordinate pt, int[] path)
+  {
+    errors.add(new TopologyValidationError(errorType, pt, path));
+  }
+
+  /**
+   * Checks a range of the components of a geometry.
+   * Each component is checked by a separate collector,
+   * so that the errors can be merged in component order.
+   */
+  private class ComponentCheckTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final Geometry g;
+    private final int[] path;
+    private final List[] componentErrors;
+    private final boolean[] isChecked;
+    private final int start;
+    private final int end;
+
+    ComponentCheckTask(Geometry g, int[] path, List[] componentErrors, boolean[] isChecked,
+        int start, int end)
+    {
+      this.g = g;
+      this.path = path;
+      this.componentErrors = componentErrors;
+      this.isChecked = isChecked;
+      this.start = start;
+      this.end = end;
+    }
+
+    protected void compute()
+    {
+      if (end - start > PARALLEL_CHUNK_SIZE) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new ComponentCheckTask(g, path, componentErrors, isChecked, start, mid),
+            new ComponentCheckTask(g, path, componentErrors, isChecked, mid, end));
+        return;
+      }
+      for (int i = start; i < end; i++) {
+        ValidationErrorCollector collector = new ValidationErrorCollector();
+        collector.setParallel(isParallel);
+        isChecked[i] = collector.checkComponent(g, i, path);
+        componentErrors[i] = collector.errors;
+      }
+    }
+  }
+
+  private static int[] childPath(int[] path, int index)
+  {
+    int[] child = new int[path.length + 1];
+    System.arraycopy(path, 0, child, 0, path.length);
+    child[path.length] = index;
+    return child;
+  }
+}
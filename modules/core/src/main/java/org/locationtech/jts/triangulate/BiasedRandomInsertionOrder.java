@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+/**
+ * Orders a set of {@link Vertex}es for insertion into an incremental
+ * Delaunay triangulation, using a Biased Randomized Insertion Order (BRIO)
+ * (Amenta, Choi and Rote 2003).
+ * <p>
+ * The vertices are assigned at random to rounds of geometrically
+ * increasing size (each round containing about half the vertices
+ * of the next), and within each round they are ordered along a Hilbert curve.
+ * The Hilbert ordering places consecutive vertices close together,
+ * so locating each vertex by walking from the previously inserted one
+ * takes only a few steps.
+ * The rounds provide the randomness which prevents the triangulation
+ * from degenerating for adversarial inputs, such as points sorted along a line.
+ * This allows triangulating very large point sets in close to linear time.
+ * <p>
+ * The order is pseudo-random, but repeatable for the same input.
+ *
+ * @see IncrementalDelaunayTriangulator
+ */
+public class BiasedRandomInsertionOrder
+{
+  private static final long SEED = 13;
+  private static final int HILBERT_LEVEL = HilbertCode.MAX_LEVEL;
+  /**
+   * Rounds smaller than this are merged into the first round
+   */
+  private static final int MIN_ROUND_SIZE = 64;
+
+  /**
+   * Orders a collection of vertices for incremental insertion.
+   *
+   * @param vertices a Collection of Vertex
+   * @return a List of the vertices in insertion order
+   */
+  public static List order(Collection vertices)
+  {
+    Vertex[] verts = (Vertex[]) vertices.toArray(new Vertex[0]);
+    int n = verts.length;
+    List result = new ArrayList(n);
+    if (n == 0) return result;
+
+    Envelope env = new Envelope();
+    for (int i = 0; i < n; i++) {
+      env.expandToInclude(verts[i].getX(), verts[i].getY());
+    }
+    int maxOrd = HilbertCode.maxOrdinate(HILBERT_LEVEL);
+    double scaleX = env.getWidth() > 0 ? maxOrd / env.getWidth() : 0;
+    double scaleY = env.getHeight() > 0 ? maxOrd / env.getHeight() : 0;
+
+    /**
+     * Assign each vertex to a round.
+     * The last round contains about half of the vertices,
+     * the previous one a quarter, and so on.
+     */
+    int numRounds = 1;
+    while ((n >> numRounds) >= MIN_ROUND_SIZE) {
+      numRounds++;
+    }
+    Random rnd = new Random(SEED);
+    int[] round = new int[n];
+    int[] roundStart = new int[numRounds + 1];
+    for (int i = 0; i < n; i++) {
+      int depth = Math.min(Integer.numberOfTrailingZeros(rnd.nextInt()), numRounds - 1);
+      round[i] = numRounds - 1 - depth;
+      roundStart[round[i] + 1]++;
+    }
+    for (int r = 0; r < numRounds; r++) {
+      roundStart[r + 1] += roundStart[r];
+    }
+
+    /**
+     * Sort each round by Hilbert code.
+     * The code and vertex index are packed into a long key.
+     */
+    long[] keys = new long[n];
+    int[] roundEnd = Arrays.copyOf(roundStart, numRounds);
+    for (int i = 0; i < n; i++) {
+      int x = (int) ((verts[i].getX() - env.getMinX()) * scaleX);
+      int y = (int) ((verts[i].getY() - env.getMinY()) * scaleY);
+      long code = HilbertCode.encode(HILBERT_LEVEL, x, y) & 0xFFFFFFFFL;
+      keys[roundEnd[round[i]]++] = (code << 32) | i;
+    }
+    for (int r = 0; r < numRounds; r++) {
+      Arrays.sort(keys, roundStart[r], roundStart[r + 1]);
+    }
+    for (int i = 0; i < n; i++) {
+      result.add(verts[(int) keys[i]]);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.triangulate;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.triangulate.quadedge.CompactQuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+
+/**
+ * Computes a Delaunay Triangulation of a set of sites
+ * in a {@link CompactQuadEdgeSubdivision}.
+ * The triangulation is computed using the same divide-and-conquer
+ * algorithm as {@link DivideAndConquerDelaunayTriangulator},
+ * operating directly on the primitive edge and vertex arrays of the subdivision.
+ * This avoids creating any objects for the vertices and edges,
+ * which allows triangulating large numbers of sites
+ * with much less memory and time.
+ * <p>
+ * As with the other triangulators, the frame vertices are included in the triangulation,
+ * so the result is the same as that produced by {@link IncrementalDelaunayTriangulator}
+ * (apart from the choice of diagonals between co-circular vertices).
+ * Exactly repeated sites are ignored.
+ *
+ * @see CompactQuadEdgeSubdivision
+ */
+public class CompactDelaunayTriangulator
+{
+  private CompactQuadEdgeSubdivision subdiv;
+  private int[] sorted;
+
+  /**
+   * Creates a new triangulator using the given {@link CompactQuadEdgeSubdivision}.
+   *
+   * @param subdiv
+   *          a subdivision in which to build the TIN
+   */
+  public CompactDelaunayTriangulator(CompactQuadEdgeSubdivision subdiv) {
+    this.subdiv = subdiv;
+  }
+
+  /**
+   * Adds a collection of sites to the subdivision, and triangulates it.
+   *
+   * @param sites a Collection of Coordinate
+   *
+   * @throws IllegalStateException if the subdivision has already been triangulated
+   */
+  public void insertSites(Collection sites) {
+    checkEmpty();
+    for (Iterator i = sites.iterator(); i.hasNext(); ) {
+      Coordinate p = (Coordinate) i.next();
+      subdiv.addVertex(p.x, p.y, p.getZ());
+    }
+    triangulate();
+  }
+
+  /**
+   * Adds the points of a {@link CoordinateSequence} to the subdivision as sites,
+   * and triangulates it.
+   *
+   * @param sites a sequence of sites
+   *
+   * @throws IllegalStateException if the subdivision has already been triangulated
+   */
+  public void insertSites(CoordinateSequence sites) {
+    checkEmpty();
+    boolean hasZ = sites.hasZ();
+    for (int i = 0; i < sites.size(); i++) {
+      subdiv.addVertex(sites.getX(i), sites.getY(i), hasZ ? sites.getZ(i) : Double.NaN);
+    }
+    triangulate();
+  }
+
+  private void checkEmpty() {
+    if (subdiv.getNumEdges() > 0)
+      throw new IllegalStateException("Subdivision has already been triangulated");
+  }
+
+  private void triangulate() {
+    int n = subdiv.getNumVertices();
+    sorted = new int[n];
+    for (int i = 0; i < n; i++) {
+      sorted[i] = i;
+    }
+    sort(0, n - 1);
+    int size = removeRepeated();
+    triangulate(0, size);
+    sorted = null;
+  }
+
+  private int compare(int v1, int v2) {
+    double x1 = subdiv.getX(v1);
+    double x2 = subdiv.getX(v2);
+    if (x1 < x2) return -1;
+    if (x1 > x2) return 1;
+    double y1 = subdiv.getY(v1);
+    double y2 = subdiv.getY(v2);
+    if (y1 < y2) return -1;
+    if (y1 > y2) return 1;
+    return 0;
+  }
+
+  /**
+   * Sorts the vertex indices by X and then Y,
+   * using quicksort with insertion sort for small sections.
+   */
+  private void sort(int lo, int hi) {
+    while (hi - lo > 16) {
+      int pivot = sorted[(lo + hi) >>> 1];
+      int i = lo;
+      int j = hi;
+      while (i <= j) {
+        while (compare(sorted[i], pivot) < 0) i++;
+        while (compare(sorted[j], pivot) > 0) j--;
+        if (i <= j) {
+          int tmp = sorted[i];
+          sorted[i++] = sorted[j];
+          sorted[j--] = tmp;
+        }
+      }
+      // recurse into the smaller section, to limit the stack depth
+      if (j - lo < hi - i) {
+        sort(lo, j);
+        lo = i;
+      }
+      else {
+        sort(i, hi);
+        hi = j;
+      }
+    }
+    for (int i = lo + 1; i <= hi; i++) {
+      int v = sorted[i];
+      int j = i - 1;
+      while (j >= lo && compare(sorted[j], v) > 0) {
+        sorted[j + 1] = sorted[j];
+        j--;
+      }
+      sorted[j + 1] = v;
+    }
+  }
+
+  private int removeRepeated() {
+    int size = 1;
+    for (int i = 1; i < sorted.length; i++) {
+      if (compare(sorted[i], sorted[size - 1]) != 0) {
+        sorted[size++] = sorted[i];
+      }
+    }
+    return size;
+  }
+
+  private boolean isCCW(int a, int b, int c) {
+    return CGAlgorithmsDD.orientationIndex(
+        subdiv.getX(a), subdiv.getY(a),
+        subdiv.getX(b), subdiv.getY(b),
+        subdiv.getX(c), subdiv.getY(c)) > 0;
+  }
+
+  private boolean rightOf(int v, int e) {
+    return isCCW(v, subdiv.dest(e), subdiv.orig(e));
+  }
+
+  private boolean leftOf(int v, int e) {
+    return isCCW(v, subdiv.orig(e), subdiv.dest(e));
+  }
+
+  /**
+   * Tests whether vertex d lies in the circumcircle of the triangle a, b, c.
+   * The test must be exact, since the merge relies on it giving
+   * consistent answers for co-circular vertices.
+   */
+  private boolean isInCircle(int a, int b, int c, int d) {
+    return TrianglePredicate.isInCircleExact(
+        subdiv.getX(a), subdiv.getY(a),
+        subdiv.getX(b), subdiv.getY(b),
+        subdiv.getX(c), subdiv.getY(c),
+        subdiv.getX(d), subdiv.getY(d));
+  }
+
+  private boolean isValid(int e, int basel) {
+    return rightOf(subdiv.dest(e), basel);
+  }
+
+  private static long edgePair(int e1, int e2) {
+    return ((long) e1 << 32) | (e2 & 0xFFFFFFFFL);
+  }
+
+  private static int firstEdge(long pair) {
+    return (int) (pair >>> 32);
+  }
+
+  private static int secondEdge(long pair) {
+    return (int) pair;
+  }
+
+  /**
+   * Triangulates a section of the sorted vertices.
+   *
+   * @return the counterclockwise convex hull edge out of the leftmost vertex,
+   *  and the clockwise convex hull edge out of the rightmost vertex
+   */
+  private long triangulate(int start, int end) {
+    int n = end - start;
+    if (n == 2) {
+      int a = subdiv.makeEdge(sorted[start], sorted[start + 1]);
+      return edgePair(a, CompactQuadEdgeSubdivision.sym(a));
+    }
+    if (n == 3) {
+      int s1 = sorted[start];
+      int s2 = sorted[start + 1];
+      int s3 = sorted[start + 2];
+      int a = subdiv.makeEdge(s1, s2);
+      int b = subdiv.makeEdge(s2, s3);
+      subdiv.splice(CompactQuadEdgeSubdivision.sym(a), b);
+      // close the triangle, unless the vertices are collinear
+      if (isCCW(s1, s2, s3)) {
+        subdiv.connect(b, a);
+        return edgePair(a, CompactQuadEdgeSubdivision.sym(b));
+      }
+      if (isCCW(s1, s3, s2)) {
+        int c = subdiv.connect(b, a);
+        return edgePair(CompactQuadEdgeSubdivision.sym(c), c);
+      }
+      return edgePair(a, CompactQuadEdgeSubdivision.sym(b));
+    }
+    int mid = (start + end) >>> 1;
+    long left = triangulate(start, mid);
+    long right = triangulate(mid, end);
+    return merge(firstEdge(left), secondEdge(left), firstEdge(right), secondEdge(right));
+  }
+
+  /**
+   * Merges two adjacent triangulations.
+   *
+   * @return the hull edges of the merged triangulation
+   */
+  private long merge(int ldo, int ldi, int rdi, int rdo) {
+    // compute the lower common tangent of the two triangulations
+    while (true) {
+      if (leftOf(subdiv.orig(rdi), ldi)) {
+        ldi = subdiv.lNext(ldi);
+      }
+      else if (rightOf(subdiv.orig(ldi), rdi)) {
+        rdi = subdiv.rPrev(rdi);
+      }
+      else {
+        break;
+      }
+    }
+    int basel = subdiv.connect(CompactQuadEdgeSubdivision.sym(rdi), ldi);
+    if (subdiv.orig(ldi) == subdiv.orig(ldo)) ldo = CompactQuadEdgeSubdivision.sym(basel);
+    if (subdiv.orig(rdi) == subdiv.orig(rdo)) rdo = basel;
+
+    // zip the triangulations together, moving upwards from the base edge
+    while (true) {
+      int lcand = subdiv.oNext(CompactQuadEdgeSubdivision.sym(basel));
+      if (isValid(lcand, basel)) {
+        while (isInCircle(subdiv.dest(basel), subdiv.orig(basel), subdiv.dest(lcand),
+            subdiv.dest(subdiv.oNext(lcand)))) {
+          int t = subdiv.oNext(lcand);
+          subdiv.delete(lcand);
+          lcand = t;
+        }
+      }
+      int rcand = subdiv.oPrev(basel);
+      if (isValid(rcand, basel)) {
+        while (isInCircle(subdiv.dest(basel), subdiv.orig(basel), subdiv.dest(rcand),
+            subdiv.dest(subdiv.oPrev(rcand)))) {
+          int t = subdiv.oPrev(rcand);
+          subdiv.delete(rcand);
+          rcand = t;
+        }
+      }
+      boolean isLeftValid = isValid(lcand, basel);
+      boolean isRightValid = isValid(rcand, basel);
+      // the upper common tangent has been reached
+      if (! isLeftValid && ! isRightValid)
+        break;
+      if (! isLeftValid
+          || (isRightValid && isInCircle(subdiv.dest(lcand), subdiv.orig(lcand),
+              subdiv.orig(rcand), subdiv.dest(rcand)))) {
+        basel = subdiv.connect(rcand, CompactQuadEdgeSubdivision.sym(basel));
+      }
+      else {
+        basel = subdiv.connect(CompactQuadEdgeSubdivision.sym(basel),
+            CompactQuadEdgeSubdivision.sym(lcand));
+      }
+    }
+    return edgePair(ldo, rdo);
+  }
+}
@@ -95,6 +95,8 @@ public class DelaunayTriangulationBuilder
 	
 	private Collection siteCoords;
 	private double tolerance = 0.0;
+	private boolean isParallel = false;
+	private boolean isSpatialOrder = false;
 	private QuadEdgeSubdivision subdiv = null;
 	
 	/**
@@ -141,6 +143,34 @@ public class DelaunayTriangulationBuilder
 		this.tolerance = tolerance;
 	}
 	
+	/**
+	 * Sets whether the sites are inserted in a spatially coherent order
+	 * (computed by {@link BiasedRandomInsertionOrder}),
+	 * rather than in lexicographic order.
+	 * This makes locating sites in the triangulation much faster,
+	 * so that large numbers of sites are triangulated in close to linear time.
+	 * 
+	 * @param isSpatialOrder true if sites are inserted in spatial order
+	 */
+	public void setSpatialOrder(boolean isSpatialOrder)
+	{
+		this.isSpatialOrder = isSpatialOrder;
+	}
+	
+	/**
+	 * Sets whether the triangulation is computed in parallel.
+	 * This uses a {@link DivideAndConquerDelaunayTriangulator},
+	 * which is much faster than incremental insertion for large numbers of sites.
+	 * The divide-and-conquer algorithm does not snap sites,
+	 * so it is used only if the tolerance is 0.
+	 * 
+	 * @param isParallel true if the triangulation is computed in parallel
+	 */
+	public void setParallel(boolean isParallel)
+	{
+		this.isParallel = isParallel;
+	}
+	
 	private void create()
 	{
 		if (subdiv != null) return;
@@ -148,6 +178,15 @@ public class DelaunayTriangulationBuilder
 		Envelope siteEnv = envelope(siteCoords);
 		List vertices = toVertices(siteCoords);
 		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
+		if (isParallel && tolerance == 0.0) {
+			DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+			triangulator.setParallel(true);
+			triangulator.insertSites(vertices);
+			return;
+		}
+		if (isSpatialOrder) {
+			vertices = BiasedRandomInsertionOrder.order(vertices);
+		}
 		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
 		triangulator.insertSites(vertices);
 	}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+
+/**
+ * Computes a Delaunay Triangulation of a set of {@link Vertex}es,
+ * using the divide-and-conquer algorithm of Guibas and Stolfi (1985).
+ * <p>
+ * The vertices are sorted by X and then Y,
+ * and split recursively into halves.
+ * Each half is triangulated independently,
+ * and the two triangulations are merged
+ * by "zipping" them together along their common boundary.
+ * This requires time O(n log n),
+ * and does not depend on the distribution of the vertices.
+ * <p>
+ * Since the two halves are independent,
+ * they can be triangulated in parallel
+ * (see {@link #setParallel(boolean)}).
+ * <p>
+ * The vertices are triangulated together with the vertices of the frame triangle of
+ * the supplied {@link QuadEdgeSubdivision}, so the result is the same as that
+ * produced by {@link IncrementalDelaunayTriangulator}
+ * (apart from the choice of diagonals between co-circular vertices).
+ * The subdivision must not contain any vertices other than the frame vertices.
+ * Vertices are not snapped using the subdivision tolerance,
+ * but exactly repeated vertices are ignored.
+ *
+ * @see IncrementalDelaunayTriangulator
+ */
+public class DivideAndConquerDelaunayTriangulator
+{
+  /**
+   * The number of vertices above which triangulations
+   * are computed in parallel
+   */
+  private static final int PARALLEL_THRESHOLD = 4096;
+
+  private static final Comparator<Vertex> VERTEX_ORDER = new Comparator<Vertex>() {
+    public int compare(Vertex v1, Vertex v2) {
+      return v1.getCoordinate().compareTo(v2.getCoordinate());
+    }
+  };
+
+  private QuadEdgeSubdivision subdiv;
+  private boolean isParallel = false;
+  private Vertex[] vertices;
+
+  /**
+   * Creates a new triangulator using the given {@link QuadEdgeSubdivision}.
+   *
+   * @param subdiv
+   *          a subdivision in which to build the TIN
+   */
+  public DivideAndConquerDelaunayTriangulator(QuadEdgeSubdivision subdiv) {
+    this.subdiv = subdiv;
+  }
+
+  /**
+   * Sets whether the triangulation is computed in parallel
+   * (using the common {@link ForkJoinPool}).
+   * The result is the same as for the sequential computation.
+   *
+   * @param isParallel true if the triangulation is computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Triangulates a collection of sites,
+   * and sets the triangulation as the edges of the subdivision.
+   *
+   * @param sites a Collection of Vertex
+   *
+   * @throws IllegalStateException if the subdivision already contains sites
+   */
+  public void insertSites(Collection sites) {
+    Collection frameVertices = subdiv.getVertices(true);
+    if (frameVertices.size() != 3)
+      throw new IllegalStateException("Subdivision already contains sites");
+
+    List allVertices = new ArrayList(sites.size() + 3);
+    allVertices.addAll(frameVertices);
+    allVertices.addAll(sites);
+    vertices = (Vertex[]) allVertices.toArray(new Vertex[0]);
+    if (isParallel) {
+      Arrays.parallelSort(vertices, VERTEX_ORDER);
+    }
+    else {
+      Arrays.sort(vertices, VERTEX_ORDER);
+    }
+    int size = removeRepeated(vertices);
+
+    TriangulateTask task = new TriangulateTask(0, size);
+    if (isParallel) {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+    else {
+      task.compute();
+    }
+    List edges = new ArrayList();
+    task.collectEdges(edges);
+    subdiv.setEdges(edges);
+    vertices = null;
+  }
+
+  private static int removeRepeated(Vertex[] verts) {
+    if (verts.length == 0) return 0;
+    int size = 1;
+    for (int i = 1; i < verts.length; i++) {
+      if (! verts[i].equals(verts[size - 1])) {
+        verts[size++] = verts[i];
+      }
+    }
+    return size;
+  }
+
+  private static boolean isCCW(Vertex a, Vertex b, Vertex c) {
+    return Orientation.index(a.getCoordinate(), b.getCoordinate(), c.getCoordinate())
+        == Orientation.COUNTERCLOCKWISE;
+  }
+
+  private static boolean rightOf(Vertex v, QuadEdge e) {
+    return isCCW(v, e.dest(), e.orig());
+  }
+
+  private static boolean leftOf(Vertex v, QuadEdge e) {
+    return isCCW(v, e.orig(), e.dest());
+  }
+
+  /**
+   * Tests whether vertex d lies in the circumcircle of the triangle a, b, c.
+   * The merge deletes edges based on this test, so it must give
+   * consistent answers for co-circular vertices.
+   * This requires an exact test, rather than the double-precision test in
+   * {@link Vertex#isInCircle(Vertex, Vertex, Vertex)}, which is sufficient
+   * for the incremental algorithm since it repairs the triangulation by flipping.
+   */
+  private static boolean isInCircle(Vertex a, Vertex b, Vertex c, Vertex d) {
+    Coordinate pa = a.getCoordinate();
+    Coordinate pb = b.getCoordinate();
+    Coordinate pc = c.getCoordinate();
+    Coordinate pd = d.getCoordinate();
+    return TrianglePredicate.isInCircleExact(
+        pa.x, pa.y, pb.x, pb.y, pc.x, pc.y, pd.x, pd.y);
+  }
+
+  /**
+   * Tests whether an edge is above the base edge of a merge,
+   * and hence is a candidate to be connected to it.
+   */
+  private static boolean isValid(QuadEdge e, QuadEdge basel) {
+    return rightOf(e.dest(), basel);
+  }
+
+  /**
+   * Computes the triangulation of a section of the sorted vertices.
+   * The triangulations of sections above the threshold size
+   * are computed in parallel (if enabled).
+   * The edges created are recorded by the task which creates them,
+   * to allow collecting them without traversing the triangulation.
+   */
+  private class TriangulateTask extends RecursiveTask<QuadEdge[]>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private int start;
+    private int end;
+    private TriangulateTask leftTask = null;
+    private TriangulateTask rightTask = null;
+    private List edges = new ArrayList();
+
+    TriangulateTask(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    protected QuadEdge[] compute() {
+      if (! isParallel || end - start <= PARALLEL_THRESHOLD) {
+        return triangulate(start, end);
+      }
+      int mid = (start + end) >>> 1;
+      leftTask = new TriangulateTask(start, mid);
+      rightTask = new TriangulateTask(mid, end);
+      invokeAll(leftTask, rightTask);
+      QuadEdge[] left = leftTask.join();
+      QuadEdge[] right = rightTask.join();
+      return merge(left[0], left[1], right[0], right[1]);
+    }
+
+    /**
+     * Adds the live edges created by this task and its subtasks to a list.
+     */
+    void collectEdges(List result) {
+      if (leftTask != null) {
+        leftTask.collectEdges(result);
+        rightTask.collectEdges(result);
+      }
+      for (int i = 0; i < edges.size(); i++) {
+        QuadEdge e = (QuadEdge) edges.get(i);
+        if (e.isLive())
+          result.add(e);
+      }
+    }
+
+    /**
+     * Triangulates a section of the sorted vertices.
+     *
+     * @return the counterclockwise convex hull edge out of the leftmost vertex,
+     *  and the clockwise convex hull edge out of the rightmost vertex
+     */
+    private QuadEdge[] triangulate(int start, int end) {
+      int n = end - start;
+      if (n == 2) {
+        QuadEdge a = makeEdge(vertices[start], vertices[start + 1]);
+        return new QuadEdge[] { a, a.sym() };
+      }
+      if (n == 3) {
+        Vertex s1 = vertices[start];
+        Vertex s2 = vertices[start + 1];
+        Vertex s3 = vertices[start + 2];
+        QuadEdge a = makeEdge(s1, s2);
+        QuadEdge b = makeEdge(s2, s3);
+        QuadEdge.splice(a.sym(), b);
+        // close the triangle, unless the vertices are collinear
+        if (isCCW(s1, s2, s3)) {
+          connect(b, a);
+          return new QuadEdge[] { a, b.sym() };
+        }
+        if (isCCW(s1, s3, s2)) {
+          QuadEdge c = connect(b, a);
+          return new QuadEdge[] { c.sym(), c };
+        }
+        return new QuadEdge[] { a, b.sym() };
+      }
+      int mid = (start + end) >>> 1;
+      QuadEdge[] left = triangulate(start, mid);
+      QuadEdge[] right = triangulate(mid, end);
+      return merge(left[0], left[1], right[0], right[1]);
+    }
+
+    /**
+     * Merges two adjacent triangulations.
+     *
+     * @param ldo the counterclockwise hull edge out of the leftmost vertex of the left triangulation
+     * @param ldi the clockwise hull edge out of the rightmost vertex of the left triangulation
+     * @param rdi the counterclockwise hull edge out of the leftmost vertex of the right triangulation
+     * @param rdo the clockwise hull edge out of the rightmost vertex of the right triangulation
+     * @return the hull edges of the merged triangulation
+     */
+    private QuadEdge[] merge(QuadEdge ldo, QuadEdge ldi, QuadEdge rdi, QuadEdge rdo) {
+      // compute the lower common tangent of the two triangulations
+      while (true) {
+        if (leftOf(rdi.orig(), ldi)) {
+          ldi = ldi.lNext();
+        }
+        else if (rightOf(ldi.orig(), rdi)) {
+          rdi = rdi.rPrev();
+        }
+        else {
+          break;
+        }
+      }
+      QuadEdge basel = connect(rdi.sym(), ldi);
+      if (ldi.orig() == ldo.orig()) ldo = basel.sym();
+      if (rdi.orig() == rdo.orig()) rdo = basel;
+
+      // zip the triangulations together, moving upwards from the base edge
+      while (true) {
+        QuadEdge lcand = basel.sym().oNext();
+        if (isValid(lcand, basel)) {
+          while (isInCircle(basel.dest(), basel.orig(), lcand.dest(), lcand.oNext().dest())) {
+            QuadEdge t = lcand.oNext();
+            deleteEdge(lcand);
+            lcand = t;
+          }
+        }
+        QuadEdge rcand = basel.oPrev();
+        if (isValid(rcand, basel)) {
+          while (isInCircle(basel.dest(), basel.orig(), rcand.dest(), rcand.oPrev().dest())) {
+            QuadEdge t = rcand.oPrev();
+            deleteEdge(rcand);
+            rcand = t;
+          }
+        }
+        boolean isLeftValid = isValid(lcand, basel);
+        boolean isRightValid = isValid(rcand, basel);
+        // the upper common tangent has been reached
+        if (! isLeftValid && ! isRightValid)
+          break;
+        if (! isLeftValid
+            || (isRightValid && isInCircle(lcand.dest(), lcand.orig(), rcand.orig(), rcand.dest()))) {
+          basel = connect(rcand, basel.sym());
+        }
+        else {
+          basel = connect(basel.sym(), lcand.sym());
+        }
+      }
+      return new QuadEdge[] { ldo, rdo };
+    }
+
+    private QuadEdge makeEdge(Vertex o, Vertex d) {
+      QuadEdge e = QuadEdge.makeEdge(o, d);
+      edges.add(e);
+      return e;
+    }
+
+    private QuadEdge connect(QuadEdge a, QuadEdge b) {
+      QuadEdge e = QuadEdge.connect(a, b);
+      edges.add(e);
+      return e;
+    }
+
+    private void deleteEdge(QuadEdge e) {
+      QuadEdge.splice(e, e.oPrev());
+      QuadEdge.splice(e.sym(), e.sym().oPrev());
+
+      QuadEdge eSym = e.sym();
+      QuadEdge eRot = e.rot();
+      QuadEdge eRotSym = e.rot().sym();
+      e.delete();
+      eSym.delete();
+      eRot.delete();
+      eRotSym.delete();
+    }
+  }
+}
@@ -0,0 +1,558 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.triangulate.quadedge;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * A quad-edge subdivision which stores the edges and vertices
+ * in arrays of primitive values, rather than as {@link QuadEdge}
+ * and {@link Vertex} objects.
+ * This uses much less memory than a {@link QuadEdgeSubdivision},
+ * and avoids the cost of allocating and garbage-collecting many small objects.
+ * It is suitable for large triangulations (e.g. of millions of sites).
+ * <p>
+ * Vertices are identified by an integer index.
+ * As in {@link QuadEdgeSubdivision}, the subdivision has a frame triangle
+ * enclosing the envelope of the sites, whose vertices have the indices 0, 1 and 2.
+ * <p>
+ * Edges are identified by an integer id.
+ * The four edges of a quad-edge (the edge, its dual edges
+ * and its symmetric edge) have consecutive ids,
+ * with the primal edges having even ids.
+ * The edge algebra is provided by methods taking and returning edge ids
+ * (e.g. {@link #sym(int)}, {@link #oNext(int)} and {@link #lNext(int)}).
+ * <p>
+ * The triangles of the subdivision can be output as geometry,
+ * as vertex indices, or visited by a {@link TriangleVisitor}
+ * (in which case {@link QuadEdge}s are created for each triangle visited).
+ *
+ * @see QuadEdgeSubdivision
+ */
+public class CompactQuadEdgeSubdivision
+{
+  /**
+   * The number of frame vertices
+   */
+  public static final int NUM_FRAME_VERTICES = 3;
+
+  private static final int NO_VERTEX = -1;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * Gets the edge with the same quad-edge as an edge,
+   * rotated 90 degrees counterclockwise.
+   *
+   * @param e an edge id
+   * @return the rotated edge id
+   */
+  public static int rot(int e) {
+    return (e & ~3) | ((e + 1) & 3);
+  }
+
+  /**
+   * Gets the edge with the same quad-edge as an edge,
+   * rotated 90 degrees clockwise.
+   *
+   * @param e an edge id
+   * @return the rotated edge id
+   */
+  public static int invRot(int e) {
+    return (e & ~3) | ((e + 3) & 3);
+  }
+
+  /**
+   * Gets the edge with the opposite direction to an edge.
+   *
+   * @param e an edge id
+   * @return the symmetric edge id
+   */
+  public static int sym(int e) {
+    return e ^ 2;
+  }
+
+  private double[] vertexX;
+  private double[] vertexY;
+  // created only if a vertex has a Z value
+  private double[] vertexZ = null;
+  private int numVertices = 0;
+  private Envelope frameEnv;
+
+  private int[] next;
+  // the origin vertex of each primal edge, indexed by edge id / 2
+  private int[] orig;
+  private int numQuads = 0;
+  private int numLiveQuads = 0;
+  private int freeQuad = -1;
+
+  /**
+   * Creates a new subdivision with a frame triangle
+   * that encloses a given envelope.
+   *
+   * @param env the envelope of the sites
+   * @param numSites the number of sites to allocate space for
+   */
+  public CompactQuadEdgeSubdivision(Envelope env, int numSites) {
+    int vertexCapacity = Math.max(numSites, 0) + NUM_FRAME_VERTICES;
+    vertexX = new double[vertexCapacity];
+    vertexY = new double[vertexCapacity];
+    // a triangulation of n vertices has at most 3n edges
+    int quadCapacity = 3 * vertexCapacity;
+    next = new int[4 * quadCapacity];
+    orig = new int[2 * quadCapacity];
+    createFrame(env);
+  }
+
+  private void createFrame(Envelope env)
+  {
+    double deltaX = env.getWidth();
+    double deltaY = env.getHeight();
+    double offset = 0.0;
+    if (deltaX > deltaY) {
+      offset = deltaX * 10.0;
+    } else {
+      offset = deltaY * 10.0;
+    }
+    addVertex((env.getMaxX() + env.getMinX()) / 2.0, env.getMaxY() + offset, Double.NaN);
+    addVertex(env.getMinX() - offset, env.getMinY() - offset, Double.NaN);
+    addVertex(env.getMaxX() + offset, env.getMinY() - offset, Double.NaN);
+
+    frameEnv = new Envelope(getX(0), getX(1), getY(0), getY(1));
+    frameEnv.expandToInclude(getX(2), getY(2));
+  }
+
+  /**
+   * Gets the envelope of the subdivision (including the frame).
+   *
+   * @return the envelope
+   */
+  public Envelope getEnvelope() {
+    return new Envelope(frameEnv);
+  }
+
+  /**
+   * Adds a vertex to the subdivision.
+   * The vertex is not connected to any edges.
+   *
+   * @param x the X ordinate of the vertex
+   * @param y the Y ordinate of the vertex
+   * @param z the Z ordinate of the vertex (may be NaN)
+   * @return the index of the vertex
+   */
+  public int addVertex(double x, double y, double z) {
+    if (numVertices == vertexX.length) {
+      int capacity = Math.max(2 * numVertices, DEFAULT_CAPACITY);
+      vertexX = Arrays.copyOf(vertexX, capacity);
+      vertexY = Arrays.copyOf(vertexY, capacity);
+      if (vertexZ != null)
+        vertexZ = copyOfNaN(vertexZ, capacity);
+    }
+    if (! Double.isNaN(z) && vertexZ == null) {
+      vertexZ = copyOfNaN(new double[0], vertexX.length);
+    }
+    int v = numVertices++;
+    vertexX[v] = x;
+    vertexY[v] = y;
+    if (vertexZ != null)
+      vertexZ[v] = z;
+    return v;
+  }
+
+  private static double[] copyOfNaN(double[] ords, int capacity) {
+    double[] copy = Arrays.copyOf(ords, capacity);
+    Arrays.fill(copy, ords.length, capacity, Double.NaN);
+    return copy;
+  }
+
+  /**
+   * Gets the number of vertices in the subdivision
+   * (including the frame vertices).
+   *
+   * @return the number of vertices
+   */
+  public int getNumVertices() {
+    return numVertices;
+  }
+
+  /**
+   * Gets the X ordinate of a vertex.
+   *
+   * @param v a vertex index
+   * @return the X ordinate
+   */
+  public double getX(int v) {
+    return vertexX[v];
+  }
+
+  /**
+   * Gets the Y ordinate of a vertex.
+   *
+   * @param v a vertex index
+   * @return the Y ordinate
+   */
+  public double getY(int v) {
+    return vertexY[v];
+  }
+
+  /**
+   * Gets the Z ordinate of a vertex.
+   *
+   * @param v a vertex index
+   * @return the Z ordinate, or NaN if the vertex has no Z value
+   */
+  public double getZ(int v) {
+    if (vertexZ == null) return Double.NaN;
+    return vertexZ[v];
+  }
+
+  /**
+   * Creates a coordinate for the location of a vertex.
+   *
+   * @param v a vertex index
+   * @return a new coordinate
+   */
+  public Coordinate getCoordinate(int v) {
+    return new Coordinate(vertexX[v], vertexY[v], getZ(v));
+  }
+
+  /**
+   * Tests whether a vertex is a vertex of the frame triangle.
+   *
+   * @param v a vertex index
+   * @return true if the vertex is a frame vertex
+   */
+  public boolean isFrameVertex(int v) {
+    return v < NUM_FRAME_VERTICES;
+  }
+
+  /**
+   * Gets the number of edges in the subdivision
+   * (one for every pair of connected vertices).
+   *
+   * @return the number of edges
+   */
+  public int getNumEdges() {
+    return numLiveQuads;
+  }
+
+  /**
+   * Tests whether an edge has not been deleted.
+   *
+   * @param e an edge id
+   * @return true if the edge has not been deleted
+   */
+  public boolean isLive(int e) {
+    return orig[(e >> 2) << 1] != NO_VERTEX;
+  }
+
+  /**
+   * Gets the origin vertex of a primal edge.
+   *
+   * @param e a primal edge id
+   * @return the origin vertex index
+   */
+  public int orig(int e) {
+    return orig[e >> 1];
+  }
+
+  /**
+   * Gets the destination vertex of a primal edge.
+   *
+   * @param e a primal edge id
+   * @return the destination vertex index
+   */
+  public int dest(int e) {
+    return orig[sym(e) >> 1];
+  }
+
+  /**
+   * Gets the next edge counterclockwise around the origin of an edge.
+   *
+   * @param e an edge id
+   * @return the next edge id
+   */
+  public int oNext(int e) {
+    return next[e];
+  }
+
+  /**
+   * Gets the next edge clockwise around the origin of an edge.
+   *
+   * @param e an edge id
+   * @return the previous edge id
+   */
+  public int oPrev(int e) {
+    return rot(next[rot(e)]);
+  }
+
+  /**
+   * Gets the next edge counterclockwise around the left face of an edge.
+   *
+   * @param e an edge id
+   * @return the next edge id
+   */
+  public int lNext(int e) {
+    return rot(next[invRot(e)]);
+  }
+
+  /**
+   * Gets the previous edge around the left face of an edge.
+   *
+   * @param e an edge id
+   * @return the previous edge id
+   */
+  public int lPrev(int e) {
+    return sym(next[e]);
+  }
+
+  /**
+   * Gets the previous edge around the right face of an edge.
+   *
+   * @param e an edge id
+   * @return the previous edge id
+   */
+  public int rPrev(int e) {
+    return next[sym(e)];
+  }
+
+  /**
+   * Creates a new edge between two vertices.
+   *
+   * @param o the origin vertex index
+   * @param d the destination vertex index
+   * @return the id of the new edge
+   */
+  public int makeEdge(int o, int d) {
+    int q;
+    if (freeQuad >= 0) {
+      q = freeQuad;
+      freeQuad = next[q << 2];
+    }
+    else {
+      if (numQuads == orig.length >> 1) {
+        int capacity = Math.max(2 * numQuads, DEFAULT_CAPACITY);
+        next = Arrays.copyOf(next, 4 * capacity);
+        orig = Arrays.copyOf(orig, 2 * capacity);
+      }
+      q = numQuads++;
+    }
+    numLiveQuads++;
+    int e = q << 2;
+    next[e] = e;
+    next[e + 1] = e + 3;
+    next[e + 2] = e + 2;
+    next[e + 3] = e + 1;
+    orig[e >> 1] = o;
+    orig[(e >> 1) + 1] = d;
+    return e;
+  }
+
+  /**
+   * Splices two edges together or apart.
+   * This has the same semantics as {@link QuadEdge#splice(QuadEdge, QuadEdge)}.
+   *
+   * @param a an edge id
+   * @param b an edge id
+   */
+  public void splice(int a, int b) {
+    int alpha = rot(next[a]);
+    int beta = rot(next[b]);
+
+    int t1 = next[b];
+    int t2 = next[a];
+    int t3 = next[beta];
+    int t4 = next[alpha];
+
+    next[a] = t1;
+    next[b] = t2;
+    next[alpha] = t3;
+    next[beta] = t4;
+  }
+
+  /**
+   * Creates a new edge connecting the destination of a to the origin of b,
+   * in such a way that all three have the same left face after the connection
+   * is complete.
+   *
+   * @param a an edge id
+   * @param b an edge id
+   * @return the id of the new edge
+   */
+  public int connect(int a, int b) {
+    int e = makeEdge(dest(a), orig(b));
+    splice(e, lNext(a));
+    splice(sym(e), b);
+    return e;
+  }
+
+  /**
+   * Turns an edge counterclockwise inside its enclosing quadrilateral.
+   *
+   * @param e the edge id to turn
+   */
+  public void swap(int e) {
+    int a = oPrev(e);
+    int b = oPrev(sym(e));
+    splice(e, a);
+    splice(sym(e), b);
+    splice(e, lNext(a));
+    splice(sym(e), lNext(b));
+    orig[e >> 1] = dest(a);
+    orig[sym(e) >> 1] = dest(b);
+  }
+
+  /**
+   * Deletes an edge from the subdivision.
+   * The space used by the edge is reused for new edges.
+   *
+   * @param e the edge id to delete
+   */
+  public void delete(int e) {
+    splice(e, oPrev(e));
+    splice(sym(e), oPrev(sym(e)));
+    int q = e >> 2;
+    orig[q << 1] = NO_VERTEX;
+    orig[(q << 1) + 1] = NO_VERTEX;
+    next[q << 2] = freeQuad;
+    freeQuad = q;
+    numLiveQuads--;
+  }
+
+  /**
+   * Gets the vertex indices of the triangles in the subdivision.
+   * The vertices of each triangle are in CCW order.
+   *
+   * @param includeFrame true if the frame triangles should be included
+   * @return an array containing 3 vertex indices for each triangle
+   */
+  public int[] getTriangleVertices(boolean includeFrame) {
+    IntArrayList tris = new IntArrayList();
+    for (int q = 0; q < numQuads; q++) {
+      for (int e = q << 2; e < (q << 2) + 4; e += 2) {
+        if (isTriangleToVisit(e, includeFrame)) {
+          int e1 = lNext(e);
+          tris.add(orig(e));
+          tris.add(orig(e1));
+          tris.add(orig(lNext(e1)));
+        }
+      }
+    }
+    return tris.toArray();
+  }
+
+  /**
+   * Tests whether the left face of an edge is a triangle
+   * which has not been visited from another edge.
+   * Each triangle is visited from the edge with the lowest id.
+   */
+  private boolean isTriangleToVisit(int e, boolean includeFrame) {
+    if (orig(e) == NO_VERTEX)
+      return false;
+    int e1 = lNext(e);
+    int e2 = lNext(e1);
+    if (lNext(e2) != e)
+      return false;
+    if (e1 < e || e2 < e)
+      return false;
+    if (! includeFrame
+        && (isFrameVertex(orig(e)) || isFrameVertex(orig(e1)) || isFrameVertex(orig(e2))))
+      return false;
+    return true;
+  }
+
+  /**
+   * Visits the triangles in the subdivision.
+   * A {@link QuadEdge} and {@link Vertex} is created for each edge of a
+   * triangle visited.
+   *
+   * @param triVisitor the visitor to use
+   * @param includeFrame true if the frame triangles should be included
+   */
+  public void visitTriangles(TriangleVisitor triVisitor, boolean includeFrame) {
+    int[] tris = getTriangleVertices(includeFrame);
+    QuadEdge[] triEdges = new QuadEdge[3];
+    for (int i = 0; i < tris.length; i += 3) {
+      Vertex v0 = new Vertex(getCoordinate(tris[i]));
+      Vertex v1 = new Vertex(getCoordinate(tris[i + 1]));
+      Vertex v2 = new Vertex(getCoordinate(tris[i + 2]));
+      triEdges[0] = QuadEdge.makeEdge(v0, v1);
+      triEdges[1] = QuadEdge.makeEdge(v1, v2);
+      triEdges[2] = QuadEdge.makeEdge(v2, v0);
+      triVisitor.visit(triEdges);
+    }
+  }
+
+  /**
+   * Gets the geometry for the edges in the subdivision as a {@link MultiLineString}
+   * containing 2-point lines.
+   * The frame edges are not included.
+   *
+   * @param geomFact the GeometryFactory to use
+   * @return a MultiLineString
+   */
+  public Geometry getEdges(GeometryFactory geomFact) {
+    LineString[] edges = new LineString[numLiveQuads];
+    int n = 0;
+    for (int q = 0; q < numQuads; q++) {
+      int e = q << 2;
+      int o = orig(e);
+      int d = dest(e);
+      if (o == NO_VERTEX || isFrameVertex(o) || isFrameVertex(d))
+        continue;
+      Coordinate p0 = getCoordinate(o);
+      Coordinate p1 = getCoordinate(d);
+      // orient the edge in the same way as the primary QuadEdge
+      if (p0.compareTo(p1) > 0) {
+        Coordinate tmp = p0;
+        p0 = p1;
+        p1 = tmp;
+      }
+      edges[n++] = geomFact.createLineString(new Coordinate[] { p0, p1 });
+    }
+    return geomFact.createMultiLineString(Arrays.copyOf(edges, n));
+  }
+
+  /**
+   * Gets the geometry for the triangles in the subdivision as a {@link GeometryCollection}
+   * of triangular {@link Polygon}s.
+   * The frame triangles are not included.
+   *
+   * @param geomFact the GeometryFactory to use
+   * @return a GeometryCollection of triangular Polygons
+   */
+  public Geometry getTriangles(GeometryFactory geomFact) {
+    int[] tris = getTriangleVertices(false);
+    Polygon[] polys = new Polygon[tris.length / 3];
+    for (int i = 0; i < polys.length; i++) {
+      Coordinate p0 = getCoordinate(tris[3 * i]);
+      Coordinate[] ring = new Coordinate[] {
+          p0,
+          getCoordinate(tris[3 * i + 1]),
+          getCoordinate(tris[3 * i + 2]),
+          p0.copy()
+      };
+      polys[i] = geomFact.createPolygon(geomFact.createLinearRing(ring));
+    }
+    return geomFact.createGeometryCollection(polys);
+  }
+}
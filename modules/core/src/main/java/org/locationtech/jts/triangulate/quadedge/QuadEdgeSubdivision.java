@@ -243,6 +243,32 @@ public class QuadEdgeSubdivision {
 		eRotSym.delete();
 	}
 
+	/**
+	 * Replaces the edges of the subdivision with the edges of a triangulation
+	 * which has been constructed directly from {@link QuadEdge}s
+	 * (for example, by a divide-and-conquer algorithm).
+	 * The triangulation must contain the frame vertices,
+	 * and its boundary must be the frame triangle.
+	 * The existing edges of the subdivision are deleted.
+	 *
+	 * @param edges
+	 *          a collection of QuadEdges, one for every pair of connected vertices
+	 */
+	public void setEdges(Collection edges) {
+		for (Iterator i = quadEdges.iterator(); i.hasNext();) {
+			QuadEdge e = (QuadEdge) i.next();
+			QuadEdge eSym = e.sym();
+			QuadEdge eRot = e.rot();
+			QuadEdge eRotSym = e.rot().sym();
+			e.delete();
+			eSym.delete();
+			eRot.delete();
+			eRotSym.delete();
+		}
+		quadEdges = new ArrayList(edges);
+		startingEdge = (QuadEdge) quadEdges.get(0);
+	}
+
 	/**
 	 * Locates an edge of a triangle which contains a location 
 	 * specified by a Vertex v. 
@@ -12,6 +12,8 @@
 
 package org.locationtech.jts.triangulate.quadedge;
 
+import java.math.BigDecimal;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Triangle;
 import org.locationtech.jts.geom.impl.CoordinateArraySequence;
@@ -77,12 +79,35 @@ public class TrianglePredicate
   public static boolean isInCircleNormalized(
       Coordinate a, Coordinate b, Coordinate c, 
       Coordinate p) {
-    double adx = a.x - p.x;
-    double ady = a.y - p.y;
-    double bdx = b.x - p.x;
-    double bdy = b.y - p.y;
-    double cdx = c.x - p.x;
-    double cdy = c.y - p.y;
+    return isInCircleNormalized(a.x, a.y, b.x, b.y, c.x, c.y, p.x, p.y);
+  }
+  
+  /**
+   * Tests if a point is inside the circle defined by 
+   * the triangle with vertices a, b, c (oriented counter-clockwise),
+   * with the points given as ordinate values.
+   * This test uses simple double-precision arithmetic, 
+   * with normalization to the origin.
+   * 
+   * @param ax the x ordinate of a vertex of the triangle
+   * @param ay the y ordinate of a vertex of the triangle
+   * @param bx the x ordinate of a vertex of the triangle
+   * @param by the y ordinate of a vertex of the triangle
+   * @param cx the x ordinate of a vertex of the triangle
+   * @param cy the y ordinate of a vertex of the triangle
+   * @param px the x ordinate of the point to test
+   * @param py the y ordinate of the point to test
+   * @return true if this point is inside the circle defined by the points a, b, c
+   */
+  public static boolean isInCircleNormalized(
+      double ax, double ay, double bx, double by, double cx, double cy,
+      double px, double py) {
+    double adx = ax - px;
+    double ady = ay - py;
+    double bdx = bx - px;
+    double bdy = by - py;
+    double cdx = cx - px;
+    double cdy = cy - py;
 
     double abdet = adx * bdy - bdx * ady;
     double bcdet = bdx * cdy - cdx * bdy;
@@ -94,6 +119,98 @@ public class TrianglePredicate
     double disc = alift * bcdet + blift * cadet + clift * abdet;
     return disc > 0;
   }
+
+  /**
+   * The relative error bound of the double-precision inCircle determinant
+   * (from J.R.Shewchuk, "Adaptive Precision Floating-Point Arithmetic
+   * and Fast Robust Geometric Predicates").
+   */
+  private static final double IN_CIRCLE_ERROR_BOUND = (10.0 + 96.0 * 0x1.0p-53) * 0x1.0p-53;
+
+  /**
+   * Tests if a point is inside the circle defined by 
+   * the triangle with vertices a, b, c (oriented counter-clockwise),
+   * with the points given as ordinate values.
+   * The result is exact: points on the circle are never reported as inside it, 
+   * and the result is consistent for any ordering of co-circular points.
+   * <p>
+   * The determinant is computed using double-precision arithmetic with normalization to the origin.
+   * If its value is smaller than the error bound of that computation, 
+   * it is recomputed using exact arithmetic.
+   * This happens only for nearly co-circular points,
+   * for which even {@link DD} arithmetic is not always precise enough.
+   * 
+   * @param ax the x ordinate of a vertex of the triangle
+   * @param ay the y ordinate of a vertex of the triangle
+   * @param bx the x ordinate of a vertex of the triangle
+   * @param by the y ordinate of a vertex of the triangle
+   * @param cx the x ordinate of a vertex of the triangle
+   * @param cy the y ordinate of a vertex of the triangle
+   * @param px the x ordinate of the point to test
+   * @param py the y ordinate of the point to test
+   * @return true if this point is strictly inside the circle defined by the points a, b, c
+   */
+  public static boolean isInCircleExact(
+      double ax, double ay, double bx, double by, double cx, double cy,
+      double px, double py) {
+    double adx = ax - px;
+    double ady = ay - py;
+    double bdx = bx - px;
+    double bdy = by - py;
+    double cdx = cx - px;
+    double cdy = cy - py;
+
+    double bdxcdy = bdx * cdy;
+    double cdxbdy = cdx * bdy;
+    double cdxady = cdx * ady;
+    double adxcdy = adx * cdy;
+    double adxbdy = adx * bdy;
+    double bdxady = bdx * ady;
+    double alift = adx * adx + ady * ady;
+    double blift = bdx * bdx + bdy * bdy;
+    double clift = cdx * cdx + cdy * cdy;
+
+    double disc = alift * (bdxcdy - cdxbdy)
+        + blift * (cdxady - adxcdy)
+        + clift * (adxbdy - bdxady);
+    double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+        + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+        + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+    double errBound = IN_CIRCLE_ERROR_BOUND * permanent;
+    if (disc > errBound) return true;
+    if (-disc > errBound) return false;
+    return isInCircleBigDecimal(ax, ay, bx, by, cx, cy, px, py);
+  }
+
+  /**
+   * Computes the inCircle test using exact {@link BigDecimal} arithmetic.
+   * This is slow, so it is only used when the double-precision computation 
+   * cannot determine the result.
+   */
+  private static boolean isInCircleBigDecimal(
+      double ax, double ay, double bx, double by, double cx, double cy,
+      double px, double py) {
+    BigDecimal bpx = new BigDecimal(px);
+    BigDecimal bpy = new BigDecimal(py);
+    BigDecimal adx = new BigDecimal(ax).subtract(bpx);
+    BigDecimal ady = new BigDecimal(ay).subtract(bpy);
+    BigDecimal bdx = new BigDecimal(bx).subtract(bpx);
+    BigDecimal bdy = new BigDecimal(by).subtract(bpy);
+    BigDecimal cdx = new BigDecimal(cx).subtract(bpx);
+    BigDecimal cdy = new BigDecimal(cy).subtract(bpy);
+
+    BigDecimal abdet = adx.multiply(bdy).subtract(bdx.multiply(ady));
+    BigDecimal bcdet = bdx.multiply(cdy).subtract(cdx.multiply(bdy));
+    BigDecimal cadet = cdx.multiply(ady).subtract(adx.multiply(cdy));
+    BigDecimal alift = adx.multiply(adx).add(ady.multiply(ady));
+    BigDecimal blift = bdx.multiply(bdx).add(bdy.multiply(bdy));
+    BigDecimal clift = cdx.multiply(cdx).add(cdy.multiply(cdy));
+
+    BigDecimal disc = alift.multiply(bcdet)
+        .add(blift.multiply(cadet))
+        .add(clift.multiply(abdet));
+    return disc.signum() > 0;
+  }
   
   /**
    * Computes twice the area of the oriented triangle (a, b, c), i.e., the area is positive if the
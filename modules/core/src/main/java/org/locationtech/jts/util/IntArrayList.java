@@ -49,6 +49,37 @@ public class IntArrayList {
     return size;
   }
 
+  /**
+   * Tests whether this list is empty.
+   * 
+   * @return true if the list contains no values
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Gets the value at a given position in this list.
+   * 
+   * @param index the position of the value
+   * @return the value at the position
+   * @throws IndexOutOfBoundsException if the index is not less than the list size
+   */
+  public int get(int index) {
+    if (index >= size) 
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    return data[index];
+  }
+
+  /**
+   * Removes all values from this list.
+   * The capacity of the list is retained,
+   * so it can be reused without allocating.
+   */
+  public void clear() {
+    size = 0;
+  }
+
   /**
    * Increases the capacity of this list instance, if necessary, 
    * to ensure that it can hold at least the number of elements 
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import org.locationtech.jts.algorithm.AbstractPointInRingTest;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+
+/**
+ * Tests GridPointInAreaLocator algorithms
+ *
+ * @version 1.7
+ */
+public class GridPointInAreaLocatorTest extends AbstractPointInRingTest {
+
+  private WKTReader reader = new WKTReader();
+
+  public static void main(String args[]) {
+    TestRunner.run(GridPointInAreaLocatorTest.class);
+  }
+
+  public GridPointInAreaLocatorTest(String name) { super(name); }
+
+  protected void runPtInRing(int expectedLoc, Coordinate pt, String wkt)
+      throws Exception
+  {
+    Geometry geom = reader.read(wkt);
+    GridPointInAreaLocator loc = new GridPointInAreaLocator(geom);
+    int result = loc.locate(pt);
+    assertEquals(expectedLoc, result);
+  }
+
+  public void testEmpty() throws Exception {
+    runPtInRing(Location.EXTERIOR, new Coordinate(0,0), "POLYGON EMPTY");
+  }
+
+  public void testSmallBudget() throws Exception {
+    Geometry geom = reader.read(comb);
+    GridPointInAreaLocator loc = new GridPointInAreaLocator(geom, 1);
+    assertEquals(1, loc.getNumCellsX() * loc.getNumCellsY());
+    checkLocations(geom, loc, 0.25);
+  }
+
+  public void testComb() throws Exception {
+    Geometry geom = reader.read(comb);
+    checkLocations(geom, new GridPointInAreaLocator(geom), 0.25);
+  }
+
+  public void testHoles() throws Exception {
+    Geometry geom = reader.read("MULTIPOLYGON (((0 0, 0 30, 30 30, 30 0, 0 0), (5 5, 5 25, 25 25, 25 5, 5 5)), ((10 10, 10 20, 20 20, 20 10, 10 10)))");
+    checkLocations(geom, new GridPointInAreaLocator(geom), 0.5);
+  }
+
+  public void testSineStar() throws Exception {
+    Geometry geom = SineStarFactory.create(new Coordinate(0, 0), 100, 2000, 8, 0.7);
+    GridPointInAreaLocator loc = new GridPointInAreaLocator(geom);
+    assertTrue(loc.getNumCellsX() > 1);
+    checkLocations(geom, loc, 0.7);
+  }
+
+  /**
+   * Checks that the locations of a grid of points
+   * and all the geometry vertices
+   * match the locations computed by {@link IndexedPointInAreaLocator}.
+   */
+  private void checkLocations(Geometry geom, PointOnGeometryLocator loc, double gridSize) {
+    IndexedPointInAreaLocator expectedLoc = new IndexedPointInAreaLocator(geom);
+    Envelope env = geom.getEnvelopeInternal();
+    for (double x = env.getMinX() - gridSize; x <= env.getMaxX() + gridSize; x += gridSize) {
+      for (double y = env.getMinY() - gridSize; y <= env.getMaxY() + gridSize; y += gridSize) {
+        Coordinate p = new Coordinate(x, y);
+        assertEquals(expectedLoc.locate(p), loc.locate(p));
+      }
+    }
+    Coordinate[] pts = geom.getCoordinates();
+    for (int i = 0; i < pts.length; i++) {
+      assertEquals(Location.BOUNDARY, loc.locate(pts[i]));
+    }
+  }
+}
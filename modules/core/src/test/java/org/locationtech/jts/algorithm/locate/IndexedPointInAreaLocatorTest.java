@@ -13,6 +13,8 @@ package org.locationtech.jts.algorithm.locate;
 
 import org.locationtech.jts.algorithm.AbstractPointInRingTest;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Location;
 import org.locationtech.jts.io.WKTReader;
@@ -42,6 +44,10 @@ public class IndexedPointInAreaLocatorTest extends AbstractPointInRingTest {
     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
     int result = loc.locate(pt);
     assertEquals(expectedLoc, result);
+    
+    int[] batchResult = new int[1];
+    loc.locate(new double[] { pt.x }, new double[] { pt.y }, batchResult);
+    assertEquals(expectedLoc, batchResult[0]);
   }
 
    /**
@@ -53,4 +59,93 @@ public class IndexedPointInAreaLocatorTest extends AbstractPointInRingTest {
    public void testEmpty() throws Exception {
      runPtInRing(Location.EXTERIOR, new Coordinate(0,0), "POLYGON EMPTY");
   }
-}
\ No newline at end of file
+
+   public void testBatchEmpty() throws Exception {
+     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(reader.read("POLYGON EMPTY"));
+     int[] locs = new int[2];
+     loc.locate(new double[] { 0, 1 }, new double[] { 0, 1 }, locs);
+     assertEquals(Location.EXTERIOR, locs[0]);
+     assertEquals(Location.EXTERIOR, locs[1]);
+   }
+
+   public void testBatchComb() throws Exception {
+     checkBatch(comb, 0.5, false);
+   }
+
+   public void testBatchHoles() throws Exception {
+     checkBatch("MULTIPOLYGON (((0 0, 0 30, 30 30, 30 0, 0 0), (5 5, 5 25, 25 25, 25 5, 5 5)), ((10 10, 10 20, 20 20, 20 10, 10 10)))", 0.25, false);
+   }
+
+   public void testBatchParallel() throws Exception {
+     // enough points to split the batch into several tasks
+     checkBatch(comb, 0.05, true);
+   }
+
+   /**
+    * Checks that points whose Y ordinates are too close 
+    * to be distinguished in single precision are sorted correctly.
+    * The points are generated in decreasing Y order.
+    */
+   public void testBatchCloseY() throws Exception {
+     checkBatchCloseY(false);
+     checkBatchCloseY(true);
+   }
+
+   public void testBatchSequence() throws Exception {
+     Geometry geom = reader.read(comb);
+     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
+     CoordinateSequence seq = geom.getFactory().getCoordinateSequenceFactory().create(new Coordinate[] {
+         new Coordinate(1, 5), new Coordinate(11, 5), new Coordinate(35, 5) });
+     int[] locs = new int[3];
+     loc.locate(seq, locs);
+     assertEquals(Location.INTERIOR, locs[0]);
+     assertEquals(Location.BOUNDARY, locs[1]);
+     assertEquals(Location.EXTERIOR, locs[2]);
+   }
+
+   private void checkBatchCloseY(boolean isParallel) throws Exception {
+     Geometry geom = reader.read("POLYGON ((0 5000000, 1 5000000.1, 0 5000000.1, 0 5000000))");
+     int n = 100000;
+     double[] x = new double[n];
+     double[] y = new double[n];
+     for (int i = 0; i < n; i++) {
+       x[i] = 0.5;
+       y[i] = 5000000 + (n - 1 - i) * 1e-6;
+     }
+     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
+     int[] locs = new int[n];
+     loc.locate(x, y, locs, isParallel);
+     for (int i = 0; i < n; i++) {
+       assertEquals(loc.locate(new Coordinate(x[i], y[i])), locs[i]);
+     }
+   }
+
+   /**
+    * Checks that batch location matches single point location
+    * for a grid of points covering the geometry.
+    * The grid is generated in decreasing Y order
+    * to check that the sorting of the batch is correct.
+    */
+   private void checkBatch(String wkt, double gridSize, boolean isParallel) throws Exception {
+     Geometry geom = reader.read(wkt);
+     Envelope env = geom.getEnvelopeInternal();
+     int nx = (int) (env.getWidth() / gridSize) + 3;
+     int ny = (int) (env.getHeight() / gridSize) + 3;
+     double[] x = new double[nx * ny];
+     double[] y = new double[nx * ny];
+     int n = 0;
+     for (int j = ny - 1; j >= 0; j--) {
+       for (int i = 0; i < nx; i++) {
+         x[n] = env.getMinX() + (i - 1) * gridSize;
+         y[n] = env.getMinY() + (j - 1) * gridSize;
+         n++;
+       }
+     }
+     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
+     int[] locs = new int[n];
+     loc.locate(x, y, locs, isParallel);
+     for (int i = 0; i < n; i++) {
+       assertEquals(loc.locate(new Coordinate(x[i], y[i])), locs[i]);
+     }
+   }
+}
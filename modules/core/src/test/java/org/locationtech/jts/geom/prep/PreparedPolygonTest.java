@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PreparedPolygonTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PreparedPolygonTest.class);
+  }
+
+  public PreparedPolygonTest(String name) {
+    super(name);
+  }
+
+  public void testPrepare() {
+    Geometry poly = read("POLYGON ((10 10, 10 90, 90 90, 90 10, 50 50, 10 10))");
+    PreparedPolygon prep = new PreparedPolygon((Polygonal) poly);
+    prep.prepare();
+    assertTrue(prep.intersects(read("LINESTRING (0 50, 100 50)")));
+    assertTrue(prep.contains(read("POINT (50 80)")));
+    assertTrue(! prep.contains(read("POINT (50 20)")));
+  }
+
+  public void testPrepareEmpty() {
+    PreparedPolygon prep = new PreparedPolygon((Polygonal) read("POLYGON EMPTY"));
+    prep.prepare();
+    assertTrue(! prep.intersects(read("POINT (1 1)")));
+  }
+
+  public void testPrepareLine() {
+    PreparedGeometry prep = PreparedGeometryFactory.prepare(
+        read("LINESTRING (0 0, 10 10)"));
+    prep.prepare();
+    assertTrue(prep.intersects(read("LINESTRING (0 10, 10 0)")));
+  }
+
+  public void testConcurrentFirstUse() throws Exception {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, 1000, 10, 0.5);
+    final Geometry[] tests = new Geometry[100];
+    final boolean[] expected = new boolean[tests.length];
+    for (int i = 0; i < tests.length; i++) {
+      tests[i] = read("POINT (" + (i - 50) + " " + (i % 10) + ")");
+      expected[i] = poly.contains(tests[i]);
+    }
+    
+    // repeat to increase the chance of threads racing to initialize
+    for (int run = 0; run < 10; run++) {
+      final PreparedGeometry prep = PreparedGeometryFactory.prepare(poly);
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+      for (int t = 0; t < 8; t++) {
+        results.add(executor.submit(new Callable<Boolean>() {
+          public Boolean call() {
+            for (int i = 0; i < tests.length; i++) {
+              if (prep.contains(tests[i]) != expected[i]) return false;
+            }
+            return true;
+          }
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+      executor.shutdown();
+    }
+  }
+}
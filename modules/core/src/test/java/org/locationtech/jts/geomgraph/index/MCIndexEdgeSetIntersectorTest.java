@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geomgraph.index;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.overlay.OverlayOp;
+import org.locationtech.jts.operation.relate.RelateOp;
+import org.locationtech.jts.operation.valid.IsValidOp;
+import org.locationtech.jts.operation.valid.TopologyValidationError;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests that operations using {@link MCIndexEdgeSetIntersector}
+ * produce the same results as with the default intersector.
+ */
+public class MCIndexEdgeSetIntersectorTest extends TestCase
+{
+  private static WKTReader rdr = new WKTReader();
+
+  public static void main(String args[]) {
+    TestRunner.run(MCIndexEdgeSetIntersectorTest.class);
+  }
+
+  public MCIndexEdgeSetIntersectorTest(String name) { super(name); }
+
+  public void testPolygonsOverlapping() throws ParseException {
+    checkOperations("POLYGON ((10 90, 60 90, 60 10, 10 10, 10 90))",
+        "POLYGON ((40 70, 90 70, 90 30, 40 30, 40 70))");
+  }
+
+  public void testPolygonsTouching() throws ParseException {
+    checkOperations("POLYGON ((10 90, 50 90, 50 10, 10 10, 10 90))",
+        "POLYGON ((50 50, 90 90, 90 10, 50 50))");
+  }
+
+  public void testLinesCrossingWide() throws ParseException {
+    checkOperations("MULTILINESTRING ((0 10, 1000 12), (0 20, 1000 22), (0 30, 1000 32), (0 40, 1000 42))",
+        "LINESTRING (500 0, 500 50)");
+  }
+
+  public void testSelfCrossingLine() throws ParseException {
+    checkOperations("LINESTRING (0 0, 100 100, 100 0, 0 100)",
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90))");
+  }
+
+  public void testMultiPolygonStripes() throws ParseException {
+    checkOperations("MULTIPOLYGON (((0 0, 500 3, 1000 0, 1000 5, 500 8, 0 5, 0 0)), ((0 10, 500 13, 1000 10, 1000 15, 500 18, 0 15, 0 10)), ((0 20, 500 23, 1000 20, 1000 25, 500 28, 0 25, 0 20)))",
+        "POLYGON ((100 -10, 100 30, 900 30, 900 -10, 100 -10))");
+  }
+
+  public void testValidationSelfIntersection() throws ParseException {
+    checkValid("POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90))");
+  }
+
+  public void testValidationOverlappingShells() throws ParseException {
+    checkValid("MULTIPOLYGON (((10 90, 60 90, 60 10, 10 10, 10 90)), ((40 90, 90 90, 90 10, 40 10, 40 90)))");
+  }
+
+  public void testValidationDisconnectedInterior() throws ParseException {
+    checkValid("POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (10 50, 50 80, 90 50, 50 20, 10 50))");
+  }
+
+  private void checkOperations(String wkt0, String wkt1) throws ParseException
+  {
+    Geometry g0 = rdr.read(wkt0);
+    Geometry g1 = rdr.read(wkt1);
+
+    RelateOp relateIndexed = new RelateOp(g0, g1);
+    relateIndexed.setIndexedEdgeIntersector(true);
+    assertEquals(RelateOp.relate(g0, g1).toString(),
+        relateIndexed.getIntersectionMatrix().toString());
+
+    for (int opCode = OverlayOp.INTERSECTION; opCode <= OverlayOp.SYMDIFFERENCE; opCode++) {
+      Geometry expected = new OverlayOp(g0, g1).getResultGeometry(opCode);
+      OverlayOp overlayIndexed = new OverlayOp(g0, g1);
+      overlayIndexed.setIndexedEdgeIntersector(true);
+      Geometry actual = overlayIndexed.getResultGeometry(opCode);
+      assertTrue(expected.norm().equalsExact(actual.norm()));
+    }
+  }
+
+  private void checkValid(String wkt) throws ParseException
+  {
+    Geometry geom = rdr.read(wkt);
+    TopologyValidationError expected = new IsValidOp(geom).getValidationError();
+    IsValidOp op = new IsValidOp(geom);
+    op.setIndexedEdgeIntersector(true);
+    TopologyValidationError actual = op.getValidationError();
+    assertTrue(expected != null);
+    assertEquals(expected.getErrorType(), actual.getErrorType());
+    assertTrue(expected.getCoordinate().equals2D(actual.getCoordinate()));
+  }
+}
@@ -12,15 +12,20 @@
  */
 package org.locationtech.jts.index.hprtree;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.ItemIdVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndexTester;
+import org.locationtech.jts.util.IntArrayList;
+import org.locationtech.jts.index.strtree.GeometryItemDistance;
 
 import junit.framework.TestCase;
 
@@ -143,6 +148,122 @@ public class HPRtreeTest extends TestCase {
     queryGrid( 100, new HPRtree(2) );
   }
 
+  public void testParallelBuild() {
+    HPRtree serialTree = new HPRtree();
+    HPRtree parallelTree = new HPRtree();
+    parallelTree.setParallelBuild(true);
+    loadRandom(serialTree, 100000);
+    loadRandom(parallelTree, 100000);
+    serialTree.build();
+    parallelTree.build();
+    
+    Envelope[] serialBounds = serialTree.getBounds();
+    Envelope[] parallelBounds = parallelTree.getBounds();
+    assertEquals(serialBounds.length, parallelBounds.length);
+    for (int i = 0; i < serialBounds.length; i++) {
+      assertEquals(serialBounds[i], parallelBounds[i]);
+    }
+    Envelope searchEnv = new Envelope(100, 200, 100, 200);
+    assertEquals(serialTree.query(searchEnv), parallelTree.query(searchEnv));
+  }
+
+  public void testNearestNeighbourEmpty() {
+    HPRtree t = new HPRtree();
+    Geometry pt = factory.createPoint(new Coordinate(1, 1));
+    assertNull(t.nearestNeighbour(pt.getEnvelopeInternal(), pt, new GeometryItemDistance()));
+    assertEquals(0, t.nearestNeighbour(pt.getEnvelopeInternal(), pt, new GeometryItemDistance(), 3).length);
+  }
+
+  public void testNearestNeighbourSmall() {
+    checkNearestNeighbour(5, 1);
+    checkNearestNeighbour(5, 3);
+    checkNearestNeighbour(5, 10);
+  }
+
+  public void testNearestNeighbour() {
+    checkNearestNeighbour(1000, 1);
+    checkNearestNeighbour(1000, 7);
+    checkNearestNeighbour(10000, 20);
+  }
+
+  public void testNearestNeighbourMaxDistance() {
+    HPRtree t = new HPRtree();
+    for (int i = 0; i < 100; i++ ) {
+      Geometry pt = factory.createPoint(new Coordinate(i, 0));
+      t.insert(pt.getEnvelopeInternal(), pt);
+    }
+    Geometry q = factory.createPoint(new Coordinate(50.2, 1));
+    Object[] nearest = t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), 10, 2);
+    assertEquals(3, nearest.length);
+    assertEquals(new Coordinate(50, 0), ((Geometry) nearest[0]).getCoordinate());
+    assertEquals(new Coordinate(51, 0), ((Geometry) nearest[1]).getCoordinate());
+    assertEquals(new Coordinate(49, 0), ((Geometry) nearest[2]).getCoordinate());
+  }
+
+  private void checkNearestNeighbour(int size, int k) {
+    Random rnd = new Random(5678);
+    List<Geometry> pts = new ArrayList<Geometry>();
+    HPRtree t = new HPRtree();
+    for (int i = 0; i < size; i++ ) {
+      Geometry pt = factory.createPoint(new Coordinate(rnd.nextDouble() * 100, rnd.nextDouble() * 100));
+      pts.add(pt);
+      t.insert(pt.getEnvelopeInternal(), pt);
+    }
+    for (int i = 0; i < 20; i++) {
+      Geometry q = factory.createPoint(new Coordinate(rnd.nextDouble() * 120 - 10, rnd.nextDouble() * 120 - 10));
+      Object[] nearest = t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), k);
+      
+      double[] dist = new double[size];
+      for (int j = 0; j < size; j++) {
+        dist[j] = pts.get(j).distance(q);
+      }
+      Arrays.sort(dist);
+      assertEquals(Math.min(k, size), nearest.length);
+      for (int j = 0; j < nearest.length; j++) {
+        assertEquals(dist[j], ((Geometry) nearest[j]).distance(q), 0.0);
+      }
+      Geometry nearest1 = (Geometry) t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance());
+      assertEquals(dist[0], nearest1.distance(q), 0.0);
+    }
+  }
+
+  public void testQueryIds() {
+    HPRtree t = new HPRtree();
+    loadRandom(t, 10000);
+    final IntArrayList visitedIds = new IntArrayList();
+    IntArrayList ids = new IntArrayList();
+    for (int i = 0; i < 100; i++) {
+      Envelope searchEnv = new Envelope(10 * i, 10 * i + 20, 5 * i, 5 * i + 40);
+      List items = t.query(searchEnv);
+      
+      ids.clear();
+      t.query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(), ids);
+      visitedIds.clear();
+      t.query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(), 
+          new ItemIdVisitor() {
+            public void visitItem(int itemId) {
+              visitedIds.add(itemId);
+            }
+          });
+      assertEquals(items.size(), ids.size());
+      assertEquals(items.size(), visitedIds.size());
+      for (int j = 0; j < items.size(); j++) {
+        // items were inserted with their insertion index as the item
+        assertEquals(((Integer) items.get(j)).intValue(), ids.get(j));
+        assertEquals(((Integer) items.get(j)).intValue(), visitedIds.get(j));
+      }
+    }
+  }
+
+  private static void loadRandom(HPRtree tree, int n) {
+    Random rnd = new Random(1234);
+    for (int i = 0; i < n; i++) {
+      double x = rnd.nextDouble() * 1000;
+      double y = rnd.nextDouble() * 1000;
+      tree.insert(new Envelope(x, x + rnd.nextDouble(), y, y + rnd.nextDouble()), i);
+    }
+  }
+
   private void queryGrid(int size, HPRtree t) {
     for (int i = 0; i < size; i++ ) {
       t.insert(new Envelope(i, i+1, i, i+1), i);
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.kdtree;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemIdVisitor;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import test.jts.util.IOUtil;
+
+public class CompactKdTreeTest extends TestCase {
+  public static void main(String args[]) {
+    TestRunner.run(CompactKdTreeTest.class);
+  }
+
+  public CompactKdTreeTest(String name) {
+    super(name);
+  }
+
+  public void testSinglePoint() {
+    CompactKdTree index = new CompactKdTree(.001);
+
+    int node1 = index.insert(new Coordinate(1, 1));
+    int node2 = index.insert(new Coordinate(1, 1));
+
+    assertTrue("Inserting 2 identical points should create one node",
+        node1 == node2);
+    assertEquals(1, index.size());
+    assertEquals(2, index.getCount(node1));
+
+    List result = index.query(new Envelope(0, 10, 0, 10));
+    assertTrue(result.size() == 1);
+    KdNode node = (KdNode) result.get(0);
+    assertTrue(node.getCount() == 2);
+    assertTrue(node.isRepeated());
+  }
+
+  public void testData() {
+    CompactKdTree index = new CompactKdTree();
+    int node1 = index.insert(new Coordinate(1, 1));
+    int node2 = index.insert(new Coordinate(2, 2), "b");
+    assertNull(index.getData(node1));
+    assertEquals("b", index.getData(node2));
+  }
+
+  public void testSubset() {
+    checkQuery("MULTIPOINT ( (1 1), (2 2), (3 3), (4 4) )", 0,
+        new Envelope(1.5, 3.4, 1.5, 3.5));
+  }
+
+  public void testToleranceFailure() {
+    checkQuery("MULTIPOINT ( (0 0), (-.1 1), (.1 1) )", 1,
+        new Envelope(-9, 9, -9, 9));
+  }
+
+  public void testTolerance2() {
+    checkQuery("MULTIPOINT ((10 60), (20 60), (30 60), (30 63))", 9,
+        new Envelope(0, 99, 0, 99));
+  }
+
+  public void testSnapToNearest() {
+    checkQuery("MULTIPOINT ( (10 60), (20 60), (16 60))", 5,
+        new Envelope(0, 99, 0, 99));
+  }
+
+  public void testMatchesKdTree() {
+    Coordinate[] pts = randomGridPoints(5000, 200, 1);
+    for (double tolerance = 0; tolerance <= 2; tolerance++) {
+      KdTree kdTree = new KdTree(tolerance);
+      CompactKdTree index = new CompactKdTree(tolerance);
+      for (int i = 0; i < pts.length; i++) {
+        kdTree.insert(pts[i]);
+        index.insert(pts[i]);
+      }
+      assertEquals(kdTree.depth(), index.depth());
+      checkQueries(kdTree, index, 200, 2);
+    }
+  }
+
+  public void testBulkLoad() {
+    Coordinate[] pts = randomGridPoints(5000, 100, 3);
+    KdTree kdTree = KdTree.bulkLoad(pts, null);
+    CompactKdTree index = CompactKdTree.bulkLoad(pts, null);
+    assertEquals(kdTree.depth(), index.depth());
+    checkQueries(kdTree, index, 100, 4);
+  }
+
+  public void testBulkLoadEmpty() {
+    CompactKdTree index = CompactKdTree.bulkLoad(new Coordinate[0], null);
+    assertTrue(index.isEmpty());
+    assertEquals(-1, index.nearestNeighbor(new Coordinate(0, 0)));
+    assertEquals(0, index.query(new Envelope(0, 1, 0, 1)).size());
+  }
+
+  public void testBulkLoadData() {
+    Coordinate[] pts = new Coordinate[] { new Coordinate(2, 2), new Coordinate(1, 1), new Coordinate(1, 1) };
+    CompactKdTree index = CompactKdTree.bulkLoad(pts, new Object[] { "a", "b", "c" });
+    assertEquals(2, index.size());
+    int node = index.nearestNeighbor(new Coordinate(0, 0));
+    assertEquals("b", index.getData(node));
+    assertEquals(2, index.getCount(node));
+  }
+
+  public void testNearest() {
+    Coordinate[] pts = randomGridPoints(1000, 100, 5);
+    KdTree kdTree = KdTree.bulkLoad(pts, null);
+    CompactKdTree index = CompactKdTree.bulkLoad(pts, null);
+    Random rnd = new Random(6);
+    for (int i = 0; i < 100; i++) {
+      Coordinate p = new Coordinate(rnd.nextDouble() * 100, rnd.nextDouble() * 100);
+      List expected = kdTree.kNearest(p, 7);
+      int[] nearest = index.kNearest(p, 7);
+      assertEquals(expected.size(), nearest.length);
+      for (int j = 0; j < nearest.length; j++) {
+        assertEquals(((KdNode) expected.get(j)).getCoordinate(), index.getCoordinate(nearest[j]));
+      }
+      assertEquals(nearest[0], index.nearestNeighbor(p));
+    }
+  }
+
+  private void checkQuery(String wktInput, double tolerance, Envelope queryEnv) {
+    Coordinate[] pts = IOUtil.read(wktInput).getCoordinates();
+    KdTree kdTree = new KdTree(tolerance);
+    CompactKdTree index = new CompactKdTree(tolerance);
+    for (int i = 0; i < pts.length; i++) {
+      kdTree.insert(pts[i]);
+      index.insert(pts[i]);
+    }
+    checkQuery(kdTree, index, queryEnv);
+  }
+
+  private void checkQueries(KdTree kdTree, CompactKdTree index, int extent, long seed) {
+    Random rnd = new Random(seed);
+    for (int i = 0; i < 100; i++) {
+      double x = rnd.nextInt(extent);
+      double y = rnd.nextInt(extent);
+      Envelope env = new Envelope(x, x + rnd.nextInt(20), y, y + rnd.nextInt(20));
+      checkQuery(kdTree, index, env);
+    }
+  }
+
+  private void checkQuery(KdTree kdTree, CompactKdTree index, Envelope queryEnv) {
+    Coordinate[] expected = KdTree.toCoordinates(kdTree.query(queryEnv), true);
+    Coordinate[] result = KdTree.toCoordinates(index.query(queryEnv), true);
+    Arrays.sort(expected);
+    Arrays.sort(result);
+    assertTrue("Result count = " + result.length + ", expected count = " + expected.length,
+        result.length == expected.length);
+    assertTrue("Expected result coordinates not found", CoordinateArrays.equals(result, expected));
+
+    final int[] numFound = new int[1];
+    index.queryIds(queryEnv, new ItemIdVisitor() {
+      public void visitItem(int node) {
+        numFound[0] += 1;
+      }
+    });
+    assertEquals(KdTree.toCoordinates(kdTree.query(queryEnv)).length, numFound[0]);
+  }
+
+  private static Coordinate[] randomGridPoints(int n, int gridSize, long seed) {
+    Random rnd = new Random(seed);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(rnd.nextInt(gridSize), rnd.nextInt(gridSize));
+    }
+    return pts;
+  }
+}
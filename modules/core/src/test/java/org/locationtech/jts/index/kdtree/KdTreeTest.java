@@ -12,8 +12,10 @@
 
 package org.locationtech.jts.index.kdtree;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -92,6 +94,129 @@ public class KdTreeTest extends TestCase {
         "MULTIPOINT ( (10 60), (20 60), (20 60))");
   }
   
+  public void testBulkLoad() {
+    KdTree index = KdTree.bulkLoad(
+        IOUtil.read("MULTIPOINT ( (10 60), (20 60), (20 60), (16 60), (10 10))").getCoordinates(), null);
+    testQuery(index, new Envelope(0, 99, 0, 99), true,
+        IOUtil.read("MULTIPOINT ( (10 60), (20 60), (20 60), (16 60), (10 10))").getCoordinates());
+    testQuery(index, new Envelope(15, 99, 50, 99), false,
+        IOUtil.read("MULTIPOINT ( (20 60), (16 60))").getCoordinates());
+  }
+
+  public void testBulkLoadEmpty() {
+    KdTree index = KdTree.bulkLoad(new Coordinate[0], null);
+    assertTrue(index.isEmpty());
+    assertNull(index.nearestNeighbor(new Coordinate(0, 0)));
+  }
+
+  public void testBulkLoadData() {
+    Coordinate[] pts = new Coordinate[] { new Coordinate(1, 1), new Coordinate(2, 2), new Coordinate(1, 1) };
+    KdTree index = KdTree.bulkLoad(pts, new Object[] { "a", "b", "c" });
+    KdNode node = index.nearestNeighbor(new Coordinate(0, 0));
+    assertEquals("a", node.getData());
+    assertEquals(2, node.getCount());
+  }
+
+  public void testBulkLoadBalanced() {
+    // sorted points produce a degenerate tree when inserted
+    Coordinate[] pts = new Coordinate[1023];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(i, i);
+    }
+    KdTree index = KdTree.bulkLoad(pts, null);
+    assertEquals(10, index.depth());
+    testQuery(index, new Envelope(100, 199.5, 0, 1000), false, 
+        Arrays.copyOfRange(pts, 100, 200));
+  }
+
+  public void testBulkLoadMatchesInsert() {
+    // a coarse grid ensures many points have equal ordinates
+    Coordinate[] pts = randomGridPoints(2000, 50, 1);
+    KdTree bulkIndex = KdTree.bulkLoad(pts, null);
+    KdTree index = new KdTree();
+    for (int i = 0; i < pts.length; i++) {
+      index.insert(pts[i]);
+    }
+    Random rnd = new Random(2);
+    for (int i = 0; i < 100; i++) {
+      double x = rnd.nextInt(50);
+      double y = rnd.nextInt(50);
+      Envelope env = new Envelope(x, x + rnd.nextInt(10), y, y + rnd.nextInt(10));
+      testQuery(bulkIndex, env, true, KdTree.toCoordinates(index.query(env), true));
+    }
+  }
+
+  public void testNearest() {
+    Coordinate[] pts = randomGridPoints(1000, 100, 3);
+    KdTree index = KdTree.bulkLoad(pts, null);
+    Random rnd = new Random(4);
+    for (int i = 0; i < 100; i++) {
+      Coordinate p = new Coordinate(rnd.nextDouble() * 100, rnd.nextDouble() * 100);
+      checkNearest(index, pts, p, 1);
+      checkNearest(index, pts, p, 7);
+    }
+  }
+
+  public void testNearestInserted() {
+    Coordinate[] pts = randomGridPoints(1000, 100, 5);
+    KdTree index = new KdTree();
+    for (int i = 0; i < pts.length; i++) {
+      index.insert(pts[i]);
+    }
+    checkNearest(index, pts, new Coordinate(50.5, 50.5), 5);
+    assertEquals(index.nearestNeighbor(new Coordinate(50.5, 50.5)), 
+        index.kNearest(new Coordinate(50.5, 50.5), 1).get(0));
+  }
+
+  public void testRadius() {
+    Coordinate[] pts = randomGridPoints(1000, 100, 6);
+    KdTree index = KdTree.bulkLoad(pts, null);
+    Coordinate center = new Coordinate(40, 60);
+    List result = index.query(center, 10);
+    List expected = new ArrayList();
+    for (int i = 0; i < pts.length; i++) {
+      if (center.distance(pts[i]) <= 10 && ! expected.contains(pts[i]))
+        expected.add(pts[i]);
+    }
+    assertEquals(expected.size(), result.size());
+    for (int i = 0; i < result.size(); i++) {
+      KdNode node = (KdNode) result.get(i);
+      assertTrue(expected.contains(node.getCoordinate()));
+    }
+  }
+
+  private void checkNearest(KdTree index, Coordinate[] pts, Coordinate p, int k) {
+    List nearest = index.kNearest(p, k);
+    // the distances to the nearest distinct points
+    Coordinate[] sorted = CoordinateArrays.removeRepeatedPoints(sortedCopy(pts));
+    double[] dist = new double[sorted.length];
+    for (int i = 0; i < sorted.length; i++) {
+      dist[i] = p.distance(sorted[i]);
+    }
+    Arrays.sort(dist);
+    assertEquals(k, nearest.size());
+    for (int i = 0; i < k; i++) {
+      KdNode node = (KdNode) nearest.get(i);
+      assertEquals(dist[i], p.distance(node.getCoordinate()), 0.0);
+    }
+    assertEquals(dist[0], p.distance(index.nearestNeighbor(p).getCoordinate()), 0.0);
+  }
+
+  private static Coordinate[] sortedCopy(Coordinate[] pts) {
+    Coordinate[] copy = CoordinateArrays.copyDeep(pts);
+    Arrays.sort(copy);
+    return copy;
+  }
+
+  private static Coordinate[] randomGridPoints(int n, int gridSize, long seed) {
+    Random rnd = new Random(seed);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(rnd.nextInt(gridSize), rnd.nextInt(gridSize));
+    }
+    return pts;
+  }
+
   private void testQuery(String wktInput, double tolerance,
       Envelope queryEnv, String wktExpected) {
     KdTree index = build(wktInput, tolerance);
@@ -11,6 +11,8 @@
  * http://www.eclipse.org/org/documents/edl-v10.php.
  */
 package org.locationtech.jts.index.strtree;
+import java.io.FileInputStream;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,10 +27,13 @@ import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.ItemIdVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndexTester;
 import org.locationtech.jts.util.AssertionFailedException;
+import org.locationtech.jts.util.IntArrayList;
 
+import test.jts.TestFiles;
 import test.jts.index.STRtreeDemo;
 import test.jts.util.SerializationUtil;
 
@@ -158,6 +163,112 @@ public class STRtreeTest extends TestCase {
     assertEquals(3, tree.size());
   }
  
+  public void testParallelBuild() {
+    STRtree serialTree = new STRtree();
+    STRtree parallelTree = new STRtree();
+    parallelTree.setParallelBuild(true);
+    loadRandom(serialTree, 100000);
+    loadRandom(parallelTree, 100000);
+    assertEquals(serialTree.itemsTree(), parallelTree.itemsTree());
+    assertEquals(serialTree.depth(), parallelTree.depth());
+    
+    Envelope searchEnv = new Envelope(100, 200, 100, 200);
+    assertEquals(serialTree.query(searchEnv), parallelTree.query(searchEnv));
+  }
+
+  public void testQueryIds() {
+    STRtree t = new STRtree();
+    loadRandom(t, 10000);
+    final IntArrayList visitedIds = new IntArrayList();
+    IntArrayList ids = new IntArrayList();
+    for (int i = 0; i < 100; i++) {
+      Envelope searchEnv = new Envelope(10 * i, 10 * i + 20, 5 * i, 5 * i + 40);
+      List items = t.query(searchEnv);
+      
+      ids.clear();
+      t.query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(), ids);
+      visitedIds.clear();
+      t.query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(), 
+          new ItemIdVisitor() {
+            public void visitItem(int itemId) {
+              visitedIds.add(itemId);
+            }
+          });
+      assertEquals(items.size(), ids.size());
+      assertEquals(items.size(), visitedIds.size());
+      for (int j = 0; j < items.size(); j++) {
+        // items were inserted with their insertion index as the item
+        assertEquals(((Integer) items.get(j)).intValue(), ids.get(j));
+        assertEquals(((Integer) items.get(j)).intValue(), visitedIds.get(j));
+      }
+    }
+  }
+
+  public void testQueryIdsSerialized()
+  throws Exception
+  {
+    STRtree t = new STRtree();
+    loadRandom(t, 1000);
+    t.build();
+    t = (STRtree) SerializationUtil.deserialize(SerializationUtil.serialize(t));
+    
+    Envelope searchEnv = new Envelope(100, 300, 200, 400);
+    List items = t.query(searchEnv);
+    IntArrayList ids = new IntArrayList();
+    t.query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(), ids);
+    assertEquals(items.size(), ids.size());
+    for (int j = 0; j < items.size(); j++) {
+      assertEquals(((Integer) items.get(j)).intValue(), ids.get(j));
+    }
+  }
+
+  /**
+   * Trees serialized before item ids were recorded
+   * are given ids when they are read.
+   * The file contains a built and an unbuilt tree of 100 items,
+   * inserted as in {@link #loadRandom(STRtree, int)}.
+   */
+  public void testQueryIdsSerializedWithoutIds()
+  throws Exception
+  {
+    STRtree[] trees;
+    try (ObjectInputStream in = new ObjectInputStream(
+        new FileInputStream(TestFiles.getResourceFilePath("strtree-no-ids.ser")))) {
+      trees = (STRtree[]) in.readObject();
+    }
+    Envelope allEnv = new Envelope(-1, 1001, -1, 1001);
+
+    // a built tree numbers its items in tree order
+    IntArrayList ids = new IntArrayList();
+    trees[0].query(allEnv.getMinX(), allEnv.getMinY(), allEnv.getMaxX(), allEnv.getMaxY(), ids);
+    int[] sortedIds = ids.toArray();
+    Arrays.sort(sortedIds);
+    assertEquals(100, sortedIds.length);
+    for (int i = 0; i < sortedIds.length; i++) {
+      assertEquals(i, sortedIds[i]);
+    }
+
+    // an unbuilt tree numbers its items in insertion order
+    STRtree t = trees[1];
+    Envelope searchEnv = new Envelope(100, 600, 200, 700);
+    List items = t.query(searchEnv);
+    ids.clear();
+    t.query(searchEnv.getMinX(), searchEnv.getMinY(), searchEnv.getMaxX(), searchEnv.getMaxY(), ids);
+    assertEquals(items.size(), ids.size());
+    for (int j = 0; j < items.size(); j++) {
+      assertEquals(((Integer) items.get(j)).intValue(), ids.get(j));
+    }
+  }
+
+  private static void loadRandom(STRtree tree, int n) {
+    Random rnd = new Random(1234);
+    for (int i = 0; i < n; i++) {
+      double x = rnd.nextDouble() * 1000;
+      double y = rnd.nextDouble() * 1000;
+      tree.insert(new Envelope(x, x + rnd.nextDouble(), y, y + rnd.nextDouble()), i);
+    }
+  }
+
   private void doTestCreateParentsFromVerticalSlice(int childCount,
       int nodeCapacity, int expectedChildrenPerParentBoundable,
       int expectedChildrenOfLastParent) {
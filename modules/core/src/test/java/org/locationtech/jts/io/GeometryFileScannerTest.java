@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.GeometryFilter;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link GeometryFileScanner}.
+ */
+public class GeometryFileScannerTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(GeometryFileScannerTest.class);
+  }
+
+  private GeometryFactory geomFactory = new GeometryFactory();
+  private WKTReader rdr = new WKTReader(geomFactory);
+
+  public GeometryFileScannerTest(String name) {
+    super(name);
+  }
+
+  public void testMixedFormats() throws Exception
+  {
+    List geoms = createGeometries(200);
+    File file = writeFile(geoms, "\n");
+    checkScan(file, geoms, 1000);
+    checkScan(file, geoms, 100000000);
+  }
+
+  public void testSmallChunks() throws Exception
+  {
+    // chunks are smaller than many of the lines
+    List geoms = createGeometries(100);
+    File file = writeFile(geoms, "\r\n\n");
+    checkScan(file, geoms, 50);
+    checkScan(file, geoms, 1);
+  }
+
+  public void testLongLines() throws Exception
+  {
+    // lines are longer than the parsing window
+    List geoms = new ArrayList();
+    for (int i = 0; i < 4; i++) {
+      SineStarFactory gsf = new SineStarFactory(geomFactory);
+      gsf.setNumPoints(5000 * (i + 1));
+      geoms.add(gsf.createSineStar());
+    }
+    File file = writeFile(geoms, "\n");
+    checkScan(file, geoms, 1000);
+    checkScan(file, geoms, 100000000);
+  }
+
+  public void testEmptyFile() throws Exception
+  {
+    File file = writeFile(new ArrayList(), "\n");
+    checkScan(file, new ArrayList(), 100);
+  }
+
+  public void testParseError() throws Exception
+  {
+    File file = writeText("POINT (1 1)\nPOINT (1 X)\nPOINT (2 2)\n");
+    GeometryFileScanner scanner = new GeometryFileScanner(file, geomFactory);
+    checkParseError(scanner);
+    scanner.setParallel(true);
+    checkParseError(scanner);
+
+    file = writeText("POINT (1 1)\n0101000000000000000000F03F\n");
+    checkParseError(new GeometryFileScanner(file, geomFactory));
+  }
+
+  private void checkParseError(GeometryFileScanner scanner) throws IOException
+  {
+    try {
+      scanner.read();
+      fail("Expected ParseException");
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  private void checkScan(File file, List expected, int chunkSize) throws Exception
+  {
+    GeometryFileScanner scanner = new GeometryFileScanner(file, geomFactory);
+    scanner.setChunkSize(chunkSize);
+    checkEqual(expected, scanner.read());
+
+    scanner.setParallel(true);
+    checkEqual(expected, scanner.read());
+
+    final List visited = new ArrayList();
+    scanner.scan(new GeometryFilter() {
+      public void filter(Geometry geom) {
+        visited.add(geom);
+      }
+    });
+    checkEqual(expected, visited);
+
+    List streamed = StreamSupport.stream(scanner.spliterator(), true)
+        .collect(Collectors.toList());
+    checkEqual(expected, streamed);
+  }
+
+  private void checkEqual(List expected, List actual)
+  {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertTrue(((Geometry) expected.get(i)).equalsExact((Geometry) actual.get(i)));
+    }
+  }
+
+  private List createGeometries(int num) throws ParseException
+  {
+    List geoms = new ArrayList();
+    for (int i = 0; i < num; i++) {
+      switch (i % 3) {
+      case 0:
+        geoms.add(rdr.read("POINT (" + i + " " + (i * 0.5) + ")"));
+        break;
+      case 1:
+        geoms.add(rdr.read("LINESTRING (0 0, " + i + " 1, 2 " + i + ")"));
+        break;
+      default:
+        SineStarFactory gsf = new SineStarFactory(geomFactory);
+        gsf.setSize(i + 10);
+        gsf.setNumPoints(4 + i % 50);
+        geoms.add(gsf.createSineStar());
+      }
+    }
+    return geoms;
+  }
+
+  /**
+   * Writes geometries to a file, alternating between WKT and WKBHex.
+   */
+  private File writeFile(List geoms, String separator) throws IOException
+  {
+    WKTWriter wktWriter = new WKTWriter();
+    WKBWriter wkbWriter = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < geoms.size(); i++) {
+      Geometry g = (Geometry) geoms.get(i);
+      if (i % 2 == 0)
+        sb.append(wktWriter.write(g));
+      else
+        sb.append(WKBWriter.toHex(wkbWriter.write(g)));
+      sb.append(separator);
+    }
+    return writeText(sb.toString());
+  }
+
+  private File writeText(String text) throws IOException
+  {
+    File file = File.createTempFile("jts-scan", ".txt");
+    file.deleteOnExit();
+    OutputStream os = new FileOutputStream(file);
+    try {
+      os.write(text.getBytes(StandardCharsets.US_ASCII));
+    }
+    finally {
+      os.close();
+    }
+    return file;
+  }
+}
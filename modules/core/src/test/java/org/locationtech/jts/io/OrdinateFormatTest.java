@@ -1,5 +1,7 @@
 package org.locationtech.jts.io;
 
+import java.util.Random;
+
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
 
@@ -60,6 +62,46 @@ public class OrdinateFormatTest extends TestCase {
     checkFormat(Double.NEGATIVE_INFINITY, "-Inf");
   }
 
+  public void testFormatToBuffer() {
+    checkFormatBuffer(0.0, 8, "0");
+    checkFormatBuffer(-0.0, 8, "-0");
+    checkFormatBuffer(-0.000000001, 8, "-0");
+    checkFormatBuffer(123456.000000005, 8, "123456.00000001");
+    checkFormatBuffer(0.999999999, 8, "1");
+    checkFormatBuffer(0.00012, 8, "0.00012");
+    checkFormatBuffer(1.123456789012345, 4, "1.1235");
+    checkFormatBuffer(0.0000000000123456789012345, OrdinateFormat.MAX_FRACTION_DIGITS, "0.0000000000123456789012345");
+    checkFormatBuffer(12345678901234567890.0, OrdinateFormat.MAX_FRACTION_DIGITS, "12345678901234567000");
+    checkFormatBuffer(Double.NaN, 8, "NaN");
+  }
+
+  public void testFormatToBufferMatchesFormat() {
+    Random rnd = new Random(42);
+    int[] maxDigits = { 0, 1, 3, 6, 8, 12, 16, 22, OrdinateFormat.MAX_FRACTION_DIGITS };
+    for (int i = 0; i < maxDigits.length; i++) {
+      OrdinateFormat format = OrdinateFormat.create(maxDigits[i]);
+      for (int j = 0; j < 10000; j++) {
+        double d;
+        switch (j % 4) {
+        case 0: d = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(24) - 10); break;
+        case 1: d = Math.round(rnd.nextDouble() * 1e9) / Math.pow(10, rnd.nextInt(12)); break;
+        // values close to rounding ties
+        case 2: d = (rnd.nextInt(200000) - 100000) * 0.5 / Math.pow(10, rnd.nextInt(10)); break;
+        default: d = Double.longBitsToDouble(rnd.nextLong());
+        }
+        StringBuilder buf = new StringBuilder();
+        format.format(d, buf);
+        assertEquals(format.format(d), buf.toString());
+      }
+    }
+  }
+
+  private void checkFormatBuffer(double d, int maxFractionDigits, String expected) {
+    StringBuilder buf = new StringBuilder("x");
+    OrdinateFormat.create(maxFractionDigits).format(d, buf);
+    assertEquals("x" + expected, buf.toString());
+  }
+
   private void checkFormat(double d, String expected) {
     String actual = OrdinateFormat.DEFAULT.format(d);
     assertEquals(expected, actual);
@@ -11,9 +11,13 @@
  */
 package org.locationtech.jts.io;
 
+import java.nio.ByteBuffer;
+
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceComparator;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
 
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
@@ -180,6 +184,86 @@ public class WKBReaderTest  extends TestCase
     //    "MULTIPOLYGONM(((0 0 100,0 10 100,10 10 100,10 0 100,0 0 100),(1 1 100,1 9 100,9 9 100,9 1 100,1 1 100)),((-9 0 50,-9 10 50,-1 10 50,-1 0 50,-9 0 50)))");
   }
 
+  public void testByteBuffer() throws ParseException
+  {
+    checkByteBuffer("POINT (1 2)");
+    checkByteBuffer("LINESTRING (1 2, 10 20, 100 200)");
+    checkByteBuffer("POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1))");
+    checkByteBuffer("MULTIPOLYGON (((0 0, 100 0, 100 100, 0 100, 0 0)), ((200 200, 200 250, 250 250, 250 200, 200 200)))");
+    checkByteBuffer("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 10 10), POLYGON EMPTY)");
+    checkByteBuffer("LINESTRING Z (1 2 3, 10 20 30)");
+  }
+
+  public void testByteBufferSpatialite() throws ParseException
+  {
+    // LINESTRING Z with SRID 4326
+    String hex = "01020000A0E610000002000000000000000000F03F00000000000000400000000000000840000000000000104000000000000014400000000000001840";
+    Geometry expected = new WKBReader(geomFactory).read(WKBReader.hexToBytes(hex));
+    Geometry g = new WKBReader(geomFactory).read(ByteBuffer.wrap(WKBReader.hexToBytes(hex)));
+    assertEquals(4326, g.getSRID());
+    assertEquals(6.0, g.getCoordinates()[1].getZ());
+    assertTrue(expected.equalsExact(g));
+  }
+
+  public void testByteBufferPacked() throws ParseException
+  {
+    GeometryFactory packedFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    Geometry geom = rdr.read("LINESTRING (1 2, 10 20, 100 200)");
+    byte[] wkb = new WKBWriter().write(geom);
+    Geometry g = new WKBReader(packedFactory).read(ByteBuffer.wrap(wkb));
+    CoordinateSequence seq = ((LineString) g).getCoordinateSequence();
+    assertTrue(seq instanceof PackedCoordinateSequence.Double);
+    assertTrue(geom.equalsExact(g));
+  }
+
+  public void testByteBufferSequence() throws ParseException
+  {
+    Geometry g1 = rdr.read("POINT (1 2)");
+    Geometry g2 = rdr.read("LINESTRING (1 2, 10 20, 100 200)");
+    byte[] wkb1 = new WKBWriter().write(g1);
+    byte[] wkb2 = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN).write(g2);
+    ByteBuffer buf = ByteBuffer.allocateDirect(wkb1.length + wkb2.length);
+    buf.put(wkb1).put(wkb2).flip();
+
+    WKBReader wkbReader = new WKBReader(geomFactory);
+    assertTrue(g1.equalsExact(wkbReader.read(buf)));
+    assertEquals(wkb1.length, buf.position());
+    assertTrue(g2.equalsExact(wkbReader.read(buf)));
+    assertTrue(! buf.hasRemaining());
+  }
+
+  public void testByteBufferTruncated() throws ParseException
+  {
+    Geometry geom = rdr.read("LINESTRING (1 2, 10 20, 100 200)");
+    byte[] wkb = new WKBWriter().write(geom);
+    ByteBuffer buf = ByteBuffer.wrap(wkb, 0, wkb.length - 4);
+    try {
+      new WKBReader(geomFactory).read(buf);
+      fail("Expected ParseException");
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+    assertEquals(0, buf.position());
+  }
+
+  private void checkByteBuffer(String wkt) throws ParseException
+  {
+    Geometry geom = rdr.read(wkt);
+    int dim = wkt.contains(" Z ") ? 3 : 2;
+    checkByteBuffer(geom, dim, ByteOrderValues.BIG_ENDIAN);
+    checkByteBuffer(geom, dim, ByteOrderValues.LITTLE_ENDIAN);
+  }
+
+  private void checkByteBuffer(Geometry geom, int dim, int byteOrder) throws ParseException
+  {
+    byte[] wkb = new WKBWriter(dim, byteOrder).write(geom);
+    Geometry expected = new WKBReader(geomFactory).read(wkb);
+    Geometry g = new WKBReader(geomFactory).read(ByteBuffer.wrap(wkb));
+    assertTrue(expected.equalsExact(g));
+    assertTrue(expected.compareTo(g, new CoordinateSequenceComparator(dim)) == 0);
+  }
+
   /**
    * Not yet implemented satisfactorily.
    * 
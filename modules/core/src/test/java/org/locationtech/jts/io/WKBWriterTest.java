@@ -11,9 +11,18 @@
  */
 package org.locationtech.jts.io;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.framework.TestCase;
 
@@ -63,4 +72,96 @@ public class WKBWriterTest extends TestCase {
         assertTrue(p1.equalsExact(p2));
         assertEquals(1234, p2.getSRID());
     }
+
+    public void testByteBuffer() throws Exception {
+        checkByteBuffer(new GeometryFactory());
+    }
+
+    public void testByteBufferPacked() throws Exception {
+        checkByteBuffer(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        checkByteBuffer(new GeometryFactory(PackedCoordinateSequenceFactory.FLOAT_FACTORY));
+    }
+
+    public void testByteBufferSequence() throws Exception {
+        WKTReader rdr = new WKTReader();
+        Geometry g1 = rdr.read("POINT (1 2)");
+        Geometry g2 = rdr.read("LINESTRING (1 2, 10 20, 100 200)");
+        WKBWriter w = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+        ByteBuffer buf = ByteBuffer.allocateDirect(w.getSize(g1) + w.getSize(g2));
+        w.write(g1, buf);
+        w.write(g2, buf);
+        assertTrue(! buf.hasRemaining());
+
+        buf.flip();
+        WKBReader r = new WKBReader();
+        assertTrue(g1.equalsExact(r.read(buf)));
+        assertTrue(g2.equalsExact(r.read(buf)));
+    }
+
+    public void testByteBufferOverflow() throws Exception {
+        Geometry g = new WKTReader().read("LINESTRING (1 2, 10 20, 100 200)");
+        WKBWriter w = new WKBWriter();
+        ByteBuffer buf = ByteBuffer.allocate(w.getSize(g) - 1);
+        try {
+            w.write(g, buf);
+            fail("Expected BufferOverflowException");
+        }
+        catch (BufferOverflowException ex) {
+            // expected
+        }
+        assertEquals(0, buf.position());
+    }
+
+    private static final String[] WKT = {
+        "POINT (1 2)",
+        "POINT Z (1 2 3)",
+        "POINT M (1 2 4)",
+        "LINESTRING (1 2, 10 20, 100 200)",
+        "LINESTRING Z (1 2 3, 10 20 30)",
+        "LINESTRING ZM (1 2 3 4, 10 20 30 40)",
+        "LINESTRING EMPTY",
+        "POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1))",
+        "POLYGON EMPTY",
+        "MULTIPOINT ((0 0), (1 4), (100 200))",
+        "MULTILINESTRING ((0 0, 1 10), (10 10, 20 30))",
+        "MULTIPOLYGON (((0 0, 100 0, 100 100, 0 100, 0 0)), ((200 200, 200 250, 250 250, 250 200, 200 200)))",
+        "GEOMETRYCOLLECTION (POINT (20 20), GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 10 10)))"
+    };
+
+    private void checkByteBuffer(GeometryFactory gf) throws Exception {
+        WKTReader rdr = new WKTReader(gf);
+        for (int i = 0; i < WKT.length; i++) {
+            Geometry g = rdr.read(WKT[i]);
+            g.setSRID(4326);
+            for (int dim = 2; dim <= 3; dim++) {
+                checkByteBuffer(g, new WKBWriter(dim, ByteOrderValues.BIG_ENDIAN));
+                checkByteBuffer(g, new WKBWriter(dim, ByteOrderValues.LITTLE_ENDIAN));
+                checkByteBuffer(g, new WKBWriter(dim, ByteOrderValues.LITTLE_ENDIAN, true));
+            }
+        }
+    }
+
+    /**
+     * Checks that writing into a ByteBuffer produces 
+     * the same bytes as writing to an OutStream.
+     */
+    private void checkByteBuffer(Geometry g, WKBWriter w) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        w.write(g, new OutputStreamOutStream(bos));
+        byte[] expected = bos.toByteArray();
+
+        assertEquals(expected.length, w.getSize(g));
+        assertTrue(Arrays.equals(expected, w.write(g)));
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(expected.length + 3);
+        ByteOrder order = buf.order();
+        buf.position(3);
+        w.write(g, buf);
+        assertEquals(expected.length + 3, buf.position());
+        assertEquals(order, buf.order());
+        byte[] actual = new byte[expected.length];
+        buf.position(3);
+        buf.get(actual);
+        assertTrue(Arrays.equals(expected, actual));
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+
+import test.jts.GeometryTestCase;
+
+public class MCIndexNoderTest extends GeometryTestCase {
+
+  public MCIndexNoderTest(String name) {
+    super(name);
+  }
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(MCIndexNoderTest.class);
+  }
+
+  public void testNodedSubstrings() {
+    List segStrings = new ArrayList();
+    segStrings.add(new NodedSegmentString(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(10, 10) }, null));
+    segStrings.add(new NodedSegmentString(new Coordinate[] {
+        new Coordinate(0, 10), new Coordinate(10, 0) }, null));
+    Collection noded = node(segStrings, false);
+    assertEquals(4, noded.size());
+  }
+
+  /**
+   * Tests that parallel noding produces the same substrings as sequential noding.
+   */
+  public void testParallel() {
+    Collection expected = node(randomLines(500, 20, 1), false);
+    Collection actual = node(randomLines(500, 20, 1), true);
+    assertEquals(expected.size(), actual.size());
+    Iterator it = actual.iterator();
+    for (Iterator i = expected.iterator(); i.hasNext(); ) {
+      SegmentString expectedSS = (SegmentString) i.next();
+      SegmentString actualSS = (SegmentString) it.next();
+      assertTrue(CoordinateArrays.equals(expectedSS.getCoordinates(), actualSS.getCoordinates()));
+    }
+  }
+
+  private static Collection node(List segStrings, boolean isParallel) {
+    MCIndexNoder noder = new MCIndexNoder(new IntersectionAdder(new RobustLineIntersector()));
+    noder.setParallel(isParallel);
+    noder.computeNodes(segStrings);
+    return noder.getNodedSubstrings();
+  }
+
+  private static List randomLines(int numLines, int numPts, long seed) {
+    Random rnd = new Random(seed);
+    List segStrings = new ArrayList();
+    for (int i = 0; i < numLines; i++) {
+      // random walks, to create many monotone chains
+      Coordinate[] pts = new Coordinate[numPts];
+      pts[0] = new Coordinate(rnd.nextDouble() * 1000, rnd.nextDouble() * 1000);
+      for (int j = 1; j < numPts; j++) {
+        pts[j] = new Coordinate(pts[j - 1].x + rnd.nextDouble() * 40 - 20,
+            pts[j - 1].y + rnd.nextDouble() * 40 - 20);
+      }
+      segStrings.add(new NodedSegmentString(pts, null));
+    }
+    return segStrings;
+  }
+}
@@ -12,6 +12,7 @@
  */
 package org.locationtech.jts.operation.buffer;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -504,4 +505,18 @@ public class BufferTest extends GeometryTestCase {
     //System.out.println(union);
     assertEquals("POLYGON ((0 0, 0 100, 50 100, 50 150, 150 150, 150 50, 100 50, 100 0, 0 0))", union.toString());
   }
+
+  public void testParallelNoding() throws Exception {
+    // a zigzag line with many self-intersecting buffer curves
+    Coordinate[] pts = new Coordinate[2000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(i, (i % 2) * 10);
+    }
+    Geometry line = new GeometryFactory().createLineString(pts);
+    BufferParameters params = new BufferParameters();
+    Geometry expected = BufferOp.bufferOp(line, 3, params);
+    params.setParallelNoding(true);
+    Geometry actual = BufferOp.bufferOp(line, 3, params);
+    assertTrue(expected.equalsExact(actual));
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlay;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.operation.overlay.snap.SnapIfNeededOverlayOp;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link PolygonRectangleClipper},
+ * and its optional use to clip the arguments of {@link OverlayOp} intersections.
+ */
+public class PolygonRectangleClipperTest extends GeometryTestCase
+{
+  private static final Envelope RECT = new Envelope(20.5, 80.5, 20.5, 80.5);
+  private static final Envelope EXACT_ENV = new Envelope(40, 60, 40, 60);
+
+  public static void main(String args[]) {
+    TestRunner.run(PolygonRectangleClipperTest.class);
+  }
+
+  public PolygonRectangleClipperTest(String name) { super(name); }
+
+  public void testShellInside() {
+    checkClip("POLYGON ((30 30, 30 70, 70 70, 70 30, 30 30))",
+        "POLYGON ((30 30, 30 70, 70 70, 70 30, 30 30))");
+  }
+
+  public void testShellCrossing() {
+    checkClip("POLYGON ((0 30, 0 70, 100 70, 100 30, 0 30))",
+        "POLYGON ((20.5 30, 20.5 70, 80.5 70, 80.5 30, 20.5 30))");
+  }
+
+  public void testShellCrossingCorner() {
+    checkClip("POLYGON ((0 0, 0 35, 35 35, 35 0, 0 0))",
+        "POLYGON ((20.5 20.5, 20.5 35, 35 35, 35 20.5, 20.5 20.5))");
+  }
+
+  public void testRectangleInsideShell() {
+    checkClip("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))",
+        "POLYGON ((20.5 20.5, 20.5 80.5, 80.5 80.5, 80.5 20.5, 20.5 20.5))");
+  }
+
+  public void testRectangleInsideHole() {
+    checkClip("POLYGON ((-50 -50, -50 150, 150 150, 150 -50, -50 -50), (0 0, 0 100, 100 100, 100 0, 0 0))",
+        "POLYGON EMPTY");
+  }
+
+  public void testHoles() {
+    checkClip("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 30, 10 70, 30 70, 30 30, 10 30), (40 40, 40 60, 60 60, 60 40, 40 40), (150 10, 150 20, 160 20, 160 10, 150 10))",
+        "POLYGON ((20.5 20.5, 20.5 30, 30 30, 30 70, 20.5 70, 20.5 80.5, 80.5 80.5, 80.5 20.5, 20.5 20.5), (40 40, 40 60, 60 60, 60 40, 40 40))");
+  }
+
+  public void testMultiPolygon() {
+    checkClip("MULTIPOLYGON (((0 30, 0 70, 30 70, 30 30, 0 30)), ((40 40, 40 60, 60 60, 60 40, 40 40)), ((100 40, 100 60, 120 60, 120 40, 100 40)))",
+        "MULTIPOLYGON (((20.5 30, 20.5 70, 30 70, 30 30, 20.5 30)), ((40 40, 40 60, 60 60, 60 40, 40 40)))");
+  }
+
+  public void testHolesTouching() {
+    Geometry clip = clip("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 30, 10 38, 30 40, 10 30), (10 42, 10 50, 30 40, 10 42))");
+    assertEquals(2, clip.getNumGeometries());
+  }
+
+  public void testVertexOnBoundary() {
+    checkNotClipped("POLYGON ((0 30, 0 70, 20.5 70, 100 70, 100 30, 0 30))");
+  }
+
+  public void testSegmentCrossingExactRegion() {
+    checkNotClipped("POLYGON ((0 45, 0 55, 100 55, 100 45, 0 45))");
+  }
+
+  public void testIntersectionLargePolygon() {
+    Geometry large = read("POINT (0 0)").buffer(1000, 256);
+    Geometry small = read("POLYGON ((990 -20, 990 20, 1010 20, 1010 -20, 990 -20))");
+    Geometry expected = new OverlayOp(large, small).getResultGeometry(OverlayOp.INTERSECTION);
+    checkEqual(expected, OverlayOp.overlayOp(large, small, OverlayOp.INTERSECTION, true));
+    SnapIfNeededOverlayOp op = new SnapIfNeededOverlayOp(small, large);
+    op.setClipped(true);
+    checkEqual(expected, op.getResultGeometry(OverlayOp.INTERSECTION));
+  }
+
+  /**
+   * A segment passing just outside a corner of the other operand
+   * touches the corner after rounding, so the operand is not clipped.
+   */
+  public void testIntersectionSegmentNearCorner() {
+    Geometry a = read("POLYGON ((40 12, 27 -1, 14 11.999999999999998, 26.999999999999996 25, 40 12))");
+    Geometry b = read("POLYGON ((15 15, 15 23, 17 23, 17 15, 15 15))");
+    Geometry expected = new OverlayOp(a, b).getResultGeometry(OverlayOp.INTERSECTION);
+    checkEqual(read("POLYGON EMPTY"), expected);
+    checkEqual(expected, OverlayOp.overlayOp(a, b, OverlayOp.INTERSECTION, true));
+    assertTrue(PolygonRectangleClipper.clip(a,
+        new Envelope(14.2, 17.8, 14.2, 23.8), b.getEnvelopeInternal()) == null);
+  }
+
+  public void testIntersectionDisjointEnvelopes() {
+    Geometry a = read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    Geometry b = read("POLYGON ((20 0, 20 10, 30 10, 30 0, 20 0))");
+    checkEqual(read("POLYGON EMPTY"), OverlayOp.overlayOp(a, b, OverlayOp.INTERSECTION, true));
+  }
+
+  /**
+   * Clipping is not used by default, 
+   * since it can remove the invalid parts of an argument.
+   * So invalid arguments still cause an exception.
+   */
+  public void testIntersectionInvalidNotClipped() {
+    Geometry box = read("POLYGON ((10 40, 10 60, 20 60, 20 40, 10 40))");
+    // self-intersecting shell
+    checkIntersectionFails(read("POLYGON ((0 0, 100 100, 100 0, 0 100, 0 0))"), box);
+    // self-overlapping shell
+    checkIntersectionFails(read("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0, 0 50, 50 50, 50 0, 0 0))"), 
+        read("POLYGON ((80 40, 80 60, 90 60, 90 40, 80 40))"));
+  }
+
+  private void checkIntersectionFails(Geometry a, Geometry b)
+  {
+    boolean isFailed = false;
+    try {
+      OverlayOp.overlayOp(a, b, OverlayOp.INTERSECTION);
+    }
+    catch (TopologyException ex) {
+      isFailed = true;
+    }
+    assertTrue(isFailed);
+    
+    isFailed = false;
+    try {
+      a.intersection(b);
+    }
+    catch (TopologyException ex) {
+      isFailed = true;
+    }
+    assertTrue(isFailed);
+  }
+
+  private void checkClip(String wkt, String wktExpected)
+  {
+    checkEqual(read(wktExpected), clip(wkt));
+  }
+
+  private Geometry clip(String wkt)
+  {
+    Geometry geom = read(wkt);
+    Geometry clip = PolygonRectangleClipper.clip(geom, RECT, EXACT_ENV);
+    assertTrue(clip != null);
+    assertTrue(clip.isValid());
+    Geometry expected = new OverlayOp(geom, geom.getFactory().toGeometry(RECT))
+        .getResultGeometry(OverlayOp.INTERSECTION);
+    assertEquals(expected.getArea(), clip.getArea(), 1e-10);
+    return clip;
+  }
+
+  private void checkNotClipped(String wkt)
+  {
+    Geometry geom = read(wkt);
+    assertTrue(PolygonRectangleClipper.clip(geom, RECT, EXACT_ENV) == null);
+  }
+}
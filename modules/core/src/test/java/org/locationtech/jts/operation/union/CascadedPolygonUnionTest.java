@@ -78,6 +78,28 @@ public class CascadedPolygonUnionTest extends TestCase
   }
 
   
+  /**
+   * Tests that the parallel union is identical to the sequential union.
+   */
+  public void testParallel()
+  throws Exception
+  {
+    Collection geoms = createDiscs(20, 0.7);
+    Geometry expected = CascadedPolygonUnion.union(geoms);
+    
+    CascadedPolygonUnion op = new CascadedPolygonUnion(geoms);
+    op.setParallel(true);
+    op.setParallelThreshold(4);
+    Geometry actual = op.union();
+    assertTrue(expected.equalsExact(actual));
+  }
+
+  public void testParallelEmpty()
+  throws Exception
+  {
+    assertNull(CascadedPolygonUnion.union(new ArrayList(), true));
+  }
+
   // TODO: add some synthetic tests
   
   private static CascadedPolygonUnionTester tester = new CascadedPolygonUnionTester();
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.union;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+
+import test.jts.GeometryTestCase;
+
+public class UnionAccumulatorTest extends GeometryTestCase
+{
+  GeometryFactory geomFact = new GeometryFactory();
+
+  public UnionAccumulatorTest(String name) {
+    super(name);
+  }
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(UnionAccumulatorTest.class);
+  }
+
+  public void testEmpty()
+  {
+    assertNull(new UnionAccumulator().getResult());
+  }
+
+  public void testMixed()
+  throws ParseException
+  {
+    checkUnion(readList(new String[] {
+        "POLYGON ((0 0, 0 90, 90 90, 90 0, 0 0))",
+        "POLYGON ((120 0, 120 90, 210 90, 210 0, 120 0))",
+        "LINESTRING (40 50, 40 140)",
+        "LINESTRING (160 50, 160 140)",
+        "POINT (60 50)",
+        "POINT (60 140)",
+        "POINT (40 140)" }), 2);
+  }
+
+  public void testDiscs()
+  {
+    // batch size does not divide the number of discs, to test the final partial batch
+    checkUnion(createDiscs(15, 0.7), 7);
+  }
+
+  public void testDiscsInBackground()
+  {
+    List geoms = createDiscs(15, 0.7);
+    UnionAccumulator expectedAcc = new UnionAccumulator(7);
+    UnionAccumulator acc = new UnionAccumulator(7, ForkJoinPool.commonPool());
+    for (Iterator i = geoms.iterator(); i.hasNext(); ) {
+      Geometry geom = (Geometry) i.next();
+      expectedAcc.add(geom);
+      acc.add(geom);
+    }
+    assertTrue(expectedAcc.getResult().equalsExact(acc.getResult()));
+  }
+
+  public void testResultAndContinue()
+  {
+    List geoms = createDiscs(10, 0.7);
+    UnionAccumulator acc = new UnionAccumulator(8);
+    for (int i = 0; i < geoms.size(); i++) {
+      acc.add((Geometry) geoms.get(i));
+      if (i == geoms.size() / 2) {
+        checkEqual(UnaryUnionOp.union(geoms.subList(0, i + 1)), acc.getResult());
+      }
+    }
+    checkEqual(UnaryUnionOp.union(geoms), acc.getResult());
+  }
+
+  private void checkUnion(List geoms, int batchSize)
+  {
+    UnionAccumulator acc = new UnionAccumulator(batchSize);
+    for (Iterator i = geoms.iterator(); i.hasNext(); ) {
+      acc.add((Geometry) i.next());
+    }
+    checkEqual(UnaryUnionOp.union(geoms), acc.getResult());
+  }
+
+  private List createDiscs(int num, double radius)
+  {
+    List geoms = new ArrayList();
+    for (int i = 0; i < num; i++) {
+      for (int j = 0; j < num; j++) {
+        Geometry ptGeom = geomFact.createPoint(new Coordinate(i, j));
+        geoms.add(ptGeom.buffer(radius));
+      }
+    }
+    return geoms;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests the indexed validation mode of {@link IsValidOp}.
+ * Each case checks that the indexed mode reports the same
+ * validity and error type as the default topology graph mode.
+ */
+public class IsValidIndexedTest extends TestCase
+{
+  private static WKTReader rdr = new WKTReader();
+
+  public static void main(String args[]) {
+    TestRunner.run(IsValidIndexedTest.class);
+  }
+
+  public IsValidIndexedTest(String name) { super(name); }
+
+  public void testValidPolygon() throws ParseException {
+    checkValid("POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 40 80, 40 60, 20 60, 20 80))");
+  }
+
+  public void testValidHolesTouching() throws ParseException {
+    checkValid("POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 50 80, 50 20, 20 20, 20 80), (50 80, 80 80, 80 20, 50 80))");
+  }
+
+  public void testValidHoleTouchingShell() throws ParseException {
+    checkValid("POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (10 90, 40 60, 40 40, 20 40, 10 90))");
+  }
+
+  public void testValidShellInHole() throws ParseException {
+    checkValid("MULTIPOLYGON (((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 80 80, 80 20, 20 20, 20 80)), ((30 70, 70 70, 70 30, 30 30, 30 70)))");
+  }
+
+  public void testValidShellsTouching() throws ParseException {
+    checkValid("MULTIPOLYGON (((10 90, 50 90, 50 10, 10 10, 10 90)), ((50 50, 90 90, 90 10, 50 50)))");
+  }
+
+  public void testHoleOutsideShell() throws ParseException {
+    checkInvalid(TopologyValidationError.HOLE_OUTSIDE_SHELL,
+        "POLYGON ((10 90, 50 90, 50 10, 10 10, 10 90), (60 80, 80 80, 80 60, 60 60, 60 80))");
+  }
+
+  public void testNestedHoles() throws ParseException {
+    checkInvalid(TopologyValidationError.NESTED_HOLES,
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 80 80, 80 20, 20 20, 20 80), (30 70, 70 70, 70 30, 30 30, 30 70))");
+  }
+
+  public void testNestedShells() throws ParseException {
+    checkInvalid(TopologyValidationError.NESTED_SHELLS,
+        "MULTIPOLYGON (((10 90, 90 90, 90 10, 10 10, 10 90)), ((30 70, 70 70, 70 30, 30 30, 30 70)))");
+  }
+
+  /**
+   * A nested shell touching a hole of the polygon containing it
+   * is reported as a self-intersection by the graph-based algorithm.
+   */
+  public void testNestedShellTouchingHole() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "MULTIPOLYGON (((0 0, 0 8, 8 8, 8 0, 0 0), (5 5, 2 5, 3 2, 5 5)), ((5 3, 5 5, 7 5, 7 3, 5 3)))");
+  }
+
+  /**
+   * A nested shell touching a hole of the polygon containing it
+   * only at hole edges lying inside the shell has consistent area labelling,
+   * so the graph-based algorithm reports it as nested.
+   */
+  public void testNestedShellTouchingHoleInside() throws ParseException {
+    checkInvalid(TopologyValidationError.NESTED_SHELLS,
+        "MULTIPOLYGON (((20 380, 420 380, 420 20, 20 20, 20 380), (220 340, 180 240, 60 200, 200 180, 340 60, 240 220, 220 340)), ((60 200, 340 60, 220 340, 60 200)))");
+  }
+
+  /**
+   * A repeated point at the touch point of a nested shell
+   * must not be used as a neighbour of the touch point.
+   */
+  public void testNestedShellTouchingHoleRepeatedPoint() throws ParseException {
+    checkInvalid(TopologyValidationError.NESTED_SHELLS,
+        "MULTIPOLYGON (((0 0, 20 0, 20 20, 0 20, 0 0), (8 8, 12 8, 12 12, 8 12, 8 8)), ((8 8, 8 8, 15 5, 15 15, 5 15, 8 8)))");
+  }
+
+  public void testDisconnectedInteriorDoubleTouch() throws ParseException {
+    checkInvalid(TopologyValidationError.DISCONNECTED_INTERIOR,
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (10 50, 50 80, 90 50, 50 20, 10 50))");
+  }
+
+  public void testDisconnectedInteriorTouchCycle() throws ParseException {
+    checkInvalid(TopologyValidationError.DISCONNECTED_INTERIOR,
+        "POLYGON ((0 100, 100 100, 100 0, 0 0, 0 100), (30 30, 50 20, 70 30, 30 30), (70 30, 80 50, 50 60, 70 30), (50 60, 20 50, 30 30, 50 60))");
+  }
+
+  public void testSelfIntersection() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90))");
+  }
+
+  public void testHolesCrossingAtVertex() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (50 50, 30 80, 70 80, 50 50), (50 50, 55 85, 85 55, 50 50))");
+  }
+
+  public void testHolesOverlappingAtVertex() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "POLYGON ((20 320, 260 320, 260 20, 20 20, 20 320), (140 280, 80 100, 200 100, 140 280), (140 280, 40 80, 240 80, 140 280))");
+  }
+
+  public void testRingSelfTouchAtSegment() throws ParseException {
+    checkInvalid(TopologyValidationError.RING_SELF_INTERSECTION,
+        "POLYGON ((10 90, 90 90, 90 10, 50 90, 10 10, 10 90))");
+  }
+
+  public void testRingSelfTouchAtVertex() throws ParseException {
+    checkInvalid(TopologyValidationError.RING_SELF_INTERSECTION,
+        "POLYGON ((10 90, 50 90, 90 90, 90 10, 50 90, 10 10, 10 90))");
+  }
+
+  public void testDuplicateHoles() throws ParseException {
+    checkInvalid(TopologyValidationError.DUPLICATE_RINGS,
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 40 80, 40 60, 20 60, 20 80), (20 80, 40 80, 40 60, 20 60, 20 80))");
+  }
+
+  public void testHoleEqualToShell() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "POLYGON ((20 180, 20 20, 140 20, 140 180, 20 180), (20 180, 20 20, 140 20, 140 180, 20 180))");
+  }
+
+  public void testLinearRingSelfIntersection() throws ParseException {
+    checkInvalid(TopologyValidationError.RING_SELF_INTERSECTION,
+        "LINEARRING (10 90, 90 10, 90 90, 10 10, 10 90)");
+  }
+
+  public void testTooFewPoints() throws ParseException {
+    checkInvalid(TopologyValidationError.TOO_FEW_POINTS,
+        "POLYGON ((10 10, 10 10, 20 20, 10 10))");
+  }
+
+  private void checkValid(String wkt) throws ParseException
+  {
+    Geometry geom = rdr.read(wkt);
+    assertTrue(new IsValidOp(geom).isValid());
+    assertTrue(indexedOp(geom).isValid());
+  }
+
+  private void checkInvalid(int errType, String wkt) throws ParseException
+  {
+    Geometry geom = rdr.read(wkt);
+    IsValidOp graphOp = new IsValidOp(geom);
+    assertTrue(! graphOp.isValid());
+    assertEquals(errType, graphOp.getValidationError().getErrorType());
+
+    IsValidOp op = indexedOp(geom);
+    assertTrue(! op.isValid());
+    assertEquals(errType, op.getValidationError().getErrorType());
+  }
+
+  private static IsValidOp indexedOp(Geometry geom)
+  {
+    IsValidOp op = new IsValidOp(geom);
+    op.setIndexed(true);
+    return op;
+  }
+}
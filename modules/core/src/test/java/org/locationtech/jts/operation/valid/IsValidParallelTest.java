@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests the parallel validation mode of {@link IsValidOp}.
+ */
+public class IsValidParallelTest extends TestCase
+{
+  private static GeometryFactory geomFact = new GeometryFactory();
+  private static WKTReader rdr = new WKTReader(geomFact);
+
+  public static void main(String args[]) {
+    TestRunner.run(IsValidParallelTest.class);
+  }
+
+  public IsValidParallelTest(String name) { super(name); }
+
+  public void testValidGrid() {
+    MultiPolygon mp = createGrid(50, -1);
+    checkValid(mp, true);
+  }
+
+  public void testFirstInvalidComponent() {
+    MultiPolygon mp = createGrid(50, 1000);
+    TopologyValidationError err = parallelOp(mp, false).getValidationError();
+    assertEquals(TopologyValidationError.SELF_INTERSECTION, err.getErrorType());
+    // the error is in the first invalid component
+    assertTrue(mp.getGeometryN(1000).getEnvelopeInternal().covers(err.getCoordinate()));
+  }
+
+  public void testOverlappingComponents() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "MULTIPOLYGON (((10 90, 60 90, 60 10, 10 10, 10 90)), ((40 90, 90 90, 90 10, 40 10, 40 90)))");
+  }
+
+  public void testComponentsSharingEdge() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "MULTIPOLYGON (((10 90, 50 90, 50 10, 10 10, 10 90)), ((50 90, 90 90, 90 10, 50 10, 50 90)))");
+  }
+
+  public void testNestedShells() throws ParseException {
+    checkInvalid(TopologyValidationError.NESTED_SHELLS,
+        "MULTIPOLYGON (((10 90, 90 90, 90 10, 10 10, 10 90)), ((30 70, 70 70, 70 30, 30 30, 30 70)))");
+  }
+
+  /**
+   * A nested shell touching a hole of the polygon containing it
+   * is reported as a self-intersection by the graph-based algorithm.
+   */
+  public void testNestedShellTouchingHole() throws ParseException {
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "MULTIPOLYGON (((0 0, 0 8, 8 8, 8 0, 0 0), (5 5, 2 5, 3 2, 5 5)), ((5 3, 5 5, 7 5, 7 3, 5 3)))");
+  }
+
+  /**
+   * A repeated point at the touch point of a nested shell
+   * must not be used as a neighbour of the touch point.
+   */
+  public void testNestedShellTouchingHoleRepeatedPoint() throws ParseException {
+    checkInvalid(TopologyValidationError.NESTED_SHELLS,
+        "MULTIPOLYGON (((0 0, 20 0, 20 20, 0 20, 0 0), (8 8, 12 8, 12 12, 8 12, 8 8)), ((8 8, 8 8, 15 5, 15 15, 5 15, 8 8)))");
+  }
+
+  public void testShellInHole() throws ParseException {
+    checkValid(rdr.read("MULTIPOLYGON (((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 80 80, 80 20, 20 20, 20 80)), ((30 70, 70 70, 70 30, 30 30, 30 70)))"), true);
+  }
+
+  public void testComponentErrorBeforeInteraction() throws ParseException {
+    // the overlap between components is not reported, since the second component is invalid
+    checkInvalid(TopologyValidationError.HOLE_OUTSIDE_SHELL,
+        "MULTIPOLYGON (((10 90, 60 90, 60 10, 10 10, 10 90)), ((40 90, 90 90, 90 10, 40 10, 40 90), (100 20, 110 20, 110 10, 100 10, 100 20)))",
+        false);
+  }
+
+  public void testCollection() throws ParseException {
+    checkValid(rdr.read("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 10 10), POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90)))"), true);
+    checkInvalid(TopologyValidationError.SELF_INTERSECTION,
+        "GEOMETRYCOLLECTION (POINT (1 1), POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90)), POLYGON ((10 90, 50 90, 50 10, 10 10, 10 90), (60 80, 80 80, 80 60, 60 60, 60 80)))");
+  }
+
+  public void testAllErrors() {
+    MultiPolygon mp = createGrid(20, 3, 150, 399);
+    TopologyValidationResult result = checkSameErrors(mp);
+    assertEquals(3, result.getNumErrors());
+    assertEquals(150, result.getError(1).getComponentPath()[0]);
+  }
+
+  public void testAllErrorsCollection() throws ParseException {
+    TopologyValidationResult result = checkSameErrors(rdr.read(
+        "GEOMETRYCOLLECTION (LINESTRING (0 0, 0 0), POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90)), MULTIPOLYGON (((10 90, 60 90, 60 10, 10 10, 10 90)), ((40 90, 90 90, 90 10, 40 10, 40 90))))"));
+    assertEquals(TopologyValidationError.TOO_FEW_POINTS, result.getError(0).getErrorType());
+  }
+
+  /**
+   * Checks that parallel validation finds the same errors as sequential validation,
+   * in the same order.
+   */
+  private TopologyValidationResult checkSameErrors(Geometry geom)
+  {
+    TopologyValidationResult expected = new IsValidOp(geom).getValidationResult();
+    TopologyValidationResult result = parallelOp(geom, false).getValidationResult();
+    assertEquals(expected.getNumErrors(), result.getNumErrors());
+    for (int i = 0; i < expected.getNumErrors(); i++) {
+      TopologyValidationError expectedErr = expected.getError(i);
+      TopologyValidationError err = result.getError(i);
+      assertEquals(expectedErr.getErrorType(), err.getErrorType());
+      assertTrue(expectedErr.getCoordinate().equals2D(err.getCoordinate()));
+      assertTrue(Arrays.equals(expectedErr.getComponentPath(), err.getComponentPath()));
+    }
+    return result;
+  }
+
+  private void checkValid(Geometry geom, boolean isValid)
+  {
+    assertEquals(isValid, parallelOp(geom, false).isValid());
+    assertEquals(isValid, parallelOp(geom, true).isValid());
+  }
+
+  private void checkInvalid(int errType, String wkt) throws ParseException
+  {
+    checkInvalid(errType, wkt, true);
+  }
+
+  private void checkInvalid(int errType, String wkt, boolean isSameAsSequential) throws ParseException
+  {
+    Geometry geom = rdr.read(wkt);
+    if (isSameAsSequential)
+      assertEquals(errType, new IsValidOp(geom).getValidationError().getErrorType());
+    assertEquals(errType, parallelOp(geom, false).getValidationError().getErrorType());
+    assertEquals(errType, parallelOp(geom, true).getValidationError().getErrorType());
+  }
+
+  private static IsValidOp parallelOp(Geometry geom, boolean isIndexed)
+  {
+    IsValidOp op = new IsValidOp(geom);
+    op.setParallel(true);
+    op.setIndexed(isIndexed);
+    return op;
+  }
+
+  /**
+   * Creates a grid of square polygons,
+   * with the polygons at the given indexes having a self-intersection.
+   */
+  private static MultiPolygon createGrid(int size, int... invalidIndexes)
+  {
+    Polygon[] polys = new Polygon[size * size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        int index = i * size + j;
+        double x = i * 10;
+        double y = j * 10;
+        Coordinate[] pts;
+        if (isInvalid(index, invalidIndexes)) {
+          pts = new Coordinate[] { new Coordinate(x, y), new Coordinate(x + 8, y + 8),
+              new Coordinate(x + 8, y), new Coordinate(x, y + 8), new Coordinate(x, y) };
+        }
+        else {
+          pts = new Coordinate[] { new Coordinate(x, y), new Coordinate(x, y + 8),
+              new Coordinate(x + 8, y + 8), new Coordinate(x + 8, y), new Coordinate(x, y) };
+        }
+        polys[index] = geomFact.createPolygon(pts);
+      }
+    }
+    return geomFact.createMultiPolygon(polys);
+  }
+
+  private static boolean isInvalid(int index, int[] invalidIndexes)
+  {
+    for (int i = 0; i < invalidIndexes.length; i++) {
+      if (invalidIndexes[i] == index) return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests finding all validation errors using
+ * {@link IsValidOp#getValidationResult()}.
+ */
+public class TopologyValidationResultTest extends TestCase
+{
+  private static GeometryFactory geomFact = new GeometryFactory();
+  private static WKTReader rdr = new WKTReader(geomFact);
+
+  public static void main(String args[]) {
+    TestRunner.run(TopologyValidationResultTest.class);
+  }
+
+  public TopologyValidationResultTest(String name) { super(name); }
+
+  public void testValid() throws ParseException {
+    TopologyValidationResult result = validate(
+        "MULTIPOLYGON (((10 90, 50 90, 50 10, 10 10, 10 90)), ((60 90, 90 90, 90 10, 60 10, 60 90)))");
+    assertTrue(result.isValid());
+    assertEquals(0, result.getNumErrors());
+  }
+
+  public void testMultipleSelfIntersections() throws ParseException {
+    TopologyValidationResult result = validate(
+        "POLYGON ((10 10, 30 30, 30 10, 50 30, 50 10, 70 30, 70 10, 10 30, 10 10))");
+    assertEquals(5, result.getNumErrors());
+    assertEquals(5, result.getErrors(TopologyValidationError.SELF_INTERSECTION).size());
+  }
+
+  public void testRingSelfIntersections() throws ParseException {
+    TopologyValidationResult result = validate(
+        "LINEARRING (10 10, 30 30, 30 10, 50 30, 50 10, 70 30, 70 10, 10 30, 10 10)");
+    assertEquals(5, result.getErrors(TopologyValidationError.RING_SELF_INTERSECTION).size());
+  }
+
+  public void testMultipleHoleErrors() throws ParseException {
+    TopologyValidationResult result = validate(
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (100 80, 120 80, 120 60, 100 60, 100 80), (20 80, 60 80, 60 40, 20 40, 20 80), (30 70, 40 70, 40 60, 30 60, 30 70), (100 40, 120 40, 120 20, 100 20, 100 40))");
+    assertEquals(2, result.getErrors(TopologyValidationError.HOLE_OUTSIDE_SHELL).size());
+    assertEquals(1, result.getErrors(TopologyValidationError.NESTED_HOLES).size());
+    assertEquals(3, result.getNumErrors());
+  }
+
+  public void testComponentPaths() throws ParseException {
+    TopologyValidationResult result = validate(
+        "MULTIPOLYGON (((10 90, 50 90, 50 10, 10 10, 10 90)), ((60 90, 90 10, 90 90, 60 10, 60 90)), ((110 90, 150 10, 150 90, 110 10, 110 90)))");
+    assertEquals(2, result.getNumErrors());
+    checkError(result.getError(0), TopologyValidationError.SELF_INTERSECTION, new int[] { 1 });
+    checkError(result.getError(1), TopologyValidationError.SELF_INTERSECTION, new int[] { 2 });
+  }
+
+  public void testComponentPathIsCopy() throws ParseException {
+    TopologyValidationResult result = validate(
+        "MULTIPOLYGON (((10 90, 50 90, 50 10, 10 10, 10 90)), ((60 90, 90 10, 90 90, 60 10, 60 90)))");
+    TopologyValidationError err = result.getError(0);
+    err.getComponentPath()[0] = 5;
+    checkError(err, TopologyValidationError.SELF_INTERSECTION, new int[] { 1 });
+  }
+
+  public void testErrorsBetweenComponents() throws ParseException {
+    TopologyValidationResult result = validate(
+        "MULTIPOLYGON (((10 90, 60 90, 60 10, 10 10, 10 90)), ((40 90, 90 90, 90 10, 40 10, 40 90)), ((200 90, 280 90, 280 10, 200 10, 200 90)), ((220 70, 260 70, 260 30, 220 30, 220 70)))");
+    assertTrue(result.getErrors(TopologyValidationError.SELF_INTERSECTION).size() > 0);
+    assertEquals(1, result.getErrors(TopologyValidationError.NESTED_SHELLS).size());
+    for (int i = 0; i < result.getNumErrors(); i++) {
+      assertEquals(0, result.getError(i).getComponentPath().length);
+    }
+  }
+
+  /**
+   * The nesting of shells which touch other shells invalidly is not classified,
+   * since the nesting tests assume that the shells do not cross.
+   */
+  public void testNestedShellTouchingShell() throws ParseException {
+    TopologyValidationResult result = validate(
+        "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0)), ((0 0, 0 0, 5 3, 3 5, 0 0)))");
+    assertEquals(1, result.getNumErrors());
+    checkError(result.getError(0), TopologyValidationError.SELF_INTERSECTION, new int[0]);
+  }
+
+  public void testShellCrossingShellWithRepeatedPoint() throws ParseException {
+    TopologyValidationResult result = validate(
+        "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0)), ((5 5, 5 5, 15 3, 8 8, 5 5)))");
+    assertTrue(result.getErrors(TopologyValidationError.SELF_INTERSECTION).size() > 0);
+    assertEquals(0, result.getErrors(TopologyValidationError.NESTED_SHELLS).size());
+  }
+
+  public void testCollectionPaths() throws ParseException {
+    TopologyValidationResult result = validate(
+        "GEOMETRYCOLLECTION (POINT (1 1), GEOMETRYCOLLECTION (LINESTRING (0 0, 10 10), POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90))), POLYGON ((10 90, 50 90, 50 10, 10 10, 10 90), (60 80, 80 80, 80 60, 60 60, 60 80)))");
+    assertEquals(2, result.getNumErrors());
+    checkError(result.getError(0), TopologyValidationError.SELF_INTERSECTION, new int[] { 1, 1 });
+    checkError(result.getError(1), TopologyValidationError.HOLE_OUTSIDE_SHELL, new int[] { 2 });
+  }
+
+  public void testInvalidCoordinates() {
+    Coordinate[] pts = new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(1, Double.NaN),
+        new Coordinate(2, 2), new Coordinate(Double.POSITIVE_INFINITY, 3) };
+    Geometry line = geomFact.createLineString(pts);
+    TopologyValidationResult result = new IsValidOp(line).getValidationResult();
+    assertEquals(2, result.getErrors(TopologyValidationError.INVALID_COORDINATE).size());
+  }
+
+  public void testErrorsInEnvelope() throws ParseException {
+    TopologyValidationResult result = validate(
+        "POLYGON ((10 10, 30 30, 30 10, 50 30, 50 10, 70 30, 70 10, 10 30, 10 10))");
+    assertEquals(1, result.getErrors(new Envelope(15, 25, 15, 25)).size());
+    assertEquals(3, result.getErrors(new Envelope(15, 45, 15, 25)).size());
+    assertEquals(0, result.getErrors(new Envelope(100, 200, 100, 200)).size());
+  }
+
+  private static TopologyValidationResult validate(String wkt) throws ParseException
+  {
+    Geometry geom = rdr.read(wkt);
+    TopologyValidationResult result = new IsValidOp(geom).getValidationResult();
+    assertEquals(geom.isValid(), result.isValid());
+    return result;
+  }
+
+  private static void checkError(TopologyValidationError err, int errType, int[] path)
+  {
+    assertEquals(errType, err.getErrorType());
+    assertTrue(Arrays.equals(path, err.getComponentPath()));
+  }
+}
@@ -11,10 +11,20 @@
  */
 package org.locationtech.jts.triangulate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.triangulate.quadedge.CompactQuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.quadedge.TriangleVisitor;
 
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
@@ -52,6 +62,9 @@ public class DelaunayTest extends TestCase {
   	runDelaunayEdges(wkt, expected);
   	String expectedTri = "GEOMETRYCOLLECTION (POLYGON ((30 150, 50 40, 80 100, 30 150)), POLYGON ((30 150, 80 100, 70 180, 30 150)), POLYGON ((70 180, 80 100, 130 140, 70 180)), POLYGON ((70 180, 130 140, 190 110, 70 180)), POLYGON ((190 110, 130 140, 140 70, 190 110)), POLYGON ((190 110, 140 70, 120 20, 190 110)), POLYGON ((120 20, 140 70, 80 100, 120 20)), POLYGON ((120 20, 80 100, 50 40, 120 20)), POLYGON ((80 100, 140 70, 130 140, 80 100)))";
   	runDelaunay(wkt, true, expectedTri);
+  	runDelaunay(wkt, true, true, expectedTri);
+  	runDelaunay(wkt, false, true, expected);
+  	runDelaunay(wkt, false, false, true, expected);
   }
   
   public void testGrid()
@@ -72,6 +85,219 @@ public class DelaunayTest extends TestCase {
     runDelaunayEdges(wkt, expected);
   }
   
+  public void testCollinear()
+  throws ParseException
+  {
+    String wkt = "MULTIPOINT ((10 10), (20 20), (30 30), (40 40))";
+    String expected = "MULTILINESTRING ((10 10, 20 20), (20 20, 30 30), (30 30, 40 40))";
+    runDelaunayEdges(wkt, expected);
+    runDelaunay(wkt, false, true, expected);
+  }
+  
+  public void testParallelRandom()
+  {
+    List pts = randomPoints(20000);
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    
+    DelaunayTriangulationBuilder parallelBuilder = new DelaunayTriangulationBuilder();
+    parallelBuilder.setSites(pts);
+    parallelBuilder.setParallel(true);
+    checkSameTriangulation(builder, parallelBuilder);
+  }
+  
+  public void testParallelRegularPolygon()
+  {
+    checkParallelCoCircular(regularPolygon(20, 0));
+    checkParallelCoCircular(regularPolygon(64, 0));
+    checkParallelCoCircular(regularPolygon(100, 0));
+    checkParallelCoCircular(regularPolygon(100, 1e6));
+    checkParallelCoCircular(regularPolygon(1000, 1e6));
+  }
+  
+  public void testParallelCoCircular()
+  {
+    checkParallelCoCircular(coCircularPoints());
+  }
+  
+  public void testSpatialOrderRandom()
+  {
+    List pts = randomPoints(20000);
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    
+    DelaunayTriangulationBuilder spatialBuilder = new DelaunayTriangulationBuilder();
+    spatialBuilder.setSites(pts);
+    spatialBuilder.setSpatialOrder(true);
+    checkSameTriangulation(builder, spatialBuilder);
+  }
+  
+  public void testCompactRandom()
+  {
+    List pts = randomPoints(20000);
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    
+    CompactQuadEdgeSubdivision subdiv = new CompactQuadEdgeSubdivision(
+        DelaunayTriangulationBuilder.envelope(pts), pts.size());
+    new CompactDelaunayTriangulator(subdiv).insertSites(pts);
+    
+    checkSameGeometry(builder.getTriangles(geomFact), subdiv.getTriangles(geomFact));
+    checkSameGeometry(builder.getEdges(geomFact), subdiv.getEdges(geomFact));
+    
+    final int[] triCount = new int[1];
+    subdiv.visitTriangles(new TriangleVisitor() {
+      public void visit(QuadEdge[] triEdges) {
+        triCount[0]++;
+      }
+    }, true);
+    assertEquals(builder.getSubdivision().getTriangleEdges(true).size(), triCount[0]);
+  }
+  
+  public void testCompactRegularPolygon()
+  {
+    checkCompactCoCircular(regularPolygon(100, 0));
+    checkCompactCoCircular(regularPolygon(100, 1e6));
+    checkCompactCoCircular(regularPolygon(1000, 0));
+    checkCompactCoCircular(regularPolygon(1000, 1e6));
+    checkCompactCoCircular(coCircularPoints());
+  }
+  
+  public void testCompactSequence()
+  throws ParseException
+  {
+    Geometry sites = reader.read("MULTIPOINT ((10 10 1), (10 20 2), (20 20 3), (10 10 1))");
+    CompactQuadEdgeSubdivision subdiv = new CompactQuadEdgeSubdivision(
+        sites.getEnvelopeInternal(), sites.getNumPoints());
+    new CompactDelaunayTriangulator(subdiv).insertSites(
+        geomFact.getCoordinateSequenceFactory().create(sites.getCoordinates()));
+    Geometry result = subdiv.getTriangles(geomFact);
+    checkSameGeometry(reader.read("GEOMETRYCOLLECTION (POLYGON ((10 20, 10 10, 20 20, 10 20)))"), result);
+    assertEquals(3.0, result.getGeometryN(0).getCoordinates()[2].getZ(), 0.0);
+  }
+  
+  public void testCompactCollinear()
+  throws ParseException
+  {
+    Geometry sites = reader.read("MULTIPOINT ((10 10), (20 20), (30 30), (40 40))");
+    CompactQuadEdgeSubdivision subdiv = new CompactQuadEdgeSubdivision(
+        sites.getEnvelopeInternal(), sites.getNumPoints());
+    new CompactDelaunayTriangulator(subdiv).insertSites(Arrays.asList(sites.getCoordinates()));
+    checkSameGeometry(reader.read("MULTILINESTRING ((10 10, 20 20), (20 20, 30 30), (30 30, 40 40))"), 
+        subdiv.getEdges(geomFact));
+    assertTrue(subdiv.getTriangles(geomFact).isEmpty());
+  }
+  
+  public void testSpatialOrderIsPermutation()
+  {
+    List verts = DelaunayTriangulationBuilder.toVertices(randomPoints(1000));
+    List ordered = BiasedRandomInsertionOrder.order(verts);
+    assertEquals(verts.size(), ordered.size());
+    assertTrue(new HashSet(verts).equals(new HashSet(ordered)));
+  }
+  
+  /**
+   * Creates the vertices of a regular polygon.
+   * These are (nearly) co-circular, so the in-circle test must be robust.
+   */
+  private List regularPolygon(int n, double offset)
+  {
+    List pts = new ArrayList();
+    for (int i = 0; i < n; i++) {
+      double angle = 2 * Math.PI * i / n;
+      pts.add(new Coordinate(offset + 10 * Math.cos(angle), offset + 10 * Math.sin(angle)));
+    }
+    return pts;
+  }
+  
+  /**
+   * Creates the integer points on a circle of radius 25, and its centre.
+   * These are exactly co-circular.
+   */
+  private List coCircularPoints()
+  {
+    List pts = new ArrayList();
+    for (int x = -25; x <= 25; x++) {
+      for (int y = -25; y <= 25; y++) {
+        if (x * x + y * y == 625)
+          pts.add(new Coordinate(x, y));
+      }
+    }
+    pts.add(new Coordinate(0, 0));
+    return pts;
+  }
+  
+  /**
+   * Checks that a triangulation of co-circular sites covers their convex hull,
+   * with the same number of triangles as the incremental triangulation.
+   * The diagonals chosen between co-circular sites may differ.
+   */
+  private void checkParallelCoCircular(List pts)
+  {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    Geometry expected = builder.getTriangles(geomFact);
+    
+    DelaunayTriangulationBuilder parallelBuilder = new DelaunayTriangulationBuilder();
+    parallelBuilder.setSites(pts);
+    parallelBuilder.setParallel(true);
+    checkCoCircularTriangles(expected, parallelBuilder.getTriangles(geomFact));
+  }
+  
+  private void checkCompactCoCircular(List pts)
+  {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    Geometry expected = builder.getTriangles(geomFact);
+    
+    CompactQuadEdgeSubdivision subdiv = new CompactQuadEdgeSubdivision(
+        DelaunayTriangulationBuilder.envelope(pts), pts.size());
+    new CompactDelaunayTriangulator(subdiv).insertSites(pts);
+    checkCoCircularTriangles(expected, subdiv.getTriangles(geomFact));
+  }
+  
+  private void checkCoCircularTriangles(Geometry expected, Geometry result)
+  {
+    assertEquals(expected.getNumGeometries(), result.getNumGeometries());
+    double hullArea = expected.convexHull().getArea();
+    assertEquals(hullArea, result.getArea(), 1e-9 * hullArea);
+    assertEquals(hullArea, result.union().getArea(), 1e-9 * hullArea);
+  }
+  
+  private List randomPoints(int n)
+  {
+    Random rnd = new Random(1);
+    List pts = new ArrayList();
+    for (int i = 0; i < n; i++) {
+      pts.add(new Coordinate(1000 * rnd.nextDouble(), 1000 * rnd.nextDouble()));
+    }
+    return pts;
+  }
+  
+  private void checkSameGeometry(Geometry expected, Geometry result)
+  {
+    result.normalize();
+    expected.normalize();
+    assertTrue(expected.equalsExact(result));
+  }
+  
+  private void checkSameTriangulation(DelaunayTriangulationBuilder expectedBuilder,
+      DelaunayTriangulationBuilder builder)
+  {
+    Geometry expected = expectedBuilder.getTriangles(geomFact);
+    Geometry result = builder.getTriangles(geomFact);
+    result.normalize();
+    expected.normalize();
+    assertTrue(expected.equalsExact(result));
+    
+    // the frame triangles must match as well
+    Geometry expectedVoronoi = expectedBuilder.getSubdivision().getVoronoiDiagram(geomFact);
+    Geometry voronoi = builder.getSubdivision().getVoronoiDiagram(geomFact);
+    expectedVoronoi.normalize();
+    voronoi.normalize();
+    assertTrue(expectedVoronoi.equalsExact(voronoi));
+  }
+  
   public void testPolygonWithChevronHoles()
   throws ParseException
   {
@@ -90,10 +316,25 @@ public class DelaunayTest extends TestCase {
   	
   void runDelaunay(String sitesWKT, boolean computeTriangles, String expectedWKT)
   throws ParseException
+  {
+  	runDelaunay(sitesWKT, computeTriangles, false, expectedWKT);
+  }
+  	
+  void runDelaunay(String sitesWKT, boolean computeTriangles, boolean isParallel, String expectedWKT)
+  throws ParseException
+  {
+  	runDelaunay(sitesWKT, computeTriangles, isParallel, false, expectedWKT);
+  }
+  	
+  void runDelaunay(String sitesWKT, boolean computeTriangles, boolean isParallel, 
+      boolean isSpatialOrder, String expectedWKT)
+  throws ParseException
   {
   	Geometry sites = reader.read(sitesWKT);
   	DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
   	builder.setSites(sites);
+  	builder.setParallel(isParallel);
+  	builder.setSpatialOrder(isSpatialOrder);
   	
   	Geometry result = null;
   	if (computeTriangles) {
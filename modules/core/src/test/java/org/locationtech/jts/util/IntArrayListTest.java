@@ -62,6 +62,23 @@ public class IntArrayListTest extends TestCase {
     assertEquals(2, data[1]);
     assertEquals(3, data[2]);
   }
-  
 
+  public void testGetAndClear() {
+    IntArrayList iar = new IntArrayList();
+    iar.addAll(new int[] { 1,2,3 });
+    assertEquals(2, iar.get(1));
+    
+    iar.clear();
+    assertTrue(iar.isEmpty());
+    iar.add(4);
+    assertEquals(1, iar.size());
+    assertEquals(4, iar.get(0));
+    try {
+      iar.get(1);
+      fail();
+    }
+    catch (IndexOutOfBoundsException e) {
+      // expected
+    }
+  }
 }
@@ -0,0 +1,735 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+
+
+/**
+ * Reads GeoJson Geometries, Features and FeatureCollections
+ * from a character stream into {@link Geometry}s.
+ * <p>
+ * Unlike {@link GeoJsonReader}, the JSON text is tokenized as it is read,
+ * without building a tree of JSON objects.
+ * The ordinates of each coordinate sequence are accumulated in a primitive array,
+ * and by default are stored directly in {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s.
+ * This uses much less memory and time than parsing the entire document.
+ * <p>
+ * The features of a FeatureCollection can be read one at a time
+ * using {@link #featureIterator(Reader)}.
+ * This allows processing very large collections with bounded memory use.
+ * <p>
+ * If no {@link GeometryFactory} is supplied,
+ * the SRID is determined by the GeoJson <tt>crs</tt> property
+ * (with a default of 4326).
+ * The <tt>crs</tt> property of a FeatureCollection is used only if it
+ * occurs before the <tt>features</tt> property.
+ * <p>
+ * Feature properties are ignored unless requested via {@link #setReadProperties(boolean)}.
+ * <p>
+ * This class is thread-safe; each read uses a separate parser.
+ *
+ * @see GeoJsonReader
+ */
+public class GeoJsonStreamReader
+{
+  private static final int DEFAULT_SRID = 4326;
+  private static final int NO_SRID = -1;
+
+  private GeometryFactory gf;
+  private boolean isReadProperties = false;
+
+  /**
+   * Creates a reader which creates geometries with {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s
+   * and the SRID specified by the GeoJson CRS (with a default of 4326).
+   */
+  public GeoJsonStreamReader()
+  {
+    // do nothing
+  }
+
+  /**
+   * Creates a reader which uses a given <code>GeometryFactory</code>
+   * to create the output geometries, overriding the GeoJson CRS.
+   *
+   * @param geometryFactory a GeometryFactory
+   */
+  public GeoJsonStreamReader(GeometryFactory geometryFactory)
+  {
+    this.gf = geometryFactory;
+  }
+
+  /**
+   * Sets whether the <tt>properties</tt> of Features are read.
+   * If so, they are stored as the user data of the feature geometry,
+   * as a {@link Map} of property values.
+   * Values are represented as {@link String}s, {@link Double}s, {@link Boolean}s,
+   * <code>null</code>, or {@link List}s and {@link Map}s of these.
+   *
+   * @param isReadProperties true if feature properties are read
+   */
+  public void setReadProperties(boolean isReadProperties)
+  {
+    this.isReadProperties = isReadProperties;
+  }
+
+  /**
+   * Reads a GeoJson object from a <tt>String</tt>.
+   *
+   * @param json the GeoJson string to parse
+   * @return the resulting geometry
+   * @throws ParseException if the JSON string cannot be parsed
+   *
+   * @see #read(Reader)
+   */
+  public Geometry read(String json) throws ParseException
+  {
+    return read(new StringReader(json));
+  }
+
+  /**
+   * Reads a GeoJson object from a {@link Reader}.
+   * A Geometry is read as the corresponding JTS geometry.
+   * A Feature is read as its geometry (which may be null).
+   * A FeatureCollection is read as a GeometryCollection
+   * containing the non-null geometries of the features.
+   *
+   * @param reader the input source
+   * @return the resulting geometry
+   * @throws ParseException if the JSON cannot be parsed
+   */
+  public Geometry read(Reader reader) throws ParseException
+  {
+    Parser parser = new Parser(reader);
+    try {
+      GeoJsonObject obj = parser.readObject(false);
+      return parser.build(obj, NO_SRID);
+    }
+    catch (IOException ex) {
+      throw new ParseException(ex);
+    }
+  }
+
+  /**
+   * Creates an iterator over the features of a GeoJson FeatureCollection.
+   * The features are parsed one at a time as the iterator is advanced,
+   * so only a single feature is held in memory.
+   * The iterator returns the geometry of each feature,
+   * or <code>null</code> if the feature geometry is null.
+   * If the GeoJson object is a single Feature or Geometry,
+   * the iterator returns just that geometry.
+   * <p>
+   * Since an iterator cannot throw checked exceptions,
+   * errors while advancing it are reported as {@link RuntimeException}s
+   * with a {@link ParseException} as the cause.
+   *
+   * @param reader the input source
+   * @return an iterator over the feature geometries
+   * @throws ParseException if the start of the GeoJson cannot be parsed
+   */
+  public Iterator<Geometry> featureIterator(Reader reader) throws ParseException
+  {
+    try {
+      return new FeatureIterator(new Parser(reader));
+    }
+    catch (IOException ex) {
+      throw new ParseException(ex);
+    }
+  }
+
+  /**
+   * The ordinates of a coordinate sequence,
+   * parsed before the geometry factory is known.
+   */
+  private static class Sequence
+  {
+    double[] ords;
+    int dim;
+    int size;
+
+    Sequence(double[] ords, int dim, int size)
+    {
+      this.ords = ords;
+      this.dim = dim;
+      this.size = size;
+    }
+  }
+
+  /**
+   * The members of a GeoJson object required to create a geometry.
+   * The geometry is created after the object is completely read,
+   * since the members may occur in any order.
+   */
+  private static class GeoJsonObject
+  {
+    String type;
+    /**
+     * a Sequence, or a List of coordinate nodes
+     */
+    Object coords;
+    List geometries;
+    GeoJsonObject geometry;
+    List features;
+    Object properties;
+    int srid = NO_SRID;
+  }
+
+  private class Parser
+  {
+    /**
+     * Marker indicating a position was read into the position fields
+     */
+    private final Object POSITION = new Object();
+
+    private JsonTokenizer tok;
+    private double posX;
+    private double posY;
+    private double posZ;
+    // the positions of the current sequence, with a stride of 3
+    private double[] seqBuf = new double[3 * 64];
+
+    private GeometryFactory sridFactory = null;
+
+    Parser(Reader reader)
+    {
+      tok = new JsonTokenizer(reader);
+    }
+
+    GeoJsonObject readObject(boolean isStopAtFeatures)
+    throws IOException, ParseException
+    {
+      GeoJsonObject obj = new GeoJsonObject();
+      tok.expect(JsonTokenizer.BEGIN_OBJECT);
+      readMembers(obj, isStopAtFeatures);
+      return obj;
+    }
+
+    /**
+     * Reads the members of an object, up to the end of the object.
+     * Optionally stops after reading the key of the features member.
+     *
+     * @return true if reading stopped at the features member
+     */
+    boolean readMembers(GeoJsonObject obj, boolean isStopAtFeatures)
+    throws IOException, ParseException
+    {
+      if (tok.peek() == JsonTokenizer.END_OBJECT) {
+        tok.next();
+        return false;
+      }
+      while (true) {
+        tok.expect(JsonTokenizer.STRING);
+        if (tok.isString(GeoJsonConstants.NAME_TYPE)) {
+          tok.expect(JsonTokenizer.COLON);
+          tok.expect(JsonTokenizer.STRING);
+          obj.type = tok.getString();
+        }
+        else if (tok.isString(GeoJsonConstants.NAME_COORDINATES)) {
+          tok.expect(JsonTokenizer.COLON);
+          obj.coords = readCoordinates();
+        }
+        else if (tok.isString(GeoJsonConstants.NAME_GEOMETRIES)) {
+          tok.expect(JsonTokenizer.COLON);
+          obj.geometries = readObjectArray();
+        }
+        else if (tok.isString(GeoJsonConstants.NAME_GEOMETRY)) {
+          tok.expect(JsonTokenizer.COLON);
+          if (tok.peek() == JsonTokenizer.NULL)
+            tok.next();
+          else
+            obj.geometry = readObject(false);
+        }
+        else if (tok.isString(GeoJsonConstants.NAME_FEATURES)) {
+          tok.expect(JsonTokenizer.COLON);
+          if (obj.type == null)
+            obj.type = GeoJsonConstants.NAME_FEATURECOLLECTION;
+          if (isStopAtFeatures)
+            return true;
+          obj.features = readObjectArray();
+        }
+        else if (tok.isString(GeoJsonConstants.NAME_PROPERTIES) && isReadProperties) {
+          tok.expect(JsonTokenizer.COLON);
+          obj.properties = readValue();
+        }
+        else if (tok.isString(GeoJsonConstants.NAME_CRS)) {
+          tok.expect(JsonTokenizer.COLON);
+          obj.srid = readCRS();
+        }
+        else {
+          tok.expect(JsonTokenizer.COLON);
+          skipValue();
+        }
+        int t = tok.next();
+        if (t == JsonTokenizer.END_OBJECT)
+          return false;
+        if (t != JsonTokenizer.COMMA)
+          throw tok.error("Expected ',' or '}'");
+      }
+    }
+
+    private List readObjectArray() throws IOException, ParseException
+    {
+      List objs = new ArrayList();
+      tok.expect(JsonTokenizer.BEGIN_ARRAY);
+      if (tok.peek() == JsonTokenizer.END_ARRAY) {
+        tok.next();
+        return objs;
+      }
+      while (true) {
+        objs.add(readObject(false));
+        int t = tok.next();
+        if (t == JsonTokenizer.END_ARRAY)
+          return objs;
+        if (t != JsonTokenizer.COMMA)
+          throw tok.error("Expected ',' or ']'");
+      }
+    }
+
+    private Object readCoordinates() throws IOException, ParseException
+    {
+      Object coords = readCoordinateNode();
+      if (coords != POSITION)
+        return coords;
+      if (Double.isNaN(posZ))
+        return new Sequence(new double[] { posX, posY }, 2, 1);
+      return new Sequence(new double[] { posX, posY, posZ }, 3, 1);
+    }
+
+    /**
+     * Reads a level of a coordinates array.
+     *
+     * @return POSITION, a Sequence, or a List of nodes
+     */
+    private Object readCoordinateNode() throws IOException, ParseException
+    {
+      tok.expect(JsonTokenizer.BEGIN_ARRAY);
+      int t = tok.peek();
+      if (t == JsonTokenizer.END_ARRAY) {
+        tok.next();
+        return new ArrayList(0);
+      }
+      if (t == JsonTokenizer.NUMBER) {
+        readPosition();
+        return POSITION;
+      }
+      Object first = readCoordinateNode();
+      if (first == POSITION)
+        return readSequence();
+
+      List nodes = new ArrayList();
+      nodes.add(first);
+      while (true) {
+        t = tok.next();
+        if (t == JsonTokenizer.END_ARRAY)
+          return nodes;
+        if (t != JsonTokenizer.COMMA)
+          throw tok.error("Expected ',' or ']'");
+        Object node = readCoordinateNode();
+        if (node == POSITION)
+          throw tok.error("Inconsistent coordinate nesting");
+        nodes.add(node);
+      }
+    }
+
+    /**
+     * Reads the positions of a sequence,
+     * the first of which has been read into the position fields.
+     */
+    private Sequence readSequence() throws IOException, ParseException
+    {
+      int size = 0;
+      boolean hasZ = false;
+      while (true) {
+        if (3 * size == seqBuf.length) {
+          double[] larger = new double[2 * seqBuf.length];
+          System.arraycopy(seqBuf, 0, larger, 0, seqBuf.length);
+          seqBuf = larger;
+        }
+        seqBuf[3 * size] = posX;
+        seqBuf[3 * size + 1] = posY;
+        seqBuf[3 * size + 2] = posZ;
+        if (! Double.isNaN(posZ)) hasZ = true;
+        size++;
+
+        int t = tok.next();
+        if (t == JsonTokenizer.END_ARRAY)
+          break;
+        if (t != JsonTokenizer.COMMA)
+          throw tok.error("Expected ',' or ']'");
+        if (readCoordinateNode() != POSITION)
+          throw tok.error("Inconsistent coordinate nesting");
+      }
+      int dim = hasZ ? 3 : 2;
+      double[] ords = new double[dim * size];
+      for (int i = 0; i < size; i++) {
+        ords[dim * i] = seqBuf[3 * i];
+        ords[dim * i + 1] = seqBuf[3 * i + 1];
+        if (hasZ)
+          ords[dim * i + 2] = seqBuf[3 * i + 2];
+      }
+      return new Sequence(ords, dim, size);
+    }
+
+    /**
+     * Reads the ordinates of a position (after the opening bracket).
+     * Ordinates after the third are ignored.
+     */
+    private void readPosition() throws IOException, ParseException
+    {
+      posZ = Double.NaN;
+      tok.expect(JsonTokenizer.NUMBER);
+      posX = tok.getNumber();
+      tok.expect(JsonTokenizer.COMMA);
+      tok.expect(JsonTokenizer.NUMBER);
+      posY = tok.getNumber();
+      int i = 2;
+      while (true) {
+        int t = tok.next();
+        if (t == JsonTokenizer.END_ARRAY)
+          return;
+        if (t != JsonTokenizer.COMMA)
+          throw tok.error("Expected ',' or ']'");
+        tok.expect(JsonTokenizer.NUMBER);
+        if (i++ == 2)
+          posZ = tok.getNumber();
+      }
+    }
+
+    private int readCRS() throws IOException, ParseException
+    {
+      Object crs = readValue();
+      if (crs == null)
+        return NO_SRID;
+      try {
+        Map properties = (Map) ((Map) crs).get(GeoJsonConstants.NAME_PROPERTIES);
+        String name = (String) properties.get(GeoJsonConstants.NAME_NAME);
+        return Integer.parseInt(name.substring(name.lastIndexOf(':') + 1));
+      }
+      catch (RuntimeException e) {
+        throw new ParseException(
+            "Could not parse SRID from Geojson 'crs' object.", e);
+      }
+    }
+
+    /**
+     * Reads a JSON value into objects.
+     */
+    private Object readValue() throws IOException, ParseException
+    {
+      int t = tok.next();
+      switch (t) {
+      case JsonTokenizer.STRING:
+        return tok.getString();
+      case JsonTokenizer.NUMBER:
+        return Double.valueOf(tok.getNumber());
+      case JsonTokenizer.TRUE:
+        return Boolean.TRUE;
+      case JsonTokenizer.FALSE:
+        return Boolean.FALSE;
+      case JsonTokenizer.NULL:
+        return null;
+      case JsonTokenizer.BEGIN_ARRAY:
+        List list = new ArrayList();
+        if (tok.peek() == JsonTokenizer.END_ARRAY) {
+          tok.next();
+          return list;
+        }
+        while (true) {
+          list.add(readValue());
+          t = tok.next();
+          if (t == JsonTokenizer.END_ARRAY)
+            return list;
+          if (t != JsonTokenizer.COMMA)
+            throw tok.error("Expected ',' or ']'");
+        }
+      case JsonTokenizer.BEGIN_OBJECT:
+        Map map = new LinkedHashMap();
+        if (tok.peek() == JsonTokenizer.END_OBJECT) {
+          tok.next();
+          return map;
+        }
+        while (true) {
+          tok.expect(JsonTokenizer.STRING);
+          String key = tok.getString();
+          tok.expect(JsonTokenizer.COLON);
+          map.put(key, readValue());
+          t = tok.next();
+          if (t == JsonTokenizer.END_OBJECT)
+            return map;
+          if (t != JsonTokenizer.COMMA)
+            throw tok.error("Expected ',' or '}'");
+        }
+      }
+      throw tok.error("Unexpected token");
+    }
+
+    /**
+     * Skips over a JSON value, without creating any objects.
+     */
+    private void skipValue() throws IOException, ParseException
+    {
+      int depth = 0;
+      do {
+        int t = tok.next();
+        switch (t) {
+        case JsonTokenizer.BEGIN_ARRAY:
+        case JsonTokenizer.BEGIN_OBJECT:
+          depth++;
+          break;
+        case JsonTokenizer.END_ARRAY:
+        case JsonTokenizer.END_OBJECT:
+          depth--;
+          break;
+        case JsonTokenizer.EOF:
+          throw tok.error("Unexpected end of input");
+        }
+      } while (depth > 0);
+    }
+
+    private GeometryFactory factory(int srid)
+    {
+      if (gf != null)
+        return gf;
+      if (srid == NO_SRID)
+        srid = DEFAULT_SRID;
+      if (sridFactory == null || sridFactory.getSRID() != srid) {
+        sridFactory = new GeometryFactory(new PrecisionModel(), srid,
+            PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+      }
+      return sridFactory;
+    }
+
+    /**
+     * Creates the geometry for a GeoJson object.
+     *
+     * @param obj the object to convert
+     * @param parentSRID the SRID of the containing object, if any
+     * @return the geometry (null for a feature with no geometry)
+     */
+    Geometry build(GeoJsonObject obj, int parentSRID) throws ParseException
+    {
+      int srid = obj.srid != NO_SRID ? obj.srid : parentSRID;
+      String type = obj.type;
+      if (type == null) {
+        throw new ParseException(
+            "Could not parse Geometry from Json string.  No 'type' property found.");
+      }
+      if (GeoJsonConstants.NAME_FEATURE.equals(type)) {
+        if (obj.geometry == null)
+          return null;
+        Geometry geom = build(obj.geometry, srid);
+        if (obj.properties != null)
+          geom.setUserData(obj.properties);
+        return geom;
+      }
+      if (GeoJsonConstants.NAME_FEATURECOLLECTION.equals(type)) {
+        List geoms = new ArrayList();
+        if (obj.features != null) {
+          for (int i = 0; i < obj.features.size(); i++) {
+            Geometry geom = build((GeoJsonObject) obj.features.get(i), srid);
+            if (geom != null)
+              geoms.add(geom);
+          }
+        }
+        return factory(srid).createGeometryCollection(GeometryFactory.toGeometryArray(geoms));
+      }
+      try {
+        return buildGeometry(obj, srid);
+      }
+      catch (RuntimeException e) {
+        throw new ParseException(
+            "Could not parse " + type + " from GeoJson string.", e);
+      }
+    }
+
+    private Geometry buildGeometry(GeoJsonObject obj, int srid) throws ParseException
+    {
+      GeometryFactory factory = factory(srid);
+      String type = obj.type;
+      if (GeoJsonConstants.NAME_POINT.equals(type)) {
+        return factory.createPoint(toSequence(obj.coords, factory));
+      }
+      if (GeoJsonConstants.NAME_LINESTRING.equals(type)) {
+        return factory.createLineString(toSequence(obj.coords, factory));
+      }
+      if (GeoJsonConstants.NAME_POLYGON.equals(type)) {
+        return toPolygon(toList(obj.coords), factory);
+      }
+      if (GeoJsonConstants.NAME_MULTIPOINT.equals(type)) {
+        return factory.createMultiPoint(toSequence(obj.coords, factory));
+      }
+      if (GeoJsonConstants.NAME_MULTILINESTRING.equals(type)) {
+        List lines = toList(obj.coords);
+        LineString[] lineStrings = new LineString[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+          lineStrings[i] = factory.createLineString(toSequence(lines.get(i), factory));
+        }
+        return factory.createMultiLineString(lineStrings);
+      }
+      if (GeoJsonConstants.NAME_MULTIPOLYGON.equals(type)) {
+        List polys = toList(obj.coords);
+        Polygon[] polygons = new Polygon[polys.size()];
+        for (int i = 0; i < polys.size(); i++) {
+          polygons[i] = toPolygon(toList(polys.get(i)), factory);
+        }
+        return factory.createMultiPolygon(polygons);
+      }
+      if (GeoJsonConstants.NAME_GEOMETRYCOLLECTION.equals(type)) {
+        List objs = obj.geometries;
+        Geometry[] geometries = new Geometry[objs == null ? 0 : objs.size()];
+        for (int i = 0; i < geometries.length; i++) {
+          geometries[i] = build((GeoJsonObject) objs.get(i), srid);
+        }
+        return factory.createGeometryCollection(geometries);
+      }
+      throw new ParseException(
+          "Could not parse Geometry from GeoJson string.  Unsupported 'type':" + type);
+    }
+
+    private Polygon toPolygon(List rings, GeometryFactory factory)
+    {
+      if (rings.isEmpty())
+        return factory.createPolygon();
+      LinearRing shell = factory.createLinearRing(toSequence(rings.get(0), factory));
+      LinearRing[] holes = new LinearRing[rings.size() - 1];
+      for (int i = 1; i < rings.size(); i++) {
+        holes[i - 1] = factory.createLinearRing(toSequence(rings.get(i), factory));
+      }
+      return factory.createPolygon(shell, holes);
+    }
+
+    private List toList(Object node)
+    {
+      if (node instanceof List)
+        return (List) node;
+      throw new IllegalArgumentException("Invalid coordinates nesting");
+    }
+
+    private CoordinateSequence toSequence(Object node, GeometryFactory factory)
+    {
+      CoordinateSequenceFactory csFactory = factory.getCoordinateSequenceFactory();
+      if (node instanceof List && ((List) node).isEmpty())
+        return csFactory.create(0, 2);
+      if (! (node instanceof Sequence))
+        throw new IllegalArgumentException("Invalid coordinates nesting");
+
+      Sequence seq = (Sequence) node;
+      if (csFactory instanceof PackedCoordinateSequenceFactory)
+        return ((PackedCoordinateSequenceFactory) csFactory).create(seq.ords, seq.dim);
+      CoordinateSequence cs = csFactory.create(seq.size, seq.dim);
+      for (int i = 0; i < seq.size; i++) {
+        for (int j = 0; j < seq.dim; j++) {
+          cs.setOrdinate(i, j, seq.ords[seq.dim * i + j]);
+        }
+      }
+      return cs;
+    }
+  }
+
+  /**
+   * Iterates over the features of a FeatureCollection,
+   * reading each feature as the iterator is advanced.
+   */
+  private class FeatureIterator implements Iterator<Geometry>
+  {
+    private Parser parser;
+    private int srid;
+    private boolean isFeatureArray;
+    private boolean isFirst = true;
+    private boolean isDone = false;
+    private boolean hasPending = false;
+    private Geometry pending = null;
+
+    FeatureIterator(Parser parser) throws IOException, ParseException
+    {
+      this.parser = parser;
+      GeoJsonObject obj = new GeoJsonObject();
+      parser.tok.expect(JsonTokenizer.BEGIN_OBJECT);
+      isFeatureArray = parser.readMembers(obj, true);
+      srid = obj.srid;
+      if (isFeatureArray) {
+        parser.tok.expect(JsonTokenizer.BEGIN_ARRAY);
+      }
+      else {
+        // a single object
+        isDone = true;
+        if (! GeoJsonConstants.NAME_FEATURECOLLECTION.equals(obj.type)) {
+          pending = parser.build(obj, NO_SRID);
+          hasPending = true;
+        }
+      }
+    }
+
+    public boolean hasNext()
+    {
+      if (hasPending) return true;
+      if (isDone) return false;
+      try {
+        JsonTokenizer tok = parser.tok;
+        if (isFirst) {
+          isFirst = false;
+          if (tok.peek() == JsonTokenizer.END_ARRAY) {
+            isDone = true;
+            return false;
+          }
+        }
+        else {
+          int t = tok.next();
+          if (t == JsonTokenizer.END_ARRAY) {
+            isDone = true;
+            return false;
+          }
+          if (t != JsonTokenizer.COMMA)
+            throw tok.error("Expected ',' or ']'");
+        }
+        pending = parser.build(parser.readObject(false), srid);
+        hasPending = true;
+        return true;
+      }
+      catch (IOException ex) {
+        throw new RuntimeException(new ParseException(ex));
+      }
+      catch (ParseException ex) {
+        throw new RuntimeException(ex);
+      }
+    }
+
+    public Geometry next()
+    {
+      if (! hasNext())
+        throw new NoSuchElementException();
+      Geometry geom = pending;
+      pending = null;
+      hasPending = false;
+      return geom;
+    }
+  }
+}
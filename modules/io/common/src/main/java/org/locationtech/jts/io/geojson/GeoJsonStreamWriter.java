@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.OrdinateFormat;
+import org.locationtech.jts.util.Assert;
+
+/**
+ * Writes {@link Geometry}s as GeoJSON directly to an {@link Appendable}
+ * (such as a {@link Writer} or {@link StringBuilder}).
+ * <p>
+ * Unlike {@link GeoJsonWriter}, no intermediate JSON objects or strings are created.
+ * Ordinates are formatted using an {@link OrdinateFormat}
+ * with the specified number of decimals,
+ * which is fast and gives consistent output in all locales.
+ * Output is accumulated in an internal buffer and
+ * appended to the target in large blocks.
+ * <p>
+ * Large numbers of features can be written as a GeoJSON <tt>FeatureCollection</tt>
+ * using a {@link FeatureCollectionWriter},
+ * which writes each feature as it is supplied.
+ * If the user data of a feature geometry is a {@link Map}
+ * it is written as the feature <tt>properties</tt>.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @see GeoJsonStreamReader
+ */
+public class GeoJsonStreamWriter
+{
+  /**
+   * The prefix for EPSG codes in the <tt>crs</tt> property.
+   */
+  public static final String EPSG_PREFIX = GeoJsonWriter.EPSG_PREFIX;
+
+  private static final int FLUSH_SIZE = 8192;
+
+  private OrdinateFormat ordinateFormat;
+  private boolean isEncodeCRS = true;
+
+  private StringBuilder buf = new StringBuilder(FLUSH_SIZE + 256);
+  private Appendable out;
+
+  /**
+   * Constructs a writer which outputs ordinates with up to 8 decimals.
+   */
+  public GeoJsonStreamWriter()
+  {
+    this(8);
+  }
+
+  /**
+   * Constructs a writer specifying the maximum number of decimals to
+   * use when encoding ordinates.
+   *
+   * @param decimals the number of decimal places to output
+   */
+  public GeoJsonStreamWriter(int decimals)
+  {
+    ordinateFormat = OrdinateFormat.create(decimals);
+  }
+
+  /**
+   * Sets whether the GeoJSON <code>crs</code> property should
+   * be output.
+   * The value of the property is taken from geometry SRID.
+   *
+   * @param isEncodeCRS true if the crs property should be output
+   */
+  public void setEncodeCRS(boolean isEncodeCRS)
+  {
+    this.isEncodeCRS = isEncodeCRS;
+  }
+
+  /**
+   * Writes a {@link Geometry} in GeoJSON format to a String.
+   *
+   * @param geometry the geometry to write
+   * @return the GeoJSON text
+   */
+  public String write(Geometry geometry)
+  {
+    StringBuilder sb = new StringBuilder();
+    try {
+      write(geometry, sb);
+    }
+    catch (IOException ex) {
+      Assert.shouldNeverReachHere();
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes a {@link Geometry} in GeoJSON format to an {@link Appendable}.
+   * If the target is a {@link Writer} it is flushed.
+   *
+   * @param geometry the geometry to write
+   * @param out the target to write to
+   * @throws IOException if an error occurs writing to the target
+   */
+  public void write(Geometry geometry, Appendable out) throws IOException
+  {
+    start(out);
+    writeGeometry(geometry, isEncodeCRS);
+    finish();
+  }
+
+  /**
+   * Starts writing a GeoJSON <tt>FeatureCollection</tt> to an {@link Appendable}.
+   * Features are written using the returned {@link FeatureCollectionWriter},
+   * which must be closed to complete the collection.
+   * This writer must not be used for other output until then.
+   *
+   * @param out the target to write to
+   * @return a writer for the features of the collection
+   */
+  public FeatureCollectionWriter writeFeatureCollection(Appendable out)
+  {
+    start(out);
+    return new FeatureCollectionWriter();
+  }
+
+  /**
+   * Writes the features of a GeoJSON <tt>FeatureCollection</tt>
+   * as they are supplied.
+   * The header of the collection is written along with the first feature,
+   * and the <tt>crs</tt> (if encoded) is taken from the SRID of that feature.
+   *
+   * @see GeoJsonStreamWriter#writeFeatureCollection(Appendable)
+   */
+  public class FeatureCollectionWriter
+  {
+    private boolean isFirst = true;
+    private boolean isClosed = false;
+
+    private FeatureCollectionWriter() { }
+
+    /**
+     * Writes a feature with the given geometry.
+     * If the geometry user data is a {@link Map}
+     * it is written as the feature properties.
+     * A null geometry is written as a feature with no geometry.
+     *
+     * @param geometry the feature geometry (may be null)
+     * @throws IOException if an error occurs writing to the target
+     */
+    public void write(Geometry geometry) throws IOException
+    {
+      if (isClosed)
+        throw new IllegalStateException("FeatureCollection is closed");
+      if (isFirst) {
+        writeHeader(geometry);
+        isFirst = false;
+      }
+      else {
+        buf.append(',');
+      }
+      writeFeature(geometry);
+      if (buf.length() > FLUSH_SIZE)
+        flush();
+    }
+
+    /**
+     * Completes the FeatureCollection.
+     * If the target is a {@link Writer} it is flushed.
+     *
+     * @throws IOException if an error occurs writing to the target
+     */
+    public void close() throws IOException
+    {
+      if (isClosed) return;
+      if (isFirst)
+        writeHeader(null);
+      buf.append("]}");
+      isClosed = true;
+      finish();
+    }
+
+    private void writeHeader(Geometry first)
+    {
+      buf.append('{');
+      writeName(GeoJsonConstants.NAME_TYPE);
+      writeString(GeoJsonConstants.NAME_FEATURECOLLECTION);
+      if (isEncodeCRS && first != null) {
+        buf.append(',');
+        writeCRS(first.getSRID());
+      }
+      buf.append(',');
+      writeName(GeoJsonConstants.NAME_FEATURES);
+      buf.append('[');
+    }
+  }
+
+  private void start(Appendable out)
+  {
+    this.out = out;
+    buf.setLength(0);
+  }
+
+  private void finish() throws IOException
+  {
+    flush();
+    if (out instanceof Writer)
+      ((Writer) out).flush();
+    out = null;
+  }
+
+  private void flush() throws IOException
+  {
+    out.append(buf);
+    buf.setLength(0);
+  }
+
+  private void writeFeature(Geometry geometry) throws IOException
+  {
+    buf.append('{');
+    writeName(GeoJsonConstants.NAME_TYPE);
+    writeString(GeoJsonConstants.NAME_FEATURE);
+    buf.append(',');
+    writeName(GeoJsonConstants.NAME_GEOMETRY);
+    if (geometry == null) {
+      buf.append("null");
+    }
+    else {
+      writeGeometry(geometry, false);
+    }
+    buf.append(',');
+    writeName(GeoJsonConstants.NAME_PROPERTIES);
+    Object properties = geometry == null ? null : geometry.getUserData();
+    if (properties instanceof Map) {
+      writeValue(properties);
+    }
+    else {
+      buf.append("null");
+    }
+    buf.append('}');
+  }
+
+  private void writeGeometry(Geometry geometry, boolean isEncodeCRS) throws IOException
+  {
+    buf.append('{');
+    writeName(GeoJsonConstants.NAME_TYPE);
+    writeString(geometry.getGeometryType());
+    buf.append(',');
+    if (geometry instanceof Point) {
+      writeName(GeoJsonConstants.NAME_COORDINATES);
+      writePoint((Point) geometry);
+    }
+    else if (geometry instanceof LineString) {
+      writeName(GeoJsonConstants.NAME_COORDINATES);
+      writeCoordinates(((LineString) geometry).getCoordinateSequence());
+    }
+    else if (geometry instanceof Polygon) {
+      writeName(GeoJsonConstants.NAME_COORDINATES);
+      writePolygon((Polygon) geometry);
+    }
+    else if (geometry instanceof MultiPoint
+        || geometry instanceof MultiLineString
+        || geometry instanceof MultiPolygon) {
+      writeName(GeoJsonConstants.NAME_COORDINATES);
+      buf.append('[');
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        if (i > 0) buf.append(',');
+        Geometry elem = geometry.getGeometryN(i);
+        if (elem instanceof Point) {
+          writePoint((Point) elem);
+        }
+        else if (elem instanceof LineString) {
+          writeCoordinates(((LineString) elem).getCoordinateSequence());
+        }
+        else {
+          writePolygon((Polygon) elem);
+        }
+      }
+      buf.append(']');
+    }
+    else if (geometry instanceof GeometryCollection) {
+      writeName(GeoJsonConstants.NAME_GEOMETRIES);
+      buf.append('[');
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        if (i > 0) buf.append(',');
+        writeGeometry(geometry.getGeometryN(i), false);
+      }
+      buf.append(']');
+    }
+    else {
+      throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType());
+    }
+    if (isEncodeCRS) {
+      buf.append(',');
+      writeCRS(geometry.getSRID());
+    }
+    buf.append('}');
+    if (buf.length() > FLUSH_SIZE)
+      flush();
+  }
+
+  private void writeCRS(int srid)
+  {
+    writeName(GeoJsonConstants.NAME_CRS);
+    buf.append('{');
+    writeName(GeoJsonConstants.NAME_TYPE);
+    writeString(GeoJsonConstants.NAME_NAME);
+    buf.append(',');
+    writeName(GeoJsonConstants.NAME_PROPERTIES);
+    buf.append('{');
+    writeName(GeoJsonConstants.NAME_NAME);
+    buf.append('"').append(EPSG_PREFIX).append(srid).append('"');
+    buf.append("}}");
+  }
+
+  private void writePoint(Point point) throws IOException
+  {
+    CoordinateSequence seq = point.getCoordinateSequence();
+    if (seq.size() == 0) {
+      buf.append("[]");
+    }
+    else {
+      writeCoordinate(seq, 0);
+    }
+  }
+
+  private void writePolygon(Polygon poly) throws IOException
+  {
+    buf.append('[');
+    if (! poly.isEmpty()) {
+      writeCoordinates(poly.getExteriorRing().getCoordinateSequence());
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        buf.append(',');
+        writeCoordinates(poly.getInteriorRingN(i).getCoordinateSequence());
+      }
+    }
+    buf.append(']');
+  }
+
+  private void writeCoordinates(CoordinateSequence seq) throws IOException
+  {
+    buf.append('[');
+    for (int i = 0; i < seq.size(); i++) {
+      if (i > 0) buf.append(',');
+      writeCoordinate(seq, i);
+      if (buf.length() > FLUSH_SIZE)
+        flush();
+    }
+    buf.append(']');
+  }
+
+  private void writeCoordinate(CoordinateSequence seq, int i)
+  {
+    buf.append('[');
+    writeNumber(seq.getX(i));
+    buf.append(',');
+    writeNumber(seq.getY(i));
+    if (seq.hasZ()) {
+      double z = seq.getZ(i);
+      if (! Double.isNaN(z)) {
+        buf.append(',');
+        writeNumber(z);
+      }
+    }
+    buf.append(']');
+  }
+
+  private void writeNumber(double num)
+  {
+    if (Double.isNaN(num) || Double.isInfinite(num))
+      throw new IllegalArgumentException("Unable to encode non-finite number " + num);
+    ordinateFormat.format(num, buf);
+  }
+
+  private void writeName(String name)
+  {
+    writeString(name);
+    buf.append(':');
+  }
+
+  /**
+   * Writes a JSON value from a property object.
+   * Maps and collections are written as objects and arrays,
+   * and values which are not JSON types are written as strings.
+   */
+  private void writeValue(Object value) throws IOException
+  {
+    if (value == null) {
+      buf.append("null");
+    }
+    else if (value instanceof Boolean) {
+      buf.append(((Boolean) value).booleanValue());
+    }
+    else if (value instanceof Double || value instanceof Float) {
+      double num = ((Number) value).doubleValue();
+      if (Double.isNaN(num) || Double.isInfinite(num)) {
+        buf.append("null");
+      }
+      else {
+        ordinateFormat.format(num, buf);
+      }
+    }
+    else if (value instanceof Number) {
+      buf.append(value);
+    }
+    else if (value instanceof Map) {
+      buf.append('{');
+      boolean isFirst = true;
+      for (Iterator it = ((Map) value).entrySet().iterator(); it.hasNext(); ) {
+        Map.Entry entry = (Map.Entry) it.next();
+        if (! isFirst) buf.append(',');
+        isFirst = false;
+        writeName(String.valueOf(entry.getKey()));
+        writeValue(entry.getValue());
+      }
+      buf.append('}');
+    }
+    else if (value instanceof Collection) {
+      buf.append('[');
+      boolean isFirst = true;
+      for (Iterator it = ((Collection) value).iterator(); it.hasNext(); ) {
+        if (! isFirst) buf.append(',');
+        isFirst = false;
+        writeValue(it.next());
+      }
+      buf.append(']');
+    }
+    else if (value instanceof Object[]) {
+      Object[] arr = (Object[]) value;
+      buf.append('[');
+      for (int i = 0; i < arr.length; i++) {
+        if (i > 0) buf.append(',');
+        writeValue(arr[i]);
+      }
+      buf.append(']');
+    }
+    else {
+      writeString(value.toString());
+    }
+    if (buf.length() > FLUSH_SIZE)
+      flush();
+  }
+
+  private void writeString(String s)
+  {
+    buf.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+      case '"': buf.append("\\\""); break;
+      case '\\': buf.append("\\\\"); break;
+      case '\b': buf.append("\\b"); break;
+      case '\f': buf.append("\\f"); break;
+      case '\n': buf.append("\\n"); break;
+      case '\r': buf.append("\\r"); break;
+      case '\t': buf.append("\\t"); break;
+      default:
+        if (c < 0x20) {
+          String hex = Integer.toHexString(c);
+          buf.append("\\u");
+          for (int k = hex.length(); k < 4; k++) buf.append('0');
+          buf.append(hex);
+        }
+        else {
+          buf.append(c);
+        }
+      }
+    }
+    buf.append('"');
+  }
+}
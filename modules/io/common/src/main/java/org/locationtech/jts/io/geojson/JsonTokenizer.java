@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Splits a stream of JSON text into tokens.
+ * Characters are read in blocks from the underlying {@link Reader},
+ * and numbers are parsed directly from the character buffer,
+ * so tokenizing creates very few objects.
+ */
+class JsonTokenizer
+{
+  static final int EOF = -1;
+  static final int BEGIN_OBJECT = 0;
+  static final int END_OBJECT = 1;
+  static final int BEGIN_ARRAY = 2;
+  static final int END_ARRAY = 3;
+  static final int COLON = 4;
+  static final int COMMA = 5;
+  static final int STRING = 6;
+  static final int NUMBER = 7;
+  static final int TRUE = 8;
+  static final int FALSE = 9;
+  static final int NULL = 10;
+
+  private static final int NONE = -2;
+
+  /**
+   * Powers of ten which are exactly representable as doubles
+   */
+  private static final double[] POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private Reader reader;
+  private char[] buf = new char[8192];
+  private int pos = 0;
+  private int limit = 0;
+  // the stream offset of the start of the buffer
+  private long bufOffset = 0;
+  private int peeked = NONE;
+
+  private StringBuilder stringValue = new StringBuilder();
+  private double numberValue;
+  private char[] numChars = new char[32];
+
+  JsonTokenizer(Reader reader)
+  {
+    this.reader = reader;
+  }
+
+  /**
+   * Gets the type of the next token, without consuming it.
+   */
+  int peek() throws IOException, ParseException
+  {
+    if (peeked == NONE)
+      peeked = readToken();
+    return peeked;
+  }
+
+  /**
+   * Reads the next token.
+   *
+   * @return the type of the token
+   */
+  int next() throws IOException, ParseException
+  {
+    int tok = peek();
+    peeked = NONE;
+    return tok;
+  }
+
+  /**
+   * Reads the next token, and checks that it has the expected type.
+   */
+  void expect(int expected) throws IOException, ParseException
+  {
+    int tok = next();
+    if (tok != expected)
+      throw error("Expected " + name(expected) + " but found " + name(tok));
+  }
+
+  /**
+   * Gets the value of the last string token read.
+   */
+  String getString()
+  {
+    return stringValue.toString();
+  }
+
+  /**
+   * Tests whether the last string token read is equal to a given string,
+   * without creating a string.
+   */
+  boolean isString(String s)
+  {
+    int len = stringValue.length();
+    if (len != s.length()) return false;
+    for (int i = 0; i < len; i++) {
+      if (stringValue.charAt(i) != s.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the value of the last number token read.
+   */
+  double getNumber()
+  {
+    return numberValue;
+  }
+
+  ParseException error(String msg)
+  {
+    return new ParseException(msg + " at offset " + (bufOffset + pos));
+  }
+
+  private static String name(int tok)
+  {
+    switch (tok) {
+    case EOF: return "end of input";
+    case BEGIN_OBJECT: return "'{'";
+    case END_OBJECT: return "'}'";
+    case BEGIN_ARRAY: return "'['";
+    case END_ARRAY: return "']'";
+    case COLON: return "':'";
+    case COMMA: return "','";
+    case STRING: return "string";
+    case NUMBER: return "number";
+    case TRUE: return "true";
+    case FALSE: return "false";
+    }
+    return "null";
+  }
+
+  private boolean fill() throws IOException
+  {
+    bufOffset += limit;
+    pos = 0;
+    limit = 0;
+    int n = reader.read(buf, 0, buf.length);
+    if (n <= 0) return false;
+    limit = n;
+    return true;
+  }
+
+  /**
+   * Reads the next character, or -1 at the end of the input.
+   */
+  private int read() throws IOException
+  {
+    if (pos >= limit && ! fill()) return -1;
+    return buf[pos++];
+  }
+
+  private int readToken() throws IOException, ParseException
+  {
+    int c;
+    do {
+      c = read();
+    } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+
+    switch (c) {
+    case -1: return EOF;
+    case '{': return BEGIN_OBJECT;
+    case '}': return END_OBJECT;
+    case '[': return BEGIN_ARRAY;
+    case ']': return END_ARRAY;
+    case ':': return COLON;
+    case ',': return COMMA;
+    case '"':
+      readString();
+      return STRING;
+    case 't':
+      readLiteral("rue");
+      return TRUE;
+    case 'f':
+      readLiteral("alse");
+      return FALSE;
+    case 'n':
+      readLiteral("ull");
+      return NULL;
+    }
+    if (c == '-' || (c >= '0' && c <= '9')) {
+      readNumber((char) c);
+      return NUMBER;
+    }
+    throw error("Unexpected character '" + (char) c + "'");
+  }
+
+  private void readLiteral(String rest) throws IOException, ParseException
+  {
+    for (int i = 0; i < rest.length(); i++) {
+      if (read() != rest.charAt(i))
+        throw error("Invalid literal");
+    }
+  }
+
+  private void readString() throws IOException, ParseException
+  {
+    stringValue.setLength(0);
+    while (true) {
+      int c = read();
+      if (c == '"') return;
+      if (c < 0)
+        throw error("Unterminated string");
+      if (c == '\\') {
+        c = read();
+        switch (c) {
+        case 'b': c = '\b'; break;
+        case 'f': c = '\f'; break;
+        case 'n': c = '\n'; break;
+        case 'r': c = '\r'; break;
+        case 't': c = '\t'; break;
+        case 'u':
+          c = 0;
+          for (int i = 0; i < 4; i++) {
+            int d = Character.digit(read(), 16);
+            if (d < 0)
+              throw error("Invalid unicode escape");
+            c = (c << 4) | d;
+          }
+          break;
+        case '"': case '\\': case '/':
+          break;
+        default:
+          throw error("Invalid escape character");
+        }
+      }
+      stringValue.append((char) c);
+    }
+  }
+
+  /**
+   * Reads a number.
+   * Numbers with up to 15 significant digits and a small exponent
+   * are computed exactly using a single division.
+   * Other numbers are parsed by {@link Double#parseDouble(String)}.
+   */
+  private void readNumber(char first) throws IOException, ParseException
+  {
+    int len = 0;
+    numChars[len++] = first;
+    while (true) {
+      if (pos >= limit && ! fill()) break;
+      char c = buf[pos];
+      if (! ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E'
+          || c == '+' || c == '-'))
+        break;
+      if (len == numChars.length) {
+        char[] larger = new char[2 * len];
+        System.arraycopy(numChars, 0, larger, 0, len);
+        numChars = larger;
+      }
+      numChars[len++] = c;
+      pos++;
+    }
+
+    int i = 0;
+    boolean isNegative = numChars[0] == '-';
+    if (isNegative) i++;
+    long mantissa = 0;
+    int numDigits = 0;
+    int scale = 0;
+    boolean isFraction = false;
+    boolean isSimple = true;
+    boolean hasDigits = false;
+    for (; i < len; i++) {
+      char c = numChars[i];
+      if (c >= '0' && c <= '9') {
+        hasDigits = true;
+        if (mantissa != 0 || c != '0')
+          numDigits++;
+        mantissa = 10 * mantissa + (c - '0');
+        if (isFraction) scale--;
+      }
+      else if (c == '.' && ! isFraction) {
+        isFraction = true;
+      }
+      else {
+        // an exponent, or an invalid number
+        isSimple = false;
+        break;
+      }
+    }
+    if (isSimple && hasDigits && numDigits <= 15 && scale >= -22) {
+      double val = scale == 0 ? mantissa : mantissa / POW10[-scale];
+      numberValue = isNegative ? -val : val;
+      return;
+    }
+    try {
+      numberValue = Double.parseDouble(new String(numChars, 0, len));
+    }
+    catch (NumberFormatException ex) {
+      throw error("Invalid number");
+    }
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.io.ParseException;
+
+import test.jts.GeometryTestCase;
+
+
+public class GeoJsonStreamReaderTest extends GeometryTestCase {
+
+  private GeoJsonWriter geoJsonWriter = new GeoJsonWriter();
+
+  private GeoJsonStreamReader reader = new GeoJsonStreamReader();
+
+  public GeoJsonStreamReaderTest(String name) {
+    super(name);
+  }
+
+  public void testGeometries() throws ParseException {
+    checkRoundTrip("POINT (1 2)");
+    checkRoundTrip("POINT Z (1 2 3)");
+    checkRoundTrip("LINESTRING (1 2, 10 20, 100 200)");
+    checkRoundTrip("LINESTRING Z (1 2 3, 10 20 30)");
+    checkRoundTrip("POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1) )");
+    checkRoundTrip("MULTIPOINT ((0 0), (1 4), (100 200))");
+    checkRoundTrip("MULTILINESTRING ((0 0, 1 10), (10 10, 20 30), (123 123, 456 789))");
+    checkRoundTrip("MULTIPOLYGON ( ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1) ), ((200 200, 200 250, 250 250, 250 200, 200 200)) )");
+    checkRoundTrip("GEOMETRYCOLLECTION ( POINT (20 20), GEOMETRYCOLLECTION ( POINT ( 1 1), LINESTRING (0 0, 10 10), POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0)) ) )");
+  }
+
+  public void testEmpty() throws ParseException {
+    checkRoundTrip("MULTIPOINT EMPTY");
+    checkRoundTrip("MULTILINESTRING EMPTY");
+    checkRoundTrip("MULTIPOLYGON EMPTY");
+    checkRoundTrip("GEOMETRYCOLLECTION EMPTY");
+    checkRead("{\"type\":\"LineString\",\"coordinates\":[]}", "LINESTRING EMPTY");
+    checkRead("{\"type\":\"Polygon\",\"coordinates\":[]}", "POLYGON EMPTY");
+  }
+
+  public void testMemberOrder() throws ParseException {
+    checkRead("{\"coordinates\":[[1,2],[3,4]], \"bbox\":[1,2,3,4], \"type\":\"LineString\"}",
+        "LINESTRING (1 2, 3 4)");
+  }
+
+  public void testNumbers() throws ParseException {
+    checkRead("{\"type\":\"Point\",\"coordinates\":[-1.5e2, 0.000123]}", "POINT (-150 0.000123)");
+    checkRead("{\"type\":\"Point\",\"coordinates\":[1E+3, -0.0]}", "POINT (1000 0)");
+
+    // numbers are parsed exactly
+    Random rnd = new Random(13);
+    for (int i = 0; i < 1000; i++) {
+      double x = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(20) - 10);
+      double y = Math.round(rnd.nextDouble() * 1e8) / 1e6;
+      Geometry g = reader.read("{\"type\":\"Point\",\"coordinates\":[" + x + "," + y + "]}");
+      assertEquals(x, g.getCoordinate().x);
+      assertEquals(y, g.getCoordinate().y);
+    }
+  }
+
+  public void testPackedSequence() throws ParseException {
+    LineString line = (LineString) reader.read("{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]}");
+    assertTrue(line.getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+    assertEquals(4326, line.getSRID());
+
+    GeoJsonStreamReader factoryReader = new GeoJsonStreamReader(new GeometryFactory());
+    line = (LineString) factoryReader.read("{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]}");
+    assertTrue(line.getCoordinateSequence() instanceof CoordinateArraySequence);
+  }
+
+  public void testCRS() throws ParseException {
+    Geometry g = reader.read("{\"type\":\"Point\",\"coordinates\":[1,2],"
+        + "\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:3857\"}}}");
+    assertEquals(3857, g.getSRID());
+
+    g = reader.read("{\"type\":\"FeatureCollection\","
+        + "\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"urn:ogc:def:crs:EPSG::2056\"}},"
+        + "\"features\":[{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]}}]}");
+    assertEquals(2056, g.getSRID());
+    assertEquals(2056, g.getGeometryN(0).getSRID());
+  }
+
+  public void testFeature() throws ParseException {
+    String json = "{\"type\":\"Feature\",\"id\":7,"
+        + "\"properties\":{\"name\":\"a \\\"b\\\"\",\"count\":3,\"tags\":[true,null],\"nested\":{}},"
+        + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]}}";
+    Geometry g = reader.read(json);
+    checkEqual(read("POINT (1 2)"), g);
+    assertNull(g.getUserData());
+
+    GeoJsonStreamReader propReader = new GeoJsonStreamReader();
+    propReader.setReadProperties(true);
+    g = propReader.read(json);
+    Map props = (Map) g.getUserData();
+    assertEquals("a \"b\"", props.get("name"));
+    assertEquals(Double.valueOf(3), props.get("count"));
+    assertEquals(2, ((List) props.get("tags")).size());
+    assertTrue(((Map) props.get("nested")).isEmpty());
+  }
+
+  public void testFeatureCollection() throws ParseException {
+    String json = featureCollection();
+    checkEqual(read("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))"), reader.read(json));
+
+    Iterator<Geometry> it = reader.featureIterator(new StringReader(json));
+    List geoms = new ArrayList();
+    while (it.hasNext()) {
+      geoms.add(it.next());
+    }
+    assertEquals(3, geoms.size());
+    checkEqual(read("POINT (1 2)"), (Geometry) geoms.get(0));
+    assertNull(geoms.get(1));
+    checkEqual(read("LINESTRING (0 0, 1 1)"), (Geometry) geoms.get(2));
+  }
+
+  public void testFeatureIteratorEmpty() throws ParseException {
+    Iterator<Geometry> it = reader.featureIterator(
+        new StringReader("{\"type\":\"FeatureCollection\",\"features\":[]}"));
+    assertTrue(! it.hasNext());
+  }
+
+  public void testFeatureIteratorSingle() throws ParseException {
+    Iterator<Geometry> it = reader.featureIterator(
+        new StringReader("{\"type\":\"Point\",\"coordinates\":[1,2]}"));
+    assertTrue(it.hasNext());
+    checkEqual(read("POINT (1 2)"), it.next());
+    assertTrue(! it.hasNext());
+  }
+
+  public void testFeatureIteratorError() throws ParseException {
+    Iterator<Geometry> it = reader.featureIterator(new StringReader(
+        "{\"features\":[{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]}},"
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,}}]}"));
+    it.next();
+    try {
+      it.next();
+      fail("Expected RuntimeException");
+    }
+    catch (RuntimeException ex) {
+      assertTrue(ex.getCause() instanceof ParseException);
+    }
+  }
+
+  public void testInvalid() {
+    checkInvalid("{\"type\":\"Point\",\"coordinates\":[1,2]");
+    checkInvalid("{\"type\":\"Point\",\"coordinates\":[1,2,]}");
+    checkInvalid("{\"type\":\"Point\",\"coordinates\":[1,--2]}");
+    checkInvalid("{\"type\":\"Point\"\"coordinates\":[1,2]}");
+    checkInvalid("{\"type\":\"Circle\",\"coordinates\":[1,2]}");
+    checkInvalid("{\"coordinates\":[1,2]}");
+    checkInvalid("{\"type\":\"LineString\",\"coordinates\":[[1,2],[[3,4]]]}");
+    checkInvalid("{\"type\":\"Polygon\",\"coordinates\":[[1,2],[3,4]]}");
+  }
+
+  private String featureCollection() {
+    return "{\"features\":["
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},\"properties\":null},"
+        + "{\"type\":\"Feature\",\"geometry\":null},"
+        + "{\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]},\"type\":\"Feature\"}"
+        + "], \"type\":\"FeatureCollection\"}";
+  }
+
+  private void checkInvalid(String json) {
+    try {
+      reader.read(json);
+      fail("Expected ParseException for " + json);
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  private void checkRead(String json, String wkt) throws ParseException {
+    checkEqual(read(wkt), reader.read(json));
+  }
+
+  private void checkRoundTrip(String wkt) throws ParseException {
+    Geometry expected = read(wkt);
+    String json = geoJsonWriter.write(expected);
+    Geometry result = reader.read(json);
+    checkEqual(expected, result);
+    checkEqual(new GeoJsonReader().read(json), result);
+    assertEquals(expected.getCoordinates().length, result.getCoordinates().length);
+    if (! expected.isEmpty() && ! Double.isNaN(expected.getCoordinate().getZ()))
+      assertEquals(expected.getCoordinate().getZ(), result.getCoordinate().getZ());
+  }
+}
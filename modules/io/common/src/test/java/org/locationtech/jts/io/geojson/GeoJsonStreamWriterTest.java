@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.io.ParseException;
+
+import test.jts.GeometryTestCase;
+
+
+public class GeoJsonStreamWriterTest extends GeometryTestCase {
+
+  private GeoJsonStreamWriter writer = new GeoJsonStreamWriter();
+
+  public GeoJsonStreamWriterTest(String name) {
+    super(name);
+  }
+
+  public void testPoint() {
+    checkWrite("POINT (1 2)", "{'type':'Point','coordinates':[1,2]}");
+    checkWrite("POINT Z (1.5 -2.25 3)", "{'type':'Point','coordinates':[1.5,-2.25,3]}");
+  }
+
+  public void testLineString() {
+    checkWrite("LINESTRING (1 2, 10 20, 100 200)",
+        "{'type':'LineString','coordinates':[[1,2],[10,20],[100,200]]}");
+  }
+
+  public void testPolygon() {
+    checkWrite("POLYGON ((0 0, 10 0, 10 10, 0 0), (1 1, 2 1, 2 2, 1 1))",
+        "{'type':'Polygon','coordinates':[[[0,0],[10,0],[10,10],[0,0]],[[1,1],[2,1],[2,2],[1,1]]]}");
+  }
+
+  public void testMulti() {
+    checkWrite("MULTIPOINT ((0 0), (1 4))",
+        "{'type':'MultiPoint','coordinates':[[0,0],[1,4]]}");
+    checkWrite("MULTILINESTRING ((0 0, 1 10), (10 10, 20 30))",
+        "{'type':'MultiLineString','coordinates':[[[0,0],[1,10]],[[10,10],[20,30]]]}");
+    checkWrite("MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0)), ((20 20, 30 20, 30 30, 20 20)))",
+        "{'type':'MultiPolygon','coordinates':[[[[0,0],[10,0],[10,10],[0,0]]],[[[20,20],[30,20],[30,30],[20,20]]]]}");
+  }
+
+  public void testGeometryCollection() {
+    checkWrite("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))",
+        "{'type':'GeometryCollection','geometries':[{'type':'Point','coordinates':[1,1]},{'type':'LineString','coordinates':[[0,0],[1,1]]}]}");
+  }
+
+  public void testEmpty() {
+    checkWrite("LINESTRING EMPTY", "{'type':'LineString','coordinates':[]}");
+    checkWrite("POLYGON EMPTY", "{'type':'Polygon','coordinates':[]}");
+    checkWrite("MULTIPOINT EMPTY", "{'type':'MultiPoint','coordinates':[]}");
+    checkWrite("GEOMETRYCOLLECTION EMPTY", "{'type':'GeometryCollection','geometries':[]}");
+  }
+
+  public void testDecimals() {
+    checkWrite("POINT (1.123456789 -0.000000001)", "{'type':'Point','coordinates':[1.12345679,-0]}");
+    GeoJsonStreamWriter writer2 = new GeoJsonStreamWriter(2);
+    writer2.setEncodeCRS(false);
+    assertEquals("{\"type\":\"Point\",\"coordinates\":[1.12,-3]}",
+        writer2.write(read("POINT (1.123456789 -2.999)")));
+  }
+
+  public void testCRS() {
+    Geometry geom = read("POINT (1 2)");
+    geom.setSRID(4326);
+    assertEquals(
+        "{\"type\":\"Point\",\"coordinates\":[1,2],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}",
+        new GeoJsonStreamWriter().write(geom));
+  }
+
+  public void testRoundTrip() throws ParseException {
+    checkRoundTrip("POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1) )");
+    checkRoundTrip("MULTIPOLYGON ( ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1) ), ((200 200, 200 250, 250 250, 250 200, 200 200)) )");
+    checkRoundTrip("GEOMETRYCOLLECTION ( POINT (20 20), GEOMETRYCOLLECTION ( POINT ( 1 1), LINESTRING (0 0, 10 10), POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0)) ) )");
+
+    // large enough to be flushed in several blocks
+    SineStarFactory gsf = new SineStarFactory(new GeometryFactory());
+    gsf.setNumPoints(10000);
+    Geometry star = gsf.createSineStar();
+    StringWriter out = new StringWriter();
+    try {
+      writer.write(star, out);
+    }
+    catch (IOException ex) {
+      fail(ex.getMessage());
+    }
+    Geometry result = new GeoJsonReader().read(out.toString());
+    assertTrue(star.equalsExact(result, 1e-8));
+  }
+
+  public void testFeatureCollection() throws IOException, ParseException {
+    Map props = new LinkedHashMap();
+    props.put("name", "a \"b\"\n");
+    props.put("count", Integer.valueOf(3));
+    props.put("area", Double.valueOf(1.5));
+    props.put("tags", Arrays.asList(new Object[] { Boolean.TRUE, null }));
+    Geometry pt = read("POINT (1 2)");
+    pt.setSRID(2056);
+    pt.setUserData(props);
+
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter.FeatureCollectionWriter fcWriter = writer.writeFeatureCollection(out);
+    fcWriter.write(pt);
+    fcWriter.write(null);
+    fcWriter.write(read("LINESTRING (0 0, 1 1)"));
+    fcWriter.close();
+    String json = out.toString();
+    assertEquals("{\"type\":\"FeatureCollection\","
+        + "\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:2056\"}},\"features\":["
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},"
+        + "\"properties\":{\"name\":\"a \\\"b\\\"\\n\",\"count\":3,\"area\":1.5,\"tags\":[true,null]}},"
+        + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":null},"
+        + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]},\"properties\":null}"
+        + "]}", json);
+
+    GeoJsonStreamReader reader = new GeoJsonStreamReader();
+    reader.setReadProperties(true);
+    Iterator<Geometry> it = reader.featureIterator(new StringReader(json));
+    List geoms = new ArrayList();
+    while (it.hasNext()) {
+      geoms.add(it.next());
+    }
+    assertEquals(3, geoms.size());
+    Geometry pt2 = (Geometry) geoms.get(0);
+    checkEqual(pt, pt2);
+    assertEquals(2056, pt2.getSRID());
+    assertEquals("a \"b\"\n", ((Map) pt2.getUserData()).get("name"));
+    assertNull(geoms.get(1));
+  }
+
+  public void testFeatureCollectionEmpty() throws IOException {
+    StringBuilder out = new StringBuilder();
+    writer.writeFeatureCollection(out).close();
+    assertEquals("{\"type\":\"FeatureCollection\",\"features\":[]}", out.toString());
+  }
+
+  public void testFeatureCollectionClosed() throws IOException {
+    GeoJsonStreamWriter.FeatureCollectionWriter fcWriter
+      = writer.writeFeatureCollection(new StringBuilder());
+    fcWriter.close();
+    try {
+      fcWriter.write(read("POINT (1 1)"));
+      fail("Expected IllegalStateException");
+    }
+    catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  private void checkWrite(String wkt, String expectedJson) {
+    GeoJsonStreamWriter noCrsWriter = new GeoJsonStreamWriter();
+    noCrsWriter.setEncodeCRS(false);
+    String json = noCrsWriter.write(read(wkt));
+    assertEquals(expectedJson.replace('\'', '"'), json);
+  }
+
+  private void checkRoundTrip(String wkt) throws ParseException {
+    Geometry expected = read(wkt);
+    String json = writer.write(expected);
+    checkEqual(expected, new GeoJsonStreamReader().read(json));
+    checkEqual(expected, new GeoJsonReader().read(json));
+  }
+}